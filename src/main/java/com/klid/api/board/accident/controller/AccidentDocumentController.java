@@ -4,16 +4,24 @@ import com.klid.api.board.accident.service.AccidentHwpDocumentService;
 import com.klid.webapp.common.ReturnData;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.time.DateFormatUtils;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Date;
 import java.util.Map;
 
 /**
  * 사고신고 문서 생성 Controller
  * - HWP 문서 생성
+ * - HWP 문서 다운로드 (스트리밍)
  */
+@Slf4j
 @RestController
 @RequestMapping("/api/board/accident/report-management/reports")
 @RequiredArgsConstructor
@@ -30,8 +38,34 @@ public class AccidentDocumentController {
             Map<String, String> resultMap = accidentHwpDocumentService.createHwpDocument(reqMap);
             return ResponseEntity.ok(new ReturnData(resultMap));
         } catch (Exception e) {
-            e.printStackTrace();
+            log.error("사고신고 한글 문서 생성 실패", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
+
+    /**
+     * 사고신고 한글 문서 다운로드
+     * - 임시 파일 없이 생성 결과를 응답으로 바로 전송
+     * - 전송 전에 실패하면 500, 이미 일부를 보낸 뒤 실패하면 예외를 다시 던져 응답을 중단한다.
+     */
+    @PostMapping("/hwp-document/download")
+    public void downloadHwpDocument(@RequestBody Map<String, Object> reqMap, HttpServletResponse response) throws IOException {
+        String fileName = DateFormatUtils.format(new Date(), "yyyyMMddHHmmssSSS") + ".hwp";
+        response.setContentType("application/x-hwp");
+        response.setHeader("Content-Disposition", "attachment; filename=\"" + fileName + "\"");
+        response.setHeader("Access-Control-Expose-Headers", "Content-Disposition");
+        try {
+            OutputStream out = new BufferedOutputStream(response.getOutputStream());
+            accidentHwpDocumentService.writeHwpDocument(reqMap, out);
+            out.flush();
+        } catch (Exception e) {
+            log.error("사고신고 한글 문서 다운로드 실패", e);
+            if (response.isCommitted()) {
+                // 일부만 전송된 파일이 정상 다운로드로 보이지 않도록 응답을 중단
+                throw e instanceof IOException ioe ? ioe : new IOException("사고신고 한글 문서 전송 중 실패", e);
+            }
+            response.reset();
+            response.sendError(HttpStatus.INTERNAL_SERVER_ERROR.value());
+        }
+    }
 }
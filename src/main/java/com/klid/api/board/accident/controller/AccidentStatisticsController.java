@@ -1,21 +1,28 @@
 package com.klid.api.board.accident.controller;
 
 import com.klid.webapp.common.Criterion;
+import com.klid.webapp.common.CustomException;
 import com.klid.webapp.common.ReturnData;
+import com.klid.webapp.common.SessionManager;
 import com.klid.webapp.main.acc.accidentApply.service.AccidentApplyService;
+import com.klid.webapp.main.acc.accidentApply.service.AccidentStatRollupService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
 import java.util.Map;
 
 /**
  * 사고신고 통계 Controller
  * - 오늘/연간/기간별/기관별/사고유형별 현황 조회
+ * - 통계 집계 테이블 재구성
  */
 @RestController
 @RequestMapping("/api/board/accident/report-management/statistics")
@@ -23,6 +30,7 @@ import java.util.Map;
 public class AccidentStatisticsController {
 
     private final AccidentApplyService accidentApplyService;
+    private final AccidentStatRollupService accidentStatRollupService;
 
     /**
      * 오늘 현황 조회
@@ -69,6 +77,20 @@ public class AccidentStatisticsController {
         return toResponseEntity(result);
     }
 
+    /**
+     * 통계 집계 테이블 재구성 (관리자)
+     * - 기간(yyyyMMdd)의 집계를 원장에서 다시 만든다.
+     */
+    @PostMapping("/rollup/rebuild")
+    public ResponseEntity<ReturnData> rebuildRollup(@RequestParam String startDt, @RequestParam String endDt) {
+        if (!"AUTH_MAIN_1".equalsIgnoreCase(SessionManager.getUser().getAuthMain())) {
+            throw new CustomException("재구성 권한이 없습니다.");
+        }
+        final DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyyMMdd");
+        final int days = accidentStatRollupService.rebuild(LocalDate.parse(startDt, formatter), LocalDate.parse(endDt, formatter));
+        return toResponseEntity(new ReturnData(days));
+    }
+
     private ResponseEntity<ReturnData> toResponseEntity(ReturnData result) {
         return toResponseEntity(result, HttpStatus.OK);
     }
@@ -1,5 +1,6 @@
 package com.klid.api.board.accident.service;
 
+import java.io.OutputStream;
 import java.util.Map;
 
 /**
@@ -30,4 +31,13 @@ public interface AccidentHwpDocumentService {
      * @throws Exception 문서 생성 실패 시
      */
     Map<String, String> createHwpDocument(Map<String, Object> reqMap) throws Exception;
+
+    /**
+     * 사고신고 한글(HWP) 문서를 파일로 남기지 않고 out 으로 바로 쓴다.
+     *
+     * @param reqMap 문서 생성에 필요한 데이터 (createHwpDocument 와 동일)
+     * @param out    출력 대상 (닫지 않음)
+     * @throws Exception 문서 생성 실패 시
+     */
+    void writeHwpDocument(Map<String, Object> reqMap, OutputStream out) throws Exception;
 }
@@ -7,33 +7,68 @@ import com.klid.common.hwplib.object.bodytext.control.Control;
 import com.klid.common.hwplib.object.bodytext.control.ControlTable;
 import com.klid.common.hwplib.object.bodytext.control.ControlType;
 import com.klid.common.hwplib.object.bodytext.control.table.Row;
-import com.klid.common.hwplib.reader.HWPReader;
 import com.klid.common.hwplib.tool.objectfinder.FieldFinder;
 import com.klid.common.hwplib.writer.HWPWriter;
+import com.klid.webapp.common.file.service.HwpTemplateRegistry;
+import lombok.RequiredArgsConstructor;
 import org.apache.commons.lang3.time.DateFormatUtils;
 import org.springframework.stereotype.Service;
 
 import java.io.File;
+import java.io.OutputStream;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 /**
  * 사고신고 HWP 문서 생성 서비스 구현체
  */
 @Service
+@RequiredArgsConstructor
 public class AccidentHwpDocumentServiceImpl implements AccidentHwpDocumentService {
 
+    private final HwpTemplateRegistry hwpTemplateRegistry;
+
     @Override
     public Map<String, String> createHwpDocument(Map<String, Object> reqMap) throws Exception {
+        HWPFile hwpFile = buildHwpFile(reqMap);
+
+        File file = new File(AppGlobal.homePath + "/export");
+        if (!file.exists()) {
+            file.mkdirs();
+        }
+
+        String createTime = DateFormatUtils.format(new Date(), "yyyyMMddHHmmssSSS");
+        String filename = AppGlobal.homePath + "/export/" + createTime + ".hwp";
+        HWPWriter.toFile(hwpFile, filename);
+
+        Map<String, String> resultMap = new HashMap<>();
+        resultMap.put("filePath", "/export/" + createTime + ".hwp");
+        resultMap.put("fileName", createTime);
+        resultMap.put("fileExt", ".hwp");
+        return resultMap;
+    }
+
+    @Override
+    public void writeHwpDocument(Map<String, Object> reqMap, OutputStream out) throws Exception {
+        HWPWriter.toStream(buildHwpFile(reqMap), out);
+    }
+
+    /**
+     * 사고신고 양식에 요청 값을 채운 한글 파일 객체를 만든다.
+     */
+    private HWPFile buildHwpFile(Map<String, Object> reqMap) throws Exception {
         String filename = AppGlobal.reportTemplate + "acc_report.hwp";
-        HWPFile hwpFile = HWPReader.fromFile(filename);
+        HWPFile hwpFile = hwpTemplateRegistry.get(filename);
         Section section = hwpFile.getBodyText().getSectionList().get(0);
 
         Control c = section.getParagraph(1).getControlList().get(0);
         ControlTable table = (ControlTable) c;
         ArrayList<Row> rows = table.getRowList();
+        // 누름틀 필드는 모아서 한 번에 설정 (문서는 필드 색인을 만들 때 한 번만 훑음)
+        Map<String, ArrayList<String>> fieldTexts = new LinkedHashMap<>();
 
         // 기관명
         if (reqMap.get("dclInstName") != null) {
@@ -96,7 +131,7 @@ public class AccidentHwpDocumentServiceImpl implements AccidentHwpDocumentServic
             String inciDclCont = (String) reqMap.get("inciDclCont");
             ArrayList<String> textList = new ArrayList<>();
             textList.add(inciDclCont.replaceAll("\\n", System.lineSeparator()));
-            FieldFinder.setFieldText(hwpFile, ControlType.FIELD_CLICKHERE, "필드1", textList);
+            fieldTexts.put("필드1", textList);
         }
         // 공격자정보
         if (reqMap.get("attIp") != null) {
@@ -108,29 +143,18 @@ public class AccidentHwpDocumentServiceImpl implements AccidentHwpDocumentServic
             String inciInvsCont = (String) reqMap.get("inciInvsCont");
             ArrayList<String> textList = new ArrayList<>();
             textList.add(inciInvsCont.replaceAll("\\n", System.lineSeparator()));
-            FieldFinder.setFieldText(hwpFile, ControlType.FIELD_CLICKHERE, "필드2", textList);
+            fieldTexts.put("필드2", textList);
         }
         // 시도의견
         if (reqMap.get("inciBelowCont") != null) {
             String inciBelowCont = (String) reqMap.get("inciBelowCont");
             ArrayList<String> textList = new ArrayList<>();
             textList.add(inciBelowCont.replaceAll("\\n", System.lineSeparator()));
-            FieldFinder.setFieldText(hwpFile, ControlType.FIELD_CLICKHERE, "필드3", textList);
-        }
-
-        File file = new File(AppGlobal.homePath + "/export");
-        if (!file.exists()) {
-            file.mkdirs();
+            fieldTexts.put("필드3", textList);
         }
 
-        String createTime = DateFormatUtils.format(new Date(), "yyyyMMddHHmmssSSS");
-        filename = AppGlobal.homePath + "/export/" + createTime + ".hwp";
-        HWPWriter.toFile(hwpFile, filename);
+        FieldFinder.setFieldTexts(hwpFile, ControlType.FIELD_CLICKHERE, fieldTexts);
 
-        Map<String, String> resultMap = new HashMap<>();
-        resultMap.put("filePath", "/export/" + createTime + ".hwp");
-        resultMap.put("fileName", createTime);
-        resultMap.put("fileExt", ".hwp");
-        return resultMap;
+        return hwpFile;
     }
 }
@@ -3,46 +3,54 @@ package com.klid.common;
 import java.awt.*;
 import java.awt.image.BufferedImage;
 import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
 
 import javax.imageio.ImageIO;
-import javax.imageio.stream.FileImageInputStream;
 
-import org.apache.commons.codec.binary.Base64;
+import com.klid.common.HwpmlTemplate.Part;
+import com.klid.common.HwpmlTemplate.Slot;
+import com.klid.common.HwpmlTemplate.Tag;
+import com.klid.common.HwpmlTemplate.Text;
+import lombok.extern.slf4j.Slf4j;
 
 /**
+ * hwpml 보고서 작성기
+ * - 템플릿은 HwpmlTemplate 으로 한 번만 분석해 두고, 작성기는 조각 목록의 복사본에 값을 채운다.
+ * - 출력(saveFile, getHwpml)할 때 조각 목록을 한 번에 이어 쓴다.
+ * - 이미지(setImage)는 파일만 기억해 두었다가 출력할 때 Base64 로 인코딩해 바로 쓴다.
+ * - 값은 예전 String.replaceFirst 치환과 같은 규칙으로 해석한다. ('\\' 이스케이프, '$0' 은 파라미터 표기)
+ * - 값 안에 들어간 파라미터 표기는 다시 치환 대상이 되지 않는다.
  *
  * @author Kyoungnam Kim (zealiard@gmail.com)
  *
  */
+@Slf4j
 public class HwpmlMaker {
 
-	private String reportFile;
-	private String prefix;
-	private String postfix;
-	private String hwpml;
+	private static final Pattern ROW_ADDR = Pattern.compile("RowAddr=\"\\d+\"");
 
-
-	public HwpmlMaker(String reportFile) {
-		this.reportFile = reportFile;
-		this.prefix = "";
-		this.postfix = "";
-		this.setReport();
-	}
-
-
-	public HwpmlMaker(String reportFile, String prefix) {
-		this.reportFile = reportFile;
-		this.prefix = prefix;
-		this.postfix = "";
-		this.setReport();
-	}
+	private HwpmlTemplate template;
+	private ArrayList<Part> parts;
+	/**
+	 * 파라미터 이름별로 아직 채우지 않은 Slot 의 위치(문서 순서). 행을 추가하면 다시 만든다.
+	 */
+	private Map<String, ArrayDeque<Integer>> slots;
 
 
 	public HwpmlMaker(String reportFile, String prefix, String postfix) {
-		this.reportFile = reportFile;
-		this.prefix = prefix;
-		this.postfix = postfix;
-		this.setReport();
+		try {
+			this.template = HwpmlTemplate.of(reportFile, prefix, postfix);
+			this.parts = new ArrayList<>(template.getParts());
+		} catch(IOException e) {
+			e.printStackTrace();
+		}
 	}
 
 
@@ -55,19 +63,25 @@ public class HwpmlMaker {
 	 */
 	public void setParams(String paramName, String[] params) {
 		for (int i = 0; i < params.length; i++) {
-			hwpml = hwpml.replaceFirst(prefix + paramName + i + postfix, params[i]);
+			setParam(paramName + i, params[i]);
 		}
 	}
 
 
 	/**
 	 * hwpml 문서의 파라미터를 입력한다.
+	 * 같은 이름의 파라미터가 여러 개면 문서 순서대로 아직 채우지 않은 첫 번째 파라미터에 입력한다.
 	 *
 	 * @param paramName
 	 * @param param
 	 */
 	public void setParam(String paramName, String param) {
-		hwpml = hwpml.replaceFirst(prefix + paramName + postfix, param);
+		ArrayDeque<Integer> positions = getSlots().get(paramName);
+
+		if (positions == null || positions.isEmpty()) return;
+
+		String token = template.token(paramName);
+		parts.set(positions.poll(), new Text(replacement(token, param)));
 	}
 
 
@@ -86,9 +100,9 @@ public class HwpmlMaker {
 				p.mkdirs();
 			}
 
-			FileOutputStream fos = new FileOutputStream(new File(path, fileName));
-			fos.write(hwpml.getBytes("UTF-8"));
-			fos.close();
+			try (Writer writer = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(new File(path, fileName)), StandardCharsets.UTF_8))) {
+				write(writer);
+			}
 
 		} catch(IOException e) {
 			e.printStackTrace();
@@ -98,12 +112,42 @@ public class HwpmlMaker {
 	}
 
 
+	/**
+	 * hwpml 문서를 writer 에 쓴다.
+	 *
+	 * @param writer
+	 * @throws IOException
+	 */
+	public void write(Writer writer) throws IOException {
+		for (Part part : parts) {
+			if (part instanceof Text text) {
+				writer.write(text.text());
+			}
+			else if (part instanceof Tag tag) {
+				writer.write(tag.text());
+			}
+			else if (part instanceof Binary binary) {
+				binary.write(writer);
+			}
+			else {
+				writer.write(template.token(((Slot) part).name()));
+			}
+		}
+	}
+
+
 	/**
 	 * hwpml을 반환한다.
 	 * @return
 	 */
 	public String getHwpml() {
-		return hwpml;
+		StringWriter writer = new StringWriter();
+		try {
+			write(writer);
+		} catch(IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		return writer.toString();
 	}
 
 
@@ -114,29 +158,30 @@ public class HwpmlMaker {
 	 * @param fileName	이미지파일경로
 	 */
 	public void setImage(String id, String fileName) {
-		try{
-			FileImageInputStream input = new FileImageInputStream(new File(fileName));
-			ByteArrayOutputStream output = new ByteArrayOutputStream();
-			byte[] buf = new byte[1024];
-			byte[] data = null;
-			int numBytesRead = 0;
-
-			while ((numBytesRead = input.read(buf)) != -1) {
-				output.write(buf, 0, numBytesRead);
-			}
+		File file = new File(fileName);
 
-			data = output.toByteArray();
+		if (!file.isFile() || !file.canRead()) {
+			log.warn("hwpml 이미지 파일을 읽을 수 없어 제외합니다: {}", fileName);
+			return;
+		}
 
-//			data = scale(data,300,300);
+		setBinary(id, file);
+	}
 
-			output.close();
-			input.close();
 
-			hwpml = hwpml.replaceFirst(prefix + id + postfix, Base64.encodeBase64String(data));
+	/**
+	 * 파일을 Base64 로 인코딩해 파라미터 자리에 넣는다.
+	 * 파일은 출력할 때 읽어서 writer 로 바로 인코딩하므로 문서에 이미지 데이터를 들고 있지 않는다.
+	 *
+	 * @param paramName 파라미터 이름
+	 * @param file 넣을 파일
+	 */
+	public void setBinary(String paramName, File file) {
+		ArrayDeque<Integer> positions = getSlots().get(paramName);
 
-		} catch(IOException ioe) {
-			ioe.printStackTrace();
-		}
+		if (positions == null || positions.isEmpty()) return;
+
+		parts.set(positions.poll(), new Binary(file));
 	}
 
 	public byte[] scale(byte[] fileData, int width, int height){
@@ -177,17 +222,18 @@ public class HwpmlMaker {
 	 * @param value
 	 */
 	public void setAttribute(String id, String attrName, String value) {
-		String tag = this.getStartTag(id);
+		int index = this.getStartTag(id);
+		Tag tag = (Tag) parts.get(index);
 		String newTag = "";
 
-		if (tag.indexOf(attrName) == -1) {
-			newTag = tag.substring(0, tag.length() - 1) + " " + attrName + "=\"" + value + "\">";
+		if (tag.text().indexOf(attrName) == -1) {
+			newTag = tag.text().substring(0, tag.text().length() - 1) + " " + attrName + "=\"" + value + "\">";
 		}
 		else {
-			newTag = tag.replaceFirst(attrName + "=\"\\p{Alnum}*\"", "RowCount=\"" + value + "\"");
+			newTag = tag.text().replaceFirst(attrName + "=\"\\p{Alnum}*\"", "RowCount=\"" + value + "\"");
 		}
 
-		hwpml = hwpml.replaceFirst(tag, newTag);
+		parts.set(index, new Tag(tag.id(), newTag));
 	}
 
 
@@ -199,128 +245,224 @@ public class HwpmlMaker {
 	 * @param value
 	 */
 	public void setChildAttribute(String parentId, String attrName, String value) {
-		String tag = this.getTagBlock(parentId);
-		String newTag = tag.replaceAll(attrName + "=\"\\p{Alnum}*\"", "RowCount=\"" + value + "\"");
+		int start = this.getStartTag(parentId);
+		int end = this.getTagBlock(start);
+		String regex = attrName + "=\"\\p{Alnum}*\"";
 
-		hwpml = hwpml.replaceFirst(tag, newTag);
+		for (int i = start; i <= end; i++) {
+			if (parts.get(i) instanceof Text text) {
+				parts.set(i, new Text(text.text().replaceAll(regex, "RowCount=\"" + value + "\"")));
+			}
+			else if (parts.get(i) instanceof Tag tag) {
+				parts.set(i, new Tag(tag.id(), tag.text().replaceAll(regex, "RowCount=\"" + value + "\"")));
+			}
+		}
 	}
 
 
 	/**
 	 * TABLE의 ROW를 늘려준다.
+	 * 추가된 ROW의 파라미터는 index 를 1씩 늘린 이름(name0 → name1 ...)을 가진다.
 	 *
 	 * @param rowId	기준이 되는 ROW의 id
 	 * @param rows	추가할 ROW 수
 	 */
 	public void insertTableRow(String tableId, String rowId, int rows) {
-		String tag = this.getTagBlock(rowId);
-		String old = tag;
+		int start = this.getStartTag(rowId);
+		int end = this.getTagBlock(start);
 
-		int i1 = tag.indexOf("RowAddr=\"") + 9;
-		int i2 = tag.indexOf("\"", i1);
+		int startRowAddr = -1;
+		for (int i = start; i <= end && startRowAddr == -1; i++) {
+			String text = textOf(parts.get(i));
+			int i1 = text == null ? -1 : text.indexOf("RowAddr=\"");
 
-		int startRowAddr = Integer.parseInt(tag.substring(i1, i2));
+			if (i1 != -1) {
+				i1 += 9;
+				startRowAddr = Integer.parseInt(text.substring(i1, text.indexOf("\"", i1)));
+			}
+		}
 
 		// 테이블의 RowCount를 추가 될 Row수에 맞게 수정
 		this.setAttribute(tableId, "RowCount", String.valueOf(startRowAddr + rows));
 
+		// ROW 블럭 바로 뒤에 줄바꿈이 있어야 ROW를 추가한다.
+		Text last = (Text) parts.get(end);
+		if (!last.text().startsWith("\n")) return;
 
-		StringBuffer newTag = new StringBuffer(tag);
+		List<Part> row = new ArrayList<>(parts.subList(start, end));
+		List<Part> inserted = new ArrayList<>();
 
 		for (int i = 1; i < rows; i++) {
-			int position = 0;
-			int j1 = 0;
-			int j2 = 0;
-
-			do {
-				j1 = tag.indexOf(prefix, position) + prefix.length();
-
-				if (j1 == prefix.length() - 1) break;
+			row = nextRow(row, ++startRowAddr);
+			inserted.add(new Text("\n"));
+			inserted.addAll(row);
+		}
 
-				j2 = tag.indexOf(postfix, j1);
+		parts.addAll(end, inserted);
+		slots = null;
+	}
 
-				String paramName = tag.substring(j1, j2).replaceFirst("\\d+", "");
-				int idx = Integer.parseInt(tag.substring(j1, j2).replaceFirst("\\D+", ""));
 
-				tag = tag.replaceFirst(prefix + paramName + idx + postfix, prefix + paramName + (idx + 1) + postfix);
-				position = j2 + prefix.length();
-			} while (true);
+	/**
+	 * 이전 ROW를 복사해 파라미터 index 와 RowAddr 를 늘린 다음 ROW를 만든다.
+	 */
+	private List<Part> nextRow(List<Part> row, int rowAddr) {
+		List<Part> next = new ArrayList<>(row.size());
+		List<Integer> slotIndexes = new ArrayList<>();
+
+		for (Part part : row) {
+			if (part instanceof Slot) {
+				slotIndexes.add(next.size());
+				next.add(part);
+			}
+			else if (part instanceof Binary) {
+				next.add(part);
+			}
+			else if (part instanceof Tag tag) {
+				next.add(new Tag(tag.id(), ROW_ADDR.matcher(tag.text()).replaceAll("RowAddr=\"" + rowAddr + "\"")));
+			}
+			else {
+				next.add(new Text(ROW_ADDR.matcher(((Text) part).text()).replaceAll("RowAddr=\"" + rowAddr + "\"")));
+			}
+		}
 
-			tag = tag.replaceAll("RowAddr=\"\\d+\"", "RowAddr=\"" + ++startRowAddr + "\"");
-			newTag.append(tag);
+		// 파라미터를 순서대로 보면서 같은 이름 중 가장 앞의 것을 index + 1 로 바꾼다.
+		for (int slotIndex : slotIndexes) {
+			String name = ((Slot) row.get(slotIndex)).name();
+			String paramName = name.replaceFirst("\\d+", "");
+			int idx = Integer.parseInt(name.replaceFirst("\\D+", ""));
+
+			for (int i : slotIndexes) {
+				if (((Slot) next.get(i)).name().equals(paramName + idx)) {
+					next.set(i, new Slot(paramName + (idx + 1)));
+					break;
+				}
+			}
 		}
 
-		hwpml = hwpml.replaceFirst(old, newTag.toString());
+		return next;
 	}
 
 
-
 	/**
-	 * 시작태그 부분만 가져온다.
+	 * id 를 가진 시작태그 조각의 위치를 가져온다.
 	 *
 	 * @param id
 	 * @return
 	 */
-	private String getStartTag(String id) {
-		int i1 = hwpml.indexOf("id=\"" + id + "\"");
+	private int getStartTag(String id) {
+		for (int i = 0; i < parts.size(); i++) {
+			if (parts.get(i) instanceof Tag tag && tag.id().equals(id)) {
+				return i;
+			}
+		}
 
-		if (i1 == -1) return null;
+		throw new IllegalArgumentException("id=\"" + id + "\" 태그가 없습니다.");
+	}
 
-		int i2 = hwpml.lastIndexOf("<", i1);
-		int i3 = hwpml.indexOf(">", i1);
 
-		String tag = hwpml.substring(i2, i3 + 1);
+	/**
+	 * start 위치의 시작태그에 대응하는 종료태그까지를 블럭으로 보고, 종료태그 바로 뒤에서 글자 조각을 나눈다.
+	 *
+	 * @param start 시작태그 조각의 위치
+	 * @return 블럭 바로 뒤 조각(종료태그 뒤의 글자)의 위치
+	 */
+	private int getTagBlock(int start) {
+		String startTag = ((Tag) parts.get(start)).text();
+		String endTag = "</" + startTag.substring(1, startTag.indexOf(" ")) + ">";
+
+		for (int i = start + 1; i < parts.size(); i++) {
+			if (parts.get(i) instanceof Text text) {
+				int i1 = text.text().indexOf(endTag);
+
+				if (i1 != -1) {
+					i1 += endTag.length();
+					parts.set(i, new Text(text.text().substring(0, i1)));
+					parts.add(i + 1, new Text(text.text().substring(i1)));
+					slots = null;
+					return i + 1;
+				}
+			}
+		}
 
-		return tag;
+		throw new IllegalArgumentException(endTag + " 태그가 없습니다.");
 	}
 
 
 	/**
-	 * 태그블럭 전체를 가져온다.
-	 *
-	 * @param id
-	 * @return
+	 * 파라미터 이름별 Slot 위치를 가져온다.
 	 */
-	private String getTagBlock(String id) {
-		int i1 = hwpml.indexOf("id=\"" + id + "\"");
+	private Map<String, ArrayDeque<Integer>> getSlots() {
+		if (slots == null) {
+			slots = new HashMap<>();
+
+			for (int i = 0; i < parts.size(); i++) {
+				if (parts.get(i) instanceof Slot slot) {
+					slots.computeIfAbsent(slot.name(), name -> new ArrayDeque<>()).add(i);
+				}
+			}
+		}
+		return slots;
+	}
 
-		if (i1 == -1) return null;
 
-		int i2 = hwpml.lastIndexOf("<", i1);
-		int i3 = hwpml.indexOf(" ", i2);
-		int i4 = hwpml.indexOf("</" + hwpml.substring(i2 + 1, i3) + ">", i2) + i3 - i2 + 2;
+	/**
+	 * 값을 replaceFirst 의 치환 문자열과 같은 규칙으로 해석한다.
+	 */
+	private static String replacement(String token, String value) {
+		if (value.indexOf('\\') == -1 && value.indexOf('$') == -1) {
+			return value;
+		}
+		return Pattern.compile(token, Pattern.LITERAL).matcher(token).replaceFirst(value);
+	}
 
-		String tag = hwpml.substring(i2, i4) + "\n";
 
-		return tag;
+	private static String textOf(Part part) {
+		if (part instanceof Text text) return text.text();
+		if (part instanceof Tag tag) return tag.text();
+		return null;
 	}
 
 
 	/**
-	 * reportFile을 읽어 hwpml에 저장한다.
+	 * 출력할 때 Base64 로 인코딩해 쓰는 파일
 	 */
-	private void setReport() {
-		FileInputStream fis = null;
+	private record Binary(File file) implements Part {
 
-		try {
-			fis = new FileInputStream(new File(reportFile));
-			byte[] buf = new byte[1024];
-			int len = 0;
+		void write(Writer writer) throws IOException {
+			try (InputStream in = new FileInputStream(file);
+				 OutputStream out = Base64.getEncoder().wrap(new AsciiOutputStream(writer))) {
+				in.transferTo(out);
+			}
+		}
+	}
 
-			StringBuffer tmp = new StringBuffer();
 
-			while ((len = fis.read(buf)) != -1) {
-				tmp.append(new String(buf, 0, len, "UTF-8"));
-			}
+	/**
+	 * Base64 인코딩 결과(ASCII)를 writer 로 넘긴다. 닫아도 writer 는 닫지 않는다.
+	 */
+	private static final class AsciiOutputStream extends OutputStream {
+		private final Writer writer;
+		private char[] chars = new char[0];
 
-			fis.close();
+		AsciiOutputStream(Writer writer) {
+			this.writer = writer;
+		}
 
-			hwpml = tmp.toString().substring(tmp.toString().indexOf("<"));
+		@Override
+		public void write(int b) throws IOException {
+			writer.write(b);
+		}
 
-		} catch(FileNotFoundException e) {
-			e.printStackTrace();
-		} catch(IOException e) {
-			e.printStackTrace();
+		@Override
+		public void write(byte[] b, int off, int len) throws IOException {
+			if (chars.length < len) {
+				chars = new char[len];
+			}
+			for (int i = 0; i < len; i++) {
+				chars[i] = (char) b[off + i];
+			}
+			writer.write(chars, 0, len);
 		}
 	}
 }
@@ -0,0 +1,204 @@
+package com.klid.common;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 미리 분석해 둔 hwpml 템플릿
+ * - 템플릿 문자열을 한 번만 훑어서 글자(Text), id 를 가진 시작태그(Tag), 파라미터(Slot) 조각 목록으로 나눈다.
+ * - 파라미터 이름은 prefix + [A-Za-z0-9_]+ + postfix 형식만 인식한다.
+ * - 같은 파일/prefix/postfix 는 한 번만 분석하고, 파일 크기/수정 시각이 바뀌면 다시 분석한다.
+ * - 조각 목록은 변경하지 않으므로 여러 HwpmlMaker 가 함께 사용한다.
+ */
+public final class HwpmlTemplate {
+
+	private static final Map<Key, Entry> TEMPLATES = new ConcurrentHashMap<>();
+
+	private final String prefix;
+	private final String postfix;
+	private final List<Part> parts;
+
+	HwpmlTemplate(String hwpml, String prefix, String postfix) {
+		if (prefix.isEmpty() || postfix.isEmpty()) {
+			throw new IllegalArgumentException("prefix/postfix 가 비어 있으면 파라미터를 구분할 수 없습니다.");
+		}
+		this.prefix = prefix;
+		this.postfix = postfix;
+		this.parts = Collections.unmodifiableList(compile(hwpml));
+	}
+
+
+	/**
+	 * 분석된 템플릿을 반환한다.
+	 *
+	 * @param reportFile 템플릿 파일 경로
+	 * @param prefix 파라미터 앞 구분자
+	 * @param postfix 파라미터 뒤 구분자
+	 * @return 분석된 템플릿
+	 * @throws IOException
+	 */
+	public static HwpmlTemplate of(String reportFile, String prefix, String postfix) throws IOException {
+		final Path path = Paths.get(reportFile).toAbsolutePath().normalize();
+		final long length = Files.size(path);
+		final long lastModified = Files.getLastModifiedTime(path).toMillis();
+
+		try {
+			//같은 템플릿을 동시에 여러 번 분석하지 않도록 compute 안에서 읽음
+			return TEMPLATES.compute(new Key(path, prefix, postfix), (key, cached) -> {
+				if (cached != null && cached.length() == length && cached.lastModified() == lastModified) {
+					return cached;
+				}
+				try {
+					return new Entry(length, lastModified, new HwpmlTemplate(read(path), prefix, postfix));
+				} catch (IOException e) {
+					throw new UncheckedIOException(e);
+				}
+			}).template();
+		} catch (UncheckedIOException e) {
+			throw e.getCause();
+		}
+	}
+
+
+	/**
+	 * 분석된 템플릿을 모두 비운다.
+	 */
+	public static void clear() {
+		TEMPLATES.clear();
+	}
+
+
+	/**
+	 * 파일 전체를 UTF-8 로 읽고 첫 태그('<') 앞(BOM 등)은 버린다.
+	 */
+	private static String read(Path path) throws IOException {
+		String text = new String(Files.readAllBytes(path), StandardCharsets.UTF_8);
+		return text.substring(text.indexOf("<"));
+	}
+
+
+	String getPrefix() {
+		return prefix;
+	}
+
+	String getPostfix() {
+		return postfix;
+	}
+
+	List<Part> getParts() {
+		return parts;
+	}
+
+	/**
+	 * 파라미터 name 의 원래 표기(prefix + name + postfix)
+	 */
+	String token(String name) {
+		return prefix + name + postfix;
+	}
+
+
+	/**
+	 * 템플릿을 조각 목록으로 나눈다.
+	 */
+	private List<Part> compile(String hwpml) {
+		List<Part> result = new ArrayList<>();
+		int textStart = 0;
+		int position = hwpml.indexOf(prefix);
+
+		while (position != -1) {
+			int nameEnd = position + prefix.length();
+			while (nameEnd < hwpml.length() && isNameChar(hwpml.charAt(nameEnd))) {
+				nameEnd++;
+			}
+
+			if (nameEnd > position + prefix.length() && hwpml.startsWith(postfix, nameEnd)) {
+				addText(result, hwpml.substring(textStart, position));
+				result.add(new Slot(hwpml.substring(position + prefix.length(), nameEnd)));
+				textStart = nameEnd + postfix.length();
+				position = hwpml.indexOf(prefix, textStart);
+			}
+			else {
+				position = hwpml.indexOf(prefix, position + 1);
+			}
+		}
+		addText(result, hwpml.substring(textStart));
+
+		return result;
+	}
+
+
+	/**
+	 * 글자 조각을 추가한다. id="..." 를 가진 시작태그는 따로 떼어 Tag 조각으로 만든다.
+	 */
+	private static void addText(List<Part> result, String text) {
+		int textStart = 0;
+		int i1 = text.indexOf("id=\"");
+
+		while (i1 != -1) {
+			int i2 = text.lastIndexOf("<", i1);
+			int i3 = text.indexOf(">", i1);
+			int idEnd = text.indexOf("\"", i1 + 4);
+
+			if (i2 >= textStart && i3 != -1 && idEnd != -1 && idEnd < i3) {
+				if (i2 > textStart) {
+					result.add(new Text(text.substring(textStart, i2)));
+				}
+				result.add(new Tag(text.substring(i1 + 4, idEnd), text.substring(i2, i3 + 1)));
+				textStart = i3 + 1;
+				i1 = text.indexOf("id=\"", textStart);
+			}
+			else {
+				i1 = text.indexOf("id=\"", i1 + 1);
+			}
+		}
+
+		if (textStart < text.length()) {
+			result.add(new Text(text.substring(textStart)));
+		}
+	}
+
+
+	private static boolean isNameChar(char c) {
+		return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '_';
+	}
+
+
+	/**
+	 * 템플릿 조각
+	 */
+	interface Part {
+	}
+
+	/**
+	 * 그대로 출력하는 글자
+	 */
+	record Text(String text) implements Part {
+	}
+
+	/**
+	 * id="..." 속성을 가진 시작태그. 속성 변경/행 추가의 기준이 된다.
+	 */
+	record Tag(String id, String text) implements Part {
+	}
+
+	/**
+	 * 값을 채울 파라미터
+	 */
+	record Slot(String name) implements Part {
+	}
+
+	private record Key(Path path, String prefix, String postfix) {
+	}
+
+	private record Entry(long length, long lastModified, HwpmlTemplate template) {
+	}
+}
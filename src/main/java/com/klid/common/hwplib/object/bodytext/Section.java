@@ -42,6 +42,16 @@ public class Section implements ParagraphListInterface {
 		return p;
 	}
 
+	/**
+	 * 문단을 리스트에 추가한다.
+	 *
+	 * @param p
+	 *            추가할 문단
+	 */
+	public void addParagraph(Paragraph p) {
+		paragraphList.add(p);
+	}
+
 	/**
 	 * 문단 개수를 반환한다.
 	 * 
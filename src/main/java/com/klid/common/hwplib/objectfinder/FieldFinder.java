@@ -1,15 +1,12 @@
 package com.klid.common.hwplib.objectfinder;
 
 import com.klid.common.hwplib.object.HWPFile;
-import com.klid.common.hwplib.object.bodytext.Section;
-import com.klid.common.hwplib.object.bodytext.control.ControlType;
-import com.klid.common.hwplib.objectfinder.forField.ForParagraphList;
 import com.klid.common.hwplib.textextractor.TextExtractMethod;
 
 import java.io.UnsupportedEncodingException;
 
 /**
- * 필드 객체를 찾는 기능을 포함하는 클래스
+ * 필드 객체를 찾는 기능을 포함하는 클래스. 탐색은 tool.objectfinder.FieldFinder 에 위임한다.
  * 
  * @author neolord
  */
@@ -28,14 +25,7 @@ public class FieldFinder {
 	 */
 	public static String getClickHereText(HWPFile hwpFile, String fieldName,
                                           TextExtractMethod temInField) throws UnsupportedEncodingException {
-		String strText = null;
-		for (Section s : hwpFile.getBodyText().getSectionList()) {
-			strText = ForParagraphList.getFieldText(s,
-					ControlType.FIELD_CLICKHERE, fieldName, temInField);
-			if (strText != null) {
-				break;
-			}
-		}
-		return strText;
+		return com.klid.common.hwplib.tool.objectfinder.FieldFinder.getClickHereText(hwpFile, fieldName,
+				temInField.toolMethod());
 	}
 }
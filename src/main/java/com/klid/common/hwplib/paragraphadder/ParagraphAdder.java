@@ -3,31 +3,24 @@ package com.klid.common.hwplib.paragraphadder;
 import com.klid.common.hwplib.object.HWPFile;
 import com.klid.common.hwplib.object.bodytext.ParagraphListInterface;
 import com.klid.common.hwplib.object.bodytext.paragraph.Paragraph;
-import com.klid.common.hwplib.paragraphadder.docinfo.DocInfoAdder;
 
 import java.util.ArrayList;
 
+/**
+ * 다른 한글 파일의 문단을 복사해서 추가하는 객체. 복사는 tool.paragraphadder.ParagraphAdder 에 위임한다.
+ */
 public class ParagraphAdder {
-	private HWPFile targetHWPFile;
-	private ParagraphListInterface targetParaList;
+	private com.klid.common.hwplib.tool.paragraphadder.ParagraphAdder adder;
 
 	public ParagraphAdder(HWPFile targetHWPFile, ParagraphListInterface targetSection) {
-		this.targetHWPFile = targetHWPFile;
-		this.targetParaList = targetSection;
+		this.adder = new com.klid.common.hwplib.tool.paragraphadder.ParagraphAdder(targetHWPFile, targetSection);
 	}
 
 	public void add(HWPFile hwpFile, Paragraph p) throws Exception {
-		ParapraphCopyer paraCopyer = new ParapraphCopyer(new DocInfoAdder(hwpFile, targetHWPFile));
-
-		Paragraph targetParagraph = targetParaList.addNewParagraph();
-		paraCopyer.copy(p, targetParagraph);
+		adder.add(hwpFile, p);
 	}
 
 	public void add(HWPFile hwpFile, ArrayList<Paragraph> list) throws Exception {
-		ParapraphCopyer copyer = new ParapraphCopyer(new DocInfoAdder(hwpFile, targetHWPFile));
-		for (Paragraph p : list) {
-			Paragraph targetParagraph = targetParaList.addNewParagraph();
-			copyer.copy(p, targetParagraph);
-		}
+		adder.add(hwpFile, list);
 	}
 }
@@ -1,77 +0,0 @@
-package com.klid.common.hwplib.paragraphadder.docinfo;
-
-import com.klid.common.hwplib.object.HWPFile;
-
-public class DocInfoAdder {
-	private HWPFile sourceHWPFile;
-	private HWPFile targetHWPFile;
-	
-	private BinDataAdder binDataAdder;
-	private BorderFillAdder borderFillAdder;
-	private BulletAdder bulletAdder;
-	private CharShapeAdder charShapeAdder;
-	private FaceNameAdder faceNameAdder;
-	private NumberingAdder numberingAdder;
-	private ParaShapeAdder paraShapeAdder;
-	private StyleAdder styleAdder;
-	private TabDefAdder tabDefAdder;
-	
-	public DocInfoAdder(HWPFile sourceHWPFile, HWPFile targetHWPFile) {
-		this.sourceHWPFile = sourceHWPFile;
-		this.targetHWPFile = targetHWPFile;
-		
-		binDataAdder = new BinDataAdder(this);
-		borderFillAdder = new BorderFillAdder(this);
-		bulletAdder = new BulletAdder(this);
-		charShapeAdder = new CharShapeAdder(this);
-		faceNameAdder = new FaceNameAdder(this);
-		numberingAdder = new NumberingAdder(this);
-		paraShapeAdder = new ParaShapeAdder(this);
-		styleAdder = new StyleAdder(this);
-		tabDefAdder = new TabDefAdder(this);
-	}
-
-	public HWPFile getSourceHWPFile() {
-		return sourceHWPFile;
-	}
-
-	public HWPFile getTargetHWPFile() {
-		return targetHWPFile;
-	}
-
-	public BinDataAdder forBinData() {
-		return binDataAdder;
-	}
-
-	public BorderFillAdder forBorderFill() {
-		return borderFillAdder;
-	}
-
-	public BulletAdder forBullet() {
-		return bulletAdder;
-	}
-
-	public CharShapeAdder forCharShape() {
-		return charShapeAdder;
-	}
-
-	public FaceNameAdder forFaceName() {
-		return faceNameAdder;
-	}
-
-	public NumberingAdder forNumbering() {
-		return numberingAdder;
-	}
-
-	public ParaShapeAdder forParaShape() {
-		return paraShapeAdder;
-	}
-
-	public StyleAdder forStyle() {
-		return styleAdder;
-	}
-
-	public TabDefAdder forTabDef() {
-		return tabDefAdder;
-	}
-}
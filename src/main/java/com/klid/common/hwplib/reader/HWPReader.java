@@ -5,10 +5,16 @@ import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URL;
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 import com.klid.common.hwplib.object.HWPFile;
+import com.klid.common.hwplib.object.bodytext.Section;
 import com.klid.common.hwplib.object.docinfo.bindata.BinDataCompress;
 import com.klid.common.hwplib.object.docinfo.BinData;
 import com.klid.common.hwplib.object.fileheader.FileVersion;
@@ -16,6 +22,7 @@ import com.klid.common.hwplib.reader.bodytext.ForSection;
 import com.klid.common.hwplib.reader.docinfo.ForDocInfo;
 import com.klid.common.hwplib.util.compoundFile.reader.CompoundFileReader;
 import com.klid.common.hwplib.util.compoundFile.reader.StreamReader;
+import com.klid.common.hwplib.util.compoundFile.reader.StreamReaderForCompress;
 
 /**
  * 한글 파일을 읽기 위한 객체
@@ -35,6 +42,21 @@ public class HWPReader {
 		return fromInputStream(new FileInputStream(filepath));
 	}
 
+	/**
+	 * hwp 파일을 읽는다. 섹션이 여러 개인 문서는 섹션들을 executor 에서 동시에 읽는다.
+	 * 
+	 * @param filepath
+	 *            hwp파일의 경로
+	 * @param executor
+	 *            섹션을 읽을 스레드 풀 (크기가 제한된 풀을 넘겨야 한다)
+	 * @return HWPFile 객체
+	 * @throws IOException
+	 */
+	public static HWPFile fromFile(String filepath, ExecutorService executor)
+			throws FileNotFoundException, IOException, IllegalArgumentException {
+		return fromInputStream(new FileInputStream(filepath), executor);
+	}
+
 	/**
 	 * hwp 파일을 읽는다.
 	 * 
@@ -56,7 +78,24 @@ public class HWPReader {
 	 * @throws IllegalArgumentException
 	 */
 	public static HWPFile fromInputStream(InputStream is) throws IllegalArgumentException , IOException{
+		return fromInputStream(is, null);
+	}
+
+	/**
+	 * hwp 파일을 읽는다. DocInfo 를 읽은 후 섹션(BodyText/SectionN)들은 서로 독립적이므로 executor 에서 동시에
+	 * 읽고 순서대로 붙인다. 결과는 순차로 읽은 것과 같다.
+	 * 
+	 * @param is
+	 *            hwp파일을 가리키는 Input Stream 객체
+	 * @param executor
+	 *            섹션을 읽을 스레드 풀 (크기가 제한된 풀을 넘겨야 한다). null 이면 순차로 읽는다.
+	 * @return HWPFile 객체
+	 * @throws IllegalArgumentException
+	 */
+	public static HWPFile fromInputStream(InputStream is, ExecutorService executor)
+			throws IllegalArgumentException, IOException {
 		HWPReader r = new HWPReader();
+		r.executor = executor;
 		r.hwpFile = new HWPFile();
 		r.cfr = new CompoundFileReader(is);
 
@@ -80,6 +119,10 @@ public class HWPReader {
 	 * MS Compound 파일을 읽기 위한 리더 객체
 	 */
 	private CompoundFileReader cfr;
+	/**
+	 * 섹션을 동시에 읽을 스레드 풀 (null 이면 순차로 읽음)
+	 */
+	private ExecutorService executor;
 
 	/**
 	 * 생성자
@@ -145,12 +188,89 @@ public class HWPReader {
 	private void bodyText() throws IOException {
 		cfr.moveChildStorage("BodyText");
 		int sectionCount = hwpFile.getDocInfo().getDocumentProperties().getSectionCount();
-		for (int index = 0; index < sectionCount; index++) {
-			section(index);
+		if (executor != null && sectionCount > 1 && isCompressed()) {
+			sectionsInParallel(sectionCount);
+		} else {
+			for (int index = 0; index < sectionCount; index++) {
+				section(index);
+			}
 		}
 		cfr.moveParentStorage();
 	}
 
+	/**
+	 * Section 스트림들을 동시에 읽는다. POI 파일 시스템은 현재 스레드에서만 접근하도록 각 섹션의 압축된 데이터를
+	 * 먼저 읽어 두고, 압축 해제와 파싱만 executor 에서 한다. 첫 번째 섹션은 현재 스레드에서 읽는다.
+	 * 
+	 * @param sectionCount
+	 *            섹션 개수
+	 * @throws IOException
+	 */
+	private void sectionsInParallel(int sectionCount) throws IOException {
+		final FileVersion version = getVersion();
+		List<Section> sections = new ArrayList<Section>(sectionCount);
+		List<byte[]> sources = new ArrayList<byte[]>(sectionCount);
+		for (int index = 0; index < sectionCount; index++) {
+			sections.add(hwpFile.getBodyText().addNewSection());
+			sources.add(cfr.readChildStream("Section" + index));
+		}
+
+		List<Future<Void>> futures = new ArrayList<Future<Void>>(sectionCount - 1);
+		try {
+			for (int index = 1; index < sectionCount; index++) {
+				final Section section = sections.get(index);
+				final byte[] source = sources.get(index);
+				futures.add(executor.submit(() -> {
+					readSection(section, source, version);
+					return null;
+				}));
+			}
+			readSection(sections.get(0), sources.get(0), version);
+			for (Future<Void> future : futures) {
+				future.get();
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IOException("섹션 읽기가 중단되었습니다.", e);
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof IOException) {
+				throw (IOException) cause;
+			}
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			}
+			if (cause instanceof Error) {
+				throw (Error) cause;
+			}
+			throw new IOException(cause);
+		} finally {
+			for (Future<Void> future : futures) {
+				future.cancel(true);
+			}
+		}
+	}
+
+	/**
+	 * 미리 읽어 둔 압축된 섹션 데이터를 읽는다.
+	 * 
+	 * @param section
+	 *            섹션 객체
+	 * @param source
+	 *            압축된 섹션 데이터
+	 * @param version
+	 *            파일의 버전
+	 * @throws IOException
+	 */
+	private static void readSection(Section section, byte[] source, FileVersion version) throws IOException {
+		StreamReader sr = new StreamReaderForCompress(source, version);
+		try {
+			ForSection.read(section, sr);
+		} finally {
+			sr.close();
+		}
+	}
+
 	/**
 	 * Section 스트림을 읽는다.
 	 * 
@@ -210,8 +330,7 @@ public class HWPReader {
 	 */
 	private byte[] readEmbededBinaryData(String name, BinDataCompress compressMethod) throws IOException {
 		StreamReader sr = cfr.getChildStreamReader(name, isCompressBinData(compressMethod), null);
-		byte[] binaryData = new byte[(int) sr.getSize()];
-		sr.readBytes(binaryData);
+		byte[] binaryData = sr.readToEnd();
 		sr.close();
 		return binaryData;
 	}
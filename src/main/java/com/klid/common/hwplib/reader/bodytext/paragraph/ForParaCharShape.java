@@ -25,11 +25,16 @@ public class ForParaCharShape {
 		paragraph.createCharShape();
 
 		int count = paragraph.getHeader().getCharShapeCount();
-		for (int index = 0; index < count; index++) {
-			long position = sr.readUInt4();
-			long charShapeId = sr.readUInt4();
+		int[] values = new int[Math.min(count, 64) * 2];
+		for (int index = 0; index < count; index += values.length / 2) {
+			int n = Math.min(count - index, values.length / 2);
+			sr.readSInt4Array(values, 0, n * 2);
+			for (int i = 0; i < n; i++) {
+				long position = values[i * 2] & 0xffffffff;
+				long charShapeId = values[i * 2 + 1] & 0xffffffff;
 
-			paragraph.getCharShape().addParaCharShape(position, charShapeId);
+				paragraph.getCharShape().addParaCharShape(position, charShapeId);
+			}
 		}
 	}
 }
@@ -32,8 +32,10 @@ public class ForParaLineSeq {
 
 		ParaLineSeg pls = p.getLineSeg();
 		int count = p.getHeader().getLineAlignCount();
+		int[] values = new int[9];
 		for (int index = 0; index < count; index++) {
-			paraLineSeqItem(pls.addNewLineSegItem(), sr);
+			sr.readSInt4Array(values, 0, values.length);
+			paraLineSeqItem(pls.addNewLineSegItem(), values);
 		}
 	}
 
@@ -42,20 +44,18 @@ public class ForParaLineSeq {
 	 * 
 	 * @param plsi
 	 *            한 라인의 레이아웃 정보
-	 * @param sr
-	 *            스트림 리더
-	 * @throws IOException
+	 * @param values
+	 *            한 번에 읽은 4 byte 값 9개
 	 */
-	private static void paraLineSeqItem(LineSegItem plsi, StreamReader sr)
-			throws IOException {
-		plsi.setTextStartPositon(sr.readUInt4());
-		plsi.setLineVerticalPosition(sr.readSInt4());
-		plsi.setLineHeight(sr.readSInt4());
-		plsi.setTextPartHeight(sr.readSInt4());
-		plsi.setDistanceBaseLineToLineVerticalPosition(sr.readSInt4());
-		plsi.setLineSpace(sr.readSInt4());
-		plsi.setStartPositionFromColumn(sr.readSInt4());
-		plsi.setSegmentWidth(sr.readSInt4());
-		plsi.getTag().setValue(sr.readUInt4());
+	private static void paraLineSeqItem(LineSegItem plsi, int[] values) {
+		plsi.setTextStartPositon(values[0] & 0xffffffff);
+		plsi.setLineVerticalPosition(values[1]);
+		plsi.setLineHeight(values[2]);
+		plsi.setTextPartHeight(values[3]);
+		plsi.setDistanceBaseLineToLineVerticalPosition(values[4]);
+		plsi.setLineSpace(values[5]);
+		plsi.setStartPositionFromColumn(values[6]);
+		plsi.setSegmentWidth(values[7]);
+		plsi.getTag().setValue(values[8] & 0xffffffff);
 	}
 }
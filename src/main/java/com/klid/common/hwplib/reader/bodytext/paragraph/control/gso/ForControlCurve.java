@@ -53,10 +53,15 @@ public class ForControlCurve {
 	private static void shapeComponentCurve(ShapeComponentCurve scc,
 			StreamReader sr) throws IOException {
 		int positionCount = sr.readSInt4();
-		for (int index = 0; index < positionCount; index++) {
-			PositionXY p = scc.addNewPosition();
-			p.setX(sr.readSInt4());
-			p.setY(sr.readSInt4());
+		int[] xy = new int[Math.max(0, Math.min(positionCount, 64)) * 2];
+		for (int index = 0; index < positionCount; index += xy.length / 2) {
+			int n = Math.min(positionCount - index, xy.length / 2);
+			sr.readSInt4Array(xy, 0, n * 2);
+			for (int i = 0; i < n; i++) {
+				PositionXY p = scc.addNewPosition();
+				p.setX(xy[i * 2]);
+				p.setY(xy[i * 2 + 1]);
+			}
 		}
 		for (int index = 0; index < positionCount - 1; index++) {
 			CurveSegmentType cst = CurveSegmentType.valueOf((byte) sr
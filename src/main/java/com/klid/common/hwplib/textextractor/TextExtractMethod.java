@@ -17,5 +17,14 @@ public enum TextExtractMethod {
 	/**
 	 * 컨트롤의 텍스트를 문단 텍스트 뒤에 추가하여 추출함
 	 */
-	AppendControlTextAfterParagraphText
+	AppendControlTextAfterParagraphText;
+
+	/**
+	 * tool.textextractor 의 같은 추출 방법을 반환한다.
+	 * 
+	 * @return tool.textextractor 의 텍스트 추출 방법
+	 */
+	public com.klid.common.hwplib.tool.textextractor.TextExtractMethod toolMethod() {
+		return com.klid.common.hwplib.tool.textextractor.TextExtractMethod.valueOf(name());
+	}
 }
@@ -1,12 +1,11 @@
 package com.klid.common.hwplib.textextractor;
 
 import com.klid.common.hwplib.object.HWPFile;
-import com.klid.common.hwplib.object.bodytext.Section;
 
 import java.io.UnsupportedEncodingException;
 
 /**
- * 한글 파일에서 텍스트를 추출하는 객체
+ * 한글 파일에서 텍스트를 추출하는 객체. 추출은 tool.textextractor.TextExtractor 에 위임한다.
  * 
  * @author neolord
  */
@@ -22,10 +21,6 @@ public class TextExtractor {
 	 * @throws UnsupportedEncodingException 
 	 */
 	public static String extract(HWPFile hwpFile, TextExtractMethod tem) throws UnsupportedEncodingException {
-		StringBuffer sb = new StringBuffer();
-		for (Section s : hwpFile.getBodyText().getSectionList()) {
-			ForParagraphList.extract(s, tem, sb);
-		}
-		return sb.toString();
+		return com.klid.common.hwplib.tool.textextractor.TextExtractor.extract(hwpFile, tem.toolMethod());
 	}
 }
@@ -0,0 +1,271 @@
+package com.klid.common.hwplib.tool.copier;
+
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.function.Supplier;
+
+import com.klid.common.hwplib.object.HWPFile;
+
+/**
+ * 한글 파일 객체를 구조 그대로 복사하는 기능을 포함하는 클래스. 한 번 읽어 둔 템플릿을 요청마다 다시 파싱하지 않고
+ * 복사해서 쓰기 위해 사용한다.
+ * <p>
+ * 클래스별 복사 방법(객체 생성 함수, 필드 목록)은 처음 한 번만 만들어 둔다. 문자열, 숫자, enum 은 불변이므로 공유하고,
+ * byte 배열(첨부 이미지 등 바이너리 데이터)은 수정하지 않고 교체만 하므로 복사하지 않고 공유한다. 그 외의 객체,
+ * 배열, ArrayList 는 모두 새로 만든다. HWPReader 가 만드는 객체 모델은 트리 구조(한 객체를 여러 곳에서 참조하지
+ * 않음)이므로 참조 관계는 추적하지 않는다.
+ */
+public class HWPFileCopier {
+	/**
+	 * 클래스별 복사 방법
+	 */
+	private static final ClassValue<CopyPlan> plans = new ClassValue<CopyPlan>() {
+		@Override
+		protected CopyPlan computeValue(Class<?> type) {
+			return new CopyPlan(type);
+		}
+	};
+
+	/**
+	 * 원본과 독립적인 한글 파일 객체를 만든다.
+	 *
+	 * @param source
+	 *            원본 한글 파일 객체
+	 * @return 복사된 한글 파일 객체
+	 */
+	public static HWPFile copy(HWPFile source) {
+		return (HWPFile) copyObject(source);
+	}
+
+	/**
+	 * 객체를 복사한다.
+	 *
+	 * @param source
+	 *            원본 객체
+	 * @return 복사본
+	 */
+	private static Object copyObject(Object source) {
+		if (source == null || isShared(source)) {
+			return source;
+		}
+		Class<?> type = source.getClass();
+		if (type.isArray()) {
+			return copyArray(source, type);
+		}
+		if (type == ArrayList.class) {
+			ArrayList<?> list = (ArrayList<?>) source;
+			ArrayList<Object> copy = new ArrayList<Object>(list.size());
+			for (Object item : list) {
+				copy.add(copyObject(item));
+			}
+			return copy;
+		}
+		return plans.get(type).copy(source);
+	}
+
+	/**
+	 * 복사하지 않고 공유할 값인지 여부를 반환한다.
+	 *
+	 * @param value
+	 *            값
+	 * @return 공유할 값인지 여부
+	 */
+	private static boolean isShared(Object value) {
+		return value instanceof String || value instanceof Number
+				|| value instanceof Boolean || value instanceof Character
+				|| value instanceof Enum || value instanceof byte[];
+	}
+
+	/**
+	 * 배열을 복사한다.
+	 *
+	 * @param source
+	 *            원본 배열
+	 * @param type
+	 *            배열 타입
+	 * @return 복사된 배열
+	 */
+	private static Object copyArray(Object source, Class<?> type) {
+		if (type.getComponentType().isPrimitive()) {
+			int length = Array.getLength(source);
+			Object copy = Array.newInstance(type.getComponentType(), length);
+			System.arraycopy(source, 0, copy, 0, length);
+			return copy;
+		}
+		Object[] array = (Object[]) source;
+		Object[] copy = (Object[]) Array.newInstance(type.getComponentType(), array.length);
+		for (int index = 0; index < array.length; index++) {
+			copy[index] = copyObject(array[index]);
+		}
+		return copy;
+	}
+
+	/**
+	 * 한 클래스의 객체를 복사하는 방법
+	 */
+	private static class CopyPlan {
+		/**
+		 * 필드 복사 함수 타입 (target, source)void
+		 */
+		private static final MethodType COPY_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+		/**
+		 * copyObject(Object)Object
+		 */
+		private static final MethodHandle COPY_OBJECT;
+
+		static {
+			try {
+				COPY_OBJECT = MethodHandles.lookup().findStatic(HWPFileCopier.class, "copyObject",
+						MethodType.methodType(Object.class, Object.class));
+			} catch (ReflectiveOperationException e) {
+				throw new ExceptionInInitializerError(e);
+			}
+		}
+
+		/**
+		 * 빈 객체를 만드는 함수
+		 */
+		private Supplier<Object> factory;
+		/**
+		 * 모든 필드(상위 클래스 필드 포함)를 원본에서 복사본으로 옮기는 함수 (target, source)void
+		 */
+		private MethodHandle fieldCopier;
+
+		/**
+		 * 생성자
+		 *
+		 * @param type
+		 *            클래스
+		 */
+		public CopyPlan(Class<?> type) {
+			factory = factory(type);
+			try {
+				MethodHandle chain = MethodHandles.empty(COPY_TYPE);
+				for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+					MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(c, MethodHandles.lookup());
+					for (Field f : c.getDeclaredFields()) {
+						if (Modifier.isStatic(f.getModifiers())) {
+							continue;
+						}
+						chain = MethodHandles.foldArguments(chain, fieldCopier(lookup, f));
+					}
+				}
+				fieldCopier = chain;
+			} catch (IllegalAccessException e) {
+				throw new IllegalStateException(type.getName() + " 복사 함수를 만들 수 없습니다.", e);
+			}
+		}
+
+		/**
+		 * 필드 하나를 옮기는 함수 (target, source)void 를 만든다. 참조형 필드는 copyObject 로 복사한 값을 넣는다.
+		 */
+		private static MethodHandle fieldCopier(MethodHandles.Lookup lookup, Field f)
+				throws IllegalAccessException {
+			MethodHandle getter = lookup.unreflectGetter(f)
+					.asType(MethodType.methodType(f.getType(), Object.class));
+			MethodHandle setter = lookup.unreflectSetter(f)
+					.asType(MethodType.methodType(void.class, Object.class, f.getType()));
+			if (!f.getType().isPrimitive()) {
+				getter = MethodHandles.filterReturnValue(getter.asType(MethodType.methodType(Object.class, Object.class)), COPY_OBJECT)
+						.asType(MethodType.methodType(f.getType(), Object.class));
+			}
+			return MethodHandles.filterArguments(setter, 1, getter);
+		}
+
+		/**
+		 * 객체를 복사한다. 새 객체의 필드는 생성자가 만든 값과 관계없이 모두 원본 값(의 복사본)으로 덮어쓴다.
+		 *
+		 * @param source
+		 *            원본 객체
+		 * @return 복사본
+		 */
+		public Object copy(Object source) {
+			Object target = factory.get();
+			try {
+				fieldCopier.invokeExact(target, source);
+			} catch (RuntimeException | Error e) {
+				throw e;
+			} catch (Throwable e) {
+				throw new IllegalStateException(source.getClass().getName() + " 복사 실패", e);
+			}
+			return target;
+		}
+
+		/**
+		 * 빈 객체를 만드는 함수를 반환한다. 인자 없는 생성자는 LambdaMetafactory 로 직접 호출하는 함수를 만들고
+		 * (리플렉션 생성자 호출보다 훨씬 빠름), 없으면 매개변수가 가장 적은 생성자를 기본값(0, false, null)으로 호출한다.
+		 *
+		 * @param type
+		 *            클래스
+		 * @return 객체를 만드는 함수
+		 */
+		@SuppressWarnings("unchecked")
+		private static Supplier<Object> factory(Class<?> type) {
+			try {
+				MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(type, MethodHandles.lookup());
+				MethodHandle constructor = lookup.findConstructor(type, MethodType.methodType(void.class));
+				return (Supplier<Object>) LambdaMetafactory.metafactory(lookup, "get",
+						MethodType.methodType(Supplier.class), MethodType.methodType(Object.class),
+						constructor, MethodType.methodType(type)).getTarget().invoke();
+			} catch (NoSuchMethodException e) {
+				return reflectiveFactory(type);
+			} catch (Throwable e) {
+				throw new IllegalStateException(type.getName() + " 생성 함수를 만들 수 없습니다.", e);
+			}
+		}
+
+		/**
+		 * 인자 없는 생성자가 없는 클래스의 객체를 만드는 함수를 반환한다.
+		 *
+		 * @param type
+		 *            클래스
+		 * @return 객체를 만드는 함수
+		 */
+		private static Supplier<Object> reflectiveFactory(Class<?> type) {
+			Constructor<?> selected = null;
+			for (Constructor<?> c : type.getDeclaredConstructors()) {
+				if (selected == null
+						|| c.getParameterCount() < selected.getParameterCount()) {
+					selected = c;
+				}
+			}
+			final Constructor<?> constructor = selected;
+			constructor.setAccessible(true);
+			Class<?>[] parameterTypes = constructor.getParameterTypes();
+			final Object[] arguments = new Object[parameterTypes.length];
+			for (int index = 0; index < parameterTypes.length; index++) {
+				arguments[index] = defaultValue(parameterTypes[index]);
+			}
+			return () -> {
+				try {
+					return constructor.newInstance(arguments);
+				} catch (ReflectiveOperationException e) {
+					throw new IllegalStateException(type.getName() + " 생성 실패", e);
+				}
+			};
+		}
+
+		/**
+		 * 타입의 기본값을 반환한다.
+		 */
+		private static Object defaultValue(Class<?> type) {
+			if (!type.isPrimitive()) {
+				return null;
+			}
+			if (type == boolean.class) {
+				return Boolean.FALSE;
+			}
+			if (type == char.class) {
+				return Character.valueOf((char) 0);
+			}
+			return Array.get(Array.newInstance(type, 1), 0);
+		}
+	}
+}
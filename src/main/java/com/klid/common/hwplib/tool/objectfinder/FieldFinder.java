@@ -2,6 +2,8 @@ package com.klid.common.hwplib.tool.objectfinder;
 
 import java.io.UnsupportedEncodingException;
 import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 
 import com.klid.common.hwplib.object.HWPFile;
 import com.klid.common.hwplib.object.bodytext.Section;
@@ -102,4 +104,20 @@ public class FieldFinder {
 		} 
 		return SetFieldResult.TextRemains;
 	}
+
+	/**
+	 * 여러 필드를 찾아 텍스트를 설정한다. 문서는 필드 색인(FieldIndex)을 만들 때 한 번만 훑는다.
+	 * 
+	 * @param hwpFile
+	 *            한글 파일 객체
+	 * @param fieldType
+	 *            필드 타입
+	 * @param texts
+	 *            필드 이름 -> 택스트 리스트
+	 * @return 필드 이름 -> 필드 설정 결과값
+	 */
+	public static Map<String, SetFieldResult> setFieldTexts(HWPFile hwpFile, ControlType fieldType,
+			Map<String, ? extends List<String>> texts) {
+		return FieldIndex.build(hwpFile).setFieldTexts(fieldType, texts);
+	}
 }
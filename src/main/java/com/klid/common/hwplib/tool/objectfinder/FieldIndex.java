@@ -0,0 +1,306 @@
+package com.klid.common.hwplib.tool.objectfinder;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.klid.common.hwplib.object.HWPFile;
+import com.klid.common.hwplib.object.bodytext.control.Control;
+import com.klid.common.hwplib.object.bodytext.control.ControlField;
+import com.klid.common.hwplib.object.bodytext.control.ControlType;
+import com.klid.common.hwplib.object.bodytext.paragraph.Paragraph;
+import com.klid.common.hwplib.tool.paragraphadder.ParaTextSetter;
+import com.klid.common.hwplib.tool.visitor.HWPTraverser;
+import com.klid.common.hwplib.tool.visitor.HWPVisitor;
+import com.klid.common.hwplib.tool.visitor.VisitResult;
+
+/**
+ * 문서 안의 필드 위치를 미리 찾아 두는 색인. 필드 이름마다 문서 전체를 훑는 FieldFinder.setFieldText 대신, 한 번 만든
+ * 색인으로 필드를 바로 찾아 텍스트를 설정한다.
+ * <p>
+ * 색인은 필드가 들어 있는 문단과 필드 컨트롤 객체를 기억하고, 문자 위치는 텍스트를 설정할 때 계산한다. 따라서 필드
+ * 텍스트 설정 등 문단 텍스트가 바뀌어도 색인은 그대로 유효하다. 필드가 있는 문단이나 컨트롤을 추가/삭제한 경우에는
+ * rebuild() 로 다시 만들어야 한다(삭제된 필드는 설정 시 발견되면 자동으로 다시 만든다).
+ * <p>
+ * 찾는 순서와 결과값은 FieldFinder.setFieldText 와 같다. (문단마다 같은 이름의 첫 번째 필드, 그 다음 문단 안
+ * 컨트롤 순서)
+ */
+public class FieldIndex {
+	/**
+	 * 한글 파일 객체
+	 */
+	private HWPFile hwpFile;
+	/**
+	 * 필드 종류 -> 필드 이름 -> 필드 위치 리스트
+	 */
+	private Map<ControlType, Map<String, List<FieldLocation>>> fields;
+
+	/**
+	 * 한글 파일의 필드 색인을 만든다.
+	 *
+	 * @param hwpFile
+	 *            한글 파일 객체
+	 * @return 필드 색인
+	 */
+	public static FieldIndex build(HWPFile hwpFile) {
+		FieldIndex index = new FieldIndex(hwpFile);
+		index.rebuild();
+		return index;
+	}
+
+	/**
+	 * 생성자
+	 *
+	 * @param hwpFile
+	 *            한글 파일 객체
+	 */
+	private FieldIndex(HWPFile hwpFile) {
+		this.hwpFile = hwpFile;
+	}
+
+	/**
+	 * 문서 전체를 한 번 훑어서 색인을 다시 만든다.
+	 */
+	public void rebuild() {
+		fields = new EnumMap<ControlType, Map<String, List<FieldLocation>>>(ControlType.class);
+		HWPTraverser.traverse(hwpFile, new HWPVisitor() {
+			@Override
+			public VisitResult visitParagraph(Paragraph p) {
+				paragraph(p);
+				return VisitResult.Continue;
+			}
+		});
+	}
+
+	/**
+	 * 필드가 있는지 여부를 반환한다.
+	 *
+	 * @param fieldType
+	 *            필드 타입
+	 * @param fieldName
+	 *            필드 이름
+	 * @return 필드가 있는지 여부
+	 */
+	public boolean hasField(ControlType fieldType, String fieldName) {
+		return !locations(fieldType, fieldName).isEmpty();
+	}
+
+	/**
+	 * 필드 타입의 필드 이름들을 반환한다.
+	 *
+	 * @param fieldType
+	 *            필드 타입
+	 * @return 필드 이름 집합
+	 */
+	public Set<String> getFieldNames(ControlType fieldType) {
+		Map<String, List<FieldLocation>> byName = fields.get(fieldType);
+		if (byName == null) {
+			return Collections.emptySet();
+		}
+		return Collections.unmodifiableSet(byName.keySet());
+	}
+
+	/**
+	 * 필드를 찾아 텍스트를 설정한다. 같은 이름의 필드가 여러 개이면 textList 의 텍스트를 순서대로 설정한다.
+	 *
+	 * @param fieldType
+	 *            필드 타입
+	 * @param fieldName
+	 *            필드 이름
+	 * @param textList
+	 *            택스트 리스트
+	 * @return 필드 설정 결과값
+	 */
+	public SetFieldResult setFieldText(ControlType fieldType, String fieldName, ArrayList<String> textList) {
+		if (fieldType.isField() == false || textList.size() == 0) {
+			return SetFieldResult.ETCError;
+		}
+
+		List<FieldLocation> locationList = locations(fieldType, fieldName);
+		if (isStale(locationList)) {
+			rebuild();
+			locationList = locations(fieldType, fieldName);
+		}
+		TextBuffer textBuffer = new TextBuffer(textList);
+		for (FieldLocation location : locationList) {
+			if (location.setText(textBuffer) == SetFieldResult.NotEnoughText) {
+				return SetFieldResult.NotEnoughText;
+			}
+		}
+		if (textBuffer.usedAll()) {
+			return SetFieldResult.SetAllText;
+		} else if (textBuffer.notUsed()) {
+			return SetFieldResult.NotFound;
+		}
+		return SetFieldResult.TextRemains;
+	}
+
+	/**
+	 * 여러 필드의 텍스트를 한 번에 설정한다.
+	 *
+	 * @param fieldType
+	 *            필드 타입
+	 * @param texts
+	 *            필드 이름 -> 택스트 리스트
+	 * @return 필드 이름 -> 필드 설정 결과값 (texts 의 순서)
+	 */
+	public Map<String, SetFieldResult> setFieldTexts(ControlType fieldType, Map<String, ? extends List<String>> texts) {
+		Map<String, SetFieldResult> results = new LinkedHashMap<String, SetFieldResult>();
+		for (Map.Entry<String, ? extends List<String>> entry : texts.entrySet()) {
+			results.put(entry.getKey(),
+					setFieldText(fieldType, entry.getKey(), new ArrayList<String>(entry.getValue())));
+		}
+		return results;
+	}
+
+	/**
+	 * 필드 위치 리스트를 반환한다.
+	 *
+	 * @param fieldType
+	 *            필드 타입
+	 * @param fieldName
+	 *            필드 이름
+	 * @return 필드 위치 리스트
+	 */
+	private List<FieldLocation> locations(ControlType fieldType, String fieldName) {
+		Map<String, List<FieldLocation>> byName = fields.get(fieldType);
+		if (byName == null) {
+			return Collections.emptyList();
+		}
+		List<FieldLocation> locationList = byName.get(fieldName);
+		if (locationList == null) {
+			return Collections.emptyList();
+		}
+		return locationList;
+	}
+
+	/**
+	 * 문단에서 삭제된 필드가 있는지 여부를 반환한다.
+	 *
+	 * @param locationList
+	 *            필드 위치 리스트
+	 * @return 삭제된 필드가 있는지 여부
+	 */
+	private boolean isStale(List<FieldLocation> locationList) {
+		for (FieldLocation location : locationList) {
+			if (location.controlIndex() == -1) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * 문단의 필드(같은 종류, 같은 이름의 필드는 첫 번째 것만)를 색인에 추가한다. 문단 안의 컨트롤은 HWPTraverser 가
+	 * 이어서 탐색한다.
+	 *
+	 * @param p
+	 *            문단
+	 */
+	private void paragraph(Paragraph p) {
+		ArrayList<Control> controlList = p.getControlList();
+		if (controlList == null) {
+			return;
+		}
+		Set<String> found = null;
+		for (Control c : controlList) {
+			if (c.isField() && ((ControlField) c).getName() != null) {
+				ControlField cf = (ControlField) c;
+				String key = c.getType().name() + ":" + cf.getName();
+				if (found == null) {
+					found = new HashSet<String>();
+				}
+				if (found.add(key)) {
+					add(c.getType(), cf.getName(), new FieldLocation(p, cf));
+				}
+			}
+		}
+	}
+
+	/**
+	 * 필드 위치를 색인에 추가한다.
+	 *
+	 * @param fieldType
+	 *            필드 타입
+	 * @param fieldName
+	 *            필드 이름
+	 * @param location
+	 *            필드 위치
+	 */
+	private void add(ControlType fieldType, String fieldName, FieldLocation location) {
+		Map<String, List<FieldLocation>> byName = fields.get(fieldType);
+		if (byName == null) {
+			byName = new HashMap<String, List<FieldLocation>>();
+			fields.put(fieldType, byName);
+		}
+		List<FieldLocation> locationList = byName.get(fieldName);
+		if (locationList == null) {
+			locationList = new ArrayList<FieldLocation>(1);
+			byName.put(fieldName, locationList);
+		}
+		locationList.add(location);
+	}
+
+	/**
+	 * 필드가 들어 있는 문단과 필드 컨트롤
+	 */
+	private static class FieldLocation {
+		/**
+		 * 필드가 들어 있는 문단
+		 */
+		private Paragraph paragraph;
+		/**
+		 * 필드 컨트롤
+		 */
+		private ControlField field;
+
+		/**
+		 * 생성자
+		 *
+		 * @param paragraph
+		 *            필드가 들어 있는 문단
+		 * @param field
+		 *            필드 컨트롤
+		 */
+		public FieldLocation(Paragraph paragraph, ControlField field) {
+			this.paragraph = paragraph;
+			this.field = field;
+		}
+
+		/**
+		 * 문단 안에서 필드 컨트롤의 순번을 반환한다.
+		 *
+		 * @return 필드 컨트롤의 순번 (문단에서 삭제되었으면 -1)
+		 */
+		public int controlIndex() {
+			return paragraph.getControlIndex(field);
+		}
+
+		/**
+		 * 필드 시작 문자와 필드 끝 문자 사이의 텍스트를 바꾼다.
+		 *
+		 * @param textBuffer
+		 *            텍스트 버퍼
+		 * @return 필드 설정 결과값
+		 */
+		public SetFieldResult setText(TextBuffer textBuffer) {
+			int startFieldIndex = paragraph.getText().getCharIndexFromExtendCharIndex(controlIndex());
+			int endFieldIndex = paragraph.getText().getInlineCharIndex(startFieldIndex + 1, (short) 0x04);
+			if (endFieldIndex != -1) {
+				if (textBuffer.hasNext() == true) {
+					ParaTextSetter.changeText(paragraph, startFieldIndex + 1, endFieldIndex - 1,
+							textBuffer.nextText());
+				} else {
+					return SetFieldResult.NotEnoughText;
+				}
+			}
+			return SetFieldResult.InProcess;
+		}
+	}
+}
@@ -3,16 +3,18 @@ package com.klid.common.hwplib.tool.objectfinder.forField;
 import java.io.UnsupportedEncodingException;
 import java.util.ArrayList;
 
+import com.klid.common.hwplib.object.bodytext.ParagraphListInterface;
 import com.klid.common.hwplib.object.bodytext.control.Control;
+import com.klid.common.hwplib.object.bodytext.control.ControlField;
 import com.klid.common.hwplib.object.bodytext.control.ControlType;
 import com.klid.common.hwplib.object.bodytext.paragraph.Paragraph;
 import com.klid.common.hwplib.tool.objectfinder.SetFieldResult;
-import com.klid.common.hwplib.tool.objectfinder.forField.gettext.ForControl;
+import com.klid.common.hwplib.tool.objectfinder.TextBuffer;
 import com.klid.common.hwplib.tool.paragraphadder.ParaTextSetter;
 import com.klid.common.hwplib.tool.textextractor.TextExtractMethod;
-import com.klid.common.hwplib.object.bodytext.ParagraphListInterface;
-import com.klid.common.hwplib.object.bodytext.control.ControlField;
-import com.klid.common.hwplib.tool.objectfinder.TextBuffer;
+import com.klid.common.hwplib.tool.visitor.HWPTraverser;
+import com.klid.common.hwplib.tool.visitor.HWPVisitor;
+import com.klid.common.hwplib.tool.visitor.VisitResult;
 
 /**
  * 문단리스트, 문단에서 필드 객체를 찾는 기능을 포함하는 클래스
@@ -124,9 +126,11 @@ public class ForParagraphList {
 			ArrayList<Control> controlList = p.getControlList();
 			if (controlList != null) {
 				for (Control c : controlList) {
-					String text = ForControl.getFieldText(c, fieldType, fieldName, temInField);
-					if (text != null) {
-						return text;
+					for (ParagraphListInterface childList : HWPTraverser.childParagraphLists(c)) {
+						String text = getFieldText(childList, fieldType, fieldName, temInField);
+						if (text != null) {
+							return text;
+						}
 					}
 				}
 			}
@@ -186,60 +190,46 @@ public class ForParagraphList {
 	 * @return 필드 설정 결과값
 	 */
 	public static SetFieldResult setFieldText(ParagraphListInterface paragraphList, ControlType fieldType,
-											  String fieldName, TextBuffer textBuffer) {
-		if (paragraphList == null) {
-			return SetFieldResult.InProcess;
+			String fieldName, TextBuffer textBuffer) {
+		FieldTextSetter setter = new FieldTextSetter(fieldType, fieldName, textBuffer);
+		HWPTraverser.traverse(paragraphList, setter);
+		return setter.result;
+	}
+
+	/**
+	 * 문단(과 문단 안의 컨트롤의 문단)을 차례로 방문하면서 필드 객체의 텍스트를 설정하는 방문자. 텍스트가 모자라면
+	 * 탐색을 중단한다.
+	 */
+	private static class FieldTextSetter extends HWPVisitor {
+		private ControlType fieldType;
+		private String fieldName;
+		private TextBuffer textBuffer;
+		private SetFieldResult result;
+
+		public FieldTextSetter(ControlType fieldType, String fieldName, TextBuffer textBuffer) {
+			this.fieldType = fieldType;
+			this.fieldName = fieldName;
+			this.textBuffer = textBuffer;
+			this.result = SetFieldResult.InProcess;
 		}
-		ControlField cf = null;
-		int startFieldIndex = -1;
-		int endFieldIndex = -1;
-		for (Paragraph p : paragraphList) {
-			cf = findField(p, fieldType, fieldName);
+
+		@Override
+		public VisitResult visitParagraph(Paragraph p) {
+			ControlField cf = findField(p, fieldType, fieldName);
 			if (cf != null) {
 				int indexOfControl = p.getControlIndex(cf);
-				startFieldIndex = p.getText().getCharIndexFromExtendCharIndex(indexOfControl);
-				endFieldIndex = p.getText().getInlineCharIndex(startFieldIndex + 1, (short) 0x04);
+				int startFieldIndex = p.getText().getCharIndexFromExtendCharIndex(indexOfControl);
+				int endFieldIndex = p.getText().getInlineCharIndex(startFieldIndex + 1, (short) 0x04);
 				if (endFieldIndex != -1) {
 					if (textBuffer.hasNext() == true) {
 						ParaTextSetter.changeText(p, startFieldIndex + 1, endFieldIndex - 1, textBuffer.nextText());
 					} else {
-						return SetFieldResult.NotEnoughText;
+						result = SetFieldResult.NotEnoughText;
+						return VisitResult.Stop;
 					}
 				}
 			}
-
-			if (setFieldTextForControls(p, fieldType, fieldName, textBuffer) == SetFieldResult.NotEnoughText) {
-				return SetFieldResult.NotEnoughText;
-			}
+			return VisitResult.Continue;
 		}
-		return SetFieldResult.InProcess;
 	}
-
-	/**
-	 * 문단에 포함된 컨트롤에서 필드 객체의 텍스트를 설정한다.
-	 * 
-	 * @param p
-	 *            문단
-	 * @param fieldType
-	 *            필드 타입
-	 * @param fieldName
-	 *            필드 이름
-	 * @param textBuffer
-	 *            텍스트
-	 * @return 필드 설정 결과값
-	 */
-	private static SetFieldResult setFieldTextForControls(Paragraph p, ControlType fieldType, String fieldName,
-			TextBuffer textBuffer) {
-		ArrayList<Control> controlList = p.getControlList();
-		if (controlList != null) {
-			for (Control c : controlList) {
-				if (com.klid.common.hwplib.tool.objectfinder.forField.settext.ForControl.setFieldText(c, fieldType,
-						fieldName, textBuffer) == SetFieldResult.NotEnoughText) {
-					return SetFieldResult.NotEnoughText;
-				}
-			}
-		}
-		return SetFieldResult.InProcess;
-	}
-
 }
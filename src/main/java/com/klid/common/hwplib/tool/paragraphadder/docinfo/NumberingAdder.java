@@ -90,14 +90,15 @@ public class NumberingAdder {
 			try {
 				copyLevelNumbering(source.getLevelNumbering(level), target.getLevelNumbering(level));
 			} catch (IllegalArgumentException e) {
-				level = 0; /// 기본 level : 0 처리
+				continue; // target 에 복사하지 않음
 			}
 		}
 		target.setStartNumber(source.getStartNumber());
 		for (level = 0; level < 7; level++) {
 			try {
 				target.setStartNumberForLevel(source.getStartNumberForLevel(level), level);
-			} catch (Exception e) {
+			} catch (IllegalArgumentException e) {
+				continue; // target 에 설정하지 않음
 			}
 		}
 
@@ -0,0 +1,318 @@
+package com.klid.common.hwplib.tool.textextractor;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.util.Arrays;
+import java.util.Set;
+
+import com.klid.common.hwplib.object.bodytext.control.ControlType;
+import com.klid.common.hwplib.object.bodytext.paragraph.text.HWPChar;
+import com.klid.common.hwplib.object.etc.HWPTag;
+import com.klid.common.hwplib.object.fileheader.FileHeader;
+import com.klid.common.hwplib.reader.ForFileHeader;
+import com.klid.common.hwplib.util.compoundFile.reader.CompoundFileReader;
+import com.klid.common.hwplib.util.compoundFile.reader.StreamReader;
+
+/**
+ * 객체 모델(HWPFile)을 만들지 않고 섹션 스트림의 레코드를 순서대로 훑으면서 문단 텍스트만 추출하는 객체.
+ * <p>
+ * 문단 텍스트(PARA_TEXT) 레코드의 일반 문자만 꺼내고 문단 끝마다 줄바꿈을 넣는다. 컨트롤 안의 문단은 레코드 순서대로
+ * 문단 텍스트 뒤에 나오므로, 결과는 TextExtractor 의 AppendControlTextAfterParagraphText 방식과 같은 순서가 된다.
+ * 단, 문단이 아닌 곳에 저장된 텍스트(수식 스크립트, 덧말)는 추출하지 않는다.
+ */
+public class StreamingTextExtractor {
+	/**
+	 * 리스너에 한 번에 넘기는 최대 문자 수
+	 */
+	private static final int BUFFER_SIZE = 4096;
+	/**
+	 * 확장/인라인 컨트롤 문자에서 문자 코드 뒤에 붙은 byte 수
+	 */
+	private static final int CONTROL_ADDITION_SIZE = 14;
+
+	/**
+	 * 파일에서 텍스트를 추출해서 writer 로 쓴다.
+	 *
+	 * @param filepath
+	 *            hwp파일의 경로
+	 * @param option
+	 *            추출 옵션
+	 * @param writer
+	 *            추출된 텍스트를 쓸 Writer 객체
+	 * @return 추출된 문자 수
+	 * @throws IOException
+	 */
+	public static long extract(String filepath, TextExtractOption option, Writer writer) throws IOException {
+		try (InputStream is = new FileInputStream(filepath)) {
+			return extract(is, option, writer::write);
+		}
+	}
+
+	/**
+	 * 파일에서 텍스트를 추출해서 문자열로 반환한다. 미리보기처럼 limit 를 지정해서 사용한다.
+	 *
+	 * @param filepath
+	 *            hwp파일의 경로
+	 * @param option
+	 *            추출 옵션
+	 * @return 추출된 문자열
+	 * @throws IOException
+	 */
+	public static String extract(String filepath, TextExtractOption option) throws IOException {
+		StringWriter writer = new StringWriter();
+		extract(filepath, option, writer);
+		return writer.toString();
+	}
+
+	/**
+	 * 한글 파일에서 텍스트를 추출해서 listener 로 넘긴다. InputStream 은 닫지 않는다.
+	 *
+	 * @param is
+	 *            hwp파일을 가리키는 Input Stream 객체
+	 * @param option
+	 *            추출 옵션
+	 * @param listener
+	 *            추출된 텍스트를 받을 객체
+	 * @return 추출된 문자 수
+	 * @throws IOException
+	 */
+	public static long extract(InputStream is, TextExtractOption option, TextListener listener) throws IOException {
+		StreamingTextExtractor extractor = new StreamingTextExtractor(option, listener);
+		CompoundFileReader cfr = new CompoundFileReader(is);
+		try {
+			FileHeader fileHeader = new FileHeader();
+			StreamReader sr = cfr.getChildStreamReader("FileHeader", false, null);
+			ForFileHeader.read(fileHeader, sr);
+			sr.close();
+			if (fileHeader.hasPassword()) {
+				throw new IllegalArgumentException("Files with passwords are not supported.");
+			}
+
+			cfr.moveChildStorage("BodyText");
+			Set<String> names = cfr.listChildNames();
+			for (int index = 0; names.contains("Section" + index) && !extractor.stopped; index++) {
+				sr = cfr.getChildStreamReader("Section" + index, fileHeader.isCompressed(), fileHeader.getVersion());
+				try {
+					extractor.section(sr);
+				} finally {
+					sr.close();
+				}
+			}
+		} finally {
+			cfr.close();
+		}
+		extractor.flush();
+		return extractor.count;
+	}
+
+	/**
+	 * 추출 옵션
+	 */
+	private TextExtractOption option;
+	/**
+	 * 추출된 텍스트를 받을 객체
+	 */
+	private TextListener listener;
+	/**
+	 * 리스너에 넘기기 전에 모아두는 버퍼
+	 */
+	private char[] buffer;
+	/**
+	 * 버퍼에 모인 문자 수
+	 */
+	private int buffered;
+	/**
+	 * 추출된 문자 수 (버퍼에 모인 것 포함)
+	 */
+	private long count;
+	/**
+	 * 최대 문자 수에 도달했는지 여부
+	 */
+	private boolean stopped;
+	/**
+	 * 현재 레코드를 감싸고 있는 컨트롤 헤더 레코드들의 레벨
+	 */
+	private int[] controlLevels;
+	/**
+	 * 현재 레코드를 감싸고 있는 컨트롤의 텍스트를 추출할지 여부
+	 */
+	private boolean[] controlIncluded;
+	/**
+	 * 현재 레코드를 감싸고 있는 컨트롤 수
+	 */
+	private int depth;
+
+	/**
+	 * 생성자
+	 *
+	 * @param option
+	 *            추출 옵션
+	 * @param listener
+	 *            추출된 텍스트를 받을 객체
+	 */
+	private StreamingTextExtractor(TextExtractOption option, TextListener listener) {
+		this.option = option;
+		this.listener = listener;
+		this.buffer = new char[BUFFER_SIZE];
+		this.controlLevels = new int[16];
+		this.controlIncluded = new boolean[16];
+	}
+
+	/**
+	 * 섹션 스트림의 레코드를 끝까지(또는 최대 문자 수에 도달할 때까지) 읽는다.
+	 *
+	 * @param sr
+	 *            스트림 리더
+	 * @throws IOException
+	 */
+	private void section(StreamReader sr) throws IOException {
+		depth = 0;
+		while (!stopped && !sr.isEndOfStream()) {
+			int value = sr.readSInt4();
+			int tagId = value & 0x3ff;
+			int level = (value >>> 10) & 0x3ff;
+			long size = (value >>> 20) & 0xfff;
+			if (size == 0xfff) {
+				size = sr.readSInt4() & 0xffffffffL;
+			}
+
+			while (depth > 0 && controlLevels[depth - 1] >= level) {
+				depth--;
+			}
+			if (tagId == HWPTag.CTRL_HEADER && size >= 4) {
+				pushControl(level, sr.readUInt4());
+				sr.skip(size - 4);
+			} else if (tagId == HWPTag.PARA_TEXT && isIncluded()) {
+				paraText(sr, size);
+			} else {
+				sr.skip(size);
+			}
+		}
+	}
+
+	/**
+	 * 컨트롤 헤더 레코드를 만나면 그 아래 레코드들의 텍스트를 추출할지 여부를 기록한다.
+	 *
+	 * @param level
+	 *            컨트롤 헤더 레코드의 레벨
+	 * @param ctrlId
+	 *            컨트롤 id
+	 */
+	private void pushControl(int level, long ctrlId) {
+		if (depth == controlLevels.length) {
+			controlLevels = Arrays.copyOf(controlLevels, depth * 2);
+			controlIncluded = Arrays.copyOf(controlIncluded, depth * 2);
+		}
+		controlLevels[depth] = level;
+		controlIncluded[depth] = isIncluded(ctrlId);
+		depth++;
+	}
+
+	/**
+	 * 컨트롤 안의 문단 텍스트를 추출할지 여부를 반환한다.
+	 *
+	 * @param ctrlId
+	 *            컨트롤 id
+	 * @return 추출할지 여부
+	 */
+	private boolean isIncluded(long ctrlId) {
+		if (ctrlId == ControlType.Table.getCtrlId()) {
+			return option.isTable();
+		}
+		if (ctrlId == ControlType.Header.getCtrlId() || ctrlId == ControlType.Footer.getCtrlId()) {
+			return option.isHeaderFooter();
+		}
+		if (ctrlId == ControlType.Footnote.getCtrlId() || ctrlId == ControlType.Endnote.getCtrlId()) {
+			return option.isFootnote();
+		}
+		return option.isOtherControl();
+	}
+
+	/**
+	 * 현재 레코드를 감싸고 있는 모든 컨트롤의 텍스트를 추출하는지 여부를 반환한다.
+	 *
+	 * @return 현재 레코드의 텍스트를 추출할지 여부
+	 */
+	private boolean isIncluded() {
+		for (int index = 0; index < depth; index++) {
+			if (!controlIncluded[index]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * 문단 텍스트 레코드에서 일반 문자를 추출하고 줄바꿈을 추가한다.
+	 *
+	 * @param sr
+	 *            스트림 리더
+	 * @param size
+	 *            레코드 크기
+	 * @throws IOException
+	 */
+	private void paraText(StreamReader sr, long size) throws IOException {
+		long read = 0;
+		while (read + 2 <= size) {
+			int code = sr.readUInt2();
+			read += 2;
+			switch (HWPChar.type(code)) {
+			case Normal:
+				if (!append((char) code)) {
+					return;
+				}
+				break;
+			case ControlExtend:
+			case ControlInline:
+				sr.skip(CONTROL_ADDITION_SIZE);
+				read += CONTROL_ADDITION_SIZE;
+				break;
+			default:
+				break;
+			}
+		}
+		if (read < size) {
+			sr.skip(size - read);
+		}
+		append('\n');
+	}
+
+	/**
+	 * 문자 하나를 버퍼에 추가한다. 최대 문자 수에 도달하면 더 이상 추출하지 않는다.
+	 *
+	 * @param ch
+	 *            문자
+	 * @return 계속 추출할지 여부
+	 * @throws IOException
+	 */
+	private boolean append(char ch) throws IOException {
+		if (stopped) {
+			return false;
+		}
+		if (buffered == buffer.length) {
+			flush();
+		}
+		buffer[buffered++] = ch;
+		count++;
+		if (option.getLimit() > 0 && count >= option.getLimit()) {
+			stopped = true;
+			return false;
+		}
+		return true;
+	}
+
+	/**
+	 * 버퍼에 모인 문자를 리스너로 넘긴다.
+	 *
+	 * @throws IOException
+	 */
+	private void flush() throws IOException {
+		if (buffered > 0) {
+			listener.text(buffer, 0, buffered);
+			buffered = 0;
+		}
+	}
+}
@@ -0,0 +1,147 @@
+package com.klid.common.hwplib.tool.textextractor;
+
+/**
+ * 스트리밍 텍스트 추출 옵션
+ */
+public class TextExtractOption {
+	/**
+	 * 표 안의 텍스트를 추출할지 여부
+	 */
+	private boolean table;
+	/**
+	 * 머리말/꼬리말의 텍스트를 추출할지 여부
+	 */
+	private boolean headerFooter;
+	/**
+	 * 각주/미주의 텍스트를 추출할지 여부
+	 */
+	private boolean footnote;
+	/**
+	 * 그 밖의 컨트롤(글상자, 숨은 설명 등)의 텍스트를 추출할지 여부
+	 */
+	private boolean otherControl;
+	/**
+	 * 추출할 최대 문자 수 (0 이하이면 제한 없음)
+	 */
+	private long limit;
+
+	/**
+	 * 생성자. 모든 텍스트를 제한 없이 추출한다.
+	 */
+	public TextExtractOption() {
+		table = true;
+		headerFooter = true;
+		footnote = true;
+		otherControl = true;
+		limit = 0;
+	}
+
+	/**
+	 * 본문 문단의 텍스트만 추출하는 옵션을 반환한다.
+	 * 
+	 * @return 본문 문단의 텍스트만 추출하는 옵션
+	 */
+	public static TextExtractOption onlyMainParagraph() {
+		TextExtractOption option = new TextExtractOption();
+		option.setTable(false);
+		option.setHeaderFooter(false);
+		option.setFootnote(false);
+		option.setOtherControl(false);
+		return option;
+	}
+
+	/**
+	 * 표 안의 텍스트를 추출할지 여부를 반환한다.
+	 * 
+	 * @return 표 안의 텍스트를 추출할지 여부
+	 */
+	public boolean isTable() {
+		return table;
+	}
+
+	/**
+	 * 표 안의 텍스트를 추출할지 여부를 설정한다.
+	 * 
+	 * @param table
+	 *            표 안의 텍스트를 추출할지 여부
+	 */
+	public void setTable(boolean table) {
+		this.table = table;
+	}
+
+	/**
+	 * 머리말/꼬리말의 텍스트를 추출할지 여부를 반환한다.
+	 * 
+	 * @return 머리말/꼬리말의 텍스트를 추출할지 여부
+	 */
+	public boolean isHeaderFooter() {
+		return headerFooter;
+	}
+
+	/**
+	 * 머리말/꼬리말의 텍스트를 추출할지 여부를 설정한다.
+	 * 
+	 * @param headerFooter
+	 *            머리말/꼬리말의 텍스트를 추출할지 여부
+	 */
+	public void setHeaderFooter(boolean headerFooter) {
+		this.headerFooter = headerFooter;
+	}
+
+	/**
+	 * 각주/미주의 텍스트를 추출할지 여부를 반환한다.
+	 * 
+	 * @return 각주/미주의 텍스트를 추출할지 여부
+	 */
+	public boolean isFootnote() {
+		return footnote;
+	}
+
+	/**
+	 * 각주/미주의 텍스트를 추출할지 여부를 설정한다.
+	 * 
+	 * @param footnote
+	 *            각주/미주의 텍스트를 추출할지 여부
+	 */
+	public void setFootnote(boolean footnote) {
+		this.footnote = footnote;
+	}
+
+	/**
+	 * 그 밖의 컨트롤의 텍스트를 추출할지 여부를 반환한다.
+	 * 
+	 * @return 그 밖의 컨트롤의 텍스트를 추출할지 여부
+	 */
+	public boolean isOtherControl() {
+		return otherControl;
+	}
+
+	/**
+	 * 그 밖의 컨트롤(글상자, 숨은 설명 등)의 텍스트를 추출할지 여부를 설정한다.
+	 * 
+	 * @param otherControl
+	 *            그 밖의 컨트롤의 텍스트를 추출할지 여부
+	 */
+	public void setOtherControl(boolean otherControl) {
+		this.otherControl = otherControl;
+	}
+
+	/**
+	 * 추출할 최대 문자 수를 반환한다.
+	 * 
+	 * @return 추출할 최대 문자 수 (0 이하이면 제한 없음)
+	 */
+	public long getLimit() {
+		return limit;
+	}
+
+	/**
+	 * 추출할 최대 문자 수를 설정한다. 이 수 만큼 추출하면 나머지 스트림은 읽지 않는다.
+	 * 
+	 * @param limit
+	 *            추출할 최대 문자 수 (0 이하이면 제한 없음)
+	 */
+	public void setLimit(long limit) {
+		this.limit = limit;
+	}
+}
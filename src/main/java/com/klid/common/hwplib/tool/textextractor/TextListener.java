@@ -0,0 +1,23 @@
+package com.klid.common.hwplib.tool.textextractor;
+
+import java.io.IOException;
+
+/**
+ * 스트리밍 텍스트 추출기가 추출한 텍스트를 받는 객체. Writer.write(char[], int, int) 와 형태가 같으므로
+ * writer::write 로 넘길 수 있다.
+ */
+@FunctionalInterface
+public interface TextListener {
+	/**
+	 * 추출된 텍스트를 받는다. buffer 는 호출이 끝나면 재사용되므로 보관하려면 복사해야 한다.
+	 * 
+	 * @param buffer
+	 *            문자 배열
+	 * @param offset
+	 *            시작 위치
+	 * @param length
+	 *            문자 수
+	 * @throws IOException
+	 */
+	void text(char[] buffer, int offset, int length) throws IOException;
+}
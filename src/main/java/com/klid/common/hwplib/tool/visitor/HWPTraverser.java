@@ -0,0 +1,272 @@
+package com.klid.common.hwplib.tool.visitor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.klid.common.hwplib.object.HWPFile;
+import com.klid.common.hwplib.object.bodytext.ParagraphListInterface;
+import com.klid.common.hwplib.object.bodytext.Section;
+import com.klid.common.hwplib.object.bodytext.control.Control;
+import com.klid.common.hwplib.object.bodytext.control.ControlEndnote;
+import com.klid.common.hwplib.object.bodytext.control.ControlFooter;
+import com.klid.common.hwplib.object.bodytext.control.ControlFootnote;
+import com.klid.common.hwplib.object.bodytext.control.ControlHeader;
+import com.klid.common.hwplib.object.bodytext.control.ControlHiddenComment;
+import com.klid.common.hwplib.object.bodytext.control.ControlTable;
+import com.klid.common.hwplib.object.bodytext.control.gso.ControlArc;
+import com.klid.common.hwplib.object.bodytext.control.gso.ControlContainer;
+import com.klid.common.hwplib.object.bodytext.control.gso.ControlCurve;
+import com.klid.common.hwplib.object.bodytext.control.gso.ControlEllipse;
+import com.klid.common.hwplib.object.bodytext.control.gso.ControlPolygon;
+import com.klid.common.hwplib.object.bodytext.control.gso.ControlRectangle;
+import com.klid.common.hwplib.object.bodytext.control.gso.GsoControl;
+import com.klid.common.hwplib.object.bodytext.control.gso.textbox.TextBox;
+import com.klid.common.hwplib.object.bodytext.control.table.Cell;
+import com.klid.common.hwplib.object.bodytext.control.table.Row;
+import com.klid.common.hwplib.object.bodytext.paragraph.Paragraph;
+
+/**
+ * 한글 파일 객체 모델(본문)을 탐색하면서 방문자를 호출하는 객체. 컨트롤 종류별로 안에 들어 있는 문단 리스트(표의 셀,
+ * 글상자, 머리말/꼬리말, 각주/미주, 숨은 설명)를 찾는 방법은 이 클래스에만 둔다.
+ */
+public class HWPTraverser {
+	/**
+	 * 한글 파일의 모든 섹션을 탐색한다.
+	 *
+	 * @param hwpFile
+	 *            한글 파일 객체
+	 * @param visitor
+	 *            방문자
+	 * @return 끝까지 탐색했으면 true, 방문자가 Stop 을 반환해서 중단되었으면 false
+	 */
+	public static boolean traverse(HWPFile hwpFile, HWPVisitor visitor) {
+		for (Section s : hwpFile.getBodyText().getSectionList()) {
+			VisitResult result = visitor.visitSection(s);
+			if (result == VisitResult.Stop) {
+				return false;
+			}
+			if (result == VisitResult.Continue && !traverse(s, visitor)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * 문단 리스트를 탐색한다.
+	 *
+	 * @param paragraphList
+	 *            문단 리스트
+	 * @param visitor
+	 *            방문자
+	 * @return 끝까지 탐색했으면 true, 중단되었으면 false
+	 */
+	public static boolean traverse(ParagraphListInterface paragraphList, HWPVisitor visitor) {
+		if (paragraphList == null) {
+			return true;
+		}
+		for (Paragraph p : paragraphList) {
+			if (!paragraph(p, visitor)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * 컨트롤 안의 문단 리스트들을 순서대로 반환한다. 문단을 포함하지 않는 컨트롤(필드 등)은 빈 리스트를 반환한다.
+	 *
+	 * @param c
+	 *            컨트롤
+	 * @return 컨트롤 안의 문단 리스트들
+	 */
+	public static List<ParagraphListInterface> childParagraphLists(Control c) {
+		ArrayList<ParagraphListInterface> lists = new ArrayList<ParagraphListInterface>();
+		if (c.isField()) {
+			return lists;
+		}
+		switch (c.getType()) {
+		case Table:
+			for (Row r : ((ControlTable) c).getRowList()) {
+				for (Cell cell : r.getCellList()) {
+					lists.add(cell.getParagraphList());
+				}
+			}
+			break;
+		case Gso:
+			gsoParagraphLists((GsoControl) c, lists);
+			break;
+		case Header:
+			lists.add(((ControlHeader) c).getParagraphList());
+			break;
+		case Footer:
+			lists.add(((ControlFooter) c).getParagraphList());
+			break;
+		case Footnote:
+			lists.add(((ControlFootnote) c).getParagraphList());
+			break;
+		case Endnote:
+			lists.add(((ControlEndnote) c).getParagraphList());
+			break;
+		case HiddenComment:
+			lists.add(((ControlHiddenComment) c).getParagraphList());
+			break;
+		default:
+			break;
+		}
+		return lists;
+	}
+
+	/**
+	 * 문단과 문단 안의 컨트롤을 탐색한다.
+	 *
+	 * @param p
+	 *            문단
+	 * @param visitor
+	 *            방문자
+	 * @return 계속 탐색할지 여부
+	 */
+	private static boolean paragraph(Paragraph p, HWPVisitor visitor) {
+		VisitResult result = visitor.visitParagraph(p);
+		if (result == VisitResult.Stop) {
+			return false;
+		}
+		if (result == VisitResult.Continue && p.getControlList() != null) {
+			for (Control c : p.getControlList()) {
+				if (!control(c, p, visitor)) {
+					return false;
+				}
+			}
+		}
+		visitor.leaveParagraph(p);
+		return true;
+	}
+
+	/**
+	 * 컨트롤과 컨트롤 안의 문단 리스트를 탐색한다. 문단 리스트를 찾는 방법은 childParagraphLists 와 같지만, 탐색
+	 * 중에는 리스트를 만들지 않고 바로 내려간다.
+	 *
+	 * @param c
+	 *            컨트롤
+	 * @param p
+	 *            컨트롤이 들어 있는 문단
+	 * @param visitor
+	 *            방문자
+	 * @return 계속 탐색할지 여부
+	 */
+	private static boolean control(Control c, Paragraph p, HWPVisitor visitor) {
+		VisitResult result = visitor.visitControl(c, p);
+		if (result == VisitResult.Stop) {
+			return false;
+		}
+		if (result == VisitResult.SkipChildren || c.isField()) {
+			return true;
+		}
+		switch (c.getType()) {
+		case Table:
+			for (Row r : ((ControlTable) c).getRowList()) {
+				for (Cell cell : r.getCellList()) {
+					if (!traverse(cell.getParagraphList(), visitor)) {
+						return false;
+					}
+				}
+			}
+			return true;
+		case Gso:
+			return gso((GsoControl) c, visitor);
+		case Header:
+			return traverse(((ControlHeader) c).getParagraphList(), visitor);
+		case Footer:
+			return traverse(((ControlFooter) c).getParagraphList(), visitor);
+		case Footnote:
+			return traverse(((ControlFootnote) c).getParagraphList(), visitor);
+		case Endnote:
+			return traverse(((ControlEndnote) c).getParagraphList(), visitor);
+		case HiddenComment:
+			return traverse(((ControlHiddenComment) c).getParagraphList(), visitor);
+		default:
+			return true;
+		}
+	}
+
+	/**
+	 * 그리기 개체의 글상자(묶음 개체는 자식 개체들의 글상자)를 탐색한다.
+	 *
+	 * @param gc
+	 *            그리기 개체
+	 * @param visitor
+	 *            방문자
+	 * @return 계속 탐색할지 여부
+	 */
+	private static boolean gso(GsoControl gc, HWPVisitor visitor) {
+		if (gc.getGsoType() == null) {
+			return true;
+		}
+		switch (gc.getGsoType()) {
+		case Container:
+			for (GsoControl child : ((ControlContainer) gc).getChildControlList()) {
+				if (!gso(child, visitor)) {
+					return false;
+				}
+			}
+			return true;
+		default:
+			TextBox textBox = textBox(gc);
+			if (textBox != null) {
+				return traverse(textBox.getParagraphList(), visitor);
+			}
+			return true;
+		}
+	}
+
+	/**
+	 * 그리기 개체 안의 문단 리스트들을 lists 에 추가한다.
+	 *
+	 * @param gc
+	 *            그리기 개체
+	 * @param lists
+	 *            문단 리스트들
+	 */
+	private static void gsoParagraphLists(GsoControl gc, List<ParagraphListInterface> lists) {
+		if (gc.getGsoType() == null) {
+			return;
+		}
+		switch (gc.getGsoType()) {
+		case Container:
+			for (GsoControl child : ((ControlContainer) gc).getChildControlList()) {
+				gsoParagraphLists(child, lists);
+			}
+			break;
+		default:
+			TextBox textBox = textBox(gc);
+			if (textBox != null) {
+				lists.add(textBox.getParagraphList());
+			}
+			break;
+		}
+	}
+
+	/**
+	 * 글상자를 가질 수 있는 그리기 개체(사각형, 타원, 호, 다각형, 곡선)의 글상자를 반환한다.
+	 *
+	 * @param gc
+	 *            그리기 개체
+	 * @return 글상자 (없으면 null)
+	 */
+	private static TextBox textBox(GsoControl gc) {
+		switch (gc.getGsoType()) {
+		case Rectangle:
+			return ((ControlRectangle) gc).getTextBox();
+		case Ellipse:
+			return ((ControlEllipse) gc).getTextBox();
+		case Arc:
+			return ((ControlArc) gc).getTextBox();
+		case Polygon:
+			return ((ControlPolygon) gc).getTextBox();
+		case Curve:
+			return ((ControlCurve) gc).getTextBox();
+		default:
+			return null;
+		}
+	}
+}
@@ -0,0 +1,56 @@
+package com.klid.common.hwplib.tool.visitor;
+
+import com.klid.common.hwplib.object.bodytext.Section;
+import com.klid.common.hwplib.object.bodytext.control.Control;
+import com.klid.common.hwplib.object.bodytext.paragraph.Paragraph;
+
+/**
+ * HWPTraverser 가 한글 파일 객체 모델을 탐색하면서 호출하는 방문자. 필요한 메소드만 재정의해서 사용한다.
+ * <p>
+ * 탐색 순서는 섹션 -> 문단 -> 문단 안의 컨트롤 -> 컨트롤 안의 문단 리스트 순서의 전위 순회이다.
+ */
+public abstract class HWPVisitor {
+	/**
+	 * 섹션을 방문한다.
+	 * 
+	 * @param section
+	 *            섹션
+	 * @return 탐색 계속 여부
+	 */
+	public VisitResult visitSection(Section section) {
+		return VisitResult.Continue;
+	}
+
+	/**
+	 * 문단을 방문한다. SkipChildren 이면 문단 안의 컨트롤을 탐색하지 않는다.
+	 * 
+	 * @param paragraph
+	 *            문단
+	 * @return 탐색 계속 여부
+	 */
+	public VisitResult visitParagraph(Paragraph paragraph) {
+		return VisitResult.Continue;
+	}
+
+	/**
+	 * 컨트롤을 방문한다. SkipChildren 이면 컨트롤 안의 문단을 탐색하지 않는다.
+	 * 
+	 * @param control
+	 *            컨트롤
+	 * @param paragraph
+	 *            컨트롤이 들어 있는 문단
+	 * @return 탐색 계속 여부
+	 */
+	public VisitResult visitControl(Control control, Paragraph paragraph) {
+		return VisitResult.Continue;
+	}
+
+	/**
+	 * 문단(과 그 하위 객체)의 탐색을 마쳤을 때 호출된다.
+	 * 
+	 * @param paragraph
+	 *            문단
+	 */
+	public void leaveParagraph(Paragraph paragraph) {
+	}
+}
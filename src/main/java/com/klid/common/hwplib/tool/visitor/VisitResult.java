@@ -0,0 +1,19 @@
+package com.klid.common.hwplib.tool.visitor;
+
+/**
+ * 방문 후 탐색을 어떻게 계속할지 나타내는 값
+ */
+public enum VisitResult {
+	/**
+	 * 하위 객체(문단 안의 컨트롤, 컨트롤 안의 문단)까지 계속 탐색함
+	 */
+	Continue,
+	/**
+	 * 하위 객체는 건너뛰고 다음 객체를 탐색함
+	 */
+	SkipChildren,
+	/**
+	 * 탐색을 즉시 끝냄
+	 */
+	Stop
+}
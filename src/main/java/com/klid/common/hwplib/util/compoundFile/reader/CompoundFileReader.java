@@ -7,6 +7,7 @@ import com.klid.common.hwplib.object.fileheader.FileVersion;
 
 import org.apache.poi.poifs.filesystem.DirectoryEntry;
 import org.apache.poi.poifs.filesystem.DocumentEntry;
+import org.apache.poi.poifs.filesystem.DocumentInputStream;
 import org.apache.poi.poifs.filesystem.Entry;
 import org.apache.poi.poifs.filesystem.POIFSFileSystem;
 
@@ -138,6 +139,28 @@ public class CompoundFileReader {
 		}
 	}
 
+	/**
+	 * 이름이 name인 스트림의 원본 데이터(압축된 경우 압축된 상태 그대로)를 읽어서 반환한다.
+	 * 
+	 * @param name
+	 *            찾는 스트림 이름
+	 * @return 스트림 원본 데이터
+	 * @throws IOException
+	 */
+	public byte[] readChildStream(String name) throws NotSerializableException, IOException {
+		Entry e = currentStorage.getEntry(name);
+		if (e != null && e.isDocumentEntry()) {
+			DocumentEntry de = (DocumentEntry) e;
+			byte[] data = new byte[de.getSize()];
+			try (DocumentInputStream dis = new DocumentInputStream(de)) {
+				dis.readFully(data);
+			}
+			return data;
+		} else {
+			throw new NotSerializableException("this is not stream.");
+		}
+	}
+
 	/**
 	 * 현재 열려진 MS Compound 파일을 닫는다.
 	 * 
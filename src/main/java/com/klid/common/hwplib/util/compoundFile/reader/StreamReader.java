@@ -1,6 +1,7 @@
 package com.klid.common.hwplib.util.compoundFile.reader;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 
 import com.klid.common.hwplib.object.fileheader.FileVersion;
 import com.klid.common.hwplib.util.binary.BitFlag;
@@ -35,6 +36,15 @@ public abstract class StreamReader {
 	 */
 	private FileVersion fileVersion;
 
+	/**
+	 * 문자열 디코딩에 재사용하는 byte 버퍼
+	 */
+	private byte[] stringBytes = new byte[256];
+	/**
+	 * 문자열 디코딩에 재사용하는 char 버퍼
+	 */
+	private char[] stringChars = new char[128];
+
 	/**
 	 * byte 배열의 크기 만큼 byte 배열을 읽은다.
 	 * 
@@ -42,7 +52,23 @@ public abstract class StreamReader {
 	 *            byte 배열
 	 * @throws IOException
 	 */
-	public abstract void readBytes(byte[] buffer) throws IOException;
+	public void readBytes(byte[] buffer) throws IOException {
+		readBytes(buffer, 0, buffer.length);
+	}
+
+	/**
+	 * length 만큼 읽어서 byte 배열의 offset 위치부터 채운다.
+	 * 
+	 * @param buffer
+	 *            byte 배열
+	 * @param offset
+	 *            채우기 시작할 위치
+	 * @param length
+	 *            읽을 byte 수
+	 * @throws IOException
+	 */
+	public abstract void readBytes(byte[] buffer, int offset, int length)
+			throws IOException;
 
 	/**
 	 * signed 1 byte 정수값을 읽어서 반환한다.
@@ -108,6 +134,60 @@ public abstract class StreamReader {
 	 */
 	public abstract float readFloat() throws IOException;
 
+	/**
+	 * signed 2 byte 정수 배열을 읽는다.
+	 * 
+	 * @param dst
+	 *            값을 채울 배열
+	 * @param offset
+	 *            채우기 시작할 위치
+	 * @param length
+	 *            읽을 값의 개수
+	 * @throws IOException
+	 */
+	public void readSInt2Array(short[] dst, int offset, int length)
+			throws IOException {
+		for (int index = 0; index < length; index++) {
+			dst[offset + index] = readSInt2();
+		}
+	}
+
+	/**
+	 * signed 4 byte 정수 배열을 읽는다. unsigned 4 byte 값은 readUInt4() 와 같이 (long) 으로 변환해서 사용한다.
+	 * 
+	 * @param dst
+	 *            값을 채울 배열
+	 * @param offset
+	 *            채우기 시작할 위치
+	 * @param length
+	 *            읽을 값의 개수
+	 * @throws IOException
+	 */
+	public void readSInt4Array(int[] dst, int offset, int length)
+			throws IOException {
+		for (int index = 0; index < length; index++) {
+			dst[offset + index] = readSInt4();
+		}
+	}
+
+	/**
+	 * double 배열을 읽는다.
+	 * 
+	 * @param dst
+	 *            값을 채울 배열
+	 * @param offset
+	 *            채우기 시작할 위치
+	 * @param length
+	 *            읽을 값의 개수
+	 * @throws IOException
+	 */
+	public void readDoubleArray(double[] dst, int offset, int length)
+			throws IOException {
+		for (int index = 0; index < length; index++) {
+			dst[offset + index] = readDouble();
+		}
+	}
+
 	/**
 	 * n 바이트 만큼 건너뛴다.
 	 * 
@@ -117,6 +197,18 @@ public abstract class StreamReader {
 	 */
 	public abstract void skip(long n) throws IOException;
 
+	/**
+	 * 현재 위치부터 스트림 끝까지 읽어서 반환한다.
+	 *
+	 * @return 읽은 데이터
+	 * @throws IOException
+	 */
+	public byte[] readToEnd() throws IOException {
+		byte[] buffer = new byte[(int) Math.max(0, size - read)];
+		readBytes(buffer);
+		return buffer;
+	}
+
 	/**
 	 * 스트림을 읽기 위한 객체를 닫는다.
 	 * 
@@ -171,9 +263,7 @@ public abstract class StreamReader {
 	public String readUTF16LEString() throws IOException {
 		int len = readUInt2();
 		if (len > 0) {
-			byte[] arr = new byte[len * 2];
-			readBytes(arr);
-			return new String(arr, 0, arr.length, "UTF-16LE");
+			return readUTF16LE(len);
 		} else {
 			return null;
 		}
@@ -186,13 +276,53 @@ public abstract class StreamReader {
 	 * @throws IOException
 	 */
 	public String readWChar() throws IOException {
-		byte[] arr = new byte[2];
-		readBytes(arr);
-		return new String(arr, 0, 2, "UTF-16LE");
+		return readUTF16LE(1);
+	}
+
+	/**
+	 * UTF-16LE 문자 len 개를 읽어서 문자열로 반환한다. 재사용 버퍼에 읽은 뒤 직접 char 로 변환하며,
+	 * 짝이 맞지 않는 surrogate 가 있으면 기존과 같이 charset 디코더로 변환한다(대체 문자 처리 동일).
+	 * 
+	 * @param len
+	 *            문자 수
+	 * @return 문자열
+	 * @throws IOException
+	 */
+	private String readUTF16LE(int len) throws IOException {
+		int byteLength = len * 2;
+		if (stringBytes.length < byteLength) {
+			stringBytes = new byte[Math.max(byteLength, stringBytes.length * 2)];
+		}
+		if (stringChars.length < len) {
+			stringChars = new char[Math.max(len, stringChars.length * 2)];
+		}
+		byte[] bytes = stringBytes;
+		char[] chars = stringChars;
+		readBytes(bytes, 0, byteLength);
+
+		boolean pending = false;
+		for (int index = 0; index < len; index++) {
+			char c = (char) ((bytes[index * 2] & 0xff) | ((bytes[index * 2 + 1] & 0xff) << 8));
+			chars[index] = c;
+			if (pending) {
+				if (!Character.isLowSurrogate(c)) {
+					return new String(bytes, 0, byteLength, StandardCharsets.UTF_16LE);
+				}
+				pending = false;
+			} else if (Character.isHighSurrogate(c)) {
+				pending = true;
+			} else if (Character.isLowSurrogate(c)) {
+				return new String(bytes, 0, byteLength, StandardCharsets.UTF_16LE);
+			}
+		}
+		if (pending) {
+			return new String(bytes, 0, byteLength, StandardCharsets.UTF_16LE);
+		}
+		return new String(chars, 0, len);
 	}
 
 	/**
-	 * 스트림 크기를 반환한다.
+	 * 스트림 크기를 반환한다. 압축된 스트림은 끝까지 풀기 전에는 -1 이다.
 	 * 
 	 * @return 스트림 크기
 	 */
@@ -3,8 +3,7 @@ package com.klid.common.hwplib.util.compoundFile.reader;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.nio.ByteBuffer;
-import java.nio.ByteOrder;
+import java.io.InputStream;
 import java.util.zip.DataFormatException;
 import java.util.zip.Inflater;
 
@@ -14,19 +13,64 @@ import org.apache.poi.poifs.filesystem.DocumentEntry;
 import org.apache.poi.poifs.filesystem.DocumentInputStream;
 
 /**
- * 압축된 스트림을 읽기 위한 객체
- * 
+ * 압축된 스트림을 읽기 위한 객체. 스트림 전체를 미리 풀지 않고, 읽는 만큼만 고정 크기 창(window)에 풀어서 읽는다.
+ *
  * @author neolord
  */
 public class StreamReaderForCompress extends StreamReader {
 	/**
-	 * 압축 풀린 데이터를 읽기 위한 InputStream
+	 * 압축 풀린 데이터를 담는 창 크기
 	 */
-	private ByteArrayInputStream bis;
+	private static final int WINDOW_SIZE = 64 * 1024;
+	/**
+	 * 압축된 데이터를 읽어 들이는 버퍼 크기
+	 */
+	private static final int INPUT_SIZE = 16 * 1024;
 
 	/**
-	 * 생성자. 압축된 스트림을 읽어 압축을 풀어서 압축 풀린 데이터로 InputStream을 만든다.
-	 * 
+	 * 스트림을 가리키는 Apache POI 객체
+	 */
+	private DocumentEntry de;
+	/**
+	 * 메모리에 미리 읽어 둔 스트림 원본 데이터 (de 대신 사용)
+	 */
+	private byte[] source;
+	/**
+	 * 압축된 데이터를 읽기 위한 InputStream 객체
+	 */
+	private InputStream dis;
+	/**
+	 * 압축 해제기
+	 */
+	private Inflater inflater;
+	/**
+	 * 압축된 데이터 버퍼
+	 */
+	private byte[] input;
+	/**
+	 * 압축 풀린 데이터 창
+	 */
+	private byte[] window;
+	/**
+	 * 창 상의 현재 위치
+	 */
+	private int pos;
+	/**
+	 * 창의 유효 데이터 끝
+	 */
+	private int limit;
+	/**
+	 * 더 이상 풀 데이터가 없는지 여부
+	 */
+	private boolean eof;
+	/**
+	 * 압축되어 있지 않은 스트림을 그대로 읽는지 여부
+	 */
+	private boolean raw;
+
+	/**
+	 * 생성자. 압축된 스트림을 열고 첫 부분을 풀어본다. 압축 형식이 아니면 기존과 같이 원본 데이터를 그대로 읽는다.
+	 *
 	 * @param de
 	 *            스트림을 가리키는 Apache POI 객체
 	 * @param fileVersion
@@ -34,115 +78,180 @@ public class StreamReaderForCompress extends StreamReader {
 	 */
 	public StreamReaderForCompress(DocumentEntry de, FileVersion fileVersion)
 			throws IOException {
-		setByteArrayInputStream(de);
+		this.de = de;
+		this.input = new byte[INPUT_SIZE];
+		this.window = new byte[WINDOW_SIZE];
+		open();
 		setFileVersion(fileVersion);
 	}
 
 	/**
-	 * 압축된 스트림을 읽어 압축을 풀어서 압축 풀린 데이터로 InputStream을 만든다.
-	 * 
-	 * @param de
-	 *            스트림을 가리키는 Apache POI 객체
+	 * 생성자. 메모리에 미리 읽어 둔 스트림 원본 데이터를 푼다. POI 파일 시스템에 접근하지 않으므로 다른 스레드에서
+	 * 사용할 수 있다.
+	 *
+	 * @param source
+	 *            스트림 원본 데이터 (CompoundFileReader.readChildStream)
+	 * @param fileVersion
 	 * @throws IOException
 	 */
-	private void setByteArrayInputStream(DocumentEntry de) throws IOException {
-		DocumentInputStream dis = new DocumentInputStream(de);
-		byte[] compressed = getCompressedBytes(dis, de.getSize());
-		dis.close();
-		try {
-			byte[] decompressed = decompress(compressed);
-			
-			bis = new ByteArrayInputStream(decompressed);
-			setSize(decompressed.length);
-		} catch (java.util.zip.DataFormatException e) {
-			bis = new ByteArrayInputStream(compressed);
-			setSize(compressed.length);
-		}
+	public StreamReaderForCompress(byte[] source, FileVersion fileVersion)
+			throws IOException {
+		this.source = source;
+		this.input = new byte[INPUT_SIZE];
+		this.window = new byte[WINDOW_SIZE];
+		open();
+		setFileVersion(fileVersion);
 	}
 
 	/**
-	 * 스트림에서 압축된 데이터를 읽는다.
-	 * 
-	 * @param dis
-	 *            스트림을 읽기 위한 Apache POI InputStream 객체
-	 * @param size
-	 *            읽을 크기
-	 * @return 압축된 데이터
+	 * 스트림 원본 데이터를 읽는 InputStream 을 연다.
+	 *
+	 * @return InputStream 객체
 	 * @throws IOException
 	 */
-	private byte[] getCompressedBytes(DocumentInputStream dis, int size)
-			throws IOException {
-		if(size < 0) {
-			size = 0;
+	private InputStream openSource() throws IOException {
+		if (source != null) {
+			return new ByteArrayInputStream(source);
 		}
-		byte[] buffer = new byte[size];
-		dis.read(buffer);
-		return buffer;
+		return new DocumentInputStream(de);
 	}
 
 	/**
-	 * 압축된 데이터를 풀어서 원본 데이터를 얻는다.
-	 * 
-	 * @param compressed
-	 *            압축된 데이터
-	 * @return 원본 데이터
-	 * @throws DataFormatException
+	 * 스트림을 열고 첫 창을 채운다.
+	 *
 	 * @throws IOException
 	 */
-	private byte[] decompress(byte[] compressed) throws DataFormatException,
-			IOException {
-		Inflater decompressor = new Inflater(true);
-		decompressor.setInput(compressed, 0, compressed.length);
-		ByteArrayOutputStream bos = new ByteArrayOutputStream(compressed.length);
-
-		// Decompress the data
-		byte[] buf = new byte[8096];
-		while (!decompressor.finished()) {
-			int count = decompressor.inflate(buf);
-			bos.write(buf, 0, count);
+	private void open() throws IOException {
+		dis = openSource();
+		inflater = new Inflater(true);
+		setSize(-1);
+		try {
+			fill(1);
+		} catch (DataFormatException e) {
+			// 압축된 데이터가 아님 - 원본 그대로 읽는다.
+			inflater.end();
+			inflater = null;
+			dis.close();
+			dis = openSource();
+			raw = true;
+			pos = 0;
+			limit = 0;
+			eof = false;
+			setSize(source != null ? source.length : de.getSize());
 		}
-		bos.close();
-		return bos.toByteArray();
 	}
 
-	@Override
-	public void readBytes(byte[] buffer) throws IOException {
-		forwardPosition(buffer.length);
-		bis.read(buffer);
+	/**
+	 * 창에 최소 n byte(창 크기 이하)가 남도록 압축을 풀어서 채운다. 스트림 끝이면 더 적게 남을 수 있다.
+	 *
+	 * @param n
+	 *            필요한 byte 수
+	 * @throws IOException
+	 * @throws DataFormatException
+	 */
+	private void fill(int n) throws IOException, DataFormatException {
+		if (limit - pos >= n || eof) {
+			return;
+		}
+		if (pos > 0) {
+			System.arraycopy(window, pos, window, 0, limit - pos);
+			limit -= pos;
+			pos = 0;
+		}
+		while (limit < n && !eof) {
+			if (raw) {
+				int count = dis.read(window, limit, window.length - limit);
+				if (count < 0) {
+					eof = true;
+				} else {
+					limit += count;
+				}
+				continue;
+			}
+			if (inflater.needsInput()) {
+				int count = dis.read(input, 0, input.length);
+				if (count < 0) {
+					// 압축 데이터가 끝까지 온 경우(잘린 스트림 포함)
+					finish();
+					break;
+				}
+				inflater.setInput(input, 0, count);
+			}
+			int count = inflater.inflate(window, limit, window.length - limit);
+			limit += count;
+			if (inflater.finished() || inflater.needsDictionary()) {
+				finish();
+			}
+		}
 	}
 
-	@Override
-	public byte readSInt1() throws IOException {
-		byte[] buffer = readBytes(1);
-		return buffer[0];
+	/**
+	 * 압축 해제가 끝났음을 표시하고 전체 크기를 확정한다.
+	 */
+	private void finish() {
+		eof = true;
+		setSize(inflater.getBytesWritten());
 	}
 
 	/**
-	 * n byte를 읽어서 byte 배열ㄴ을 반환한다.
-	 * 
+	 * 창에 최소 n byte 가 남도록 채운다. 압축 형식 오류는 IOException 으로 전달한다.
+	 *
 	 * @param n
-	 *            읽을 바이트 수
-	 * @return 새로 읽은 byte 배열
+	 *            필요한 byte 수
+	 * @return 창에 남은 byte 수 (n 보다 작으면 스트림 끝)
 	 * @throws IOException
 	 */
-	private byte[] readBytes(int n) throws IOException {
-		if(n < 0) n = 0;
-		byte[] buffer = new byte[n];
-		readBytes(buffer);
-		return buffer;
+	private int require(int n) throws IOException {
+		try {
+			fill(n);
+		} catch (DataFormatException e) {
+			throw new IOException("압축된 스트림을 풀 수 없습니다.", e);
+		}
+		return limit - pos;
+	}
+
+	/*
+	 * 아래 값 읽기는 매번 byte 배열/ByteBuffer 를 만들지 않고 창에서 little-endian 으로 직접 조립한다.
+	 * 스트림 끝을 넘는 부분은 기존과 같이 0 으로 채워진 것으로 본다.
+	 */
+
+	@Override
+	public void readBytes(byte[] buffer, int offset, int length) throws IOException {
+		forwardPosition(length);
+		int remain = length;
+		int off = offset;
+		while (remain > 0) {
+			int available = require(Math.min(remain, window.length));
+			if (available <= 0) {
+				break;
+			}
+			int count = Math.min(available, remain);
+			System.arraycopy(window, pos, buffer, off, count);
+			pos += count;
+			off += count;
+			remain -= count;
+		}
+	}
+
+	@Override
+	public byte readSInt1() throws IOException {
+		forwardPosition(1);
+		if (require(1) > 0) {
+			return window[pos++];
+		}
+		return 0;
 	}
 
 	@Override
 	public short readSInt2() throws IOException {
-		byte[] buffer = readBytes(2);
-		return ByteBuffer.wrap(buffer).order(ByteOrder.LITTLE_ENDIAN)
-				.getShort();
+		forwardPosition(2);
+		return (short) littleEndian(2);
 	}
 
 	@Override
 	public int readSInt4() throws IOException {
-		byte[] buffer = readBytes(4);
-		return ByteBuffer.wrap(buffer).order(ByteOrder.LITTLE_ENDIAN).getInt();
+		forwardPosition(4);
+		return (int) littleEndian(4);
 	}
 
 	@Override
@@ -162,26 +271,124 @@ public class StreamReaderForCompress extends StreamReader {
 
 	@Override
 	public double readDouble() throws IOException {
-		byte[] buffer = readBytes(8);
-		return ByteBuffer.wrap(buffer).order(ByteOrder.LITTLE_ENDIAN)
-				.getDouble();
+		forwardPosition(8);
+		return Double.longBitsToDouble(littleEndian(8));
 	}
 
 	@Override
 	public float readFloat() throws IOException {
-		byte[] buffer = readBytes(4);
-		return ByteBuffer.wrap(buffer).order(ByteOrder.LITTLE_ENDIAN)
-				.getFloat();
+		forwardPosition(4);
+		return Float.intBitsToFloat((int) littleEndian(4));
+	}
+
+	@Override
+	public void readSInt2Array(short[] dst, int offset, int length)
+			throws IOException {
+		forwardPosition(length * 2L);
+		for (int index = 0; index < length; index++) {
+			dst[offset + index] = (short) littleEndian(2);
+		}
+	}
+
+	@Override
+	public void readSInt4Array(int[] dst, int offset, int length)
+			throws IOException {
+		forwardPosition(length * 4L);
+		for (int index = 0; index < length; index++) {
+			dst[offset + index] = (int) littleEndian(4);
+		}
+	}
+
+	@Override
+	public void readDoubleArray(double[] dst, int offset, int length)
+			throws IOException {
+		forwardPosition(length * 8L);
+		for (int index = 0; index < length; index++) {
+			dst[offset + index] = Double.longBitsToDouble(littleEndian(8));
+		}
+	}
+
+	/**
+	 * 현재 위치에서 n byte(최대 8) 를 little-endian 정수로 읽는다.
+	 *
+	 * @param n
+	 *            byte 수
+	 * @return 읽은 값
+	 * @throws IOException
+	 */
+	private long littleEndian(int n) throws IOException {
+		int available = limit - pos;
+		if (available < n) {
+			available = require(n);
+		}
+		final byte[] w = window;
+		final int p = pos;
+		long value = 0;
+		if (available >= n) {
+			for (int index = n - 1; index >= 0; index--) {
+				value = (value << 8) | (w[p + index] & 0xff);
+			}
+			pos = p + n;
+			return value;
+		}
+		for (int index = 0; index < available; index++) {
+			value |= (long) (w[p + index] & 0xff) << (index * 8);
+		}
+		pos = p + available;
+		return value;
 	}
 
 	@Override
 	public void skip(long n) throws IOException {
-		readBytes((int) n);
+		int count = (int) n;
+		if (count < 0) {
+			count = 0;
+		}
+		forwardPosition(count);
+		int remain = count;
+		while (remain > 0) {
+			int available = require(Math.min(remain, window.length));
+			if (available <= 0) {
+				break;
+			}
+			int skipped = Math.min(available, remain);
+			pos += skipped;
+			remain -= skipped;
+		}
+	}
+
+	@Override
+	public boolean isEndOfStream() {
+		try {
+			return require(1) <= 0;
+		} catch (IOException e) {
+			return true;
+		}
+	}
+
+	@Override
+	public byte[] readToEnd() throws IOException {
+		ByteArrayOutputStream bos = new ByteArrayOutputStream();
+		while (require(window.length) > 0) {
+			int count = limit - pos;
+			bos.write(window, pos, count);
+			forwardPosition(count);
+			pos = limit;
+		}
+		return bos.toByteArray();
 	}
 
 	@Override
 	public void close() throws IOException {
-		bis.close();
-		bis = null;
+		if (inflater != null) {
+			inflater.end();
+			inflater = null;
+		}
+		if (dis != null) {
+			dis.close();
+			dis = null;
+		}
+		window = null;
+		input = null;
 	}
 }
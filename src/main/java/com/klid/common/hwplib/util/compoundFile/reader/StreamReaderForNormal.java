@@ -1,8 +1,6 @@
 package com.klid.common.hwplib.util.compoundFile.reader;
 
 import java.io.IOException;
-import java.nio.ByteBuffer;
-import java.nio.ByteOrder;
 
 import com.klid.common.hwplib.object.fileheader.FileVersion;
 
@@ -37,9 +35,9 @@ public class StreamReaderForNormal extends StreamReader {
 	}
 
 	@Override
-	public void readBytes(byte[] buffer) throws IOException {
-		forwardPosition(buffer.length);
-		dis.read(buffer);
+	public void readBytes(byte[] buffer, int offset, int length) throws IOException {
+		forwardPosition(length);
+		dis.read(buffer, offset, length);
 	}
 
 	@Override
@@ -86,9 +84,8 @@ public class StreamReaderForNormal extends StreamReader {
 
 	@Override
 	public float readFloat() throws IOException {
-		byte[] arr = new byte[4];
-		readBytes(arr);
-		return ByteBuffer.wrap(arr).order(ByteOrder.LITTLE_ENDIAN).getFloat();
+		forwardPosition(4);
+		return Float.intBitsToFloat(dis.readInt());
 	}
 
 	@Override
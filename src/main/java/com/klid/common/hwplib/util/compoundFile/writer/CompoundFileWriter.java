@@ -45,9 +45,20 @@ public class CompoundFileWriter {
 	 * @throws IOException
 	 */
 	public void write(String filepath) throws IOException {
-		OutputStream os = new FileOutputStream(filepath);
+		try (OutputStream os = new FileOutputStream(filepath)) {
+			write(os);
+		}
+	}
+
+	/**
+	 * 파일 시스탬(Apache POI 라이브러리)에 저장하고 있는 내용을 OutputStream 으로 쓴다. OutputStream 은 닫지 않는다.
+	 * 
+	 * @param os
+	 *            출력 대상
+	 * @throws IOException
+	 */
+	public void write(OutputStream os) throws IOException {
 		fs.writeFilesystem(os);
-		os.close();
 	}
 
 	/**
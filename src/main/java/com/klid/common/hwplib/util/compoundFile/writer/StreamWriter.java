@@ -4,19 +4,27 @@ import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.nio.ByteBuffer;
-import java.nio.ByteOrder;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
 
 import com.klid.common.hwplib.object.fileheader.FileVersion;
 import com.klid.common.hwplib.util.binary.BitFlag;
 
 /**
- * MS Compound 파일의 스트림에 내용을 저장하기 위한 객체
+ * MS Compound 파일의 스트림에 내용을 저장하기 위한 객체. 값은 재사용 버퍼에 little-endian 으로 바로 쓰고,
+ * 버퍼가 차면 (압축하는 경우 압축하면서) 스트림 데이터로 내보낸다.
  * 
  * @author neolord
  */
 public class StreamWriter {
+	/**
+	 * 값을 모아 두는 버퍼 크기
+	 */
+	private static final int BUFFER_SIZE = 8 * 1024;
+
 	/**
 	 * 스트림(파일) 이름
 	 */
@@ -30,9 +38,29 @@ public class StreamWriter {
 	 */
 	private FileVersion version;
 	/**
-	 * 임시로 쓰여지 저장될 ByteArrayOutputStream 객체
+	 * 스트림(파일)에 저장될 최종 데이터 (압축하는 경우 압축된 데이터)
+	 */
+	private DataBuffer data;
+	/**
+	 * 압축기
+	 */
+	private Deflater deflater;
+	/**
+	 * 버퍼를 내보낼 대상 (압축하는 경우 DeflaterOutputStream, 아니면 data)
+	 */
+	private OutputStream target;
+	/**
+	 * 값을 모아 두는 버퍼
+	 */
+	private byte[] buffer;
+	/**
+	 * 버퍼 상의 현재 위치
+	 */
+	private int position;
+	/**
+	 * 압축 전 데이터 크기
 	 */
-	private ByteArrayOutputStream os;
+	private long length;
 	/**
 	 * 현재 레코드 레벨
 	 */
@@ -53,7 +81,16 @@ public class StreamWriter {
 		this.compreess = compress;
 		this.version = version;
 
-		os = new ByteArrayOutputStream();
+		data = new DataBuffer();
+		if (compress) {
+			deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+			target = new DeflaterOutputStream(data, deflater, BUFFER_SIZE);
+		} else {
+			target = data;
+		}
+		buffer = new byte[BUFFER_SIZE];
+		position = 0;
+		length = 0;
 		currentRecordLevel = 0;
 	}
 
@@ -63,7 +100,12 @@ public class StreamWriter {
 	 * @throws IOException
 	 */
 	public void close() throws IOException {
-		os.close();
+		if (deflater != null) {
+			deflater.end();
+			deflater = null;
+		}
+		data = null;
+		buffer = null;
 	}
 
 	/**
@@ -85,45 +127,64 @@ public class StreamWriter {
 	}
 
 	/**
-	 * 스트림(파일)에 저장된 데이터를 읽을 수 있는 InputStream을 반환한다.
+	 * 스트림(파일)에 저장된 데이터를 읽을 수 있는 InputStream을 반환한다. 압축하는 경우 압축을 마치고 기존과 같이
+	 * 4 byte 의 0 과 압축 전 크기를 덧붙인다. 데이터는 복사하지 않는다.
 	 * 
 	 * @return 스트림(파일)에 저장된 데이터를 읽을 수 있는 InputStream
 	 * @throws IOException
 	 */
 	public InputStream getDataStream() throws IOException {
-		byte[] bytes = null;
-		if (compreess == false) {
-			bytes = os.toByteArray();
-		} else {
-			bytes = compressBytes();
+		flushBuffer();
+		if (compreess) {
+			((DeflaterOutputStream) target).finish();
+			littleEndian(0, 4);
+			littleEndian(length, 4);
+			data.write(buffer, 0, position);
+			position = 0;
+		}
+		return data.toInputStream();
+	}
+
+	/**
+	 * 버퍼에 모인 값을 내보낸다.
+	 * 
+	 * @throws IOException
+	 */
+	private void flushBuffer() throws IOException {
+		if (position > 0) {
+			target.write(buffer, 0, position);
+			length += position;
+			position = 0;
+		}
+	}
+
+	/**
+	 * 버퍼에 n byte 이상의 여유가 있도록 한다.
+	 * 
+	 * @param n
+	 *            필요한 byte 수 (버퍼 크기 이하)
+	 * @throws IOException
+	 */
+	private void ensure(int n) throws IOException {
+		if (buffer.length - position < n) {
+			flushBuffer();
 		}
-		return new ByteArrayInputStream(bytes);
 	}
 
 	/**
-	 * 스트림(파일)에 저장된 데이터를 압축한다.
+	 * value 의 하위 n byte 를 little-endian 으로 버퍼에 쓴다.
 	 * 
-	 * @return 압축된 스트림(파일) 데이터
+	 * @param value
+	 *            값
+	 * @param n
+	 *            byte 수
 	 * @throws IOException
 	 */
-	private byte[] compressBytes() throws IOException {
-		byte[] original = os.toByteArray();
-
-		ByteArrayOutputStream bos = new ByteArrayOutputStream();
-		Deflater compresser = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
-		compresser.setInput(original);
-		compresser.finish();
-		byte[] buf = new byte[1024];
-		while (!compresser.finished()) {
-			int count = compresser.deflate(buf);
-			bos.write(buf, 0, count);
+	private void littleEndian(long value, int n) throws IOException {
+		ensure(n);
+		for (int index = 0; index < n; index++) {
+			buffer[position++] = (byte) (value >>> (index * 8));
 		}
-		byte[] zero = new byte[4];
-		bos.write(zero);
-		byte[] length = ByteBuffer.allocate(4).order(ByteOrder.LITTLE_ENDIAN)
-				.putInt(original.length).array();
-		bos.write(length);
-		return bos.toByteArray();
 	}
 
 	/**
@@ -134,7 +195,32 @@ public class StreamWriter {
 	 * @throws IOException
 	 */
 	public void writeBytes(byte[] value) throws IOException {
-		os.write(value);
+		writeBytes(value, 0, value.length);
+	}
+
+	/**
+	 * byte 배열의 일부를 스트림(파일)에 저장한다. 버퍼보다 큰 배열은 버퍼를 거치지 않고 바로 내보낸다.
+	 * 
+	 * @param value
+	 *            byte 배열
+	 * @param offset
+	 *            시작 위치
+	 * @param count
+	 *            byte 수
+	 * @throws IOException
+	 */
+	private void writeBytes(byte[] value, int offset, int count)
+			throws IOException {
+		if (count > buffer.length - position) {
+			flushBuffer();
+			if (count > buffer.length) {
+				target.write(value, offset, count);
+				length += count;
+				return;
+			}
+		}
+		System.arraycopy(value, offset, buffer, position, count);
+		position += count;
 	}
 
 	/**
@@ -148,11 +234,9 @@ public class StreamWriter {
 	 */
 	public void writeBytes(byte[] value, int count) throws IOException {
 		if (value.length == count) {
-			os.write(value);
+			writeBytes(value);
 		} else if (value.length > count) {
-			for (int i = 0; i < count; i++) {
-				os.write(value[i]);
-			}
+			writeBytes(value, 0, count);
 		} else if (value.length < count) {
 			writeZero(count - value.length);
 		}
@@ -166,9 +250,7 @@ public class StreamWriter {
 	 * @throws IOException
 	 */
 	public void writeSInt1(byte value) throws IOException {
-		byte[] buffer = new byte[1];
-		buffer[0] = value;
-		writeBytes(buffer);
+		littleEndian(value, 1);
 	}
 
 	/**
@@ -179,9 +261,7 @@ public class StreamWriter {
 	 * @throws IOException
 	 */
 	public void writeSInt2(short value) throws IOException {
-		byte[] buffer = ByteBuffer.allocate(2).order(ByteOrder.LITTLE_ENDIAN)
-				.putShort(value).array();
-		writeBytes(buffer);
+		littleEndian(value, 2);
 	}
 
 	/**
@@ -192,9 +272,7 @@ public class StreamWriter {
 	 * @throws IOException
 	 */
 	public void writeSInt4(int value) throws IOException {
-		byte[] buffer = ByteBuffer.allocate(4).order(ByteOrder.LITTLE_ENDIAN)
-				.putInt(value).array();
-		writeBytes(buffer);
+		littleEndian(value, 4);
 	}
 
 	/**
@@ -205,9 +283,7 @@ public class StreamWriter {
 	 * @throws IOException
 	 */
 	public void writeUInt1(short value) throws IOException {
-		byte[] buffer = ByteBuffer.allocate(2).order(ByteOrder.LITTLE_ENDIAN)
-				.putShort(value).array();
-		os.write(buffer, 0, 1);
+		littleEndian(value, 1);
 	}
 
 	/**
@@ -218,9 +294,7 @@ public class StreamWriter {
 	 * @throws IOException
 	 */
 	public void writeUInt2(int value) throws IOException {
-		byte[] buffer = ByteBuffer.allocate(4).order(ByteOrder.LITTLE_ENDIAN)
-				.putInt(value).array();
-		os.write(buffer, 0, 2);
+		littleEndian(value, 2);
 	}
 
 	/**
@@ -231,9 +305,7 @@ public class StreamWriter {
 	 * @throws IOException
 	 */
 	public void writeUInt4(long value) throws IOException {
-		byte[] buffer = ByteBuffer.allocate(8).order(ByteOrder.LITTLE_ENDIAN)
-				.putLong(value).array();
-		os.write(buffer, 0, 4);
+		littleEndian(value, 4);
 	}
 
 	/**
@@ -244,9 +316,7 @@ public class StreamWriter {
 	 * @throws IOException
 	 */
 	public void writeDouble(double value) throws IOException {
-		byte[] buffer = ByteBuffer.allocate(8).order(ByteOrder.LITTLE_ENDIAN)
-				.putDouble(value).array();
-		os.write(buffer, 0, 8);
+		littleEndian(Double.doubleToRawLongBits(value), 8);
 	}
 
 	/**
@@ -257,9 +327,7 @@ public class StreamWriter {
 	 * @throws IOException
 	 */
 	public void writeFloat(float value) throws IOException {
-		byte[] buffer = ByteBuffer.allocate(4).order(ByteOrder.LITTLE_ENDIAN)
-				.putFloat(value).array();
-		os.write(buffer, 0, 4);
+		littleEndian(Float.floatToRawIntBits(value), 4);
 	}
 
 	/**
@@ -292,7 +360,7 @@ public class StreamWriter {
 		} else {
 			writeUInt2((int) value.length());
 			if (value.length() > 0) {
-				writeBytes(value.getBytes("UTF-16LE"));
+				writeChars(value);
 			}
 		}
 	}
@@ -306,11 +374,11 @@ public class StreamWriter {
 	 */
 	public void writeWChar(String value) throws IOException {
 		if (value != null && value.length() > 0) {
-			byte[] buffer = value.getBytes("UTF-16LE");
-			if (buffer != null && buffer.length >= 2) {
-				os.write(buffer, 0, 2);
+			char c = value.charAt(0);
+			if (Character.isSurrogate(c)) {
+				writeBytes(value.getBytes(StandardCharsets.UTF_16LE), 0, 2);
 			} else {
-				writeZero(2);
+				littleEndian(c, 2);
 			}
 		} else {
 			writeZero(2);
@@ -325,9 +393,33 @@ public class StreamWriter {
 	 * @throws IOException
 	 */
 	public void writeZero(int number) throws IOException {
-		if (number > 0) {
-			byte[] zero = new byte[number];
-			os.write(zero);
+		int remain = number;
+		while (remain > 0) {
+			ensure(1);
+			int count = Math.min(remain, buffer.length - position);
+			Arrays.fill(buffer, position, position + count, (byte) 0);
+			position += count;
+			remain -= count;
+		}
+	}
+
+	/**
+	 * 문자열을 UTF-16LE 로 저장한다. 짝이 맞지 않는 surrogate 가 있으면 기존과 같이 charset 인코더로 변환한다.
+	 * 
+	 * @param value
+	 *            문자열
+	 * @throws IOException
+	 */
+	private void writeChars(String value) throws IOException {
+		int len = value.length();
+		for (int index = 0; index < len; index++) {
+			if (Character.isSurrogate(value.charAt(index))) {
+				writeBytes(value.getBytes(StandardCharsets.UTF_16LE));
+				return;
+			}
+		}
+		for (int index = 0; index < len; index++) {
+			littleEndian(value.charAt(index), 2);
 		}
 	}
 
@@ -344,4 +436,17 @@ public class StreamWriter {
 	public void downRecordLevel() {
 		currentRecordLevel--;
 	}
+
+	/**
+	 * 쓰여진 데이터를 복사하지 않고 InputStream 으로 넘겨주기 위한 ByteArrayOutputStream
+	 */
+	private static class DataBuffer extends ByteArrayOutputStream {
+		DataBuffer() {
+			super(BUFFER_SIZE);
+		}
+
+		InputStream toInputStream() {
+			return new ByteArrayInputStream(buf, 0, count);
+		}
+	}
 }
@@ -1,6 +1,9 @@
 package com.klid.common.hwplib.writer;
 
+import java.io.BufferedOutputStream;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 
 import com.klid.common.hwplib.object.HWPFile;
 import com.klid.common.hwplib.object.docinfo.bindata.BinDataCompress;
@@ -31,6 +34,23 @@ public class HWPWriter {
 	 */
 	public static void toFile(HWPFile hwpFile, String filepath)
 			throws NoSuchFieldException, IOException {
+		try (OutputStream os = new BufferedOutputStream(new FileOutputStream(filepath))) {
+			toStream(hwpFile, os);
+		}
+	}
+
+	/**
+	 * 한글 파일 객체를 OutputStream 으로 쓴다. 임시 파일을 만들지 않으므로 응답(response) 등에 바로 쓸 수 있다.
+	 * OutputStream 은 닫지 않는다.
+	 * 
+	 * @param hwpFile
+	 *            한글 파일 객체
+	 * @param os
+	 *            출력 대상
+	 * @throws NoSuchFieldException
+	 */
+	public static void toStream(HWPFile hwpFile, OutputStream os)
+			throws NoSuchFieldException, IOException {
 		if (hwpFile.getFileHeader().hasPassword()) {
 			throw new NoSuchFieldException("Files with passwords are not supported.");
 		}
@@ -41,7 +61,7 @@ public class HWPWriter {
 		w.docInfo();
 		w.bodyText();
 		w.binData();
-		w.writeAndClose(filepath);
+		w.writeAndClose(os);
 	}
 
 	/**
@@ -209,12 +229,15 @@ public class HWPWriter {
 	/**
 	 * 파일을 쓰고 닫는다.
 	 * 
-	 * @param filepath
-	 *            파일 경로
+	 * @param os
+	 *            출력 대상
 	 * @throws IOException
 	 */
-	private void writeAndClose(String filepath) throws IOException {
-		cfw.write(filepath);
-		cfw.close();
+	private void writeAndClose(OutputStream os) throws IOException {
+		try {
+			cfw.write(os);
+		} finally {
+			cfw.close();
+		}
 	}
 }
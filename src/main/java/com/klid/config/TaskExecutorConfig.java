@@ -0,0 +1,34 @@
+package com.klid.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 공용 작업 스레드 풀
+ * - 보고서 섹션, 대시보드 스냅샷/push 전송, 사고 가져오기 검증 등 요청 처리 중 나눠 실행하는 작업이 함께 사용한다.
+ * - 대기열이 가득 차면 요청한 스레드에서 직접 실행한다. (CallerRunsPolicy)
+ * - 종료 시 실행 중인 작업이 끝날 때까지 기다린다.
+ * - 주기 작업(@Scheduled)은 spring.task.scheduling 의 taskScheduler 에서 실행한다.
+ */
+@Configuration
+public class TaskExecutorConfig {
+
+    @Bean(name = "taskExecutor")
+    public ThreadPoolTaskExecutor taskExecutor(@Value("${app.task.pool-size:16}") int poolSize,
+                                               @Value("${app.task.queue-capacity:64}") int queueCapacity,
+                                               @Value("${app.task.await-termination:30}") int awaitTermination) {
+        final ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("app-task-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(awaitTermination);
+        return executor;
+    }
+}
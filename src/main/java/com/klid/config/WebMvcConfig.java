@@ -1,6 +1,7 @@
 package com.klid.config;
 
 import com.klid.webapp.common.HtmlEscapingObjectMapperFactory;
+import com.klid.webapp.webdash.controller.WebDashETagAdvice;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.MessageSource;
@@ -20,6 +21,7 @@ import org.springframework.web.servlet.i18n.LocaleChangeInterceptor;
 import org.springframework.web.servlet.view.InternalResourceViewResolver;
 import org.springframework.web.servlet.view.JstlView;
 
+import jakarta.annotation.Resource;
 import java.util.List;
 
 @Configuration
@@ -28,6 +30,9 @@ public class WebMvcConfig implements WebMvcConfigurer {
     @Value("${app.upload-size:1048576000}")
     private long uploadSize;
 
+    @Resource
+    private WebDashETagAdvice webDashETagAdvice;
+
     @Override
     public void configureViewResolvers(ViewResolverRegistry registry) {
         InternalResourceViewResolver resolver = new InternalResourceViewResolver();
@@ -54,7 +59,13 @@ public class WebMvcConfig implements WebMvcConfigurer {
 
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
-        registry.addInterceptor(localeChangeInterceptor());
+        // 스트리밍 업로드 경로는 getParameter 호출 시 본문이 버퍼링되므로 제외
+        registry.addInterceptor(localeChangeInterceptor())
+                .excludePathPatterns("/api/file/upload", "/api/file/accUpload");
+        // 대시보드 조회 응답의 ETag 계산을 위해 캐시 조회 version 기록
+        registry.addInterceptor(webDashETagAdvice)
+                .addPathPatterns("/api/webdash/**")
+                .excludePathPatterns("/api/webdash/eventbus/**");
     }
 
     @Override
@@ -98,6 +109,9 @@ public class WebMvcConfig implements WebMvcConfigurer {
 
     @Bean
     public StandardServletMultipartResolver multipartResolver() {
-        return new StandardServletMultipartResolver();
+        // 파트 파싱을 실제 접근 시점까지 미뤄 스트리밍 업로드(MultipartStreamService)가 본문을 직접 읽을 수 있게 한다.
+        StandardServletMultipartResolver resolver = new StandardServletMultipartResolver();
+        resolver.setResolveLazily(true);
+        return resolver;
     }
 }
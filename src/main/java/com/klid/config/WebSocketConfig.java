@@ -0,0 +1,23 @@
+package com.klid.config;
+
+import com.klid.webapp.webdash.push.WebDashPushHandler;
+import jakarta.annotation.Resource;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.socket.config.annotation.EnableWebSocket;
+import org.springframework.web.socket.config.annotation.WebSocketConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketHandlerRegistry;
+
+@Configuration
+@EnableWebSocket
+public class WebSocketConfig implements WebSocketConfigurer {
+
+    @Resource(name = "webDashPushHandler")
+    private WebDashPushHandler webDashPushHandler;
+
+    @Override
+    public void registerWebSocketHandlers(WebSocketHandlerRegistry registry) {
+        // 대시보드 push. 화면의 sockjs-client 로 연결하며, websocket 이 막힌 환경은 SockJS 가 xhr 전송으로 대체한다.
+        registry.addHandler(webDashPushHandler, "/api/webdash/eventbus")
+                .withSockJS();
+    }
+}
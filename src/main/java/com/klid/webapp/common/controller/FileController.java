@@ -9,10 +9,16 @@ import com.klid.webapp.common.ReturnData;
 import com.klid.webapp.common.SessionManager;
 import com.klid.webapp.common.code.dto.BoardMgmtDto;
 import com.klid.webapp.common.code.service.CodeService;
+import com.klid.webapp.common.exception.UploadRejectedException;
 import com.klid.webapp.common.file.dto.AttachfileDto;
+import com.klid.webapp.common.file.dto.StagedFileDto;
+import com.klid.webapp.common.file.dto.UploadedFileDto;
 import com.klid.webapp.common.file.service.FileDeleteService;
 import com.klid.webapp.common.file.service.FileDownloadService;
 import com.klid.webapp.common.file.service.FileUploadService;
+import com.klid.webapp.common.file.service.ImportStagingService;
+import com.klid.webapp.common.file.service.MultipartStreamService;
+import com.klid.webapp.common.file.service.UploadPolicy;
 import com.klid.webapp.main.acc.accidentApply.persistence.AccidentApplyMapper;
 import com.klid.webapp.main.sec.shareBoard.dto.ShareBoardDto;
 import com.klid.webapp.main.sec.shareBoard.service.ShareBoardService;
@@ -49,19 +55,18 @@ import java.util.*;
 @Slf4j
 public class FileController {
 
-    public static String emlcsvFilePath = null;
-	public static String emlcsvFileName = null;
-	public static String emlcsvExtName = null;
-	public static String xlsFilePath = null;
-	public static String xlsFileName = null;
-	public static String xlsExtName = null;
-
 	@Resource(name = "fileDownloadService")
 	public FileDownloadService downloadService;
 
 	@Resource(name = "fileUploadService")
 	public FileUploadService uploadService;
 
+	@Resource(name = "multipartStreamService")
+	public MultipartStreamService streamService;
+
+	@Resource(name = "importStagingService")
+	public ImportStagingService importStagingService;
+
 	@Resource(name = "fileDeleteService")
 	public FileDeleteService deleteService;
 
@@ -77,7 +82,7 @@ public class FileController {
 		criterion.addParam("fileNo", fileNo);
 		List<AttachfileDto> file = downloadService.searchFileName(criterion);
 
-		downloadService.fileRender(response, file.get(0));
+		downloadService.fileRender(request, response, file.get(0));
 	}
 
 	@ExceptionHandler(Exception.class)
@@ -90,7 +95,13 @@ public class FileController {
 	}
 
 	@RequestMapping("upload")
-	public void fileUpload(@RequestParam("fileinput") MultipartFile multipartFile, @RequestParam("boardNo") String boardNo, HttpServletRequest request, HttpServletResponse response) {
+	public void fileUpload(HttpServletRequest request, HttpServletResponse response) throws IOException {
+		//요청 본문은 스트리밍으로 저장하므로 파라미터는 쿼리스트링에서만 조회 (getParameter 호출 시 컨테이너가 본문을 버퍼링함)
+		String boardNo = streamService.getQueryParam(request, "boardNo");
+		if (StringUtils.isBlank(boardNo)) {
+			response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
+			return;
+		}
 
 		Criterion boardDetailCriterion = new Criterion();
 		boardDetailCriterion.addParam("boardNo", boardNo);
@@ -112,65 +123,54 @@ public class FileController {
 			boardGuid = "B4529762-C067-4731-9129-B84FF840063A";
 		}
 
-		String tempFileName = tempFileName(multipartFile);
-		String originalFileName = multipartFile.getOriginalFilename();
-
 		Criterion boardCriterion = new Criterion();
 		boardCriterion.addParam("guid", boardGuid);
 		//codeService.getDetailBoardMgmtList(boardCriterion);
 		ReturnData boardBanList = codeService.getDetailBoardMgmtList(boardCriterion);
 		BoardMgmtDto codeDetail = (BoardMgmtDto) boardBanList.getResultData();
+		if(codeDetail == null){
+			return;
+		}
 
-		String contenType = originalFileName.substring(originalFileName.lastIndexOf(".") + 1).toLowerCase();
-		if(codeDetail != null){
-			if(codeDetail.getFileExt() != null){ //DB에 게시판별 확장자 제약을 걸어 놨을 경우
-				if(codeDetail.getFileExt().toLowerCase().indexOf(contenType) > -1){ //허용된 확장자에 포함되었을때
-
-					uploadService.fileUploadLocal(multipartFile, tempFileName);
-
-					Criterion criterion = new Criterion();
-					criterion.addParam("fileName", tempFileName);
-					criterion.addParam("originalFileName", originalFileName);
-					criterion.addParam("fileType", originalFileName.substring(originalFileName.lastIndexOf(".") + 1));
-					criterion.addParam("fileSize", multipartFile.getSize());
-					criterion.addParam("boardNo", boardNo);
-
-					//업로드시 해당 날짜의 폴더생성 (사고접수쪽과 동일) 해당 날짜는 bultn -> fila_path에 insert
-					SimpleDateFormat sdf = new SimpleDateFormat("yyyyMMdd");
-					Calendar c1 = Calendar.getInstance();
-					String todayPath = sdf.format(c1.getTime());
-					String savePath = "\\"+todayPath;
-
-					criterion.addParam("filePath", savePath);
-
-					uploadService.insertFileInfo(criterion);
-				}else{
-				}
-			}else{ //확장자 제약이 없을 경우는 무조건 첨부파일 등록
+		//DB에 게시판별 확장자 제약을 걸어 놨을 경우 허용된 확장자만 저장, 제약이 없을 경우는 무조건 첨부파일 등록
+		UploadPolicy policy = UploadPolicy.of(AppGlobal.uploadSize, codeDetail.getFileExt());
+		List<UploadedFileDto> files;
+		try {
+			files = streamService.receive(request, "fileinput", policy, uploadProgressKey(request));
+		} catch (UploadRejectedException e) {
+			log.error(e.getMessage());
+			response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
+			return;
+		}
 
-				uploadService.fileUploadLocal(multipartFile, tempFileName);
+		for (UploadedFileDto file : files) {
+			Criterion criterion = new Criterion();
+			criterion.addParam("fileName", file.getHash());
+			criterion.addParam("originalFileName", file.getOriginalFileName());
+			criterion.addParam("fileType", file.getFileType());
+			criterion.addParam("fileSize", file.getFileSize());
+			criterion.addParam("boardNo", boardNo);
 
-				Criterion criterion = new Criterion();
-				criterion.addParam("fileName", tempFileName);
-				criterion.addParam("originalFileName", originalFileName);
-				criterion.addParam("fileType", originalFileName.substring(originalFileName.lastIndexOf(".") + 1));
-				criterion.addParam("fileSize", multipartFile.getSize());
-				criterion.addParam("boardNo", boardNo);
+			//첨부파일은 내용 해시 기준 blob 저장소에 저장 (동일 파일은 하나의 blob 공유)
+			criterion.addParam("filePath", file.getBlobPath());
 
-				//업로드시 해당 날짜의 폴더생성 (사고접수쪽과 동일) 해당 날짜는 bultn -> fila_path에 insert
-				SimpleDateFormat sdf = new SimpleDateFormat("yyyyMMdd");
-				Calendar c1 = Calendar.getInstance();
-				String todayPath = sdf.format(c1.getTime());
-				String savePath = "\\"+todayPath;
+			uploadService.insertFileInfo(criterion);
+		}
+	}
 
-				criterion.addParam("filePath", savePath);
+	//스트리밍 업로드 진행률 조회
+	@RequestMapping("uploadProgress")
+	@ResponseBody
+	public ReturnData uploadProgress(@RequestParam("uploadId") String uploadId) {
+		return new ReturnData(streamService.getProgress(SessionManager.getUser().getUserId() + ":" + uploadId));
+	}
 
-				uploadService.insertFileInfo(criterion);
-			}
+	private String uploadProgressKey(HttpServletRequest request) {
+		String uploadId = StringUtils.defaultIfBlank(request.getHeader(MultipartStreamService.UPLOAD_ID_HEADER), streamService.getQueryParam(request, "uploadId"));
+		if (StringUtils.isBlank(uploadId)) {
+			return null;
 		}
-
-		// response.setStatus(response.SC_OK);
-		// return response;
+		return SessionManager.getUser().getUserId() + ":" + uploadId;
 	}
 	
 	@RequestMapping("delete")
@@ -363,60 +363,40 @@ public class FileController {
 
 	//사고접수용 첨부파일 업로드
 	@RequestMapping("accUpload")
-	public void fileAccUpload(@RequestParam("fileinput") MultipartFile multipartFile, @RequestParam("inciNo") String inciNo, HttpServletRequest request, HttpServletResponse response) throws Exception {
-		SimpleDateFormat sdf = new SimpleDateFormat("yyyyMMdd");
-		Calendar c1 = Calendar.getInstance();
-		String todayPath = sdf.format(c1.getTime());
-
-		String tempFileName = tempFileName(multipartFile);
-		String originalFileName = multipartFile.getOriginalFilename();
-		//String savePath = Paths.get(AppGlobal.uploadPath).toString();
-		String savePath = "\\"+todayPath;
-
-		uploadService.fileUploadLocal(multipartFile, tempFileName);
+	public void fileAccUpload(HttpServletRequest request, HttpServletResponse response) throws Exception {
+		//요청 본문은 스트리밍으로 저장하므로 파라미터는 쿼리스트링에서만 조회
+		String inciNo = streamService.getQueryParam(request, "inciNo");
+		if (StringUtils.isBlank(inciNo)) {
+			response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
+			return;
+		}
 
-		Criterion criterion = new Criterion();
-		criterion.addParam("fileName", tempFileName);
-		criterion.addParam("originalFileName", originalFileName);
-		criterion.addParam("fileType", originalFileName.substring(originalFileName.lastIndexOf(".") + 1));
-		criterion.addParam("fileSize", multipartFile.getSize());
-		criterion.addParam("inciNo", inciNo);
-		criterion.addParam("savePath", savePath);
-		uploadService.insertAccFileInfo(criterion);
+		List<UploadedFileDto> files;
+		try {
+			files = streamService.receive(request, "fileinput", UploadPolicy.of(AppGlobal.uploadSize), uploadProgressKey(request));
+		} catch (UploadRejectedException e) {
+			log.error(e.getMessage());
+			response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
+			return;
+		}
 
+		for (UploadedFileDto file : files) {
+			//첨부파일은 내용 해시 기준 blob 저장소에 저장 (동일 파일은 하나의 blob 공유)
+			Criterion criterion = new Criterion();
+			criterion.addParam("fileName", file.getHash());
+			criterion.addParam("originalFileName", file.getOriginalFileName());
+			criterion.addParam("fileType", file.getFileType());
+			criterion.addParam("fileSize", file.getFileSize());
+			criterion.addParam("inciNo", inciNo);
+			criterion.addParam("savePath", file.getBlobPath());
+			uploadService.insertAccFileInfo(criterion);
+		}
 	}
 
-	//사고접수용 첨부파일 업로드
+	//사고접수용 eml/csv 가져오기 파일 업로드 (응답 본문으로 가져오기 토큰 반환)
 	@RequestMapping("accEmlCsvUpload")
-	public void fileEmlAccUpload(@RequestParam("emlcsvfileinput") MultipartFile multipartFile, @RequestParam("type") String type, HttpServletRequest request, HttpServletResponse response) {
-
-		String tempFileName = tempEmlFileName(multipartFile, type);
-		String originalFileName = multipartFile.getOriginalFilename();
-
-		SimpleDateFormat sdf = new SimpleDateFormat("yyyyMMdd");
-			Calendar c1 = Calendar.getInstance();
-			String todayPath = sdf.format(c1.getTime());
-
-//			String tempFileName = tempFileName(multipartFile);
-//			String originalFileName = multipartFile.getOriginalFilename();
-			//String savePath = Paths.get(AppGlobal.uploadPath).toString();
-			String savePath = "\\"+todayPath;
-//			String savePath = Paths.get(AppGlobal.uploadPath).toString();
-
-			uploadService.fileUploadLocal(multipartFile, tempFileName);
-
-			Criterion criterion = new Criterion();
-			criterion.addParam("fileName", tempFileName);
-			criterion.addParam("originalFileName", originalFileName);
-
-			String fileType = originalFileName.substring(originalFileName.lastIndexOf(".") + 1);
-			criterion.addParam("fileType", fileType);
-			criterion.addParam("fileSize", multipartFile.getSize());
-			criterion.addParam("savePath", savePath);
-
-			emlcsvFilePath = Paths.get(AppGlobal.uploadPath).toString()+savePath;
-			emlcsvFileName = tempFileName;
-			emlcsvExtName = fileType;
+	public void fileEmlAccUpload(@RequestParam("emlcsvfileinput") MultipartFile multipartFile, @RequestParam("type") String type, HttpServletRequest request, HttpServletResponse response) throws IOException {
+		writeImportToken(multipartFile, response);
 	}
 
 	//사고접수용 양식파일 다운로드
@@ -461,7 +441,7 @@ public class FileController {
 		criterion.addParam("fileNo", fileNo);
 		List<AttachfileDto> file = downloadService.searchAccFileName(criterion);
 
-		downloadService.fileRender(response, file.get(0));
+		downloadService.fileRender(request, response, file.get(0));
 	}
 
 	//사고유형별 처리방안 첨부파일 업로드
@@ -493,33 +473,20 @@ public class FileController {
 		downloadService.fileRenderHelp(response, code2);
 	}
 
-	//홈페이지 모니터링 엑셀 업로드
+	//홈페이지 모니터링 엑셀 업로드 (응답 본문으로 가져오기 토큰 반환)
 	@RequestMapping("homeURLUpload")
-	public void homeURLUpload(@RequestParam("xlsfileinput") MultipartFile multipartFile, HttpServletRequest request, HttpServletResponse response) {
-
-		String tempFileName = tempEmlFileName(multipartFile, "xls");
-		String originalFileName = multipartFile.getOriginalFilename();
-
-		SimpleDateFormat sdf = new SimpleDateFormat("yyyyMMdd");
-		Calendar c1 = Calendar.getInstance();
-		String todayPath = sdf.format(c1.getTime());
-
-		String savePath = "\\"+todayPath;
-
-		uploadService.fileUploadLocal(multipartFile, tempFileName);
-
-		Criterion criterion = new Criterion();
-		criterion.addParam("fileName", tempFileName);
-		criterion.addParam("originalFileName", originalFileName);
-
-		String fileType = originalFileName.substring(originalFileName.lastIndexOf(".") + 1);
-		criterion.addParam("fileType", fileType);
-		criterion.addParam("fileSize", multipartFile.getSize());
-		criterion.addParam("savePath", savePath);
+	public void homeURLUpload(@RequestParam("xlsfileinput") MultipartFile multipartFile, HttpServletRequest request, HttpServletResponse response) throws IOException {
+		writeImportToken(multipartFile, response);
+	}
 
-		xlsFilePath = Paths.get(AppGlobal.uploadPath).toString()+savePath;
-		xlsFileName = tempFileName;
-		xlsExtName = fileType;
+	/**
+	 * 가져오기 파일을 사용자별 영역에 보관하고 발급된 토큰을 응답한다.
+	 * jqxFileUpload 는 iframe 으로 응답을 받으므로 토큰만 text/plain 으로 내려준다.
+	 */
+	private void writeImportToken(MultipartFile multipartFile, HttpServletResponse response) throws IOException {
+		StagedFileDto staged = importStagingService.stage(multipartFile, SessionManager.getUser().getUserId());
+		response.setContentType("text/plain;charset=UTF-8");
+		response.getWriter().write(staged.getToken());
 	}
 
 	//홈페이지용 양식파일 다운로드
@@ -0,0 +1,13 @@
+package com.klid.webapp.common.exception;
+
+public class UploadRejectedException extends RuntimeException {
+    private final static String message = "업로드 정책에 맞지 않는 파일입니다.";
+
+    public UploadRejectedException() {
+        super(message);
+    }
+
+    public UploadRejectedException(final String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,46 @@
+package com.klid.webapp.common.file.dto;
+
+import java.io.Serializable;
+
+/**
+ * 내용 주소 기반 첨부파일 저장소(FILE_BLOB) 항목
+ */
+@SuppressWarnings("serial")
+public class FileBlobDto implements Serializable {
+	private String hash, blobPath;
+	private long fileSize, refCnt;
+
+	public String getHash() {
+		return hash;
+	}
+
+	public void setHash(String hash) {
+		this.hash = hash;
+	}
+
+	/** AppGlobal.uploadPath 기준 상대 디렉토리 (첨부파일 테이블의 FILE_PATH / ATH_PATH 값) */
+	public String getBlobPath() {
+		return blobPath;
+	}
+
+	public void setBlobPath(String blobPath) {
+		this.blobPath = blobPath;
+	}
+
+	public long getFileSize() {
+		return fileSize;
+	}
+
+	public void setFileSize(long fileSize) {
+		this.fileSize = fileSize;
+	}
+
+	public long getRefCnt() {
+		return refCnt;
+	}
+
+	public void setRefCnt(long refCnt) {
+		this.refCnt = refCnt;
+	}
+
+}
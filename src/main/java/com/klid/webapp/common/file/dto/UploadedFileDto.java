@@ -0,0 +1,61 @@
+package com.klid.webapp.common.file.dto;
+
+import java.io.Serializable;
+
+/**
+ * 스트리밍 업로드로 저장된 파일 정보
+ */
+@SuppressWarnings("serial")
+public class UploadedFileDto implements Serializable {
+	private String fieldName, originalFileName, fileType, hash, blobPath;
+	private long fileSize;
+
+	public String getFieldName() {
+		return fieldName;
+	}
+
+	public void setFieldName(String fieldName) {
+		this.fieldName = fieldName;
+	}
+
+	public String getOriginalFileName() {
+		return originalFileName;
+	}
+
+	public void setOriginalFileName(String originalFileName) {
+		this.originalFileName = originalFileName;
+	}
+
+	public String getFileType() {
+		return fileType;
+	}
+
+	public void setFileType(String fileType) {
+		this.fileType = fileType;
+	}
+
+	public String getHash() {
+		return hash;
+	}
+
+	public void setHash(String hash) {
+		this.hash = hash;
+	}
+
+	public String getBlobPath() {
+		return blobPath;
+	}
+
+	public void setBlobPath(String blobPath) {
+		this.blobPath = blobPath;
+	}
+
+	public long getFileSize() {
+		return fileSize;
+	}
+
+	public void setFileSize(long fileSize) {
+		this.fileSize = fileSize;
+	}
+
+}
@@ -0,0 +1,25 @@
+package com.klid.webapp.common.file.persistence;
+
+import java.util.List;
+
+import org.apache.ibatis.annotations.Param;
+import org.springframework.stereotype.Repository;
+
+import com.klid.webapp.common.file.dto.FileBlobDto;
+
+@Repository("fileBlobMapper")
+public interface FileBlobMapper {
+
+	int increaseRefCnt(@Param("hash") String hash);
+
+	int insertFileBlob(FileBlobDto fileBlobDto);
+
+	int decreaseRefCnt(@Param("hash") String hash);
+
+	//첨부파일 테이블(BULTN_FILE, TBZATTAC) 기준으로 참조 수 재계산
+	int reconcileRefCnt();
+
+	List<FileBlobDto> selectOrphanBlobs(@Param("graceDays") int graceDays);
+
+	int deleteOrphanBlob(@Param("hash") String hash);
+}
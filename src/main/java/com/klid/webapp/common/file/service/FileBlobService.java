@@ -0,0 +1,205 @@
+package com.klid.webapp.common.file.service;
+
+import com.klid.common.AppGlobal;
+import com.klid.webapp.common.file.dto.FileBlobDto;
+import com.klid.webapp.common.file.persistence.FileBlobMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 내용 주소 기반 첨부파일 저장소
+ * - 업로드 스트림을 디스크에 쓰면서 SHA-256 계산
+ * - {uploadPath}/blob/{해시 앞 2자리}/{다음 2자리}/{해시} 구조로 저장
+ * - FILE_BLOB 참조 수로 동일 파일을 하나의 blob 으로 공유
+ * - 참조가 없어진 blob 은 유예 기간 후 스케줄러가 삭제
+ */
+@Service("fileBlobService")
+@Slf4j
+public class FileBlobService {
+
+    private static final String BLOB_DIR = "blob";
+    private static final String TEMP_DIR = "tmp";
+    private static final int GC_GRACE_DAYS = 1;
+    private static final int LOCK_STRIPES = 64;
+
+    private final FileBlobMapper fileBlobMapper;
+    private final ReentrantLock[] locks = new ReentrantLock[LOCK_STRIPES];
+
+    public FileBlobService(final FileBlobMapper fileBlobMapper) {
+        this.fileBlobMapper = fileBlobMapper;
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * 스트림을 저장소에 기록하고 참조 수를 1 증가시킨다.
+     * 동일한 내용의 blob 이 이미 있으면 임시 파일은 버리고 기존 blob 을 공유한다.
+     */
+    public FileBlobDto store(InputStream in) throws IOException {
+        final Path temp = createTemp();
+
+        try {
+            final MessageDigest digest = sha256();
+            final long size;
+            try (DigestInputStream dis = new DigestInputStream(in, digest)) {
+                size = Files.copy(dis, temp, StandardCopyOption.REPLACE_EXISTING);
+            }
+            final String hash = HexFormat.of().formatHex(digest.digest());
+            return commit(temp, hash, size);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * 저장소와 같은 볼륨에 임시 파일 생성 (commit 시 복사 없이 이동)
+     */
+    public Path createTemp() throws IOException {
+        final Path tempDir = blobRoot().resolve(TEMP_DIR);
+        Files.createDirectories(tempDir);
+        return Files.createTempFile(tempDir, "upload", ".tmp");
+    }
+
+    /**
+     * 이미 해시를 계산하며 기록한 임시 파일을 저장소로 옮기고 참조 수를 1 증가시킨다.
+     */
+    public FileBlobDto commit(Path temp, String hash, long size) throws IOException {
+        final FileBlobDto blob = new FileBlobDto();
+        blob.setHash(hash);
+        blob.setBlobPath(blobPath(hash));
+        blob.setFileSize(size);
+
+        final ReentrantLock lock = lockFor(hash);
+        lock.lock();
+        try {
+            final Path target = resolve(hash);
+            if (!Files.exists(target)) {
+                Files.createDirectories(target.getParent());
+                moveIntoPlace(temp, target);
+            } else {
+                Files.deleteIfExists(temp);
+            }
+
+            if (fileBlobMapper.increaseRefCnt(hash) == 0) {
+                try {
+                    fileBlobMapper.insertFileBlob(blob);
+                } catch (DuplicateKeyException e) {
+                    fileBlobMapper.increaseRefCnt(hash);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+        blob.setRefCnt(1);
+        return blob;
+    }
+
+    /**
+     * 첨부파일 삭제 시 참조 수를 1 감소시킨다. 실제 파일 삭제는 {@link #collectGarbage()} 에서 수행한다.
+     */
+    public void release(String hash) {
+        if (fileBlobMapper.decreaseRefCnt(hash) == 0) {
+            log.warn("참조 정보가 없는 blob 해제 요청. hash: " + hash);
+        }
+    }
+
+    public boolean isBlobPath(String athPath) {
+        if (athPath == null) {
+            return false;
+        }
+        final String normalized = athPath.replace('\\', '/');
+        return normalized.startsWith("/" + BLOB_DIR + "/") || normalized.startsWith(BLOB_DIR + "/");
+    }
+
+    public Path resolve(String hash) {
+        return blobRoot().resolve(hash.substring(0, 2)).resolve(hash.substring(2, 4)).resolve(hash);
+    }
+
+    /**
+     * 참조가 없는 blob 정리
+     * - 첨부파일 테이블 기준으로 참조 수를 맞춘 뒤, 유예 기간이 지난 참조 0 blob 만 삭제
+     * - 행 삭제는 REF_CNT 조건부로 수행하므로 그 사이 다시 참조된 blob 은 남는다.
+     */
+    @Scheduled(cron = "0 30 3 * * *")
+    public void collectGarbage() {
+        try {
+            final int reconciled = fileBlobMapper.reconcileRefCnt();
+            if (reconciled > 0) {
+                log.info("blob 참조 수 보정: " + reconciled + "건");
+            }
+
+            final List<FileBlobDto> orphans = fileBlobMapper.selectOrphanBlobs(GC_GRACE_DAYS);
+            int deleted = 0;
+            for (FileBlobDto orphan : orphans) {
+                final ReentrantLock lock = lockFor(orphan.getHash());
+                lock.lock();
+                try {
+                    if (fileBlobMapper.deleteOrphanBlob(orphan.getHash()) > 0) {
+                        Files.deleteIfExists(resolve(orphan.getHash()));
+                        deleted++;
+                    }
+                } catch (IOException e) {
+                    log.error("blob 파일 삭제 실패. hash: " + orphan.getHash(), e);
+                } finally {
+                    lock.unlock();
+                }
+            }
+            log.info("blob 정리 완료: " + deleted + "건");
+        } catch (Exception e) {
+            log.error("blob 정리 중 오류 발생: " + e.getMessage(), e);
+        }
+    }
+
+    MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private Path blobRoot() {
+        return Paths.get(AppGlobal.uploadPath, BLOB_DIR);
+    }
+
+    private String blobPath(String hash) {
+        return File.separator + BLOB_DIR + File.separator + hash.substring(0, 2) + File.separator + hash.substring(2, 4);
+    }
+
+    private void moveIntoPlace(Path temp, Path target) throws IOException {
+        try {
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            try {
+                Files.move(temp, target);
+            } catch (FileAlreadyExistsException ignore) {
+                Files.deleteIfExists(temp);
+            }
+        } catch (FileAlreadyExistsException ignore) {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private ReentrantLock lockFor(String hash) {
+        return locks[Math.floorMod(hash.hashCode(), LOCK_STRIPES)];
+    }
+}
@@ -23,6 +23,9 @@ public class FileDeleteServiceImpl extends MsgService implements FileDeleteServi
 	@Resource(name = "fileDeleteMapper")
 	private FileDeleteMapper mapper;
 
+	@Resource(name = "fileBlobService")
+	private FileBlobService fileBlobService;
+
 	@Override
 	public ReturnData deleteFile(List<AttachfileDto> fileDto) {
 		int i = 0;
@@ -30,6 +33,11 @@ public class FileDeleteServiceImpl extends MsgService implements FileDeleteServi
 		int sucMsg = 0;
 
 		for (; i < cycle; i++) {
+			//blob 저장소 파일은 참조 수만 감소 (실제 삭제는 FileBlobService 정리 스케줄러)
+			if (fileBlobService.isBlobPath(fileDto.get(i).getAthPath())) {
+				fileBlobService.release(fileDto.get(i).getFileName());
+				continue;
+			}
 			Path path = Paths.get(AppGlobal.uploadPath, fileDto.get(i).getFileName());
 			try {
 				// Files.delete(path);
@@ -75,6 +83,11 @@ public class FileDeleteServiceImpl extends MsgService implements FileDeleteServi
 		int sucMsg = 0;
 
 		for (; i < cycle; i++) {
+			//blob 저장소 파일은 참조 수만 감소 (실제 삭제는 FileBlobService 정리 스케줄러)
+			if (fileBlobService.isBlobPath(fileDto.get(i).getAthPath())) {
+				fileBlobService.release(fileDto.get(i).getFileName());
+				continue;
+			}
 			Path path = Paths.get(AppGlobal.uploadPath, fileDto.get(i).getFileName());
 			try {
 				// Files.delete(path);
@@ -2,6 +2,7 @@ package com.klid.webapp.common.file.service;
 
 import java.util.List;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 
 import com.klid.webapp.common.Criterion;
@@ -14,7 +15,7 @@ public interface FileDownloadService {
 	//사고접수용 첨부파일 다운
 	List<AttachfileDto> searchAccFileName(Criterion criterion);
 
-	HttpServletResponse fileRender(HttpServletResponse response, AttachfileDto fileDto);
+	HttpServletResponse fileRender(HttpServletRequest request, HttpServletResponse response, AttachfileDto fileDto);
 
 	HttpServletResponse fileRender2(HttpServletResponse response, AttachfileDto file);
 
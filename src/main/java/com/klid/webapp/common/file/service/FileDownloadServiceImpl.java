@@ -3,10 +3,8 @@ package com.klid.webapp.common.file.service;
 import lombok.extern.slf4j.Slf4j;
 import java.io.FileInputStream;
 import java.io.IOException;
-import java.io.InputStream;
 import java.io.UnsupportedEncodingException;
 import java.net.URLEncoder;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
@@ -16,6 +14,7 @@ import java.util.Map;
 
 import jakarta.annotation.Resource;
 import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 
 import com.klid.common.util.XLSFileBuilder;
@@ -56,6 +55,12 @@ public class FileDownloadServiceImpl extends MsgService implements FileDownloadS
 	@Resource(name = "userConfMapper")
 	private UserConfMapper userMapper;
 
+	@Resource(name = "fileStreamService")
+	private FileStreamService fileStreamService;
+
+	@Resource(name = "fileBlobService")
+	private FileBlobService fileBlobService;
+
 	@Override
 	public List<AttachfileDto> searchFileName(Criterion criterion) {
 		return mapper.selectFileName(criterion.getCondition());
@@ -69,7 +74,7 @@ public class FileDownloadServiceImpl extends MsgService implements FileDownloadS
 
 	@SuppressWarnings("static-access")
 	@Override
-	public HttpServletResponse fileRender(HttpServletResponse response, AttachfileDto file) {
+	public HttpServletResponse fileRender(HttpServletRequest request, HttpServletResponse response, AttachfileDto file) {
 
 		if (file.getFileName().isEmpty() || file.getOriginalFileName().isEmpty()) {
 			response.setStatus(response.SC_BAD_REQUEST);
@@ -85,38 +90,19 @@ public class FileDownloadServiceImpl extends MsgService implements FileDownloadS
 		}
 
 		// 다운로드 창을 띄우고 파일명을 보여준다.
+		// 이어받기(Range)/조건부 요청(ETag, Last-Modified) 처리는 FileStreamService 에서 수행
 		response.setContentType("application/octet-stream");
 		response.setHeader("Content-Disposition", "attachment;filename=\"" + file.getOriginalFileName() + "\"");
 		response.setHeader("content-Transfer-Encoding", "binary");
-		response.setHeader("Pragma", "no-cache;");
-		response.setHeader("Expires", "-1");
 
-		ServletOutputStream sos = null;
-		InputStream fis = null;
 		try {
-			sos = response.getOutputStream();
 			Path path = Paths.get(AppGlobal.uploadPath + file.getAthPath(), file.getFileName());
-			fis = Files.newInputStream(path);
-			FileCopyUtils.copy(fis, sos);
+			//blob 저장소 파일은 파일명이 내용 해시이므로 ETag 계산을 위해 파일을 다시 읽지 않음
+			String contentHash = fileBlobService.isBlobPath(file.getAthPath()) ? file.getFileName() : null;
+			fileStreamService.render(request, response, path, contentHash);
 		} catch (Exception e) {
 			e.printStackTrace();
 			log.error(e.getMessage());
-		} finally {
-			if (fis != null) {
-				try {
-					fis.close();
-				} catch (IOException e) {
-					fis = null;
-				}
-			}
-			if (sos != null) {
-				try {
-					sos.flush();
-					sos.close();
-				} catch (IOException e) {
-					sos = null;
-				}
-			}
 		}
 
 		return response;
@@ -0,0 +1,324 @@
+package com.klid.webapp.common.file.service;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 첨부파일 스트리밍 다운로드
+ * - FileChannel.transferTo 기반 전송 (Tomcat sendfile 지원 시 커넥터에 위임)
+ * - Range (단일/다중) 요청 처리, 206 / 416 응답
+ * - 내용 해시 기반 strong ETag, Last-Modified, 조건부 GET 304 응답
+ */
+@Service
+@Slf4j
+public class FileStreamService {
+
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    /** multipart/byteranges 로 응답할 최대 구간 수 (초과 시 전체 전송) */
+    private static final int MAX_RANGES = 16;
+    private static final int MAX_ETAG_CACHE = 4096;
+    private static final int HASH_BUFFER_SIZE = 64 * 1024;
+
+    private final Map<Path, ETagEntry> etagCache = new ConcurrentHashMap<>();
+
+    /**
+     * 파일을 응답으로 전송한다. 헤더(Content-Disposition 등)는 호출 측에서 미리 설정한다.
+     *
+     * @return 전송(또는 304/416 응답)했으면 true, 파일이 없으면 404 를 설정하고 false
+     */
+    public boolean render(HttpServletRequest request, HttpServletResponse response, Path path) throws IOException {
+        return render(request, response, path, null);
+    }
+
+    /**
+     * 내용 해시를 이미 알고 있는 파일(blob 저장소)을 전송한다. 파일을 다시 읽어 해시하지 않고 ETag 를 만든다.
+     *
+     * @param contentHash 파일 내용의 SHA-256 (hex). null 이면 파일을 읽어 계산한다.
+     */
+    public boolean render(HttpServletRequest request, HttpServletResponse response, Path path, String contentHash) throws IOException {
+        if (!Files.isRegularFile(path)) {
+            response.setStatus(HttpServletResponse.SC_NOT_FOUND);
+            return false;
+        }
+
+        final long length = Files.size(path);
+        final long lastModified = Files.getLastModifiedTime(path).toMillis() / 1000 * 1000;
+        final String etag = isSha256(contentHash) ? etagOf(contentHash) : etag(path, length, lastModified);
+
+        response.setHeader("Accept-Ranges", "bytes");
+        response.setHeader("ETag", etag);
+        response.setDateHeader("Last-Modified", lastModified);
+        response.setHeader("Cache-Control", "private, no-cache");
+
+        if (isNotModified(request, etag, lastModified)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return true;
+        }
+
+        List<long[]> ranges = null;
+        final String rangeHeader = request.getHeader("Range");
+        if (rangeHeader != null && isIfRangeSatisfied(request, etag, lastModified)) {
+            ranges = parseRanges(rangeHeader, length);
+            if (ranges == null) {
+                response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                response.setHeader("Content-Range", "bytes */" + length);
+                return true;
+            }
+            if (ranges.isEmpty() || ranges.size() > MAX_RANGES) {
+                ranges = null;
+            }
+        }
+
+        if (ranges == null) {
+            response.setContentLengthLong(length);
+            sendRange(request, response, path, 0, length);
+        } else if (ranges.size() == 1) {
+            final long[] range = ranges.get(0);
+            response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+            response.setHeader("Content-Range", "bytes " + range[0] + "-" + range[1] + "/" + length);
+            response.setContentLengthLong(range[1] - range[0] + 1);
+            sendRange(request, response, path, range[0], range[1] + 1);
+        } else {
+            sendMultipart(response, path, ranges, length);
+        }
+        return true;
+    }
+
+    /**
+     * Range 헤더 파싱
+     *
+     * @return 유효 구간 목록, 형식 오류 등으로 무시할 경우 빈 목록, 만족하는 구간이 없으면 null (416)
+     */
+    List<long[]> parseRanges(String header, long length) {
+        final List<long[]> ranges = new ArrayList<>();
+        if (!header.startsWith("bytes=")) {
+            return ranges;
+        }
+        boolean anySyntax = false;
+        for (String spec : header.substring(6).split(",")) {
+            final String s = spec.trim();
+            final int dash = s.indexOf('-');
+            if (dash < 0) {
+                return new ArrayList<>();
+            }
+            final long start;
+            final long end;
+            try {
+                if (dash == 0) {
+                    final long suffix = Long.parseLong(s.substring(1));
+                    if (suffix <= 0) {
+                        anySyntax = true;
+                        continue;
+                    }
+                    start = Math.max(0, length - suffix);
+                    end = length - 1;
+                } else {
+                    start = Long.parseLong(s.substring(0, dash));
+                    final long last = dash == s.length() - 1 ? Long.MAX_VALUE : Long.parseLong(s.substring(dash + 1));
+                    if (start < 0 || last < start) {
+                        return new ArrayList<>();
+                    }
+                    end = Math.min(last, length - 1);
+                }
+            } catch (NumberFormatException e) {
+                return new ArrayList<>();
+            }
+            anySyntax = true;
+            if (start >= length) {
+                continue;
+            }
+            ranges.add(new long[]{start, end});
+        }
+        if (ranges.isEmpty()) {
+            return anySyntax ? null : ranges;
+        }
+        return ranges;
+    }
+
+    private boolean isNotModified(HttpServletRequest request, String etag, long lastModified) {
+        final String ifNoneMatch = request.getHeader("If-None-Match");
+        if (ifNoneMatch != null) {
+            return matchesETag(ifNoneMatch, etag);
+        }
+        final long ifModifiedSince = dateHeader(request, "If-Modified-Since");
+        return ifModifiedSince >= 0 && lastModified <= ifModifiedSince;
+    }
+
+    private boolean isIfRangeSatisfied(HttpServletRequest request, String etag, long lastModified) {
+        final String ifRange = request.getHeader("If-Range");
+        if (StringUtils.isBlank(ifRange)) {
+            return true;
+        }
+        if (ifRange.startsWith("\"") || ifRange.startsWith("W/")) {
+            return ifRange.trim().equals(etag);
+        }
+        final long since = dateHeader(request, "If-Range");
+        return since >= 0 && lastModified <= since;
+    }
+
+    private boolean matchesETag(String header, String etag) {
+        for (String candidate : header.split(",")) {
+            String c = candidate.trim();
+            if (c.equals("*")) {
+                return true;
+            }
+            if (c.startsWith("W/")) {
+                c = c.substring(2);
+            }
+            if (c.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private long dateHeader(HttpServletRequest request, String name) {
+        try {
+            return request.getDateHeader(name);
+        } catch (IllegalArgumentException e) {
+            return -1;
+        }
+    }
+
+    private void sendRange(HttpServletRequest request, HttpServletResponse response, Path path, long start, long end) throws IOException {
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, path.toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end);
+            return;
+        }
+        final ServletOutputStream sos = response.getOutputStream();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            transfer(channel, start, end - start, Channels.newChannel(sos));
+        }
+        sos.flush();
+    }
+
+    private void sendMultipart(HttpServletResponse response, Path path, List<long[]> ranges, long length) throws IOException {
+        final String boundary = UUID.randomUUID().toString().replace("-", "");
+        final String contentType = StringUtils.defaultIfBlank(response.getContentType(), "application/octet-stream");
+
+        final List<byte[]> partHeaders = new ArrayList<>(ranges.size());
+        long contentLength = 0;
+        for (long[] range : ranges) {
+            final byte[] head = ("\r\n--" + boundary + "\r\n"
+                    + "Content-Type: " + contentType + "\r\n"
+                    + "Content-Range: bytes " + range[0] + "-" + range[1] + "/" + length + "\r\n\r\n")
+                    .getBytes(StandardCharsets.US_ASCII);
+            partHeaders.add(head);
+            contentLength += head.length + (range[1] - range[0] + 1);
+        }
+        final byte[] tail = ("\r\n--" + boundary + "--\r\n").getBytes(StandardCharsets.US_ASCII);
+        contentLength += tail.length;
+
+        response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+        response.setContentType("multipart/byteranges; boundary=" + boundary);
+        response.setContentLengthLong(contentLength);
+
+        final ServletOutputStream sos = response.getOutputStream();
+        final WritableByteChannel target = Channels.newChannel(sos);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            for (int i = 0; i < ranges.size(); i++) {
+                final long[] range = ranges.get(i);
+                sos.write(partHeaders.get(i));
+                transfer(channel, range[0], range[1] - range[0] + 1, target);
+            }
+        }
+        sos.write(tail);
+        sos.flush();
+    }
+
+    private void transfer(FileChannel channel, long position, long count, WritableByteChannel target) throws IOException {
+        long remaining = count;
+        long pos = position;
+        while (remaining > 0) {
+            final long sent = channel.transferTo(pos, remaining, target);
+            if (sent <= 0) {
+                break;
+            }
+            pos += sent;
+            remaining -= sent;
+        }
+    }
+
+    /**
+     * 내용 SHA-256 기반 strong ETag. 크기/수정시각이 같으면 캐시된 값을 재사용한다.
+     */
+    private String etag(Path path, long length, long lastModified) throws IOException {
+        final Path key = path.toAbsolutePath().normalize();
+        final ETagEntry cached = etagCache.get(key);
+        if (cached != null && cached.length == length && cached.lastModified == lastModified) {
+            return cached.etag;
+        }
+
+        final MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        final ByteBuffer buffer = ByteBuffer.allocate(HASH_BUFFER_SIZE);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            while (channel.read(buffer) > 0) {
+                buffer.flip();
+                digest.update(buffer);
+                buffer.clear();
+            }
+        }
+        final String etag = etagOf(HexFormat.of().formatHex(digest.digest()));
+
+        if (etagCache.size() >= MAX_ETAG_CACHE) {
+            etagCache.clear();
+        }
+        etagCache.put(key, new ETagEntry(length, lastModified, etag));
+        return etag;
+    }
+
+    /**
+     * SHA-256(hex) 앞 16 byte 로 만든 ETag. 파일을 읽어 계산한 값과 같다.
+     */
+    private static String etagOf(String sha256) {
+        return "\"" + sha256.substring(0, 32).toLowerCase() + "\"";
+    }
+
+    private static boolean isSha256(String hash) {
+        if (hash == null || hash.length() != 64) {
+            return false;
+        }
+        for (int i = 0; i < hash.length(); i++) {
+            if (Character.digit(hash.charAt(i), 16) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private record ETagEntry(long length, long lastModified, String etag) {
+    }
+}
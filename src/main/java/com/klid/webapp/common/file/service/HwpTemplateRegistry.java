@@ -0,0 +1,68 @@
+package com.klid.webapp.common.file.service;
+
+import com.klid.common.hwplib.object.HWPFile;
+import com.klid.common.hwplib.reader.HWPReader;
+import com.klid.common.hwplib.tool.copier.HWPFileCopier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 보고서 HWP 템플릿 저장소
+ * - 템플릿은 한 번만 파싱해 두고, 요청마다 구조 복사본(HWPFileCopier)을 넘겨준다.
+ * - 조회 시 파일 크기/수정 시각을 확인해 바뀐 템플릿은 다시 파싱한다.
+ * - 캐시된 원본은 외부로 내보내지 않으므로 호출 측은 받은 객체를 자유롭게 수정해도 된다.
+ */
+@Service
+@Slf4j
+public class HwpTemplateRegistry {
+
+    private final Map<Path, TemplateEntry> templates = new ConcurrentHashMap<>();
+
+    /**
+     * 템플릿의 독립적인 복사본을 반환한다.
+     *
+     * @param filepath 템플릿 파일 경로
+     */
+    public HWPFile get(String filepath) throws IOException {
+        final Path path = Paths.get(filepath).toAbsolutePath().normalize();
+        final long length = Files.size(path);
+        final long lastModified = Files.getLastModifiedTime(path).toMillis();
+
+        final TemplateEntry entry;
+        try {
+            //같은 템플릿을 동시에 여러 번 파싱하지 않도록 compute 안에서 읽음
+            entry = templates.compute(path, (key, cached) -> {
+                if (cached != null && cached.length() == length && cached.lastModified() == lastModified) {
+                    return cached;
+                }
+                try {
+                    log.debug("HWP 템플릿 로드 : {}", key);
+                    return new TemplateEntry(length, lastModified, HWPReader.fromFile(key.toString()));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        return HWPFileCopier.copy(entry.template());
+    }
+
+    /**
+     * 캐시된 템플릿을 모두 비운다.
+     */
+    public void clear() {
+        templates.clear();
+    }
+
+    private record TemplateEntry(long length, long lastModified, HWPFile template) {
+    }
+}
@@ -0,0 +1,147 @@
+package com.klid.webapp.common.file.service;
+
+import com.klid.common.AppGlobal;
+import com.klid.webapp.common.CustomException;
+import com.klid.webapp.common.file.dto.StagedFileDto;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 가져오기(import) 파일 임시 보관
+ * - 업로드마다 추측 불가능한 토큰을 발급하고 {uploadPath}/import/{사용자ID}/ 아래에 보관
+ * - import 처리 시 토큰과 세션 사용자로 파일을 찾으므로 동시 업로드가 서로 덮어쓰지 않음
+ * - 유효 시간이 지난 파일은 스케줄러가 삭제
+ */
+@Service("importStagingService")
+@Slf4j
+public class ImportStagingService {
+
+    public static final String TOKEN_PARAM = "importToken";
+    private static final String IMPORT_DIR = "import";
+    private static final long EXPIRE_MILLIS = 30 * 60 * 1000L;
+
+    private final Map<String, StagedFileDto> staged = new ConcurrentHashMap<>();
+
+    /**
+     * 업로드 파일을 사용자별 영역에 보관하고 토큰을 발급한다.
+     */
+    public StagedFileDto stage(MultipartFile multipartFile, String userId) throws IOException {
+        final String originalFileName = StringUtils.defaultString(multipartFile.getOriginalFilename());
+        final String fileType = originalFileName.substring(originalFileName.lastIndexOf(".") + 1).toLowerCase();
+        final String token = UUID.randomUUID().toString().replace("-", "");
+
+        final Path dir = userDir(userId);
+        Files.createDirectories(dir);
+        final Path path = dir.resolve(token + "." + fileType.replaceAll("[^a-z0-9]", ""));
+        try (InputStream in = multipartFile.getInputStream()) {
+            Files.copy(in, path, StandardCopyOption.REPLACE_EXISTING);
+        }
+
+        final StagedFileDto file = new StagedFileDto();
+        file.setToken(token);
+        file.setUserId(userId);
+        file.setOriginalFileName(originalFileName);
+        file.setFileType(fileType);
+        file.setFileSize(Files.size(path));
+        file.setPath(path);
+        file.setExpireTime(System.currentTimeMillis() + EXPIRE_MILLIS);
+        staged.put(token, file);
+        return file;
+    }
+
+    /**
+     * 토큰에 해당하는 보관 파일 조회. 다른 사용자가 발급받은 토큰이거나 만료된 경우 예외.
+     */
+    public StagedFileDto resolve(String token, String userId) {
+        final StagedFileDto file = StringUtils.isEmpty(token) ? null : staged.get(token);
+        if (file == null || !file.getUserId().equals(userId)) {
+            throw new CustomException("가져오기 파일을 찾을 수 없습니다. 파일을 다시 업로드해 주세요.");
+        }
+        if (file.getExpireTime() < System.currentTimeMillis() || !Files.isRegularFile(file.getPath())) {
+            discard(token);
+            throw new CustomException("가져오기 파일이 만료되었습니다. 파일을 다시 업로드해 주세요.");
+        }
+        return file;
+    }
+
+    /**
+     * import 처리가 끝난 파일 삭제
+     */
+    public void discard(String token) {
+        if (StringUtils.isEmpty(token)) {
+            return;
+        }
+        final StagedFileDto file = staged.remove(token);
+        if (file != null) {
+            deleteQuietly(file.getPath());
+        }
+    }
+
+    /**
+     * 만료된 보관 파일 정리 (재기동 등으로 토큰 정보가 없어진 파일 포함)
+     */
+    @Scheduled(fixedDelay = 10 * 60 * 1000L, initialDelay = 60 * 1000L)
+    public void purgeExpired() {
+        final long now = System.currentTimeMillis();
+        final Iterator<StagedFileDto> it = staged.values().iterator();
+        while (it.hasNext()) {
+            final StagedFileDto file = it.next();
+            if (file.getExpireTime() < now) {
+                it.remove();
+                deleteQuietly(file.getPath());
+            }
+        }
+
+        final Path root = importRoot();
+        if (!Files.isDirectory(root)) {
+            return;
+        }
+        try (DirectoryStream<Path> users = Files.newDirectoryStream(root)) {
+            for (Path userDir : users) {
+                if (!Files.isDirectory(userDir)) {
+                    continue;
+                }
+                try (DirectoryStream<Path> files = Files.newDirectoryStream(userDir)) {
+                    for (Path path : files) {
+                        if (now - Files.getLastModifiedTime(path).toMillis() > EXPIRE_MILLIS) {
+                            deleteQuietly(path);
+                        }
+                    }
+                }
+            }
+        } catch (IOException e) {
+            log.error("가져오기 임시 파일 정리 중 오류 발생: " + e.getMessage(), e);
+        }
+    }
+
+    private Path importRoot() {
+        return Paths.get(AppGlobal.uploadPath, IMPORT_DIR);
+    }
+
+    private Path userDir(String userId) {
+        return importRoot().resolve(StringUtils.defaultIfEmpty(userId, "anonymous").replaceAll("[^A-Za-z0-9_-]", "_"));
+    }
+
+    private void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("가져오기 임시 파일 삭제 실패: " + path, e);
+        }
+    }
+}
@@ -0,0 +1,250 @@
+package com.klid.webapp.common.file.service;
+
+import com.klid.webapp.common.exception.UploadRejectedException;
+import com.klid.webapp.common.file.dto.FileBlobDto;
+import com.klid.webapp.common.file.dto.UploadedFileDto;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.fileupload.FileItemIterator;
+import org.apache.commons.fileupload.FileItemStream;
+import org.apache.commons.fileupload.FileUpload;
+import org.apache.commons.fileupload.FileUploadException;
+import org.apache.commons.fileupload.UploadContext;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * multipart 요청 스트리밍 업로드
+ * - 컨테이너 임시 파일을 거치지 않고 요청 본문을 blob 저장소로 한 번에 기록
+ * - 기록하면서 SHA-256 계산, 확장자/크기 제약 위반 시 즉시 중단
+ * - uploadId 별 진행률 제공
+ *
+ * 요청 본문을 직접 읽으므로 호출 측은 request.getParameter / getParts 를 먼저 호출하면 안 된다.
+ * (쿼리스트링 값은 {@link #getQueryParam(HttpServletRequest, String)} 사용)
+ */
+@Service("multipartStreamService")
+@Slf4j
+public class MultipartStreamService {
+
+    public static final String UPLOAD_ID_HEADER = "X-Upload-Id";
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final long PROGRESS_EXPIRE_MILLIS = 10 * 60 * 1000L;
+
+    private final FileBlobService fileBlobService;
+    private final Map<String, UploadProgress> progressMap = new ConcurrentHashMap<>();
+
+    public MultipartStreamService(final FileBlobService fileBlobService) {
+        this.fileBlobService = fileBlobService;
+    }
+
+    /**
+     * fieldName 에 해당하는 파일 파트를 정책에 맞춰 저장소에 기록한다.
+     *
+     * @param progressKey 진행률 조회 키 (null 이면 추적하지 않음)
+     * @throws UploadRejectedException 확장자/크기 제약 위반
+     */
+    public List<UploadedFileDto> receive(HttpServletRequest request, String fieldName, UploadPolicy policy, String progressKey) throws IOException {
+        final List<UploadedFileDto> files = new ArrayList<>();
+        final FileUpload upload = new FileUpload();
+        upload.setHeaderEncoding(StandardCharsets.UTF_8.name());
+
+        UploadProgress progress = null;
+        if (progressKey != null) {
+            purgeExpiredProgress();
+            progress = new UploadProgress();
+            progressMap.put(progressKey, progress);
+            final UploadProgress p = progress;
+            upload.setProgressListener((bytesRead, contentLength, items) -> p.update(bytesRead, contentLength));
+        }
+
+        try {
+            final FileItemIterator iterator = upload.getItemIterator(new JakartaRequestContext(request));
+            while (iterator.hasNext()) {
+                final FileItemStream item = iterator.next();
+                if (item.isFormField() || !fieldName.equals(item.getFieldName()) || StringUtils.isEmpty(item.getName())) {
+                    continue;
+                }
+                final String originalFileName = baseName(item.getName());
+                if (!policy.isAllowedFileName(originalFileName)) {
+                    throw new UploadRejectedException("허용되지 않은 확장자입니다. : " + originalFileName);
+                }
+                try (InputStream in = item.openStream()) {
+                    files.add(write(in, originalFileName, fieldName, policy));
+                }
+            }
+        } catch (FileUploadException e) {
+            releaseAll(files);
+            throw new IOException(e.getMessage(), e);
+        } catch (IOException | RuntimeException e) {
+            //이미 저장한 파일은 첨부파일로 등록되지 않으므로 늘린 참조 수를 되돌림
+            releaseAll(files);
+            throw e;
+        } finally {
+            if (progress != null) {
+                progress.finish();
+            }
+        }
+        return files;
+    }
+
+    /**
+     * 본문을 읽지 않고 쿼리스트링에서 파라미터 조회
+     */
+    public String getQueryParam(HttpServletRequest request, String name) {
+        final String query = request.getQueryString();
+        if (StringUtils.isEmpty(query)) {
+            return null;
+        }
+        for (String pair : query.split("&")) {
+            final int eq = pair.indexOf('=');
+            final String key = URLDecoder.decode(eq < 0 ? pair : pair.substring(0, eq), StandardCharsets.UTF_8);
+            if (key.equals(name)) {
+                return eq < 0 ? StringUtils.EMPTY : URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 업로드 진행률 (bytesRead, contentLength, percent, done)
+     */
+    public Map<String, Object> getProgress(String progressKey) {
+        final UploadProgress progress = progressMap.get(progressKey);
+        final Map<String, Object> result = new HashMap<>();
+        if (progress == null) {
+            result.put("exists", false);
+            return result;
+        }
+        result.put("exists", true);
+        result.put("bytesRead", progress.bytesRead);
+        result.put("contentLength", progress.contentLength);
+        result.put("percent", progress.contentLength > 0 ? (int) (progress.bytesRead * 100 / progress.contentLength) : 0);
+        result.put("done", progress.done);
+        return result;
+    }
+
+    private UploadedFileDto write(InputStream in, String originalFileName, String fieldName, UploadPolicy policy) throws IOException {
+        final Path temp = fileBlobService.createTemp();
+        try {
+            final MessageDigest digest = fileBlobService.sha256();
+            final byte[] buffer = new byte[BUFFER_SIZE];
+            long size = 0;
+            try (OutputStream out = Files.newOutputStream(temp, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                int read;
+                while ((read = in.read(buffer)) != -1) {
+                    size += read;
+                    if (size > policy.getMaxFileSize()) {
+                        throw new UploadRejectedException("업로드 가능한 파일 크기를 초과했습니다. : " + originalFileName);
+                    }
+                    digest.update(buffer, 0, read);
+                    out.write(buffer, 0, read);
+                }
+            }
+
+            final FileBlobDto blob = fileBlobService.commit(temp, HexFormat.of().formatHex(digest.digest()), size);
+
+            final UploadedFileDto file = new UploadedFileDto();
+            file.setFieldName(fieldName);
+            file.setOriginalFileName(originalFileName);
+            file.setFileType(originalFileName.substring(originalFileName.lastIndexOf(".") + 1));
+            file.setFileSize(size);
+            file.setHash(blob.getHash());
+            file.setBlobPath(blob.getBlobPath());
+            return file;
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private void releaseAll(List<UploadedFileDto> files) {
+        for (UploadedFileDto file : files) {
+            try {
+                fileBlobService.release(file.getHash());
+            } catch (RuntimeException e) {
+                log.error("업로드 실패 후 blob 참조 해제 실패. hash: " + file.getHash(), e);
+            }
+        }
+    }
+
+    /** IE 등에서 전체 경로로 전달되는 파일명 처리 */
+    private String baseName(String name) {
+        final int idx = Math.max(name.lastIndexOf('/'), name.lastIndexOf('\\'));
+        return idx < 0 ? name : name.substring(idx + 1);
+    }
+
+    private void purgeExpiredProgress() {
+        final long now = System.currentTimeMillis();
+        progressMap.values().removeIf(p -> now - p.updated > PROGRESS_EXPIRE_MILLIS);
+    }
+
+    private static class UploadProgress {
+        private volatile long bytesRead;
+        private volatile long contentLength = -1;
+        private volatile boolean done;
+        private volatile long updated = System.currentTimeMillis();
+
+        void update(long bytesRead, long contentLength) {
+            this.bytesRead = bytesRead;
+            this.contentLength = contentLength;
+            this.updated = System.currentTimeMillis();
+        }
+
+        void finish() {
+            this.done = true;
+            this.updated = System.currentTimeMillis();
+        }
+    }
+
+    /**
+     * commons-fileupload 스트리밍 API 를 jakarta 서블릿 요청에 연결
+     */
+    private static class JakartaRequestContext implements UploadContext {
+        private final HttpServletRequest request;
+
+        JakartaRequestContext(HttpServletRequest request) {
+            this.request = request;
+        }
+
+        @Override
+        public String getCharacterEncoding() {
+            return request.getCharacterEncoding();
+        }
+
+        @Override
+        public String getContentType() {
+            return request.getContentType();
+        }
+
+        @Override
+        @Deprecated
+        public int getContentLength() {
+            return request.getContentLength();
+        }
+
+        @Override
+        public long contentLength() {
+            return request.getContentLengthLong();
+        }
+
+        @Override
+        public InputStream getInputStream() throws IOException {
+            return request.getInputStream();
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.klid.webapp.common.file.service;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 업로드 유형별 크기/확장자 제약
+ * - allowedExtensions 가 비어 있으면 확장자 제한 없음
+ */
+public class UploadPolicy {
+
+    private final long maxFileSize;
+    private final Set<String> allowedExtensions;
+
+    private UploadPolicy(long maxFileSize, Set<String> allowedExtensions) {
+        this.maxFileSize = maxFileSize;
+        this.allowedExtensions = allowedExtensions;
+    }
+
+    public static UploadPolicy of(long maxFileSize) {
+        return new UploadPolicy(maxFileSize, Collections.emptySet());
+    }
+
+    /**
+     * @param allowedExtensions 허용 확장자 (쉼표/공백 구분, 게시판관리 FILE_EXT 형식)
+     */
+    public static UploadPolicy of(long maxFileSize, String allowedExtensions) {
+        final Set<String> extensions = new HashSet<>();
+        if (StringUtils.isNotBlank(allowedExtensions)) {
+            for (String ext : allowedExtensions.split("[,;|\\s]+")) {
+                final String e = StringUtils.removeStart(ext.trim(), ".").toLowerCase(Locale.ROOT);
+                if (!e.isEmpty()) {
+                    extensions.add(e);
+                }
+            }
+        }
+        return new UploadPolicy(maxFileSize, extensions);
+    }
+
+    public long getMaxFileSize() {
+        return maxFileSize;
+    }
+
+    public boolean isAllowedFileName(String fileName) {
+        if (allowedExtensions.isEmpty()) {
+            return true;
+        }
+        final String ext = extension(fileName);
+        return !ext.isEmpty() && allowedExtensions.contains(ext);
+    }
+
+    public static String extension(String fileName) {
+        if (fileName == null || fileName.lastIndexOf('.') < 0) {
+            return StringUtils.EMPTY;
+        }
+        return fileName.substring(fileName.lastIndexOf('.') + 1).toLowerCase(Locale.ROOT);
+    }
+}
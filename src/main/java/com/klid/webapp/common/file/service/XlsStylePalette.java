@@ -0,0 +1,122 @@
+package com.klid.webapp.common.file.service;
+
+import org.apache.poi.hssf.record.PaletteRecord;
+import org.apache.poi.hssf.usermodel.HSSFCellStyle;
+import org.apache.poi.hssf.usermodel.HSSFPalette;
+import org.apache.poi.hssf.usermodel.HSSFWorkbook;
+import org.apache.poi.hssf.util.HSSFColor;
+import org.apache.poi.ss.usermodel.BorderStyle;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.FillPatternType;
+import org.apache.poi.ss.usermodel.Font;
+import org.apache.poi.ss.usermodel.HorizontalAlignment;
+
+import java.awt.Color;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 엑셀(xls) 셀 스타일 모음
+ * - 같은 속성(Style)의 셀 스타일/글꼴은 통합 문서마다 한 번만 만들어 같이 쓴다.
+ *   (xls 는 통합 문서당 셀 스타일 개수에 제한이 있으므로 셀/표마다 새로 만들지 않는다)
+ * - 셀 스타일은 통합 문서에 속하므로 통합 문서마다 하나씩 만들어 사용한다. 스레드 간에 공유하지 않는다.
+ */
+public class XlsStylePalette {
+
+    /**
+     * 셀 스타일 속성
+     *
+     * @param alignment 가로 정렬
+     * @param bold 굵은 글꼴
+     * @param fillColor 배경색 (#RRGGBB, 없으면 null)
+     * @param border 가는 테두리
+     */
+    public record Style(HorizontalAlignment alignment, boolean bold, String fillColor, boolean border) {
+    }
+
+    private final HSSFWorkbook workbook;
+    private final Map<Style, CellStyle> styles = new HashMap<>();
+    private final Map<String, Short> colors = new HashMap<>();
+    private Font boldFont;
+
+    public XlsStylePalette(HSSFWorkbook workbook) {
+        this.workbook = workbook;
+    }
+
+    public CellStyle get(Style style) {
+        return styles.computeIfAbsent(style, this::create);
+    }
+
+    private CellStyle create(Style style) {
+        final CellStyle cellStyle = workbook.createCellStyle();
+        cellStyle.setAlignment(style.alignment());
+        if (style.bold()) {
+            if (boldFont == null) {
+                boldFont = workbook.createFont();
+                boldFont.setBold(true);
+            }
+            cellStyle.setFont(boldFont);
+        }
+        if (style.fillColor() != null) {
+            cellStyle.setFillForegroundColor(color(style.fillColor()));
+            cellStyle.setFillPattern(FillPatternType.SOLID_FOREGROUND);
+        }
+        if (style.border()) {
+            cellStyle.setBorderTop(BorderStyle.THIN);
+            cellStyle.setBorderBottom(BorderStyle.THIN);
+            cellStyle.setBorderLeft(BorderStyle.THIN);
+            cellStyle.setBorderRight(BorderStyle.THIN);
+        }
+        return cellStyle;
+    }
+
+    /**
+     * 색상 색인. 팔레트에 없는 색상은 통합 문서에서 쓰지 않는 색인에 하나씩 등록한다.
+     *
+     * @throws IllegalStateException 등록할 수 있는 색인이 없는 경우
+     */
+    private short color(String hex) {
+        return colors.computeIfAbsent(hex, key -> {
+            final Color awtColor = Color.decode(key);
+            final byte r = (byte) awtColor.getRed();
+            final byte g = (byte) awtColor.getGreen();
+            final byte b = (byte) awtColor.getBlue();
+            final HSSFPalette palette = workbook.getCustomPalette();
+            final HSSFColor poiColor = palette.findColor(r, g, b);
+            if (poiColor != null) {
+                return poiColor.getIndex();
+            }
+            final short index = freeIndex();
+            palette.setColorAtIndex(index, r, g, b);
+            return index;
+        });
+    }
+
+    /**
+     * 셀 스타일/글꼴과 이 객체가 등록한 색상이 쓰지 않는 색인 (뒤에서부터)
+     */
+    private short freeIndex() {
+        final Set<Short> used = new HashSet<>(colors.values());
+        for (int i = 0; i < workbook.getNumCellStyles(); i++) {
+            final HSSFCellStyle cellStyle = workbook.getCellStyleAt(i);
+            used.add(cellStyle.getFillForegroundColor());
+            used.add(cellStyle.getFillBackgroundColor());
+            used.add(cellStyle.getTopBorderColor());
+            used.add(cellStyle.getBottomBorderColor());
+            used.add(cellStyle.getLeftBorderColor());
+            used.add(cellStyle.getRightBorderColor());
+        }
+        for (int i = 0; i < workbook.getNumberOfFonts(); i++) {
+            used.add(workbook.getFontAt(i).getColor());
+        }
+        for (int index = PaletteRecord.FIRST_COLOR_INDEX + PaletteRecord.STANDARD_PALETTE_SIZE - 1;
+             index >= PaletteRecord.FIRST_COLOR_INDEX; index--) {
+            if (!used.contains((short) index)) {
+                return (short) index;
+            }
+        }
+        throw new IllegalStateException("엑셀 팔레트에 색상을 더 등록할 수 없습니다.");
+    }
+}
@@ -0,0 +1,70 @@
+package com.klid.webapp.common.file.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.poi.hssf.usermodel.HSSFWorkbook;
+import org.springframework.stereotype.Service;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 보고서 엑셀(xls) 템플릿 저장소
+ * - 템플릿은 처음 한 번 읽어서 올바른 통합 문서인지 확인한 뒤 메모리에 두고, 요청마다 메모리에서 새 통합 문서를 만들어 준다.
+ * - 조회 시 파일 크기/수정 시각을 확인해 바뀐 템플릿은 다시 읽는다.
+ * - 요청마다 독립된 통합 문서이므로 호출 측은 받은 객체를 자유롭게 수정해도 된다. 사용 후 close 한다.
+ */
+@Service
+@Slf4j
+public class XlsTemplateRegistry {
+
+    private final Map<Path, TemplateEntry> templates = new ConcurrentHashMap<>();
+
+    /**
+     * 템플릿의 독립적인 복사본을 반환한다.
+     *
+     * @param filepath 템플릿 파일 경로
+     */
+    public HSSFWorkbook get(String filepath) throws IOException {
+        final Path path = Paths.get(filepath).toAbsolutePath().normalize();
+        final long length = Files.size(path);
+        final long lastModified = Files.getLastModifiedTime(path).toMillis();
+
+        final TemplateEntry entry;
+        try {
+            //같은 템플릿을 동시에 여러 번 읽지 않도록 compute 안에서 읽음
+            entry = templates.compute(path, (key, cached) -> {
+                if (cached != null && cached.length() == length && cached.lastModified() == lastModified) {
+                    return cached;
+                }
+                try {
+                    log.debug("XLS 템플릿 로드 : {}", key);
+                    final byte[] content = Files.readAllBytes(key);
+                    //잘못된 파일은 캐시하지 않음
+                    new HSSFWorkbook(new ByteArrayInputStream(content)).close();
+                    return new TemplateEntry(length, lastModified, content);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        return new HSSFWorkbook(new ByteArrayInputStream(entry.content()));
+    }
+
+    /**
+     * 캐시된 템플릿을 모두 비운다.
+     */
+    public void clear() {
+        templates.clear();
+    }
+
+    private record TemplateEntry(long length, long lastModified, byte[] content) {
+    }
+}
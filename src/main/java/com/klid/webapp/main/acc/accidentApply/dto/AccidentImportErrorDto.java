@@ -0,0 +1,33 @@
+package com.klid.webapp.main.acc.accidentApply.dto;
+
+/**
+ * 사고 가져오기(csv/xls/xlsx) 행별 오류
+ */
+public class AccidentImportErrorDto {
+	private int rowNum;			//파일 기준 행 번호 (헤더 = 1)
+	private String message;		//오류 내용
+
+	public AccidentImportErrorDto() {
+	}
+
+	public AccidentImportErrorDto(int rowNum, String message) {
+		this.rowNum = rowNum;
+		this.message = message;
+	}
+
+	public int getRowNum() {
+		return rowNum;
+	}
+
+	public void setRowNum(int rowNum) {
+		this.rowNum = rowNum;
+	}
+
+	public String getMessage() {
+		return message;
+	}
+
+	public void setMessage(String message) {
+		this.message = message;
+	}
+}
@@ -0,0 +1,55 @@
+package com.klid.webapp.main.acc.accidentApply.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 사고 가져오기(csv/xls/xlsx) 집계 결과
+ */
+public class AccidentImportResultDto {
+	private String[] firstRow;		//신고 양식을 채울 첫 번째 정상 행
+	private int rowCount;			//정상 행 수
+	private long countSum;			//정상 행 탐지횟수 합계
+	private int errorCount;			//오류 행 수
+	private List<AccidentImportErrorDto> errors = new ArrayList<>();	//오류 행 목록 (최대 건수까지만 보관)
+
+	public String[] getFirstRow() {
+		return firstRow;
+	}
+
+	public void setFirstRow(String[] firstRow) {
+		this.firstRow = firstRow;
+	}
+
+	public int getRowCount() {
+		return rowCount;
+	}
+
+	public void setRowCount(int rowCount) {
+		this.rowCount = rowCount;
+	}
+
+	public long getCountSum() {
+		return countSum;
+	}
+
+	public void setCountSum(long countSum) {
+		this.countSum = countSum;
+	}
+
+	public int getErrorCount() {
+		return errorCount;
+	}
+
+	public void setErrorCount(int errorCount) {
+		this.errorCount = errorCount;
+	}
+
+	public List<AccidentImportErrorDto> getErrors() {
+		return errors;
+	}
+
+	public void setErrors(List<AccidentImportErrorDto> errors) {
+		this.errors = errors;
+	}
+}
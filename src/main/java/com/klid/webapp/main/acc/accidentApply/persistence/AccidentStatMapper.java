@@ -0,0 +1,45 @@
+package com.klid.webapp.main.acc.accidentApply.persistence;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.ibatis.annotations.Param;
+import org.springframework.stereotype.Repository;
+
+import com.klid.webapp.main.acc.accidentApply.dto.AccidentApplyDto;
+
+/**
+ * 사고 통계 집계 테이블(TBZLEDGE_STAT_HH / TBZLEDGE_STAT_DD)
+ */
+@Repository("accidentStatMapper")
+public interface AccidentStatMapper {
+
+	/** 사고(다중이관 사고 포함)의 접수 시간(yyyymmddhh) */
+	List<String> selectIncidentHours(@Param("inciNos") Collection<String> inciNos);
+
+	/** 원장의 접수 일자 범위 (minDd, maxDd) */
+	Map<String, String> selectLedgerRange();
+
+	int countHourly();
+
+	void lockRollup();
+
+	int deleteHourly(@Param("fromHh") String fromHh, @Param("toHh") String toHh);
+
+	int insertHourly(@Param("fromHh") String fromHh, @Param("toHh") String toHh);
+
+	int deleteDaily(@Param("fromDd") String fromDd, @Param("toDd") String toDd);
+
+	int insertDaily(@Param("fromDd") String fromDd, @Param("toDd") String toDd);
+
+	List<AccidentApplyDto> selectTodayStatus(Map<String, Object> paramMap);
+
+	List<AccidentApplyDto> selectYearStatus(Map<String, Object> paramMap);
+
+	List<AccidentApplyDto> selectPeriodStatus(Map<String, Object> paramMap);
+
+	List<AccidentApplyDto> selectInstStatus(Map<String, Object> paramMap);
+
+	List<AccidentApplyDto> selectAccdTypeStatus(Map<String, Object> paramMap);
+}
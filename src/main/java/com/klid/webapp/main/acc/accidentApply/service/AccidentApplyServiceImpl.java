@@ -1,18 +1,16 @@
 package com.klid.webapp.main.acc.accidentApply.service;
 
 import com.klid.webapp.common.*;
-import com.klid.webapp.common.controller.FileController;
+import com.klid.webapp.common.file.dto.StagedFileDto;
 import com.klid.webapp.common.file.persistence.FileUploadMapper;
+import com.klid.webapp.common.file.service.ImportStagingService;
 import com.klid.webapp.main.acc.accidentApply.persistence.AccidentApplyMapper;
+import com.klid.webapp.main.acc.accidentApply.persistence.AccidentStatMapper;
 import com.klid.webapp.main.acc.accidentApply.dto.AccidentApplyDto;
-import com.opencsv.CSVReader;
-import com.opencsv.CSVReaderBuilder;
+import com.klid.webapp.main.acc.accidentApply.dto.AccidentImportResultDto;
 import com.klid.common.SEED_KISA256;
-import org.apache.poi.hssf.usermodel.HSSFSheet;
-import org.apache.poi.hssf.usermodel.HSSFWorkbook;
-import org.apache.poi.ss.usermodel.Sheet;
-import org.apache.poi.xssf.usermodel.XSSFSheet;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import com.klid.webapp.webdash.cache.WebDashCache;
+import com.klid.webapp.webdash.cache.WebDashCache.Topic;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
@@ -43,6 +41,21 @@ public class AccidentApplyServiceImpl extends MsgService implements AccidentAppl
 	@Resource(name = "fileUploadMapper")
 	public FileUploadMapper fileUploadMapper;
 
+	@Resource(name = "importStagingService")
+	private ImportStagingService importStagingService;
+
+	@Resource(name = "accidentImportEngine")
+	private AccidentImportEngine accidentImportEngine;
+
+	@Resource(name = "webDashCache")
+	private WebDashCache webDashCache;
+
+	@Resource(name = "accidentStatMapper")
+	private AccidentStatMapper statMapper;
+
+	@Resource(name = "accidentStatRollupService")
+	private AccidentStatRollupService statRollupService;
+
 	/** 신고 목록	 */
 	@Override
 	public ReturnData getAccidentApplyList(Criterion criterion){
@@ -149,6 +162,8 @@ public class AccidentApplyServiceImpl extends MsgService implements AccidentAppl
 				mapper.addTbzHomepv(criterion.getCondition());
 			}
 		}
+		statRollupService.touch(inciNoOf(criterion, "inciNo"));
+		webDashCache.invalidate(Topic.INCIDENT);
 		return new ReturnData(criterion.getValue("inciNo"));
 	}
 
@@ -197,13 +212,19 @@ public class AccidentApplyServiceImpl extends MsgService implements AccidentAppl
 				mapper.updateTbzHomepv(criterion.getCondition());
 			}
 		}
+		statRollupService.touch(inciNoOf(criterion, "inciNo"));
+		webDashCache.invalidate(Topic.INCIDENT);
 		return new ReturnData(criterion.getCondition());
 	}
 
 	/** 신고 삭제 */
 	@Override
 	public ReturnData deleteAccidentApply(Criterion criterion) {
+		//삭제 후에는 접수 시간을 알 수 없으므로 미리 읽어 둠
+		Set<String> statHours = statRollupService.hoursOf(inciNoOf(criterion, "inciNo"));
 		mapper.deleteAccidentApply(criterion.getCondition());
+		statRollupService.refresh(statHours);
+		webDashCache.invalidate(Topic.INCIDENT);
 		return new ReturnData(criterion.getCondition());
 	}
 
@@ -252,6 +273,8 @@ public class AccidentApplyServiceImpl extends MsgService implements AccidentAppl
 	@Override
 	public ReturnData updateAccidentProcess(Criterion criterion){
 		int siGunUpdateCnt = 0; //다중 이관 여부 체크 카운트
+		String statInciNo = inciNoOf(criterion, "inciNo");
+		String statInciNoMulti = inciNoOf(criterion, "inciNoMulti");
 
 		mapper.addAccidentHistory(criterion.getCondition());
 
@@ -308,6 +331,8 @@ public class AccidentApplyServiceImpl extends MsgService implements AccidentAppl
 			}
 		}
 
+		statRollupService.touch(statInciNo, statInciNoMulti);
+		webDashCache.invalidate(Topic.INCIDENT);
 		return new ReturnData(criterion.getCondition());
 		//return new ReturnData(criterion.getValue("inciNo"));
 	}
@@ -333,7 +358,8 @@ public class AccidentApplyServiceImpl extends MsgService implements AccidentAppl
 
 		mapper.updateAccidentProcess(criterion.getCondition());
 
-
+		statRollupService.touch(inciNoOf(criterion, "inciNo"));
+		webDashCache.invalidate(Topic.INCIDENT);
 		return new ReturnData(criterion.getCondition());
 	}
 
@@ -349,11 +375,11 @@ public class AccidentApplyServiceImpl extends MsgService implements AccidentAppl
 
 	@Override
 	public ReturnData importEml(Criterion criterion) {
+		String importToken = (String) criterion.getValue(ImportStagingService.TOKEN_PARAM);
+		StagedFileDto staged = importStagingService.resolve(importToken, SessionManager.getUser().getUserId());
 		try {
 
-			String filename = FileController.emlcsvFilePath+"\\"+FileController.emlcsvFileName;
-
-			File emlFile = new File(filename);
+			File emlFile = staged.getPath().toFile();
 			Properties props = System.getProperties();
 
 			Session mailSession = Session.getDefaultInstance(props, null);
@@ -361,6 +387,7 @@ public class AccidentApplyServiceImpl extends MsgService implements AccidentAppl
 			InputStream inputStream = null;
 			inputStream = new FileInputStream(emlFile);
 			MimeMessage message = new MimeMessage(mailSession, inputStream);
+			inputStream.close();
 
 			StringBuilder builder = new StringBuilder();
 			builder.append(message.getSubject()+"\n");
@@ -424,6 +451,8 @@ public class AccidentApplyServiceImpl extends MsgService implements AccidentAppl
 			e.printStackTrace();
 		} catch (IOException e) {
 			e.printStackTrace();
+		} finally {
+			importStagingService.discard(importToken);
 		}
 
 		return new ReturnData();
@@ -432,16 +461,33 @@ public class AccidentApplyServiceImpl extends MsgService implements AccidentAppl
 	@Override
 	public ReturnData importExcel(Criterion criterion) {
 
-		BufferedReader br = null;
-		String filename = FileController.emlcsvFilePath+"\\"+FileController.emlcsvFileName;
+		String importToken = (String) criterion.getValue(ImportStagingService.TOKEN_PARAM);
+		StagedFileDto staged = importStagingService.resolve(importToken, SessionManager.getUser().getUserId());
 
-		String fileType = FileController.emlcsvExtName;
+		String fileType = staged.getFileType();
 
 		try {
 
 			Map<String, Object> resultMap = new HashMap<>();
 			Map<String, Object> requestMap = new HashMap<>();
 
+			if(!fileType.equals("csv") && !fileType.equals("xls") && !fileType.equals("xlsx")){
+				resultMap.put("fileType",fileType);
+				return new ReturnData(resultMap);
+			}
+
+			//파일 전체를 스트리밍으로 검증/집계하고 첫 번째 정상 행으로 신고 양식을 채운다.
+			AccidentImportResultDto imported = accidentImportEngine.run(staged.getPath(), fileType);
+			resultMap.put("importRowCount",imported.getRowCount());
+			resultMap.put("importErrorCount",imported.getErrorCount());
+			resultMap.put("importErrors",imported.getErrors());
+
+			String[] firstRow = imported.getFirstRow();
+			if(firstRow == null){
+				resultMap.put("fileType",fileType);
+				return new ReturnData(resultMap);
+			}
+
 			if(fileType.equals("csv")){ //csv인경우 - 5.0
 				// 0 - mgr_time
 				// 1 - event_time
@@ -460,30 +506,7 @@ public class AccidentApplyServiceImpl extends MsgService implements AccidentAppl
 				// 14 - note
 				// 15 - esm_ser_no
 
-				//UTF-8
-				CSVReader csvReader = new CSVReaderBuilder(new InputStreamReader(new FileInputStream(filename), "UTF-8"))
-						.withSkipLines(1)
-						.build();
-				List<String[]> allData = csvReader.readAll();
-
-				String[] firstRow = allData.get(0);
-
-				int sum = 0;
-				//카운트
-				for( int i=0; i<allData.size(); i++){
-					String counts = "";
-
-					if(allData.get(i)[12].equals("")){
-						counts = "1";
-					}
-					else if(allData.get(i)[12].equals("-")){
-						counts = "1";
-					}
-					else{
-						counts = allData.get(i)[12];
-					}
-					sum = sum+Integer.parseInt(counts);
-				}
+				long sum = imported.getCountSum();
 
 				//사고 일자
 				String mgr_time = firstRow[0];
@@ -651,13 +674,11 @@ public class AccidentApplyServiceImpl extends MsgService implements AccidentAppl
 				builder.append(" - 출발지 : "+s_ip+"\n");
 				builder.append(" - 목적지 : "+d_ip+"\n");
 				builder.append(" - 탐지명 : "+attack+"\n");
-				builder.append(" - 탐지횟수 : "+allData.size()+"건 / "+sum+"회\n");
+				builder.append(" - 탐지횟수 : "+imported.getRowCount()+"건 / "+sum+"회\n");
 
 				resultMap.put("inciDclCont",builder.toString());
 				resultMap.put("inciDttNm",attack);
-			}else if(fileType.equals("xls")){
-				HSSFWorkbook workbook = new HSSFWorkbook(new FileInputStream(filename));
-				HSSFSheet sheet = workbook.getSheetAt(0);
+			}else{
 				// 0 - mgr_time
 				// 1 - event_time
 				// 2 - origin_name
@@ -673,13 +694,7 @@ public class AccidentApplyServiceImpl extends MsgService implements AccidentAppl
 				// 12 - Method
 				// 13 - esm_ser_no
 
-				resultMap = commonExcelImport(resultMap, sheet);
-
-			}else if(fileType.equals("xlsx")){
-				XSSFWorkbook workbook = new XSSFWorkbook(new FileInputStream(new File(filename)));
-				XSSFSheet sheet = workbook.getSheetAt(0);
-
-				resultMap = commonExcelImport(resultMap, sheet);
+				resultMap = commonExcelImport(resultMap, firstRow, imported.getRowCount(), imported.getCountSum());
 			}
 
 			resultMap.put("fileType",fileType);
@@ -688,49 +703,23 @@ public class AccidentApplyServiceImpl extends MsgService implements AccidentAppl
 		} catch (Exception e) {
 			e.printStackTrace();
 		} finally {
-			if(br != null){
-				try {
-					br.close();
-				} catch (IOException e) {
-					e.printStackTrace();
-				}
-			}
+			importStagingService.discard(importToken);
 		}
 		return new ReturnData();
 	}
 
-	public Map<String, Object> commonExcelImport(Map<String, Object> resultMap,Sheet sheet){
+	public Map<String, Object> commonExcelImport(Map<String, Object> resultMap, String[] firstRow, int rowCount, long sum){
 
 		Map<String, Object> requestMap = new HashMap<>();
 
-		int rows = sheet.getPhysicalNumberOfRows();
-
-		String mgr_time = (sheet.getRow(1).getCell(0)).getStringCellValue();
-		String event_time = (sheet.getRow(1).getCell(1)).getStringCellValue();
-		String origin_name = (sheet.getRow(1).getCell(2)).getStringCellValue();
-		String origin = (sheet.getRow(1).getCell(3)).getStringCellValue();
-		String s_ip = (sheet.getRow(1).getCell(4)).getStringCellValue();
-		String d_ip = (sheet.getRow(1).getCell(6)).getStringCellValue();
-//		double count = (sheet.getRow(1).getCell(8)).getNumericCellValue();
-		String direction = (sheet.getRow(1).getCell(9)).getStringCellValue();
-		String Method = (sheet.getRow(1).getCell(12)).getStringCellValue();
-
-		int sum = 0;
-
-		//카운트
-		for( int i=1; i<rows; i++){
-			String counts = "";
-			try {
-				counts = sheet.getRow(i).getCell(8).getStringCellValue();
-			}catch (NullPointerException e){
-				e.printStackTrace();
-				counts="1";
-			}catch (IllegalStateException e){
-				e.printStackTrace();
-				counts="1";
-			}
-			sum = sum+Integer.parseInt(counts);
-		}
+		String mgr_time = firstRow[0];
+		String event_time = firstRow[1];
+		String origin_name = firstRow[2];
+		String origin = firstRow[3];
+		String s_ip = firstRow[4];
+		String d_ip = firstRow[6];
+		String direction = firstRow[9];
+		String Method = firstRow[12];
 
 		SimpleDateFormat dt = new SimpleDateFormat("yyyyyMMdd HHmmss");
 		if(event_time.equals("")){
@@ -873,7 +862,7 @@ public class AccidentApplyServiceImpl extends MsgService implements AccidentAppl
 		builder.append(" - 출발지 : "+s_ip+"\n");
 		builder.append(" - 목적지 : "+d_ip+"\n");
 		builder.append(" - 탐지명 : "+Method+"\n");
-		builder.append(" - 탐지횟수 : "+(rows-1)+"건 / "+sum+"회\n");
+		builder.append(" - 탐지횟수 : "+rowCount+"건 / "+sum+"회\n");
 
 		resultMap.put("inciDclCont",builder.toString());
 		resultMap.put("inciDttNm",Method);
@@ -926,26 +915,41 @@ public class AccidentApplyServiceImpl extends MsgService implements AccidentAppl
 
 	@Override
 	public ReturnData getTodayStatus(Criterion criterion) {
+		if(statRollupService.isReady()){
+			return new ReturnData(statMapper.selectTodayStatus(criterion.getCondition()));
+		}
 		return new ReturnData(mapper.selectTodayStatus(criterion.getCondition()));
 	}
 
 	@Override
 	public ReturnData getYearStatus(Criterion criterion) {
+		if(statRollupService.isReady()){
+			return new ReturnData(statMapper.selectYearStatus(criterion.getCondition()));
+		}
 		return new ReturnData(mapper.selectYearStatus(criterion.getCondition()));
 	}
 
 	@Override
 	public ReturnData getPeriodStatus(Criterion criterion) {
+		if(statRollupService.isReady()){
+			return new ReturnData(statMapper.selectPeriodStatus(criterion.getCondition()));
+		}
 		return new ReturnData(mapper.selectPeriodStatus(criterion.getCondition()));
 	}
 
 	@Override
 	public ReturnData getInstStatus(Criterion criterion) {
+		if(statRollupService.isReady()){
+			return new ReturnData(statMapper.selectInstStatus(criterion.getCondition()));
+		}
 		return new ReturnData(mapper.selectInstStatus(criterion.getCondition()));
 	}
 
 	@Override
 	public ReturnData getAccdTypeStatus(Criterion criterion) {
+		if(statRollupService.isReady()){
+			return new ReturnData(statMapper.selectAccdTypeStatus(criterion.getCondition()));
+		}
 		return new ReturnData(mapper.selectAccdTypeStatus(criterion.getCondition()));
 	}
 
@@ -1109,4 +1113,9 @@ public class AccidentApplyServiceImpl extends MsgService implements AccidentAppl
 		//return new ReturnData(userCount);
 		return new ReturnData(mapper.getInciMutiEndYn(criterion.getCondition()));
 	}
+
+	private static String inciNoOf(Criterion criterion, String key) {
+		Object inciNo = criterion.getValue(key);
+		return inciNo == null ? null : inciNo.toString();
+	}
 }
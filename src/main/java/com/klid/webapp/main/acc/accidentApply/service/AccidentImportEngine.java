@@ -0,0 +1,238 @@
+package com.klid.webapp.main.acc.accidentApply.service;
+
+import com.klid.webapp.main.acc.accidentApply.dto.AccidentImportErrorDto;
+import com.klid.webapp.main.acc.accidentApply.dto.AccidentImportResultDto;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.regex.Pattern;
+
+/**
+ * 사고 가져오기 처리
+ * - 파일을 스트리밍으로 읽어 CHUNK_SIZE 행 단위로 공용 작업 스레드(taskExecutor)에 넘겨 검증/집계
+ * - 처리 중인 chunk 수를 제한해 파일 크기와 관계없이 메모리 사용량 유지
+ * - 형식 오류 행은 전체를 실패시키지 않고 행 번호와 함께 오류 목록으로 반환
+ */
+@Service("accidentImportEngine")
+public class AccidentImportEngine {
+
+	static final int CHUNK_SIZE = 1000;
+	static final int MAX_ERRORS = 1000;
+	/** 동시에 처리 중인 chunk 수 */
+	static final int MAX_IN_FLIGHT = 8;
+
+	/** csv 컬럼 위치 (origin 2, s_ip 4, d_ip 6, count 12) */
+	static final Layout CSV_LAYOUT = new Layout(16, 2, 4, 6, 12);
+	/** xls/xlsx 컬럼 위치 (origin 3, s_ip 4, d_ip 6, count 8) */
+	static final Layout EXCEL_LAYOUT = new Layout(14, 3, 4, 6, 8);
+
+	private static final Pattern IPV4 = Pattern.compile("^((25[0-5]|2[0-4]\\d|1\\d\\d|[1-9]?\\d)\\.){3}(25[0-5]|2[0-4]\\d|1\\d\\d|[1-9]?\\d)$");
+
+	private final AsyncTaskExecutor executor;
+
+	public AccidentImportEngine(@Qualifier("taskExecutor") AsyncTaskExecutor executor) {
+		this.executor = executor;
+	}
+
+	static Layout layoutOf(String fileType) {
+		return "csv".equals(fileType) ? CSV_LAYOUT : EXCEL_LAYOUT;
+	}
+
+	/**
+	 * 파일 전체를 검증/집계한다.
+	 */
+	public AccidentImportResultDto run(Path file, String fileType) throws IOException {
+		final Layout layout = layoutOf(fileType);
+		final Semaphore inFlight = new Semaphore(MAX_IN_FLIGHT);
+		final Deque<Future<ChunkResult>> pending = new ArrayDeque<>();
+		final List<Row> chunk = new ArrayList<>(CHUNK_SIZE);
+		final AccidentImportResultDto result = new AccidentImportResultDto();
+
+		try {
+			AccidentImportReader.read(file, fileType, layout.width, (rowNum, cells) -> {
+				chunk.add(new Row(rowNum, cells));
+				if (chunk.size() == CHUNK_SIZE) {
+					pending.add(submit(new ArrayList<>(chunk), layout, inFlight));
+					chunk.clear();
+					//끝난 chunk 는 순서대로 바로 합쳐 결과를 쌓아 두지 않음
+					while (!pending.isEmpty() && pending.peek().isDone()) {
+						merge(result, pending.poll());
+					}
+				}
+			});
+			if (!chunk.isEmpty()) {
+				pending.add(submit(new ArrayList<>(chunk), layout, inFlight));
+			}
+			while (!pending.isEmpty()) {
+				merge(result, pending.poll());
+			}
+			return result;
+		} catch (ImportFailedException e) {
+			throw e.getCause();
+		} finally {
+			for (Future<ChunkResult> future : pending) {
+				future.cancel(true);
+			}
+		}
+	}
+
+	private Future<ChunkResult> submit(List<Row> rows, Layout layout, Semaphore inFlight) {
+		inFlight.acquireUninterruptibly();
+		try {
+			return executor.submit(() -> {
+				try {
+					return validate(rows, layout);
+				} finally {
+					inFlight.release();
+				}
+			});
+		} catch (RuntimeException e) {
+			inFlight.release();
+			throw e;
+		}
+	}
+
+	private void merge(AccidentImportResultDto result, Future<ChunkResult> future) {
+		final ChunkResult chunk;
+		try {
+			chunk = future.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new ImportFailedException(new IOException("가져오기 처리가 중단되었습니다.", e));
+		} catch (ExecutionException e) {
+			throw new ImportFailedException(new IOException(e.getCause().getMessage(), e.getCause()));
+		}
+		if (result.getFirstRow() == null) {
+			result.setFirstRow(chunk.firstRow);
+		}
+		result.setRowCount(result.getRowCount() + chunk.rowCount);
+		result.setCountSum(result.getCountSum() + chunk.countSum);
+		result.setErrorCount(result.getErrorCount() + chunk.errorCount);
+		for (AccidentImportErrorDto error : chunk.errors) {
+			if (result.getErrors().size() >= MAX_ERRORS) {
+				break;
+			}
+			result.getErrors().add(error);
+		}
+	}
+
+	/**
+	 * chunk 단위 검증. 정상 행만 행 수/탐지횟수 합계에 포함한다.
+	 */
+	static ChunkResult validate(List<Row> rows, Layout layout) {
+		final ChunkResult result = new ChunkResult();
+		for (Row row : rows) {
+			final String error = validateRow(row.cells, layout);
+			if (error != null) {
+				result.errorCount++;
+				if (result.errors.size() < MAX_ERRORS) {
+					result.errors.add(new AccidentImportErrorDto(row.rowNum, error));
+				}
+				continue;
+			}
+			if (result.firstRow == null) {
+				result.firstRow = row.cells;
+			}
+			result.rowCount++;
+			result.countSum += parseCount(row.cells[layout.count]);
+		}
+		return result;
+	}
+
+	private static String validateRow(String[] cells, Layout layout) {
+		if (cells.length <= layout.maxIndex()) {
+			return "컬럼 수가 부족합니다. (" + cells.length + "개)";
+		}
+		final String count = cells[layout.count].trim();
+		if (!count.isEmpty() && !count.equals("-")) {
+			try {
+				if (Integer.parseInt(count) < 0) {
+					return "탐지횟수가 올바르지 않습니다. : " + count;
+				}
+			} catch (NumberFormatException e) {
+				return "탐지횟수가 올바르지 않습니다. : " + count;
+			}
+		}
+		if (!isIp(cells[layout.sIp])) {
+			return "출발지 IP 형식이 올바르지 않습니다. : " + cells[layout.sIp];
+		}
+		if (!isIp(cells[layout.dIp])) {
+			return "목적지 IP 형식이 올바르지 않습니다. : " + cells[layout.dIp];
+		}
+		final String origin = cells[layout.origin].trim();
+		if (!origin.isEmpty() && !isIp(origin)) {
+			return "origin IP 형식이 올바르지 않습니다. : " + origin;
+		}
+		return null;
+	}
+
+	/** 빈 값, "-" 는 1회로 간주 */
+	static int parseCount(String value) {
+		final String count = value.trim();
+		if (count.isEmpty() || count.equals("-")) {
+			return 1;
+		}
+		return Integer.parseInt(count);
+	}
+
+	/** DNS 조회 없이 IPv4 리터럴만 허용 */
+	static boolean isIp(String value) {
+		return value != null && IPV4.matcher(value.trim()).matches();
+	}
+
+	static class Layout {
+		final int width, origin, sIp, dIp, count;
+
+		Layout(int width, int origin, int sIp, int dIp, int count) {
+			this.width = width;
+			this.origin = origin;
+			this.sIp = sIp;
+			this.dIp = dIp;
+			this.count = count;
+		}
+
+		int maxIndex() {
+			return Math.max(Math.max(origin, sIp), Math.max(dIp, count));
+		}
+	}
+
+	static class Row {
+		final int rowNum;
+		final String[] cells;
+
+		Row(int rowNum, String[] cells) {
+			this.rowNum = rowNum;
+			this.cells = cells;
+		}
+	}
+
+	/** 행 콜백 안에서 발생한 작업 오류를 read 밖으로 전달 */
+	private static class ImportFailedException extends RuntimeException {
+		ImportFailedException(IOException cause) {
+			super(cause);
+		}
+
+		@Override
+		public synchronized IOException getCause() {
+			return (IOException) super.getCause();
+		}
+	}
+
+	static class ChunkResult {
+		String[] firstRow;
+		int rowCount;
+		long countSum;
+		int errorCount;
+		final List<AccidentImportErrorDto> errors = new ArrayList<>();
+	}
+}
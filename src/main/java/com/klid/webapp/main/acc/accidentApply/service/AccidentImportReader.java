@@ -0,0 +1,167 @@
+package com.klid.webapp.main.acc.accidentApply.service;
+
+import com.opencsv.CSVReader;
+import com.opencsv.CSVReaderBuilder;
+import com.opencsv.exceptions.CsvValidationException;
+import org.apache.poi.hssf.usermodel.HSSFWorkbook;
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.poifs.filesystem.POIFSFileSystem;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.usermodel.XSSFComment;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+
+import javax.xml.parsers.ParserConfigurationException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Iterator;
+
+/**
+ * 사고 가져오기 파일을 한 행씩 읽어 전달 (첫 행은 헤더로 보고 건너뜀)
+ * - csv : 한 레코드씩 읽음 (readAll 로 전체를 올리지 않음)
+ * - xlsx : SAX 이벤트 방식으로 첫 번째 시트만 읽음 (워크북 전체를 메모리에 올리지 않음)
+ * - xls : 형식상 최대 65,536행이라 usermodel 로 읽되 셀 값만 행 단위로 전달
+ */
+public class AccidentImportReader {
+
+	/** 행 번호는 파일 기준 (헤더 = 1) */
+	public interface RowHandler {
+		void row(int rowNum, String[] cells);
+	}
+
+	private AccidentImportReader() {
+	}
+
+	public static void read(Path file, String fileType, int width, RowHandler handler) throws IOException {
+		switch (fileType) {
+			case "csv":
+				readCsv(file, handler);
+				break;
+			case "xlsx":
+				readXlsx(file, width, handler);
+				break;
+			case "xls":
+				readXls(file, width, handler);
+				break;
+			default:
+				throw new IOException("지원하지 않는 파일 형식입니다. : " + fileType);
+		}
+	}
+
+	private static void readCsv(Path file, RowHandler handler) throws IOException {
+		try (CSVReader csvReader = new CSVReaderBuilder(new InputStreamReader(Files.newInputStream(file), StandardCharsets.UTF_8))
+				.withSkipLines(1)
+				.build()) {
+			int rowNum = 1;
+			String[] cells;
+			while ((cells = csvReader.readNext()) != null) {
+				rowNum++;
+				if (cells.length == 1 && cells[0].isEmpty()) {
+					continue; //빈 줄
+				}
+				handler.row(rowNum, cells);
+			}
+		} catch (CsvValidationException e) {
+			throw new IOException(e.getMessage(), e);
+		}
+	}
+
+	private static void readXlsx(Path file, int width, RowHandler handler) throws IOException {
+		try (OPCPackage pkg = OPCPackage.open(file.toFile(), PackageAccess.READ)) {
+			final XSSFReader reader = new XSSFReader(pkg);
+			final ReadOnlySharedStringsTable strings = new ReadOnlySharedStringsTable(pkg);
+			final StylesTable styles = reader.getStylesTable();
+			final Iterator<InputStream> sheets = reader.getSheetsData();
+			if (!sheets.hasNext()) {
+				return;
+			}
+			try (InputStream sheet = sheets.next()) {
+				final XMLReader parser = XMLHelper.newXMLReader();
+				parser.setContentHandler(new XSSFSheetXMLHandler(styles, null, strings, new SheetRowCollector(width, handler), new DataFormatter(), false));
+				parser.parse(new InputSource(sheet));
+			}
+		} catch (OpenXML4JException | SAXException | ParserConfigurationException e) {
+			throw new IOException(e.getMessage(), e);
+		}
+	}
+
+	private static void readXls(Path file, int width, RowHandler handler) throws IOException {
+		final DataFormatter formatter = new DataFormatter();
+		try (POIFSFileSystem fs = new POIFSFileSystem(file.toFile(), true);
+			 HSSFWorkbook workbook = new HSSFWorkbook(fs.getRoot(), false)) {
+			final Sheet sheet = workbook.getSheetAt(0);
+			for (Row row : sheet) {
+				if (row.getRowNum() == 0) {
+					continue;
+				}
+				final String[] cells = new String[Math.max(width, row.getLastCellNum())];
+				Arrays.fill(cells, "");
+				for (Cell cell : row) {
+					cells[cell.getColumnIndex()] = formatter.formatCellValue(cell);
+				}
+				handler.row(row.getRowNum() + 1, cells);
+			}
+		}
+	}
+
+	/**
+	 * SAX 셀 이벤트를 행 배열로 모음. 비어 있는 셀은 "" 로 채운다.
+	 */
+	private static class SheetRowCollector implements XSSFSheetXMLHandler.SheetContentsHandler {
+		private final int width;
+		private final RowHandler handler;
+		private String[] cells;
+		private int nextColumn;
+		private boolean hasValue;
+
+		SheetRowCollector(int width, RowHandler handler) {
+			this.width = width;
+			this.handler = handler;
+		}
+
+		@Override
+		public void startRow(int rowNum) {
+			cells = new String[width];
+			Arrays.fill(cells, "");
+			nextColumn = 0;
+			hasValue = false;
+		}
+
+		@Override
+		public void endRow(int rowNum) {
+			if (rowNum > 0 && hasValue) {
+				handler.row(rowNum + 1, cells);
+			}
+		}
+
+		@Override
+		public void cell(String cellReference, String formattedValue, XSSFComment comment) {
+			final int column = cellReference == null ? nextColumn : new CellReference(cellReference).getCol();
+			nextColumn = column + 1;
+			if (column >= cells.length) {
+				final int oldLength = cells.length;
+				cells = Arrays.copyOf(cells, column + 1);
+				Arrays.fill(cells, oldLength, cells.length, "");
+			}
+			cells[column] = formattedValue == null ? "" : formattedValue;
+			hasValue |= !cells[column].isEmpty();
+		}
+	}
+}
@@ -0,0 +1,292 @@
+package com.klid.webapp.main.acc.accidentApply.service;
+
+import com.klid.webapp.main.acc.accidentApply.persistence.AccidentStatMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+/**
+ * 사고 통계 집계 테이블(TBZLEDGE_STAT_HH / TBZLEDGE_STAT_DD) 관리
+ * - 사고가 등록/수정/삭제되면 그 사고의 접수 시간(시 단위)만 원장에서 다시 집계하고, 해당 일 집계를 시 집계로 다시 만든다.
+ * - 다시 집계는 요청 스레드가 아닌 공용 작업 스레드(taskExecutor)에서 모아서 실행한다. 집계 테이블 lock 을 요청이 기다리지 않는다.
+ * - 다시 집계하기 전이거나 집계하지 못한 시간이 있으면 통계는 원장에서 조회한다. 실패한 시간은 1분마다 재시도한다.
+ * - 집계 테이블이 비어 있으면 시작할 때 원장 전체를 월 단위로 나누어 만들고, 매일 최근 7일을 원장과 맞춘다.
+ *   (taskScheduler 스레드 하나를 오래 사용하므로 spring.task.scheduling.pool.size 를 여러 개로 둔다.)
+ */
+@Service("accidentStatRollupService")
+@Slf4j
+public class AccidentStatRollupService {
+
+	static final int RECONCILE_DAYS = 7;
+
+	private static final DateTimeFormatter DAY = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+	private final AccidentStatMapper mapper;
+	private final TransactionTemplate transactionTemplate;
+	private final TaskExecutor executor;
+	private final boolean enabled;
+
+	/** 집계 테이블 사용 가능 (테이블 확인 완료) */
+	private volatile boolean installed;
+	/** 집계 테이블 구성 완료 */
+	private volatile boolean ready;
+	/** 다시 집계할 시간(yyyymmddhh) */
+	private final Set<String> queued = ConcurrentHashMap.newKeySet();
+	/** 다시 집계 중이거나 집계하지 못한 시간(yyyymmddhh) */
+	private final Set<String> pending = ConcurrentHashMap.newKeySet();
+	private final AtomicBoolean draining = new AtomicBoolean();
+
+	public AccidentStatRollupService(AccidentStatMapper accidentStatMapper,
+									 PlatformTransactionManager transactionManager,
+									 @Qualifier("taskExecutor") TaskExecutor executor,
+									 @Value("${app.accident.stat-rollup:true}") boolean enabled) {
+		this.mapper = accidentStatMapper;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+		this.executor = executor;
+		this.enabled = enabled;
+	}
+
+	/**
+	 * 통계를 집계 테이블에서 조회해도 되는지 여부.
+	 * 구성 전이거나 다시 집계할 시간이 남아 있으면 원장에서 조회한다.
+	 */
+	public boolean isReady() {
+		return enabled && ready && pending.isEmpty() && queued.isEmpty();
+	}
+
+	/**
+	 * 사고의 접수 시간을 다시 집계한다. 트랜잭션 안이면 commit 후에 집계를 요청한다.
+	 *
+	 * @param inciNos 사고번호 (다중이관 사고 inciNo-n 포함)
+	 */
+	public void touch(String... inciNos) {
+		refresh(hoursOf(inciNos));
+	}
+
+	/**
+	 * 사고의 접수 시간(yyyymmddhh). 삭제 전에 미리 읽어 둘 때 사용한다.
+	 */
+	public Set<String> hoursOf(String... inciNos) {
+		if (!enabled || !installed || inciNos == null) {
+			return Set.of();
+		}
+		final List<String> ids = Arrays.stream(inciNos)
+				.filter(Objects::nonNull)
+				.filter(inciNo -> !inciNo.isBlank())
+				.distinct()
+				.collect(Collectors.toList());
+		if (ids.isEmpty()) {
+			return Set.of();
+		}
+		try {
+			return mapper.selectIncidentHours(ids).stream()
+					.filter(Objects::nonNull)
+					.collect(Collectors.toCollection(TreeSet::new));
+		} catch (Exception e) {
+			log.error("사고 접수 시간 조회 실패. inciNo: " + ids, e);
+			return Set.of();
+		}
+	}
+
+	/**
+	 * 시간들을 다시 집계하도록 요청한다. 트랜잭션 안이면 commit 후에 요청한다.
+	 */
+	public void refresh(Collection<String> hours) {
+		if (!enabled || !installed || hours.isEmpty()) {
+			return;
+		}
+		final List<String> copy = new ArrayList<>(hours);
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					enqueue(copy);
+				}
+			});
+		} else {
+			enqueue(copy);
+		}
+	}
+
+	private void enqueue(Collection<String> hours) {
+		queued.addAll(hours);
+		requestDrain();
+	}
+
+	/**
+	 * 작업 스레드에서 모아 둔 시간을 다시 집계한다. 이미 실행 중이면 그 작업이 함께 처리한다.
+	 */
+	private void requestDrain() {
+		if (queued.isEmpty() || !draining.compareAndSet(false, true)) {
+			return;
+		}
+		try {
+			executor.execute(this::drain);
+		} catch (RejectedExecutionException e) {
+			//retryPending 에서 다시 요청
+			draining.set(false);
+			log.warn("사고 통계 재집계 요청 실패: " + e.getMessage());
+		}
+	}
+
+	private void drain() {
+		try {
+			while (!queued.isEmpty()) {
+				final List<String> hours = new ArrayList<>(queued);
+				//집계 중에 다시 요청된 시간은 queued 에 남아 한 번 더 집계
+				pending.addAll(hours);
+				queued.removeAll(hours);
+				refreshNow(hours);
+			}
+		} finally {
+			draining.set(false);
+		}
+		//종료 직전에 요청된 시간
+		requestDrain();
+	}
+
+	/**
+	 * 다시 집계하지 못한 시간 재시도
+	 */
+	@Scheduled(initialDelay = 60 * 1000L, fixedDelay = 60 * 1000L)
+	public void retryPending() {
+		requestDrain();
+		if (draining.get() || pending.isEmpty()) {
+			return;
+		}
+		log.info("사고 통계 재집계 재시도: " + pending.size() + "건");
+		refreshNow(new ArrayList<>(pending));
+	}
+
+	/**
+	 * 최근 7일을 원장과 다시 맞춘다.
+	 */
+	@Scheduled(cron = "0 20 4 * * *")
+	public void reconcile() {
+		if (!enabled || !ready) {
+			return;
+		}
+		try {
+			final LocalDate today = LocalDate.now();
+			rebuild(today.minusDays(RECONCILE_DAYS - 1), today);
+		} catch (Exception e) {
+			log.error("사고 통계 보정 중 오류 발생: " + e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * 집계 테이블이 비어 있으면 원장 전체로 구성한다. 실패하면 원장 조회를 계속 사용한다.
+	 */
+	@Scheduled(initialDelay = 20000, fixedDelay = Long.MAX_VALUE)
+	public void initialize() {
+		if (!enabled) {
+			return;
+		}
+		try {
+			final boolean empty = mapper.countHourly() == 0;
+			installed = true;
+
+			if (empty) {
+				final Map<String, String> range = mapper.selectLedgerRange();
+				if (range != null && range.get("minDd") != null) {
+					final long start = System.currentTimeMillis();
+					final int days = rebuild(LocalDate.parse(range.get("minDd"), DAY), LocalDate.parse(range.get("maxDd"), DAY));
+					log.info("사고 통계 집계 테이블 구성 완료: " + days + "일, " + (System.currentTimeMillis() - start) + "ms");
+				}
+			}
+			ready = true;
+		} catch (Exception e) {
+			log.error("사고 통계 집계 테이블을 사용할 수 없어 원장에서 조회합니다: " + e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * 기간의 집계를 원장에서 다시 만든다. 한 번에 한 달씩 처리한다.
+	 *
+	 * @param startDt 시작일
+	 * @param endDt 종료일
+	 * @return 처리한 일 수
+	 */
+	public int rebuild(LocalDate startDt, LocalDate endDt) {
+		if (!enabled) {
+			throw new IllegalStateException("사고 통계 집계를 사용하지 않습니다.");
+		}
+		if (endDt.isBefore(startDt)) {
+			throw new IllegalArgumentException("종료일이 시작일보다 앞설 수 없습니다.");
+		}
+
+		int days = 0;
+		LocalDate from = startDt;
+		while (!from.isAfter(endDt)) {
+			final LocalDate monthEnd = from.withDayOfMonth(from.lengthOfMonth());
+			final LocalDate to = monthEnd.isBefore(endDt) ? monthEnd : endDt;
+			final String fromDd = from.format(DAY);
+			final String toDd = to.format(DAY);
+
+			transactionTemplate.executeWithoutResult(status -> {
+				mapper.lockRollup();
+				mapper.deleteHourly(fromDd + "00", toDd + "23");
+				mapper.insertHourly(fromDd + "00", toDd + "23");
+				mapper.deleteDaily(fromDd, toDd);
+				mapper.insertDaily(fromDd, toDd);
+			});
+
+			days += (int) (to.toEpochDay() - from.toEpochDay()) + 1;
+			from = to.plusDays(1);
+		}
+		return days;
+	}
+
+	/**
+	 * 일 단위로 묶어 시 집계와 일 집계를 함께 다시 만든다.
+	 */
+	private void refreshNow(Collection<String> hours) {
+		final Map<String, List<String>> byDay = new TreeMap<>();
+		for (String hour : new TreeSet<>(hours)) {
+			byDay.computeIfAbsent(hour.substring(0, 8), day -> new ArrayList<>()).add(hour);
+		}
+
+		byDay.forEach((day, dayHours) -> {
+			try {
+				transactionTemplate.executeWithoutResult(status -> {
+					mapper.lockRollup();
+					for (String hour : dayHours) {
+						mapper.deleteHourly(hour, hour);
+						mapper.insertHourly(hour, hour);
+					}
+					mapper.deleteDaily(day, day);
+					mapper.insertDaily(day, day);
+				});
+				pending.removeAll(dayHours);
+			} catch (Exception e) {
+				pending.addAll(dayHours);
+				log.error("사고 통계 재집계 실패. 일자: " + day + ", 시간: " + dayHours, e);
+			}
+		});
+	}
+}
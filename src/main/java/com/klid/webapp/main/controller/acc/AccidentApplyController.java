@@ -24,20 +24,7 @@ import java.util.*;
 import jakarta.annotation.Resource;
 import jakarta.servlet.http.HttpServletResponse;
 
-import com.klid.common.AppGlobal;
 import com.klid.common.SEED_KISA256;
-import com.klid.common.hwplib.object.HWPFile;
-import com.klid.common.hwplib.object.bodytext.Section;
-import com.klid.common.hwplib.object.bodytext.control.Control;
-import com.klid.common.hwplib.object.bodytext.control.ControlTable;
-
-import com.klid.common.hwplib.object.bodytext.control.ControlType;
-import com.klid.common.hwplib.object.bodytext.control.table.Row;
-import com.klid.common.hwplib.reader.HWPReader;
-import com.klid.common.hwplib.tool.objectfinder.FieldFinder;
-import com.klid.common.hwplib.tool.objectfinder.SetFieldResult;
-import com.klid.common.hwplib.writer.HWPWriter;
-import org.apache.commons.lang3.time.DateFormatUtils;
 
 import org.json.JSONException;
 import org.json.simple.JSONObject;
@@ -157,194 +144,6 @@ public class AccidentApplyController {
 		}
 	}
 
-	/** 사고신고 한글 문서만들기 */
-	@RequestMapping(value = "makeAcciHwpDownload", method = RequestMethod.POST)
-	public @ResponseBody ReturnData makeAcciHwpDownload(@RequestBody Map<String, Object> reqMap, HttpServletResponse response) {
-		try{
-
-
-			String filename = AppGlobal.reportTemplate+"acc_report.hwp";
-			HWPFile hwpFile = HWPReader.fromFile(filename);
-			Section section = hwpFile.getBodyText().getSectionList().get(0);
-
-			Control c = section.getParagraph(1).getControlList().get(0);
-			ControlTable table = (ControlTable) c;
-			ArrayList<Row> rows = table.getRowList();
-
-			//기관명
-			if(reqMap.get("dclInstName")!=null) {
-				rows.get(1).getCellList().get(1).getParagraphList().getParagraph(0).createText();
-				rows.get(1).getCellList().get(1).getParagraphList().getParagraph(0).getText().addString(reqMap.get("dclInstName").toString());
-			}
-			//부서
-			if(reqMap.get("dclDept")!=null) {
-				rows.get(1).getCellList().get(3).getParagraphList().getParagraph(0).createText();
-				rows.get(1).getCellList().get(3).getParagraphList().getParagraph(0).getText().addString(reqMap.get("dclDept").toString());
-			}
-			//성명
-			if(reqMap.get("dclCrgr")!=null) {
-				rows.get(2).getCellList().get(1).getParagraphList().getParagraph(0).createText();
-				rows.get(2).getCellList().get(1).getParagraphList().getParagraph(0).getText().addString(reqMap.get("dclCrgr").toString());
-			}
-			//이메일
-			if(reqMap.get("dclEmail")!=null) {
-				rows.get(3).getCellList().get(1).getParagraphList().getParagraph(0).createText();
-				rows.get(3).getCellList().get(1).getParagraphList().getParagraph(0).getText().addString(reqMap.get("dclEmail").toString());
-			}
-			//연락처
-			if(reqMap.get("dclHpNo")!=null&&reqMap.get("dclTelNo") != null) {
-				rows.get(4).getCellList().get(1).getParagraphList().getParagraph(0).createText();
-				//rows.get(4).getCellList().get(1).getParagraphList().getParagraph(0).getText().addString("HP : " + reqMap.get("dclHpNo").toString() + " / " +  "TEL : " + reqMap.get("dclTelNo").toString());
-				rows.get(4).getCellList().get(1).getParagraphList().getParagraph(0).getText().addString("TEL : " + reqMap.get("dclTelNo").toString());
-			}else if(reqMap.get("dclHpNo")==null&&reqMap.get("dclTelNo") != null){
-				rows.get(4).getCellList().get(1).getParagraphList().getParagraph(0).createText();
-				rows.get(4).getCellList().get(1).getParagraphList().getParagraph(0).getText().addString(" / " +  "TEL : " + reqMap.get("dclTelNo").toString());
-			}else if(reqMap.get("dclHpNo")!=null&&reqMap.get("dclTelNo") != null){
-				rows.get(4).getCellList().get(1).getParagraphList().getParagraph(0).createText();
-				rows.get(4).getCellList().get(1).getParagraphList().getParagraph(0).getText().addString("HP : " + reqMap.get("dclTelNo").toString() + " / ");
-			}
-			//사고일시
-			if(reqMap.get("inciDt")!=null) {
-				rows.get(6).getCellList().get(1).getParagraphList().getParagraph(0).createText();
-				rows.get(6).getCellList().get(1).getParagraphList().getParagraph(0).getText().addString(reqMap.get("inciDt").toString());
-			}
-			//피해IP주소
-			if(reqMap.get("dmgIp")!=null) {
-				rows.get(6).getCellList().get(3).getParagraphList().getParagraph(0).createText();
-				rows.get(6).getCellList().get(3).getParagraphList().getParagraph(0).getText().addString(reqMap.get("dmgIp").toString());
-			}
-            //피해시스템용도 -> 미사용 영역 사고유형 한글값 들어간 컬럼으로 사용 dclHpNo
-			if(reqMap.get("dclHpNo") !=null) {
-				rows.get(7).getCellList().get(1).getParagraphList().getParagraph(0).createText();
-				rows.get(7).getCellList().get(1).getParagraphList().getParagraph(0).getText().addString(reqMap.get("dclHpNo").toString());
-			}
-			//운영체제
-			if(reqMap.get("osNm")!=null) {
-				rows.get(7).getCellList().get(3).getParagraphList().getParagraph(0).createText();
-				rows.get(7).getCellList().get(3).getParagraphList().getParagraph(0).getText().addString(reqMap.get("osNm").toString());
-			}
-			//사고유형
-			if(reqMap.get("accdTypName")!=null) {
-				rows.get(8).getCellList().get(1).getParagraphList().getParagraph(0).createText();
-				rows.get(8).getCellList().get(1).getParagraphList().getParagraph(0).getText().addString(reqMap.get("accdTypName").toString());
-			}
-//			//피해범위
-//			rows.get(8).getCellList().get(3).getParagraphList().getParagraph(0).createText();
-//			rows.get(8).getCellList().get(3).getParagraphList().getParagraph(0).getText().addString("");
-			//사고내용
-			if(reqMap.get("inciDclCont")!=null) {
-				String inciDclCont = (String)reqMap.get("inciDclCont");
-
-				ArrayList<String> textList = new ArrayList<String>();
-				textList.add(inciDclCont.replaceAll("\\n",System.lineSeparator()));
-				//inciDclCont = inciDclCont.replaceFirst("\\n", "");
-				//inciDclCont = inciDclCont.replaceAll("[\\u0001-\\u0008\\u000B-\\u001F]", "");
-				//textList.add(inciDclCont.replaceAll("[\\u0001-\\u0008\\u000B-\\u001F]", ""));
-
-				SetFieldResult sfr = FieldFinder.setFieldText(hwpFile, ControlType.FIELD_CLICKHERE,"필드1",textList);
-			}
-//			//공격자정보
-			if(reqMap.get("attIp")!=null) {
-				rows.get(11).getCellList().get(1).getParagraphList().getParagraph(0).createText();
-				rows.get(11).getCellList().get(1).getParagraphList().getParagraph(0).getText().addString(reqMap.get("attIp").toString() + "(" + reqMap.get("attNatnNm").toString() + ")");
-			}
-//			//피해현황
-//			rows.get(12).getCellList().get(1).getParagraphList().getParagraph(0).createText();
-//			rows.get(12).getCellList().get(1).getParagraphList().getParagraph(0).getText().addString("");
-			//긴급조치실시사항
-			if(reqMap.get("inciInvsCont")!=null) {
-				String inciInvsCont = (String)reqMap.get("inciInvsCont");
-
-				ArrayList<String> textList = new ArrayList<String>();
-				textList.add(inciInvsCont.replaceAll("\\n",System.lineSeparator()));
-
-				SetFieldResult sfr = FieldFinder.setFieldText(hwpFile, ControlType.FIELD_CLICKHERE,"필드2",textList);
-//				rows.get(13).getCellList().get(1).getParagraphList().getParagraph(0).createText();
-//				rows.get(13).getCellList().get(1).getParagraphList().getParagraph(0).getText().addString(reqMap.get("inciInvsCont").toString());
-			}
-//			//격리 불가 사유
-//			rows.get(14).getCellList().get(1).getParagraphList().getParagraph(0).createText();
-//			rows.get(14).getCellList().get(1).getParagraphList().getParagraph(0).getText().addString("");
-//			//관련보안제품운영현황
-//			rows.get(15).getCellList().get(1).getParagraphList().getParagraph(0).createText();
-//			rows.get(15).getCellList().get(1).getParagraphList().getParagraph(0).getText().addString("");
-//			//그밖에 사고 관련 내용을 구체적으로 서술
-//			rows.get(17).getCellList().get(0).getParagraphList().getParagraph(0).createText();
-//			rows.get(17).getCellList().get(0).getParagraphList().getParagraph(0).getText().addString("");
-
-			//시도의견(스밖의 사고관랜 내용에 붙이기로)
-			if(reqMap.get("inciBelowCont")!=null) {
-				String inciBelowCont = (String)reqMap.get("inciBelowCont");
-
-				ArrayList<String> textList = new ArrayList<String>();
-				textList.add(inciBelowCont.replaceAll("\\n",System.lineSeparator()));
-
-				SetFieldResult sfr = FieldFinder.setFieldText(hwpFile, ControlType.FIELD_CLICKHERE,"필드3",textList);
-//				rows.get(13).getCellList().get(1).getParagraphList().getParagraph(0).createText();
-//				rows.get(13).getCellList().get(1).getParagraphList().getParagraph(0).getText().addString(reqMap.get("inciInvsCont").toString());
-			}
-			File file = new File(AppGlobal.homePath + "/export");
-			if(!file.exists())
-				file.mkdirs();
-
-			String createTime = DateFormatUtils.format(new Date(), "yyyyMMddHHmmssSSS");
-			filename = AppGlobal.homePath+"/export/" + createTime + ".hwp";
-			HWPWriter.toFile(hwpFile,filename);
-
-			Map<String, String> resultMap = new HashMap<>();
-			resultMap.put("filePath", "/export/" + createTime + ".hwp");
-			resultMap.put("fileName", createTime);
-			resultMap.put("fileExt", ".hwp");
-			return new ReturnData(resultMap);
-
-			/*
-			response.setContentType("application/octet-stream");
-			response.setHeader("Content-Disposition", "attachment;filename=\"" + filename + "\"");
-			response.setHeader("content-Transfer-Encoding", "binary");
-			response.setHeader("Pragma", "no-cache;");
-			response.setHeader("Expires", "-1");
-
-			ServletOutputStream sos = null;
-			InputStream fis = null;
-			try {
-				sos = response.getOutputStream();
-				Path path = Paths.get(filename);
-				fis = Files.newInputStream(path);
-				FileCopyUtils.copy(fis, sos);
-			} catch (Exception e) {
-				e.printStackTrace();
-			} finally {
-				if (fis != null) {
-					try {
-						fis.close();
-					} catch (IOException e) {
-					}
-				}
-				if (sos != null) {
-					try {
-						sos.flush();
-						sos.close();
-					} catch (IOException e) {
-					}
-				}
-			}
-			return new ReturnData();
-			*/
-		}catch (FileNotFoundException e){
-			e.printStackTrace();
-			return new ReturnData(new ErrorInfo(e));
-		}catch (IOException e){
-			e.printStackTrace();
-			return new ReturnData(new ErrorInfo(e));
-		}catch (IllegalArgumentException e){
-			e.printStackTrace();
-			return new ReturnData(new ErrorInfo(e));
-		}catch (Exception e){
-			e.printStackTrace();
-			return new ReturnData(new ErrorInfo(e));
-		}
-	}
-
 	/** 엑셀로 사고신고 */
 	@RequestMapping(value = "importExcel")
 	public @ResponseBody ReturnData importExcel(@RequestParam Map<String, Object> reqMap, HttpServletResponse response) {
@@ -17,8 +17,11 @@
 package com.klid.webapp.main.controller.rpt;
 
 import com.klid.webapp.common.Criterion;
+import com.klid.webapp.common.CustomException;
 import com.klid.webapp.common.ErrorInfo;
 import com.klid.webapp.common.ReturnData;
+import com.klid.webapp.common.SessionManager;
+import com.klid.webapp.main.rpt.common.ReportDaySnapshotService;
 import com.klid.webapp.main.rpt.reportCollection.service.ReportCollectionService;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.RequestBody;
@@ -28,6 +31,8 @@ import org.springframework.web.bind.annotation.ResponseBody;
 
 import jakarta.annotation.Resource;
 import jakarta.servlet.http.HttpServletResponse;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
 import java.util.Map;
 
 @RequestMapping("/api/main/rpt/reportCollection")
@@ -37,6 +42,9 @@ public class ReportCollectionController {
 	@Resource(name = "reportCollectionService")
 	private ReportCollectionService service;
 
+	@Resource(name = "reportDaySnapshotService")
+	private ReportDaySnapshotService reportDaySnapshotService;
+
 	@RequestMapping(value = "getRetrieveSecurityHackingDetail")
 	public @ResponseBody ReturnData getRetrieveSecurityHackingDetail(@RequestParam Map<String, Object> reqMap) {
 			return service.getRetrieveSecurityHackingDetail(new Criterion(reqMap));
@@ -97,4 +105,14 @@ public class ReportCollectionController {
 	public @ResponseBody ReturnData exportReportCtrsDaily(@RequestBody Map<String, Object> reqMap, HttpServletResponse response) {
 			return service.exportReportCtrsDaily(response, new Criterion(reqMap));
 	}
+
+	/** 보고서 스냅샷 재생성 (관리자). 기간(yyyyMMdd)의 지난 일자 스냅샷을 원본에서 다시 만든다. */
+	@RequestMapping(value="rebuildSnapshot")
+	public @ResponseBody ReturnData rebuildSnapshot(@RequestParam String startDt, @RequestParam String endDt) {
+		if (!"AUTH_MAIN_1".equalsIgnoreCase(SessionManager.getUser().getAuthMain())) {
+			throw new CustomException("재생성 권한이 없습니다.");
+		}
+		DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyyMMdd");
+		return new ReturnData(reportDaySnapshotService.rebuild(LocalDate.parse(startDt, formatter), LocalDate.parse(endDt, formatter)));
+	}
 }
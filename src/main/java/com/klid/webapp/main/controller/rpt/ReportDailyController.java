@@ -23,11 +23,11 @@ import com.klid.common.hwplib.object.bodytext.Section;
 import com.klid.common.hwplib.object.bodytext.control.Control;
 import com.klid.common.hwplib.object.bodytext.control.ControlTable;
 import com.klid.common.hwplib.object.bodytext.control.table.Row;
-import com.klid.common.hwplib.reader.HWPReader;
 import com.klid.common.hwplib.writer.HWPWriter;
 import com.klid.webapp.common.Criterion;
 import com.klid.webapp.common.ErrorInfo;
 import com.klid.webapp.common.ReturnData;
+import com.klid.webapp.common.file.service.HwpTemplateRegistry;
 import com.klid.webapp.main.rpt.reportDaily.service.ReportDailyService;
 
 import org.springframework.stereotype.Controller;
@@ -48,6 +48,9 @@ public class ReportDailyController {
 	@Resource(name = "reportDailyService")
 	private ReportDailyService service;
 
+	@Resource(name = "hwpTemplateRegistry")
+	private HwpTemplateRegistry hwpTemplateRegistry;
+
 
 	@RequestMapping(value = "getReportDayStat")
 	public @ResponseBody ReturnData getReportDayStat(@RequestParam Map<String, Object> reqMap) {
@@ -58,7 +61,7 @@ public class ReportDailyController {
 	public ReturnData getReportDailyDownload(@RequestParam Map<String, Object> reqMap, HttpServletResponse response) {
 		try {
 			String filename = AppGlobal.getProjectPath()+"/src/main/webapp/WEB-INF/reportTemplate/report_daily_two.hwp";
-			HWPFile hwpFile = HWPReader.fromFile(filename);
+			HWPFile hwpFile = hwpTemplateRegistry.get(filename);
 			Section section = hwpFile.getBodyText().getSectionList().get(0);
 
 			Control c = section.getParagraph(1).getControlList().get(0);
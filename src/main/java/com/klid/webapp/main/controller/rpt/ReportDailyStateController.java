@@ -20,6 +20,9 @@ import com.klid.common.AppGlobal;
 import com.klid.common.HwpmlMaker;
 import com.klid.webapp.common.Criterion;
 import com.klid.webapp.common.ReturnData;
+import com.klid.webapp.main.rpt.common.ReportSectionExecutor;
+import com.klid.webapp.main.rpt.common.ReportSectionExecutor.Report;
+import com.klid.webapp.main.rpt.common.ReportSectionExecutor.SectionResult;
 import com.klid.webapp.main.rpt.reportDailyState.service.ReportDailyStateService;
 import com.klid.webapp.main.sec.noticeBoard.dto.NoticeBoardDto;
 import com.klid.webapp.main.sec.noticeBoard.persistence.NoticeBoardMapper;
@@ -42,6 +45,9 @@ public class ReportDailyStateController {
 	@Resource(name = "noticeBoardMapper")
 	private NoticeBoardMapper mapper;
 
+	@Resource(name = "reportSectionExecutor")
+	private ReportSectionExecutor reportSectionExecutor;
+
 	@RequestMapping(value = "getRotationList")
 	public @ResponseBody ReturnData getRotationList(@RequestParam Map<String, Object> reqMap) {
 		return service.getRotationList(new Criterion(reqMap));
@@ -70,9 +76,13 @@ public class ReportDailyStateController {
 	@RequestMapping(value = "makeReportDailyStateDownload", method = RequestMethod.POST)
 	public @ResponseBody ReturnData makeReportDailyStateDownload(@RequestBody Map<String, Object> reqMap, HttpServletResponse response) {
 
-		List<NoticeBoardDto> boardList = mapper.getPeriodBoardList(reqMap);
+		Report report = reportSectionExecutor.open("daily.download");
+		SectionResult<List<NoticeBoardDto>> board = report.add("board", reqMap, mapper::getPeriodBoardList);
+		SectionResult<String> inst = report.add("inst", reqMap, mapper::getInstNmByInstCd);
+
+		List<NoticeBoardDto> boardList = board.get();
 
-		String instNm = mapper.getInstNmByInstCd(reqMap);
+		String instNm = inst.get();
 
 		String filename = AppGlobal.reportTemplate + "new_report_daily_"+reqMap.get("reportType")+".hml";
 
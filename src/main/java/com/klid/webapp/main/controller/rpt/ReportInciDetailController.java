@@ -23,11 +23,11 @@ import com.klid.common.hwplib.object.bodytext.control.Control;
 import com.klid.common.hwplib.object.bodytext.control.ControlTable;
 import com.klid.common.hwplib.object.bodytext.control.ControlType;
 import com.klid.common.hwplib.object.bodytext.control.table.Row;
-import com.klid.common.hwplib.reader.HWPReader;
 import com.klid.common.hwplib.writer.HWPWriter;
 import com.klid.webapp.common.Criterion;
 import com.klid.webapp.common.ErrorInfo;
 import com.klid.webapp.common.ReturnData;
+import com.klid.webapp.common.file.service.HwpTemplateRegistry;
 import com.klid.webapp.main.rpt.reportInciDetail.service.ReportInciDetailService;
 import com.klid.webapp.main.rpt.reportWeeklyState.service.ReportWeeklyStateService;
 import org.springframework.stereotype.Controller;
@@ -54,6 +54,9 @@ public class ReportInciDetailController {
 	@Resource(name = "reportInciDetailService")
 	private ReportInciDetailService service;
 
+	@Resource(name = "hwpTemplateRegistry")
+	private HwpTemplateRegistry hwpTemplateRegistry;
+
 	@RequestMapping(value = "getDetailList")
 	public @ResponseBody ReturnData getDetailList(@RequestParam Map<String, Object> reqMap) {
 		return service.getDetailList(new Criterion(reqMap));
@@ -64,7 +67,7 @@ public class ReportInciDetailController {
 		try {
 
 			String filename = AppGlobal.getProjectPath()+"/src/main/webapp/WEB-INF/reportTemplate/report_daily_two.hwp";
-			HWPFile hwpFile = HWPReader.fromFile(filename);
+			HWPFile hwpFile = hwpTemplateRegistry.get(filename);
 			Section section = hwpFile.getBodyText().getSectionList().get(0);
 
 			for(int i=0; i<section.getParagraphCount(); i++){
@@ -40,6 +40,9 @@ import com.klid.common.hwplib.writer.HWPWriter;
 import com.klid.webapp.common.Criterion;
 import com.klid.webapp.common.ErrorInfo;
 import com.klid.webapp.common.ReturnData;
+import com.klid.webapp.main.rpt.common.ReportSectionExecutor;
+import com.klid.webapp.main.rpt.common.ReportSectionExecutor.Report;
+import com.klid.webapp.main.rpt.common.ReportSectionExecutor.SectionResult;
 import com.klid.webapp.main.rpt.reportDaily.dto.ReportDailyDto;
 import com.klid.webapp.main.rpt.reportDailyState.persistence.ReportDailyStateMapper;
 import com.klid.webapp.main.rpt.reportDailyState.service.ReportDailyStateService;
@@ -77,6 +80,9 @@ public class ReportWeeklyStateController {
 	@Resource(name = "reportDailyStateMapper")
 	private ReportDailyStateMapper dailymapper;
 
+	@Resource(name = "reportSectionExecutor")
+	private ReportSectionExecutor reportSectionExecutor;
+
 	@RequestMapping(value = "getRotationList")
 	public @ResponseBody ReturnData getRotationList(@RequestParam Map<String, Object> reqMap) {
 			return service.getRotationList(new Criterion(reqMap));
@@ -110,11 +116,16 @@ public class ReportWeeklyStateController {
 	@RequestMapping(value = "makeReportWeeklyDownload", method = RequestMethod.POST)
 	public @ResponseBody ReturnData makeReportWeeklyDownload(@RequestBody Map<String, Object> reqMap, HttpServletResponse response) {
 
-		List<NoticeBoardDto> boardList = mapper.getPeriodBoardList(reqMap);
+		Report report = reportSectionExecutor.open("weekly.download");
+		SectionResult<List<NoticeBoardDto>> board = report.add("board", reqMap, mapper::getPeriodBoardList);
+		SectionResult<List<ReportDailyDto>> ncsc = report.add("ncsc", reqMap, dailymapper::selectReportNcsc);
+		SectionResult<String> inst = report.add("inst", reqMap, mapper::getInstNmByInstCd);
+
+		List<NoticeBoardDto> boardList = board.get();
 
-		List<ReportDailyDto> ncscList = dailymapper.selectReportNcsc(reqMap);
+		List<ReportDailyDto> ncscList = ncsc.get();
 
-		String localNm = mapper.getInstNmByInstCd(reqMap);
+		String localNm = inst.get();
 
 //		String filename = AppGlobal.reportTemplate + "report_weekly_"+reqMap.get("reportType")+"_"+reqMap.get("days")+".hml";
 		String filename = AppGlobal.reportTemplate + "new_report_total_"+reqMap.get("reportType")+"_"+reqMap.get("filedays")+".hml";
@@ -27,7 +27,8 @@ import jakarta.servlet.http.HttpServletResponse;
 import com.klid.common.AppGlobal;
 import com.klid.common.util.XLSFileBuilder;
 import com.klid.webapp.common.*;
-import com.klid.webapp.common.controller.FileController;
+import com.klid.webapp.common.file.dto.StagedFileDto;
+import com.klid.webapp.common.file.service.ImportStagingService;
 import com.klid.webapp.main.hist.userActHist.persistence.UserActHistMapper;
 import com.klid.webapp.main.home.healthCheck.dto.HealthCheckUrlDto;
 import org.apache.commons.lang3.time.DateFormatUtils;
@@ -43,6 +44,9 @@ public class HealthCheckUrlServiceImpl extends MsgService implements HealthCheck
 	@Resource(name = "healthCheckUrlMapper")
 	private HealthCheckUrlMapper mapper;
 
+	@Resource(name = "importStagingService")
+	private ImportStagingService importStagingService;
+
 	@Resource(name = "userActHistMapper")
 	private UserActHistMapper userActHistMapper;
 
@@ -268,11 +272,15 @@ public class HealthCheckUrlServiceImpl extends MsgService implements HealthCheck
 
 		BufferedReader br = null;
 
-		String filename = FileController.xlsFilePath+"\\"+FileController.xlsFileName;
+		String importToken = (String) criterion.getValue(ImportStagingService.TOKEN_PARAM);
+		StagedFileDto staged = importStagingService.resolve(importToken, SessionManager.getUser().getUserId());
 
 		try {
 
-			HSSFWorkbook workbook = new HSSFWorkbook(new FileInputStream(filename));
+			HSSFWorkbook workbook;
+			try (FileInputStream in = new FileInputStream(staged.getPath().toFile())) {
+				workbook = new HSSFWorkbook(in);
+			}
 			HSSFSheet sheet = workbook.getSheetAt(0);
 
 			int rows = sheet.getPhysicalNumberOfRows();
@@ -334,6 +342,7 @@ public class HealthCheckUrlServiceImpl extends MsgService implements HealthCheck
 					e.printStackTrace();
 				}
 			}
+			importStagingService.discard(importToken);
 		}
 
 		return returnData;
@@ -0,0 +1,292 @@
+package com.klid.webapp.main.rpt.common;
+
+import com.klid.webapp.main.rpt.common.persistence.ReportDaySnapshotMapper;
+import com.klid.webapp.main.rpt.reportCollection.dto.ReportCollectionDto;
+import lombok.extern.slf4j.Slf4j;
+import org.json.JSONObject;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * 보고서 일 단위 스냅샷 (HM_DASH_LC 일자별 탐지 유형 합계)
+ * - 지난 일자의 탐지 현황은 바뀌지 않으므로 일자/지역/기관별 SUM_JSON 합계를 스냅샷으로 만들어 두고,
+ *   보고서는 스냅샷이 있는 지난 일자를 스냅샷에서, 나머지(오늘, 일부 시간만 포함된 일자, 스냅샷이 없는 일자)는 원본에서 조회한다.
+ * - 자정이 지나면 전날 스냅샷을 만들고, 스냅샷이 없는 지난 일자는 10분마다 조금씩 채운다.
+ * - 최근 7일은 원본 건수/해시를 스냅샷을 만들 때와 비교해서, 늦게 들어오거나 바뀐 일자는 다시 만든다.
+ * - 스냅샷 테이블을 사용할 수 없으면 원본에서 조회한다.
+ */
+@Service("reportDaySnapshotService")
+@Slf4j
+public class ReportDaySnapshotService {
+
+	static final int VERIFY_DAYS = 7;
+	static final int BACKFILL_BATCH = 31;
+	/** IN 절 일자 개수 */
+	private static final int SELECT_CHUNK = 500;
+
+	private static final DateTimeFormatter DAY = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+	private final ReportDaySnapshotMapper mapper;
+	private final TransactionTemplate transactionTemplate;
+	private final boolean enabled;
+	private final int retentionDays;
+
+	/** 스냅샷 테이블 사용 가능 (테이블 확인 완료) */
+	private volatile boolean installed;
+
+	public ReportDaySnapshotService(ReportDaySnapshotMapper reportDaySnapshotMapper,
+									PlatformTransactionManager transactionManager,
+									@Value("${app.report.snapshot:true}") boolean enabled,
+									@Value("${app.report.snapshot-days:400}") int retentionDays) {
+		this.mapper = reportDaySnapshotMapper;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+		this.enabled = enabled;
+		this.retentionDays = retentionDays;
+	}
+
+	public boolean isReady() {
+		return enabled && installed;
+	}
+
+	/**
+	 * 탐지 현황을 조회한다. 스냅샷이 있는 지난 일자는 스냅샷에서 일자별로 합친 행(REG_TIME = 일자 + 000000)을,
+	 * 나머지 구간은 원본 조회(live)에 구간을 바꿔서 넘긴 결과를 돌려준다.
+	 * 일자별로 합친 행이 나오므로 일자 단위로 묶거나 모두 더하는 조회에만 사용한다.
+	 *
+	 * @param condition 조회 조건 (sAuthMain, sInstCd 포함)
+	 * @param fromKey 시작 일시(yyyyMMddHHmmss) 조건 이름
+	 * @param toKey 종료 일시(yyyyMMddHHmmss) 조건 이름
+	 * @param sumNm 합계 행 이름 ('유형총합' / '지역총합')
+	 * @param live 원본 조회
+	 */
+	public List<ReportCollectionDto> select(Map<String, Object> condition, String fromKey, String toKey, String sumNm,
+											Function<Map<String, Object>, List<ReportCollectionDto>> live) {
+		final String from = Objects.toString(condition.get(fromKey), "");
+		final String to = Objects.toString(condition.get(toKey), "");
+		if (!isReady() || from.length() != 14 || to.length() != 14 || from.compareTo(to) > 0) {
+			return live.apply(condition);
+		}
+
+		try {
+			final LocalDate firstFull = LocalDate.parse(from.substring(0, 8), DAY).plusDays(from.endsWith("000000") ? 0 : 1);
+			LocalDate lastFull = LocalDate.parse(to.substring(0, 8), DAY).minusDays(to.endsWith("235959") ? 0 : 1);
+			final LocalDate yesterday = LocalDate.now().minusDays(1);
+			if (lastFull.isAfter(yesterday)) {
+				lastFull = yesterday;
+			}
+			if (firstFull.isAfter(lastFull)) {
+				return live.apply(condition);
+			}
+
+			final List<String> snapDds = new ArrayList<>();
+			for (Map<String, Object> stat : mapper.selectSnapshotStats(firstFull.format(DAY), lastFull.format(DAY))) {
+				snapDds.add(Objects.toString(stat.get("snapDd")));
+			}
+			snapDds.sort(null);
+
+			final List<ReportCollectionDto> result = new ArrayList<>();
+			for (int i = 0; i < snapDds.size(); i += SELECT_CHUNK) {
+				final Map<String, Object> params = new HashMap<>(condition);
+				params.put("snapDds", snapDds.subList(i, Math.min(i + SELECT_CHUNK, snapDds.size())));
+				params.put("sumNm", sumNm);
+				result.addAll(mapper.selectSnapshot(params));
+			}
+
+			String cursor = from;
+			for (String snapDd : snapDds) {
+				final LocalDate day = LocalDate.parse(snapDd, DAY);
+				if (cursor.compareTo(snapDd + "000000") < 0) {
+					result.addAll(selectLive(condition, fromKey, toKey, cursor, day.minusDays(1).format(DAY) + "235959", live));
+				}
+				cursor = day.plusDays(1).format(DAY) + "000000";
+			}
+			if (cursor.compareTo(to) <= 0) {
+				result.addAll(selectLive(condition, fromKey, toKey, cursor, to, live));
+			}
+			return result;
+		} catch (Exception e) {
+			log.error("보고서 스냅샷 조회 실패, 원본에서 조회합니다: " + e.getMessage(), e);
+			return live.apply(condition);
+		}
+	}
+
+	private static List<ReportCollectionDto> selectLive(Map<String, Object> condition, String fromKey, String toKey,
+														String from, String to,
+														Function<Map<String, Object>, List<ReportCollectionDto>> live) {
+		final Map<String, Object> params = new HashMap<>(condition);
+		params.put(fromKey, from);
+		params.put(toKey, to);
+		return live.apply(params);
+	}
+
+	/**
+	 * 스냅샷 테이블을 확인한다. 실패하면 원본 조회를 계속 사용한다.
+	 */
+	@Scheduled(initialDelay = 30000, fixedDelay = Long.MAX_VALUE)
+	public void initialize() {
+		if (!enabled) {
+			return;
+		}
+		try {
+			final String today = LocalDate.now().format(DAY);
+			mapper.selectSnapshotStats(today, today);
+			installed = true;
+		} catch (Exception e) {
+			log.error("보고서 스냅샷 테이블을 사용할 수 없어 원본에서 조회합니다: " + e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * 자정이 지나면 전날 스냅샷을 만든다.
+	 */
+	@Scheduled(cron = "0 5 0 * * *")
+	public void freezeYesterday() {
+		maintain();
+	}
+
+	/**
+	 * 최근 7일 중 스냅샷이 없거나 원본이 바뀐 일자를 다시 만들고, 그 이전의 빠진 일자를 최근부터 31일씩 채운다.
+	 */
+	@Scheduled(initialDelay = 60 * 1000L, fixedDelay = 10 * 60 * 1000L)
+	public synchronized void maintain() {
+		if (!isReady()) {
+			return;
+		}
+		try {
+			final LocalDate yesterday = LocalDate.now().minusDays(1);
+			final String minDd = mapper.selectDashMinDay();
+			if (minDd == null) {
+				return;
+			}
+			LocalDate oldest = LocalDate.parse(minDd, DAY);
+			if (oldest.isBefore(yesterday.minusDays(retentionDays - 1))) {
+				oldest = yesterday.minusDays(retentionDays - 1);
+			}
+			if (oldest.isAfter(yesterday)) {
+				return;
+			}
+
+			final Map<String, long[]> stats = fingerprints(mapper.selectSnapshotStats(oldest.format(DAY), yesterday.format(DAY)));
+			LocalDate verifyFrom = yesterday.minusDays(VERIFY_DAYS - 1);
+			if (verifyFrom.isBefore(oldest)) {
+				verifyFrom = oldest;
+			}
+			final Map<String, long[]> sources = fingerprints(mapper.selectDashFingerprints(verifyFrom.format(DAY), yesterday.format(DAY)));
+
+			for (LocalDate day = yesterday; !day.isBefore(verifyFrom); day = day.minusDays(1)) {
+				final String snapDd = day.format(DAY);
+				final long[] stat = stats.get(snapDd);
+				final long[] source = sources.getOrDefault(snapDd, new long[] {0, 0});
+				if (stat == null || stat[0] != source[0] || stat[1] != source[1]) {
+					if (stat != null) {
+						log.info("보고서 스냅샷 원본 변경: " + snapDd);
+					}
+					tryFreeze(snapDd);
+				}
+			}
+
+			int backfill = 0;
+			for (LocalDate day = verifyFrom.minusDays(1); !day.isBefore(oldest) && backfill < BACKFILL_BATCH; day = day.minusDays(1)) {
+				final String snapDd = day.format(DAY);
+				if (!stats.containsKey(snapDd) && tryFreeze(snapDd)) {
+					backfill++;
+				}
+			}
+			if (backfill > 0) {
+				log.info("보고서 스냅샷 채움: " + backfill + "일");
+			}
+		} catch (Exception e) {
+			log.error("보고서 스냅샷 관리 중 오류 발생: " + e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * 기간의 스냅샷을 원본에서 다시 만든다. 오늘은 만들지 않는다.
+	 *
+	 * @param startDt 시작일
+	 * @param endDt 종료일
+	 * @return 처리한 일 수
+	 */
+	public int rebuild(LocalDate startDt, LocalDate endDt) {
+		if (!isReady()) {
+			throw new IllegalStateException("보고서 스냅샷을 사용하지 않습니다.");
+		}
+		if (endDt.isBefore(startDt)) {
+			throw new IllegalArgumentException("종료일이 시작일보다 앞설 수 없습니다.");
+		}
+		final LocalDate yesterday = LocalDate.now().minusDays(1);
+		int days = 0;
+		for (LocalDate day = startDt; !day.isAfter(endDt) && !day.isAfter(yesterday); day = day.plusDays(1)) {
+			freeze(day.format(DAY));
+			days++;
+		}
+		return days;
+	}
+
+	private boolean tryFreeze(String snapDd) {
+		try {
+			freeze(snapDd);
+			return true;
+		} catch (Exception e) {
+			log.error("보고서 스냅샷 생성 실패. 일자: " + snapDd, e);
+			return false;
+		}
+	}
+
+	/**
+	 * 하루의 원본을 지역/기관별로 합쳐서 스냅샷을 다시 만든다.
+	 */
+	void freeze(String snapDd) {
+		transactionTemplate.executeWithoutResult(status -> {
+			mapper.lockSnapshot();
+			final long[] source = fingerprints(mapper.selectDashFingerprints(snapDd, snapDd)).getOrDefault(snapDd, new long[] {0, 0});
+
+			final Map<List<String>, JSONObject> sums = new LinkedHashMap<>();
+			final Map<List<String>, Integer> counts = new HashMap<>();
+			for (ReportCollectionDto row : mapper.selectDashDay(snapDd)) {
+				final List<String> key = Arrays.asList(row.getLocalNm(), row.getOrgNm());
+				final JSONObject sum = sums.computeIfAbsent(key, k -> new JSONObject());
+				if (row.getValue() != null) {
+					final JSONObject json = new JSONObject(row.getValue());
+					final Iterator<String> names = json.keys();
+					while (names.hasNext()) {
+						final String name = names.next();
+						sum.put(name, sum.optLong(name) + json.getLong(name));
+					}
+				}
+				counts.merge(key, 1, Integer::sum);
+			}
+
+			mapper.deleteSnapshot(snapDd);
+			sums.forEach((key, sum) -> mapper.insertSnapshot(snapDd, key.get(0), key.get(1), sum.toString(), counts.get(key)));
+			mapper.deleteSnapshotStat(snapDd);
+			mapper.insertSnapshotStat(snapDd, source[0], source[1]);
+		});
+	}
+
+	private static Map<String, long[]> fingerprints(List<Map<String, Object>> rows) {
+		final Map<String, long[]> result = new HashMap<>();
+		for (Map<String, Object> row : rows) {
+			result.put(Objects.toString(row.get("snapDd")),
+					new long[] {((Number) row.get("rowCnt")).longValue(), ((Number) row.get("rowHash")).longValue()});
+		}
+		return result;
+	}
+}
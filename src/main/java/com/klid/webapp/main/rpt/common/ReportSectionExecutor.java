@@ -0,0 +1,122 @@
+package com.klid.webapp.main.rpt.common;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+
+/**
+ * 보고서 섹션 병렬 조회
+ * - 보고서의 서로 독립적인 조회(섹션)를 공용 작업 스레드에서 동시에 실행하고, 보고서마다 제한 시간을 둔다.
+ * - 섹션마다 조회 조건을 복사해서 넘기므로 조회 중 조건 map 을 함께 쓰지 않는다.
+ * - 공용 작업 스레드(taskExecutor)의 대기열이 가득 차면 요청 스레드에서 직접 조회한다(순차 조회보다 느려지지 않음).
+ * - 한 섹션이 실패하거나 제한 시간을 넘기면 남은 섹션은 취소한다.
+ */
+@Component("reportSectionExecutor")
+@Slf4j
+public class ReportSectionExecutor {
+
+	private final AsyncTaskExecutor executor;
+	private final long timeoutMillis;
+
+	public ReportSectionExecutor(@Qualifier("taskExecutor") AsyncTaskExecutor executor,
+								 @Value("${app.report.section-timeout:60000}") long timeoutMillis) {
+		this.executor = executor;
+		this.timeoutMillis = timeoutMillis;
+	}
+
+	/**
+	 * 보고서 조회를 시작한다. 제한 시간은 지금부터 계산한다.
+	 *
+	 * @param name 보고서 이름 (로그/오류 메시지용)
+	 */
+	public Report open(String name) {
+		return new Report(name, System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis));
+	}
+
+	/**
+	 * 한 보고서의 섹션 묶음
+	 */
+	public final class Report {
+
+		private final String name;
+		private final long deadline;
+		private final List<Future<?>> futures = new ArrayList<>();
+
+		private Report(String name, long deadline) {
+			this.name = name;
+			this.deadline = deadline;
+		}
+
+		/**
+		 * 섹션 조회를 바로 시작한다.
+		 *
+		 * @param section 섹션 이름
+		 * @param condition 조회 조건 (복사해서 사용)
+		 * @param query 조회
+		 */
+		public <T> SectionResult<T> add(String section, Map<String, Object> condition, Function<Map<String, Object>, T> query) {
+			final Map<String, Object> params = new HashMap<>(condition);
+			final Future<T> future = executor.submit(() -> query.apply(params));
+			futures.add(future);
+			return new SectionResult<>(this, section, future);
+		}
+
+		private void cancelAll() {
+			futures.forEach(future -> future.cancel(true));
+		}
+	}
+
+	/**
+	 * 섹션 조회 결과
+	 */
+	public static final class SectionResult<T> {
+
+		private final Report report;
+		private final String name;
+		private final Future<T> future;
+
+		private SectionResult(Report report, String name, Future<T> future) {
+			this.report = report;
+			this.name = name;
+			this.future = future;
+		}
+
+		/**
+		 * 조회 결과를 기다린다. 조회 중 발생한 RuntimeException 은 그대로 던진다.
+		 */
+		public T get() {
+			try {
+				return future.get(Math.max(0, report.deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+			} catch (TimeoutException e) {
+				report.cancelAll();
+				throw new IllegalStateException("보고서 조회 시간이 초과되었습니다. (" + report.name + "." + name + ")", e);
+			} catch (ExecutionException e) {
+				report.cancelAll();
+				log.error("보고서 섹션 조회 실패: {}.{}", report.name, name, e.getCause());
+				if (e.getCause() instanceof RuntimeException cause) {
+					throw cause;
+				}
+				throw new IllegalStateException("보고서 조회 중 오류가 발생했습니다. (" + report.name + "." + name + ")", e.getCause());
+			} catch (CancellationException e) {
+				throw new IllegalStateException("보고서 조회가 취소되었습니다. (" + report.name + "." + name + ")", e);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				report.cancelAll();
+				throw new IllegalStateException("보고서 조회가 중단되었습니다. (" + report.name + "." + name + ")", e);
+			}
+		}
+	}
+}
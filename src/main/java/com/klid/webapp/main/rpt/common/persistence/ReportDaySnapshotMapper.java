@@ -0,0 +1,41 @@
+package com.klid.webapp.main.rpt.common.persistence;
+
+import java.util.List;
+import java.util.Map;
+
+import org.apache.ibatis.annotations.Param;
+import org.springframework.stereotype.Repository;
+
+import com.klid.webapp.main.rpt.reportCollection.dto.ReportCollectionDto;
+
+/**
+ * 보고서 일 단위 스냅샷 (RPT_DASH_LC_DD / RPT_DASH_LC_DD_STAT)
+ */
+@Repository("reportDaySnapshotMapper")
+public interface ReportDaySnapshotMapper {
+
+	/** 원본(HM_DASH_LC) 일자별 건수/해시 (snapDd, rowCnt, rowHash) */
+	List<Map<String, Object>> selectDashFingerprints(@Param("fromDd") String fromDd, @Param("toDd") String toDd);
+
+	/** 원본 최초 일자 (yyyymmdd) */
+	String selectDashMinDay();
+
+	List<ReportCollectionDto> selectDashDay(@Param("snapDd") String snapDd);
+
+	/** 스냅샷을 만든 일자와 그때의 원본 건수/해시 (snapDd, rowCnt, rowHash) */
+	List<Map<String, Object>> selectSnapshotStats(@Param("fromDd") String fromDd, @Param("toDd") String toDd);
+
+	void lockSnapshot();
+
+	int deleteSnapshot(@Param("snapDd") String snapDd);
+
+	int insertSnapshot(@Param("snapDd") String snapDd, @Param("localNm") String localNm, @Param("orgNm") String orgNm,
+					   @Param("sumJson") String sumJson, @Param("rowCnt") int rowCnt);
+
+	int deleteSnapshotStat(@Param("snapDd") String snapDd);
+
+	int insertSnapshotStat(@Param("snapDd") String snapDd, @Param("rowCnt") long rowCnt, @Param("rowHash") long rowHash);
+
+	/** 스냅샷 조회 (snapDds, sumNm, sAuthMain, sInstCd) */
+	List<ReportCollectionDto> selectSnapshot(Map<String, Object> paramMap);
+}
@@ -21,25 +21,22 @@ import com.klid.webapp.common.Criterion;
 import com.klid.webapp.common.ErrorInfo;
 import com.klid.webapp.common.MsgService;
 import com.klid.webapp.common.ReturnData;
+import com.klid.webapp.common.file.service.XlsStylePalette;
+import com.klid.webapp.common.file.service.XlsTemplateRegistry;
+import com.klid.webapp.main.rpt.common.ReportDaySnapshotService;
 import com.klid.webapp.main.rpt.reportCollection.dto.*;
 import com.klid.webapp.main.rpt.reportCollection.dto.ReportDailyDto;
 import com.klid.webapp.main.rpt.reportCollection.persistence.ReportCollectionMapper;
 import com.klid.webapp.main.rpt.reportDailyState.persistence.ReportDailyStateMapper;
-import com.klid.webapp.webdash.adminControl.dto.InciCntDto;
 import org.apache.commons.lang3.time.DateFormatUtils;
 import org.apache.poi.hssf.usermodel.*;
-import org.apache.poi.hssf.util.HSSFColor;
 import org.apache.poi.ss.usermodel.*;
-import org.apache.poi.ss.usermodel.Font;
-import org.json.JSONObject;
 import org.springframework.stereotype.Service;
 
 import jakarta.annotation.Resource;
 import jakarta.servlet.ServletOutputStream;
 import jakarta.servlet.http.HttpServletResponse;
-import java.awt.Color;
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.text.SimpleDateFormat;
@@ -49,12 +46,24 @@ import java.util.List;
 @Service("reportCollectionService")
 public class ReportCollectionServiceImpl extends MsgService implements ReportCollectionService {
 
+	/** 일일운영현황 유형 (템플릿 8 ~ 13 행) */
+	private static final String[] CTRS_TYPE_NAMES = {"비인가접근", "서비스거부", "악성코드", "웹해킹", "정보수집", "기타"};
+	/** 일일운영현황 지역 (템플릿 34 행 D ~ T 열) */
+	private static final String[] CTRS_LOCAL_NAMES = {"서울", "부산", "대구", "인천", "광주", "대전", "울산", "경기", "강원",
+			"충북", "충남", "전북", "전남", "경북", "경남", "제주", "세종"};
+
 	@Resource(name = "reportCollectionMapper")
 	private ReportCollectionMapper mapper;
 
 	@Resource(name = "reportDailyStateMapper")
 	private ReportDailyStateMapper dailymapper;
 
+	@Resource(name = "reportDaySnapshotService")
+	private ReportDaySnapshotService reportDaySnapshotService;
+
+	@Resource(name = "xlsTemplateRegistry")
+	private XlsTemplateRegistry xlsTemplateRegistry;
+
 	@Override
 	public ReturnData getRetrieveSecurityHackingDetail(Criterion criterion) {
 		return new ReturnData(mapper.getRetrieveSecurityHackingDetail(criterion.getCondition()));
@@ -501,8 +510,14 @@ public class ReportCollectionServiceImpl extends MsgService implements ReportCol
 			c.add(Calendar.DATE, -7);
 			criterion.addParam("weekDt", dt.format(c.getTime()));
 
-			List<ReportCollectionDto> typeList = mapper.selectInciWarnCnt(criterion.getCondition());
-			List<ReportCollectionDto> localList = mapper.selectLocalInciWarnCnt(criterion.getCondition());
+			//지난 일자는 스냅샷에서 조회. 일자 단위로 묶는 경우(종료 235959)만 유형별 현황에 사용
+			List<ReportCollectionDto> typeList;
+			if(endDt.substring(8,endDt.length()).equals("235959")){
+				typeList = reportDaySnapshotService.select(criterion.getCondition(), "weekDt", "endDt", "유형총합", mapper::selectInciWarnCnt);
+			}else{
+				typeList = mapper.selectInciWarnCnt(criterion.getCondition());
+			}
+			List<ReportCollectionDto> localList = reportDaySnapshotService.select(criterion.getCondition(), "startDt", "endDt", "지역총합", mapper::selectLocalInciWarnCnt);
 
 			Date compareDt=dt.parse(endDt);
 
@@ -523,66 +538,22 @@ public class ReportCollectionServiceImpl extends MsgService implements ReportCol
 			compareC.add(Calendar.DATE, -1);
 			 minusSeven = dt.format(compareC.getTime());
 
-			List<InciCntDto> minusOneList = new ArrayList<>();
-			List<InciCntDto> minusTwoList = new ArrayList<>();
-			List<InciCntDto> minusThreeList = new ArrayList<>();
-			List<InciCntDto> minusFourList = new ArrayList<>();
-			List<InciCntDto> minusFiveList = new ArrayList<>();
-			List<InciCntDto> minusSixList = new ArrayList<>();
-			List<InciCntDto> minusSevenList = new ArrayList<>();
-			List<InciCntDto> typeSumList = new ArrayList<>();
-			List<InciCntDto> localSumList = new ArrayList<>();
-
-			if(endDt.substring(8,endDt.length()).equals("235959")){
-				for(ReportCollectionDto sumJson : typeList) {
-					if(sumJson.getRegTime().substring(0,8).equals(minusOne.substring(0,8))){//1일전
-						minusOneList= sumTypeJson(sumJson.getValue(), minusOneList);
-					}else if(sumJson.getRegTime().substring(0,8).equals(minusTwo.substring(0,8))){//2일전
-						minusTwoList= sumTypeJson(sumJson.getValue(), minusTwoList);
-					}else if(sumJson.getRegTime().substring(0,8).equals(minusThree.substring(0,8))){//3일전
-						minusThreeList=sumTypeJson(sumJson.getValue(), minusThreeList);
-					}else if(sumJson.getRegTime().substring(0,8).equals(minusFour.substring(0,8))){//4일전
-						minusFourList=sumTypeJson(sumJson.getValue(), minusFourList);
-					}else if(sumJson.getRegTime().substring(0,8).equals(minusFive.substring(0,8))){//5일전
-						minusFiveList=sumTypeJson(sumJson.getValue(), minusFiveList);
-					}else if(sumJson.getRegTime().substring(0,8).equals(minusSix.substring(0,8))){//6일전
-						minusSixList=sumTypeJson(sumJson.getValue(), minusSixList);
-					}else{//오늘
-						minusSevenList=sumTypeJson(sumJson.getValue(), minusSevenList);
-					}
-					typeSumList = sumTypeJson(sumJson.getValue(), typeSumList);
-				}
-			}else{
-				for(ReportCollectionDto sumJson : typeList) {
-					double regTime= Double.parseDouble(sumJson.getRegTime());
-
-					if(regTime>Double.parseDouble(minusSeven)&&regTime<Double.parseDouble(minusSix)){//6일전
-						minusSixList=sumTypeJson(sumJson.getValue(), minusSixList);
-					}else if(regTime>Double.parseDouble(minusSix)&&regTime<Double.parseDouble(minusFive)){//5일전
-						minusFiveList=sumTypeJson(sumJson.getValue(), minusFiveList);
-					}else if(regTime>Double.parseDouble(minusFive)&&regTime<Double.parseDouble(minusFour)){//4일전
-						minusFourList=sumTypeJson(sumJson.getValue(), minusFourList);
-					}else if(regTime>Double.parseDouble(minusFour)&&regTime<Double.parseDouble(minusThree)){//3일전
-						minusThreeList=sumTypeJson(sumJson.getValue(), minusThreeList);
-					}else if(regTime>Double.parseDouble(minusThree)&&regTime<Double.parseDouble(minusTwo)){//2일전
-						minusTwoList=sumTypeJson(sumJson.getValue(), minusTwoList);
-					}else if(regTime>Double.parseDouble(minusTwo)&&regTime<Double.parseDouble(minusOne)){//1일전
-						minusOneList=sumTypeJson(sumJson.getValue(), minusOneList);
-					}else{//오늘
-						minusSevenList=sumTypeJson(sumJson.getValue(), minusSevenList);
-					}
-					typeSumList = sumTypeJson(sumJson.getValue(), typeSumList);
-				}
+			//일자(7칸) × 유형, 지역 합계
+			ReportDayBuckets buckets = endDt.substring(8,endDt.length()).equals("235959")
+					? ReportDayBuckets.calendar(endDt, 7) : ReportDayBuckets.rolling(endDt, 7);
+			SumJsonMatrix typeMatrix = new SumJsonMatrix(buckets.days(), CTRS_TYPE_NAMES);
+			for(ReportCollectionDto sumJson : typeList) {
+				typeMatrix.add(buckets.indexOf(sumJson.getRegTime()), sumJson.getValue());
 			}
 
+			SumJsonMatrix localMatrix = new SumJsonMatrix(1, CTRS_LOCAL_NAMES);
 			for(ReportCollectionDto sumJson : localList) {
-				localSumList = sumTypeJson(sumJson.getValue(), localSumList);
+				localMatrix.add(0, sumJson.getValue());
 			}
 
 			String filename = AppGlobal.reportTemplate + "report_daily.xls";
 
-			FileInputStream inputStream = new FileInputStream(filename);
-			HSSFWorkbook workbook = new HSSFWorkbook(inputStream);
+			HSSFWorkbook workbook = xlsTemplateRegistry.get(filename);
 			FormulaEvaluator evaluator = workbook.getCreationHelper().createFormulaEvaluator();
 			HSSFSheet sheet = workbook.getSheetAt(0);
 
@@ -628,347 +599,21 @@ public class ReportCollectionServiceImpl extends MsgService implements ReportCol
 				cell.setCellValue(minusOne.substring(4,6)+"-"+minusOne.substring(6,8));
 			}
 
-			//7일치 비인가접근
-			row = sheet.getRow(7);
-			cell = row.getCell(3);
-			for(InciCntDto dto:minusSixList){
-				if(dto.getName().equals("비인가접근")){
-					cell.setCellValue(dto.getEvtCnt());
-				}
-			}
-			cell = row.getCell(4);
-			for(InciCntDto dto:minusFiveList){
-				if(dto.getName().equals("비인가접근")){
-					cell.setCellValue(dto.getEvtCnt());
-				}
-			}
-			cell = row.getCell(5);
-			for(InciCntDto dto:minusFourList){
-				if(dto.getName().equals("비인가접근")){
-					cell.setCellValue(dto.getEvtCnt());
-				}
-			}
-			cell = row.getCell(6);
-			for(InciCntDto dto:minusThreeList){
-				if(dto.getName().equals("비인가접근")){
-					cell.setCellValue(dto.getEvtCnt());
-				}
-			}
-			cell = row.getCell(7);
-			for(InciCntDto dto:minusTwoList){
-				if(dto.getName().equals("비인가접근")){
-					cell.setCellValue(dto.getEvtCnt());
-				}
-			}
-			cell = row.getCell(8);
-			for(InciCntDto dto:minusOneList){
-				if(dto.getName().equals("비인가접근")){
-					cell.setCellValue(dto.getEvtCnt());
-				}
-			}
-			cell = row.getCell(9);
-			for(InciCntDto dto:minusSevenList){
-				if(dto.getName().equals("비인가접근")){
-					cell.setCellValue(dto.getEvtCnt());
-				}
-			}
-
-			//7일치 서비스거부공격
-			row = sheet.getRow(8);
-			cell = row.getCell(3);
-			for(InciCntDto dto:minusSixList){
-				if(dto.getName().equals("서비스거부")){
-					cell.setCellValue(dto.getEvtCnt());
-				}
-			}
-			cell = row.getCell(4);
-			for(InciCntDto dto:minusFiveList){
-				if(dto.getName().equals("서비스거부")){
-					cell.setCellValue(dto.getEvtCnt());
-				}
-			}
-			cell = row.getCell(5);
-			for(InciCntDto dto:minusFourList){
-				if(dto.getName().equals("서비스거부")){
-					cell.setCellValue(dto.getEvtCnt());
-				}
-			}
-			cell = row.getCell(6);
-			for(InciCntDto dto:minusThreeList){
-				if(dto.getName().equals("서비스거부")){
-					cell.setCellValue(dto.getEvtCnt());
-				}
-			}
-			cell = row.getCell(7);
-			for(InciCntDto dto:minusTwoList){
-				if(dto.getName().equals("서비스거부")){
-					cell.setCellValue(dto.getEvtCnt());
-				}
-			}
-			cell = row.getCell(8);
-			for(InciCntDto dto:minusOneList){
-				if(dto.getName().equals("서비스거부")){
-					cell.setCellValue(dto.getEvtCnt());
-				}
-			}
-			cell = row.getCell(9);
-			for(InciCntDto dto:minusSevenList){
-				if(dto.getName().equals("서비스거부")){
-					cell.setCellValue(dto.getEvtCnt());
-				}
-			}
-
-			//7일치 악성코드
-			row = sheet.getRow(9);
-			cell = row.getCell(3);
-			for(InciCntDto dto:minusSixList){
-				if(dto.getName().equals("악성코드")){
-					cell.setCellValue(dto.getEvtCnt());
-				}
-			}
-			cell = row.getCell(4);
-			for(InciCntDto dto:minusFiveList){
-				if(dto.getName().equals("악성코드")){
-					cell.setCellValue(dto.getEvtCnt());
-				}
-			}
-			cell = row.getCell(5);
-			for(InciCntDto dto:minusFourList){
-				if(dto.getName().equals("악성코드")){
-					cell.setCellValue(dto.getEvtCnt());
-				}
-			}
-			cell = row.getCell(6);
-			for(InciCntDto dto:minusThreeList){
-				if(dto.getName().equals("악성코드")){
-					cell.setCellValue(dto.getEvtCnt());
-				}
-			}
-			cell = row.getCell(7);
-			for(InciCntDto dto:minusTwoList){
-				if(dto.getName().equals("악성코드")){
-					cell.setCellValue(dto.getEvtCnt());
-				}
-			}
-			cell = row.getCell(8);
-			for(InciCntDto dto:minusOneList){
-				if(dto.getName().equals("악성코드")){
-					cell.setCellValue(dto.getEvtCnt());
-				}
-			}
-			cell = row.getCell(9);
-			for(InciCntDto dto:minusSevenList){
-				if(dto.getName().equals("악성코드")){
-					cell.setCellValue(dto.getEvtCnt());
-				}
-			}
-
-			//7일치 웹해킹
-			row = sheet.getRow(10);
-			cell = row.getCell(3);
-			for(InciCntDto dto:minusSixList){
-				if(dto.getName().equals("웹해킹")){
-					cell.setCellValue(dto.getEvtCnt());
-				}
-			}
-			cell = row.getCell(4);
-			for(InciCntDto dto:minusFiveList){
-				if(dto.getName().equals("웹해킹")){
-					cell.setCellValue(dto.getEvtCnt());
-				}
-			}
-			cell = row.getCell(5);
-			for(InciCntDto dto:minusFourList){
-				if(dto.getName().equals("웹해킹")){
-					cell.setCellValue(dto.getEvtCnt());
-				}
-			}
-			cell = row.getCell(6);
-			for(InciCntDto dto:minusThreeList){
-				if(dto.getName().equals("웹해킹")){
-					cell.setCellValue(dto.getEvtCnt());
-				}
-			}
-			cell = row.getCell(7);
-			for(InciCntDto dto:minusTwoList){
-				if(dto.getName().equals("웹해킹")){
-					cell.setCellValue(dto.getEvtCnt());
-				}
-			}
-			cell = row.getCell(8);
-			for(InciCntDto dto:minusOneList){
-				if(dto.getName().equals("웹해킹")){
-					cell.setCellValue(dto.getEvtCnt());
-				}
-			}
-			cell = row.getCell(9);
-			for(InciCntDto dto:minusSevenList){
-				if(dto.getName().equals("웹해킹")){
-					cell.setCellValue(dto.getEvtCnt());
-				}
-			}
-
-			//7일치 정보수집
-			row = sheet.getRow(11);
-			cell = row.getCell(3);
-			for(InciCntDto dto:minusSixList){
-				if(dto.getName().equals("정보수집")){
-					cell.setCellValue(dto.getEvtCnt());
-				}
-			}
-			cell = row.getCell(4);
-			for(InciCntDto dto:minusFiveList){
-				if(dto.getName().equals("정보수집")){
-					cell.setCellValue(dto.getEvtCnt());
-				}
-			}
-			cell = row.getCell(5);
-			for(InciCntDto dto:minusFourList){
-				if(dto.getName().equals("정보수집")){
-					cell.setCellValue(dto.getEvtCnt());
-				}
-			}
-			cell = row.getCell(6);
-			for(InciCntDto dto:minusThreeList){
-				if(dto.getName().equals("정보수집")){
-					cell.setCellValue(dto.getEvtCnt());
-				}
-			}
-			cell = row.getCell(7);
-			for(InciCntDto dto:minusTwoList){
-				if(dto.getName().equals("정보수집")){
-					cell.setCellValue(dto.getEvtCnt());
-				}
-			}
-			cell = row.getCell(8);
-			for(InciCntDto dto:minusOneList){
-				if(dto.getName().equals("정보수집")){
-					cell.setCellValue(dto.getEvtCnt());
-				}
-			}
-			cell = row.getCell(9);
-			for(InciCntDto dto:minusSevenList){
-				if(dto.getName().equals("정보수집")){
-					cell.setCellValue(dto.getEvtCnt());
-				}
-			}
-
-			//7일치 기타
-			row = sheet.getRow(12);
-			cell = row.getCell(3);
-			for(InciCntDto dto:minusSixList){
-				if(dto.getName().equals("기타")){
-					cell.setCellValue(dto.getEvtCnt());
-				}
-			}
-			cell = row.getCell(4);
-			for(InciCntDto dto:minusFiveList){
-				if(dto.getName().equals("기타")){
-					cell.setCellValue(dto.getEvtCnt());
-				}
-			}
-			cell = row.getCell(5);
-			for(InciCntDto dto:minusFourList){
-				if(dto.getName().equals("기타")){
-					cell.setCellValue(dto.getEvtCnt());
-				}
-			}
-			cell = row.getCell(6);
-			for(InciCntDto dto:minusThreeList){
-				if(dto.getName().equals("기타")){
-					cell.setCellValue(dto.getEvtCnt());
-				}
-			}
-			cell = row.getCell(7);
-			for(InciCntDto dto:minusTwoList){
-				if(dto.getName().equals("기타")){
-					cell.setCellValue(dto.getEvtCnt());
-				}
-			}
-			cell = row.getCell(8);
-			for(InciCntDto dto:minusOneList){
-				if(dto.getName().equals("기타")){
-					cell.setCellValue(dto.getEvtCnt());
-				}
-			}
-			cell = row.getCell(9);
-			for(InciCntDto dto:minusSevenList){
-				if(dto.getName().equals("기타")){
-					cell.setCellValue(dto.getEvtCnt());
+			//7일치 유형별 (비인가접근, 서비스거부, 악성코드, 웹해킹, 정보수집, 기타)
+			for(int i=0; i<CTRS_TYPE_NAMES.length; i++){
+				row = sheet.getRow(7+i);
+				for(int day=0; day<typeMatrix.days(); day++){
+					if(typeMatrix.has(day, CTRS_TYPE_NAMES[i])){
+						row.getCell(3+day).setCellValue(typeMatrix.get(day, CTRS_TYPE_NAMES[i]));
+					}
 				}
 			}
 
+			//지역별
 			row = sheet.getRow(33);
-			for(InciCntDto dto : localSumList){
-				switch (dto.getName()){
-					case "서울":
-						cell = row.getCell(3);
-						cell.setCellValue(dto.getEvtCnt());
-						break;
-					case "부산":
-						cell = row.getCell(4);
-						cell.setCellValue(dto.getEvtCnt());
-						break;
-					case "대구":
-						cell = row.getCell(5);
-						cell.setCellValue(dto.getEvtCnt());
-						break;
-					case "인천":
-						cell = row.getCell(6);
-						cell.setCellValue(dto.getEvtCnt());
-						break;
-					case "광주":
-						cell = row.getCell(7);
-						cell.setCellValue(dto.getEvtCnt());
-						break;
-					case "대전":
-						cell = row.getCell(8);
-						cell.setCellValue(dto.getEvtCnt());
-						break;
-					case "울산":
-						cell = row.getCell(9);
-						cell.setCellValue(dto.getEvtCnt());
-						break;
-					case "경기":
-						cell = row.getCell(10);
-						cell.setCellValue(dto.getEvtCnt());
-						break;
-					case "강원":
-						cell = row.getCell(11);
-						cell.setCellValue(dto.getEvtCnt());
-						break;
-					case "충북":
-						cell = row.getCell(12);
-						cell.setCellValue(dto.getEvtCnt());
-						break;
-					case "충남":
-						cell = row.getCell(13);
-						cell.setCellValue(dto.getEvtCnt());
-						break;
-					case "전북":
-						cell = row.getCell(14);
-						cell.setCellValue(dto.getEvtCnt());
-						break;
-					case "전남":
-						cell = row.getCell(15);
-						cell.setCellValue(dto.getEvtCnt());
-						break;
-					case "경북":
-						cell = row.getCell(16);
-						cell.setCellValue(dto.getEvtCnt());
-						break;
-					case "경남":
-						cell = row.getCell(17);
-						cell.setCellValue(dto.getEvtCnt());
-						break;
-					case "제주":
-						cell = row.getCell(18);
-						cell.setCellValue(dto.getEvtCnt());
-						break;
-					case "세종":
-						cell = row.getCell(19);
-						cell.setCellValue(dto.getEvtCnt());
-						break;
+			for(int i=0; i<CTRS_LOCAL_NAMES.length; i++){
+				if(localMatrix.has(0, CTRS_LOCAL_NAMES[i])){
+					row.getCell(3+i).setCellValue(localMatrix.get(0, CTRS_LOCAL_NAMES[i]));
 				}
 			}
 
@@ -1098,12 +743,13 @@ public class ReportCollectionServiceImpl extends MsgService implements ReportCol
 			//"inciAcpnDt" -> "2019-01-24 06:44:35.0"
 			//"inciPrcsStatCodeNm" -> "이관"
 
-			setGridDataPush(detailGrid,sheet,19,"접수현황",workbook);
-			setGridDataPush(detailGrid2,sheet,22+detailGrid.size(),"종결현황",workbook);
-			setGridDataPush(detailGrid3,sheet,25+detailGrid.size()+detailGrid2.size(),"폐기종결현황",workbook);
-			setGridDataPush(detailGrid4,sheet,28+detailGrid.size()+detailGrid2.size()+detailGrid3.size(),"오탐종결현황",workbook);
-			setGridDataPush(detailGrid5,sheet,31+detailGrid.size()+detailGrid2.size()+detailGrid3.size()+detailGrid4.size(),"주의관제종결현황",workbook);
-			setGridDataPush(detailGrid6,sheet,34+detailGrid.size()+detailGrid2.size()+detailGrid3.size()+detailGrid4.size()+detailGrid5.size(),"시도종결현황",workbook);
+			XlsStylePalette palette = new XlsStylePalette(workbook);
+			setGridDataPush(detailGrid,sheet,19,"접수현황",palette);
+			setGridDataPush(detailGrid2,sheet,22+detailGrid.size(),"종결현황",palette);
+			setGridDataPush(detailGrid3,sheet,25+detailGrid.size()+detailGrid2.size(),"폐기종결현황",palette);
+			setGridDataPush(detailGrid4,sheet,28+detailGrid.size()+detailGrid2.size()+detailGrid3.size(),"오탐종결현황",palette);
+			setGridDataPush(detailGrid5,sheet,31+detailGrid.size()+detailGrid2.size()+detailGrid3.size()+detailGrid4.size(),"주의관제종결현황",palette);
+			setGridDataPush(detailGrid6,sheet,34+detailGrid.size()+detailGrid2.size()+detailGrid3.size()+detailGrid4.size()+detailGrid5.size(),"시도종결현황",palette);
 
 			workbook.getCreationHelper().createFormulaEvaluator().evaluateAll();
 			//workbook.setForceFormulaRecalculation(true);
@@ -1687,6 +1333,7 @@ public class ReportCollectionServiceImpl extends MsgService implements ReportCol
 					fos.flush();
 					fos.close();
 				}
+				workbook.close();
 			}
 //			xls.save(fileName);
 			Map<String, String> resultMap = new HashMap<String, String>();
@@ -1713,82 +1360,12 @@ public class ReportCollectionServiceImpl extends MsgService implements ReportCol
 		return returnData;
 	}
 
-	public List<InciCntDto> sumTypeJson(String values, List<InciCntDto> list){
-		JSONObject jsonObj = new JSONObject(values);
-		Iterator<String> keys = jsonObj.keys();
-		Map<String, Integer> map = new HashMap<>();
-		while(keys.hasNext()) {
-			String key = keys.next();
-			int value = jsonObj.getInt(key);
-			if(map.containsKey(key)) {
-				map.put(key, map.get(key) + value);
-			}
-			else {
-				map.put(key, value);
-			}
-		}
-		Iterator<String> mapKeys =  map.keySet().iterator();
-		while(mapKeys.hasNext()) {
-			String mapKey = mapKeys.next();
-			InciCntDto dto = new InciCntDto(mapKey, map.get(mapKey));
-
-			boolean equals= false;
-			for(int i=0; i<list.size(); i++){
-				if(list.get(i).getName().equals(dto.getName())){
-					equals=true;
-					list.get(i).setEvtCnt(list.get(i).getEvtCnt()+dto.getEvtCnt());
-				}
-			}
-			if(!equals)
-				list.add(dto);
-		}
-
-		return list;
-	}
-
-	public void setGridDataPush(ArrayList<LinkedHashMap<String,Object>> grid, HSSFSheet sheet, int startRow, String title, Workbook workbook) {
+	public void setGridDataPush(ArrayList<LinkedHashMap<String,Object>> grid, HSSFSheet sheet, int startRow, String title, XlsStylePalette palette) {
 
 		//NO 사고 접수	피해기관	신고기관	탐지명	공격유형	접수일자	접수일시	처리상태
-		CellStyle headerStyle = workbook.createCellStyle();
-		Font headerFont = workbook.createFont();
-		CellStyle noStyle = workbook.createCellStyle();
-		CellStyle dataStyle = workbook.createCellStyle();
-		HSSFPalette palette = ((HSSFWorkbook) workbook).getCustomPalette();
-		HSSFColor poiColor = null;
-		int r=0,g=0,b=0;
-		Color awtColor = Color.decode("#FFCC99");
-		r = awtColor.getRed();
-		g = awtColor.getGreen();
-		b = awtColor.getBlue();
-		poiColor = palette.findColor((byte) r, (byte) g, (byte) b);
-		if (poiColor == null) {
-			palette.setColorAtIndex(HSSFColor.HSSFColorPredefined.TAN.getIndex(), (byte)r, (byte)g, (byte)b);
-			poiColor = palette.getColor(HSSFColor.HSSFColorPredefined.TAN.getIndex());
-		}
-
-		headerFont.setBold(true);
-		headerStyle.setAlignment(HorizontalAlignment.CENTER);
-		headerStyle.setFillForegroundColor(poiColor.getIndex());
-		headerStyle.setFillPattern(FillPatternType.SOLID_FOREGROUND);
-		headerStyle.setFont(headerFont);
-		headerStyle.setBorderTop(BorderStyle.THIN);
-		headerStyle.setBorderBottom(BorderStyle.THIN);
-		headerStyle.setBorderLeft(BorderStyle.THIN);
-		headerStyle.setBorderRight(BorderStyle.THIN);
-
-		noStyle.setAlignment(HorizontalAlignment.CENTER);
-		noStyle.setFillForegroundColor(poiColor.getIndex());
-		noStyle.setFillPattern(FillPatternType.SOLID_FOREGROUND);
-		noStyle.setBorderTop(BorderStyle.THIN);
-		noStyle.setBorderBottom(BorderStyle.THIN);
-		noStyle.setBorderLeft(BorderStyle.THIN);
-		noStyle.setBorderRight(BorderStyle.THIN);
-
-		dataStyle.setAlignment(HorizontalAlignment.CENTER);
-		dataStyle.setBorderTop(BorderStyle.THIN);
-		dataStyle.setBorderBottom(BorderStyle.THIN);
-		dataStyle.setBorderLeft(BorderStyle.THIN);
-		dataStyle.setBorderRight(BorderStyle.THIN);
+		CellStyle headerStyle = palette.get(new XlsStylePalette.Style(HorizontalAlignment.CENTER, true, "#FFCC99", true));
+		CellStyle noStyle = palette.get(new XlsStylePalette.Style(HorizontalAlignment.CENTER, false, "#FFCC99", true));
+		CellStyle dataStyle = palette.get(new XlsStylePalette.Style(HorizontalAlignment.CENTER, false, null, true));
 
 		HSSFRow row = sheet.createRow(startRow);
 		HSSFCell cell = row.getCell(1);
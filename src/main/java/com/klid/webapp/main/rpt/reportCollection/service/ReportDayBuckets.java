@@ -0,0 +1,95 @@
+package com.klid.webapp.main.rpt.reportCollection.service;
+
+/**
+ * 보고서 일자별 칸 나누기
+ * - 종료 일시 기준 최근 n 일을 0 ~ n-1 칸으로 나눈다. 마지막 칸(n-1)은 종료일(또는 종료 일시 직전 24시간)과 그 외 나머지 행이다.
+ * - calendar : 일자(epoch day) 차이로 나눈다. k 일 전(1 ~ n-1) 행은 n-1-k 칸.
+ * - rolling : 종료 일시부터 24시간씩 거꾸로 나눈다. 경계 시각에 걸린 행은 마지막 칸으로 간다.
+ * - 일시(yyyyMMddHHmmss)는 숫자로 바로 계산하므로 행마다 날짜 객체를 만들지 않는다.
+ */
+public final class ReportDayBuckets {
+
+	private static final long DAY_SECONDS = 24 * 60 * 60L;
+
+	private final boolean calendar;
+	private final long end;
+	private final int days;
+
+	private ReportDayBuckets(boolean calendar, long end, int days) {
+		this.calendar = calendar;
+		this.end = end;
+		this.days = days;
+	}
+
+	/**
+	 * @param endDt 종료 일시 (yyyyMMdd...)
+	 * @param days 칸 수
+	 */
+	public static ReportDayBuckets calendar(String endDt, int days) {
+		return new ReportDayBuckets(true, epochDay(endDt), days);
+	}
+
+	/**
+	 * @param endDt 종료 일시 (yyyyMMddHHmmss)
+	 * @param days 칸 수
+	 */
+	public static ReportDayBuckets rolling(String endDt, int days) {
+		return new ReportDayBuckets(false, epochSecond(endDt), days);
+	}
+
+	public int days() {
+		return days;
+	}
+
+	/**
+	 * 행의 칸 (0 ~ days-1)
+	 *
+	 * @param regTime 행 일시 (yyyyMMddHHmmss)
+	 */
+	public int indexOf(String regTime) {
+		final long k;
+		if (calendar) {
+			k = end - epochDay(regTime);
+		} else {
+			final long diff = end - epochSecond(regTime);
+			//k*24시간 < diff < (k+1)*24시간 인 경우만 k 일 전
+			k = diff > 0 && diff % DAY_SECONDS != 0 ? diff / DAY_SECONDS : 0;
+		}
+		return k >= 1 && k <= days - 1 ? (int) (days - 1 - k) : days - 1;
+	}
+
+	static long epochDay(String dt) {
+		int y = digits(dt, 0, 4);
+		final int m = digits(dt, 4, 2);
+		final int d = digits(dt, 6, 2);
+		if (m < 1 || m > 12 || d < 1 || d > 31) {
+			throw new IllegalArgumentException("일시 형식이 올바르지 않습니다: " + dt);
+		}
+		//civil from days (proleptic gregorian)
+		y -= m <= 2 ? 1 : 0;
+		final int era = Math.floorDiv(y, 400);
+		final int yoe = y - era * 400;
+		final int doy = (153 * (m + (m > 2 ? -3 : 9)) + 2) / 5 + d - 1;
+		final int doe = yoe * 365 + yoe / 4 - yoe / 100 + doy;
+		return era * 146097L + doe - 719468;
+	}
+
+	static long epochSecond(String dt) {
+		return epochDay(dt) * DAY_SECONDS + digits(dt, 8, 2) * 3600L + digits(dt, 10, 2) * 60L + digits(dt, 12, 2);
+	}
+
+	private static int digits(String dt, int start, int length) {
+		if (dt == null || dt.length() < start + length) {
+			throw new IllegalArgumentException("일시 형식이 올바르지 않습니다: " + dt);
+		}
+		int value = 0;
+		for (int i = start; i < start + length; i++) {
+			final char c = dt.charAt(i);
+			if (c < '0' || c > '9') {
+				throw new IllegalArgumentException("일시 형식이 올바르지 않습니다: " + dt);
+			}
+			value = value * 10 + (c - '0');
+		}
+		return value;
+	}
+}
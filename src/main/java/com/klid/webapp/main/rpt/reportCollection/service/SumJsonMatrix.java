@@ -0,0 +1,225 @@
+package com.klid.webapp.main.rpt.reportCollection.service;
+
+import java.util.Arrays;
+
+/**
+ * 탐지 현황 SUM_JSON 집계 (일자 × 항목 건수)
+ * - 항목(탐지 유형, 지역 등)은 생성할 때 정하고, 그 외 항목은 건수만 확인하고 버린다.
+ * - SUM_JSON({"항목":건수, ...})은 문자열을 직접 읽어서 더하므로 행마다 JSON 객체를 만들지 않는다.
+ * - 한 번이라도 나온 항목만 has 가 true 이다. (출력 시 나오지 않은 항목은 템플릿 값을 그대로 둔다)
+ */
+public final class SumJsonMatrix {
+
+	private final String[] names;
+	private final int[] counts;
+	private final boolean[] present;
+
+	/**
+	 * @param days 일자 수
+	 * @param names 항목 이름
+	 */
+	public SumJsonMatrix(int days, String... names) {
+		this.names = names.clone();
+		this.counts = new int[days * names.length];
+		this.present = new boolean[days * names.length];
+	}
+
+	public int days() {
+		return counts.length / Math.max(1, names.length);
+	}
+
+	public int index(String name) {
+		for (int i = 0; i < names.length; i++) {
+			if (names[i].equals(name)) {
+				return i;
+			}
+		}
+		throw new IllegalArgumentException("항목이 없습니다: " + name);
+	}
+
+	public int get(int day, String name) {
+		return counts[day * names.length + index(name)];
+	}
+
+	public boolean has(int day, String name) {
+		return present[day * names.length + index(name)];
+	}
+
+	/**
+	 * SUM_JSON 의 건수를 일자에 더한다. 값이 없으면 무시한다.
+	 *
+	 * @param day 일자 (0 부터)
+	 * @param sumJson {"항목":건수, ...}
+	 * @throws IllegalArgumentException 형식이 잘못된 경우
+	 */
+	public void add(int day, String sumJson) {
+		if (sumJson == null) {
+			return;
+		}
+		final int base = day * names.length;
+		final int length = sumJson.length();
+		int pos = skipSpace(sumJson, 0);
+		pos = expect(sumJson, pos, '{');
+		pos = skipSpace(sumJson, pos);
+		if (pos < length && sumJson.charAt(pos) == '}') {
+			return;
+		}
+		while (true) {
+			pos = expect(sumJson, skipSpace(sumJson, pos), '"');
+			final int keyStart = pos;
+			boolean escaped = false;
+			while (pos < length && sumJson.charAt(pos) != '"') {
+				if (sumJson.charAt(pos) == '\\') {
+					escaped = true;
+					pos++;
+				}
+				pos++;
+			}
+			if (pos >= length) {
+				throw malformed(sumJson);
+			}
+			final int index = escaped ? indexOfKey(unescape(sumJson, keyStart, pos)) : indexOfKey(sumJson, keyStart, pos);
+			pos = expect(sumJson, skipSpace(sumJson, pos + 1), ':');
+			pos = skipSpace(sumJson, pos);
+
+			final boolean quoted = pos < length && sumJson.charAt(pos) == '"';
+			if (quoted) {
+				pos++;
+			}
+			final int valueStart = pos;
+			while (pos < length && isNumberChar(sumJson.charAt(pos))) {
+				pos++;
+			}
+			final int value = parseInt(sumJson, valueStart, pos);
+			if (quoted) {
+				pos = expect(sumJson, pos, '"');
+			}
+			if (index >= 0) {
+				counts[base + index] += value;
+				present[base + index] = true;
+			}
+
+			pos = skipSpace(sumJson, pos);
+			if (pos < length && sumJson.charAt(pos) == ',') {
+				pos++;
+				continue;
+			}
+			pos = expect(sumJson, pos, '}');
+			if (skipSpace(sumJson, pos) != length) {
+				throw malformed(sumJson);
+			}
+			return;
+		}
+	}
+
+	private int indexOfKey(String json, int start, int end) {
+		final int keyLength = end - start;
+		for (int i = 0; i < names.length; i++) {
+			if (names[i].length() == keyLength && json.regionMatches(start, names[i], 0, keyLength)) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private int indexOfKey(String key) {
+		return Arrays.asList(names).indexOf(key);
+	}
+
+	private static boolean isNumberChar(char c) {
+		return (c >= '0' && c <= '9') || c == '-' || c == '+' || c == '.' || c == 'e' || c == 'E';
+	}
+
+	/**
+	 * 정수는 바로 읽고, 소수/지수 표기는 소수점 이하를 버린다.
+	 */
+	private static int parseInt(String json, int start, int end) {
+		if (start == end) {
+			throw malformed(json);
+		}
+		int pos = start;
+		final boolean negative = json.charAt(pos) == '-';
+		if (negative || json.charAt(pos) == '+') {
+			pos++;
+		}
+		if (pos == end) {
+			throw malformed(json);
+		}
+		long value = 0;
+		for (; pos < end; pos++) {
+			final char c = json.charAt(pos);
+			if (c < '0' || c > '9') {
+				try {
+					return (int) Double.parseDouble(json.substring(start, end));
+				} catch (NumberFormatException e) {
+					throw malformed(json);
+				}
+			}
+			value = value * 10 + (c - '0');
+			if (value > (negative ? Integer.MAX_VALUE + 1L : Integer.MAX_VALUE)) {
+				throw malformed(json);
+			}
+		}
+		return (int) (negative ? -value : value);
+	}
+
+	private static String unescape(String json, int start, int end) {
+		final StringBuilder sb = new StringBuilder(end - start);
+		for (int pos = start; pos < end; pos++) {
+			char c = json.charAt(pos);
+			if (c == '\\') {
+				c = json.charAt(++pos);
+				switch (c) {
+					case 'u':
+						if (pos + 4 >= end) {
+							throw malformed(json);
+						}
+						try {
+							c = (char) Integer.parseInt(json.substring(pos + 1, pos + 5), 16);
+						} catch (NumberFormatException e) {
+							throw malformed(json);
+						}
+						pos += 4;
+						break;
+					case 'n':
+						c = '\n';
+						break;
+					case 't':
+						c = '\t';
+						break;
+					case 'r':
+						c = '\r';
+						break;
+					case 'b':
+						c = '\b';
+						break;
+					case 'f':
+						c = '\f';
+						break;
+					default:
+						break;
+				}
+			}
+			sb.append(c);
+		}
+		return sb.toString();
+	}
+
+	private static int skipSpace(String json, int pos) {
+		while (pos < json.length() && Character.isWhitespace(json.charAt(pos))) {
+			pos++;
+		}
+		return pos;
+	}
+
+	private static int expect(String json, int pos, char c) {
+		if (pos >= json.length() || json.charAt(pos) != c) {
+			throw malformed(json);
+		}
+		return pos + 1;
+	}
+
+	private static IllegalArgumentException malformed(String json) {
+		return new IllegalArgumentException("SUM_JSON 형식이 올바르지 않습니다: " + json);
+	}
+}
@@ -39,12 +39,12 @@ import com.klid.common.hwplib.object.docinfo.borderfill.fillinfo.FillInfo;
 import com.klid.common.hwplib.object.docinfo.borderfill.fillinfo.ImageFill;
 import com.klid.common.hwplib.object.docinfo.borderfill.fillinfo.ImageFillType;
 import com.klid.common.hwplib.object.docinfo.borderfill.fillinfo.PictureEffect;
-import com.klid.common.hwplib.reader.HWPReader;
 import com.klid.common.hwplib.writer.HWPWriter;
 import com.klid.webapp.common.Criterion;
 import com.klid.webapp.common.ErrorInfo;
 import com.klid.webapp.common.MsgService;
 import com.klid.webapp.common.ReturnData;
+import com.klid.webapp.common.file.service.HwpTemplateRegistry;
 import com.klid.webapp.main.rpt.reportDailyInciState.persistence.ReportDailyInciStateMapper;
 import com.klid.webapp.main.rpt.reportDailyState.persistence.ReportDailyStateMapper;
 import org.apache.commons.lang3.StringUtils;
@@ -68,6 +68,9 @@ public class 	ReportDailyInciStateServiceImpl extends MsgService implements Repo
 	@Resource(name = "reportDailyInciStateMapper")
 	private ReportDailyInciStateMapper mapper;
 
+	@Resource(name = "hwpTemplateRegistry")
+	private HwpTemplateRegistry hwpTemplateRegistry;
+
 	/** 시도별 일일 사고처리 현황  일일 조회 처리  */
 	@Override
 	public ReturnData getDailyList(Criterion criterion) {
@@ -115,7 +118,7 @@ public class 	ReportDailyInciStateServiceImpl extends MsgService implements Repo
 			ArrayList<LinkedHashMap<String, Object>> dailyTotList = (ArrayList<LinkedHashMap<String, Object>>)reqMap.get("dailyTotGrid");
 
 			String filename = AppGlobal.reportTemplate+"report_sido.hwp";
-			HWPFile hwpFile = HWPReader.fromFile(filename);
+			HWPFile hwpFile = hwpTemplateRegistry.get(filename);
 			Section section = hwpFile.getBodyText().getSectionList().get(0);
 
 
@@ -22,12 +22,15 @@ import com.klid.common.hwplib.object.bodytext.control.Control;
 import com.klid.common.hwplib.object.bodytext.control.ControlTable;
 import com.klid.common.hwplib.object.bodytext.control.ControlType;
 import com.klid.common.hwplib.object.bodytext.control.table.Row;
-import com.klid.common.hwplib.reader.HWPReader;
 import com.klid.common.hwplib.writer.HWPWriter;
 import com.klid.webapp.common.Criterion;
 import com.klid.webapp.common.ErrorInfo;
 import com.klid.webapp.common.MsgService;
 import com.klid.webapp.common.ReturnData;
+import com.klid.webapp.common.file.service.HwpTemplateRegistry;
+import com.klid.webapp.main.rpt.common.ReportSectionExecutor;
+import com.klid.webapp.main.rpt.common.ReportSectionExecutor.Report;
+import com.klid.webapp.main.rpt.common.ReportSectionExecutor.SectionResult;
 import com.klid.webapp.main.rpt.reportDaily.dto.ReportDailyDto;
 import com.klid.webapp.main.rpt.reportDaily.persistence.ReportDailyMapper;
 import com.klid.webapp.main.rpt.reportDailyState.dto.ReportDailyStateDto;
@@ -48,6 +51,12 @@ public class ReportDailyStateServiceImpl extends MsgService implements ReportDai
 	@Resource(name = "reportDailyStateMapper")
 	private ReportDailyStateMapper mapper;
 
+	@Resource(name = "hwpTemplateRegistry")
+	private HwpTemplateRegistry hwpTemplateRegistry;
+
+	@Resource(name = "reportSectionExecutor")
+	private ReportSectionExecutor reportSectionExecutor;
+
 	/** 교대 근무자 */
 	@Override
 	public ReturnData getRotationList(Criterion criterion) {
@@ -57,9 +66,13 @@ public class ReportDailyStateServiceImpl extends MsgService implements ReportDai
 	/** 일일 사고처리 */
 	@Override
 	public ReturnData getDailyList(Criterion criterion) {
-		List<ReportDailyDto> reportSum = mapper.selectReportSum(criterion.getCondition());
+		Report report = reportSectionExecutor.open("daily.dailyList");
+		SectionResult<List<ReportDailyDto>> sum = report.add("sum", criterion.getCondition(), mapper::selectReportSum);
+		SectionResult<List<ReportDailyDto>> dayStat = report.add("dayStat", criterion.getCondition(), mapper::selectReportDayStat);
+
+		List<ReportDailyDto> reportSum = sum.get();
 		int sumsVal = reportSum.get(0).getSums();
-		List<ReportDailyDto> reportDayStatList = mapper.selectReportDayStat(criterion.getCondition());
+		List<ReportDailyDto> reportDayStatList = dayStat.get();
 		reportDayStatList.get(0).setSums(sumsVal);
 		reportDayStatList.get(0).setT_end_cnt(reportSum.get(0).getSums());
 		ReturnData returnData = new ReturnData(reportDayStatList);
@@ -70,9 +83,13 @@ public class ReportDailyStateServiceImpl extends MsgService implements ReportDai
 	/** 사고 처리 누계 */
 	@Override
 	public ReturnData getDailyTotList(Criterion criterion) {
-		List<ReportDailyDto> reportSum = mapper.selectReportSum(criterion.getCondition());
+		Report report = reportSectionExecutor.open("daily.dailyTotList");
+		SectionResult<List<ReportDailyDto>> sum = report.add("sum", criterion.getCondition(), mapper::selectReportSum);
+		SectionResult<List<ReportDailyDto>> sumStat = report.add("sumStat", criterion.getCondition(), mapper::selectReportSumStat);
 
-		List<ReportDailyDto> reportDayStatList = mapper.selectReportSumStat(criterion.getCondition());
+		List<ReportDailyDto> reportSum = sum.get();
+
+		List<ReportDailyDto> reportDayStatList = sumStat.get();
 
 		for(int i=0; i< reportDayStatList.size(); i++){
 			if(reportSum.size()<=i){
@@ -91,9 +108,14 @@ public class ReportDailyStateServiceImpl extends MsgService implements ReportDai
 	@Override
 	public ReturnData getTypeAccidentList(Criterion criterion) {
 
-		List<ReportDailyDto> reportSum = mapper.selectReportTypeSum(criterion.getCondition());
-		List<ReportDailyDto> reportDayStatList = mapper.selectReportDayType(criterion.getCondition());
-		List<ReportDailyDto> reportNcscList = mapper.selectReportNcsc(criterion.getCondition());
+		Report report = reportSectionExecutor.open("daily.typeAccidentList");
+		SectionResult<List<ReportDailyDto>> typeSum = report.add("typeSum", criterion.getCondition(), mapper::selectReportTypeSum);
+		SectionResult<List<ReportDailyDto>> dayType = report.add("dayType", criterion.getCondition(), mapper::selectReportDayType);
+		SectionResult<List<ReportDailyDto>> ncsc = report.add("ncsc", criterion.getCondition(), mapper::selectReportNcsc);
+
+		List<ReportDailyDto> reportSum = typeSum.get();
+		List<ReportDailyDto> reportDayStatList = dayType.get();
+		List<ReportDailyDto> reportNcscList = ncsc.get();
 
 		for(int i=0; i< reportDayStatList.size(); i++){
 			if(reportSum.size()<=i){
@@ -123,7 +145,7 @@ public class ReportDailyStateServiceImpl extends MsgService implements ReportDai
 
 //			String filename = AppGlobal.reportTemplate+"report_total_day"+(String)reqMap.get("days")+".hwp";
 			String filename = AppGlobal.reportTemplate+"report2.hwp";
-			HWPFile hwpFile = HWPReader.fromFile(filename);
+			HWPFile hwpFile = hwpTemplateRegistry.get(filename);
 			Section section = hwpFile.getBodyText().getSectionList().get(0);
 
 			Control c = section.getParagraph(1).getControlList().get(0);
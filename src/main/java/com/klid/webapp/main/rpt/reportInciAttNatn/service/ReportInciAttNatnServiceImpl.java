@@ -22,12 +22,12 @@ import com.klid.common.hwplib.object.bodytext.Section;
 import com.klid.common.hwplib.object.bodytext.control.Control;
 import com.klid.common.hwplib.object.bodytext.control.ControlTable;
 import com.klid.common.hwplib.object.bodytext.control.table.Row;
-import com.klid.common.hwplib.reader.HWPReader;
 import com.klid.common.hwplib.writer.HWPWriter;
 import com.klid.webapp.common.Criterion;
 import com.klid.webapp.common.ErrorInfo;
 import com.klid.webapp.common.MsgService;
 import com.klid.webapp.common.ReturnData;
+import com.klid.webapp.common.file.service.HwpTemplateRegistry;
 import com.klid.webapp.main.rpt.reportInciAttNatn.persistence.ReportInciAttNatnMapper;
 import org.apache.commons.lang3.time.DateFormatUtils;
 import org.springframework.stereotype.Service;
@@ -46,6 +46,9 @@ public class ReportInciAttNatnServiceImpl extends MsgService implements ReportIn
 	@Resource(name = "reportInciAttNatnMapper")
 	private ReportInciAttNatnMapper mapper;
 
+	@Resource(name = "hwpTemplateRegistry")
+	private HwpTemplateRegistry hwpTemplateRegistry;
+
 	/** 시도 그리드 조회 */
 	@Override
 	public ReturnData getAttList(Criterion criterion) {
@@ -65,7 +68,7 @@ public class ReportInciAttNatnServiceImpl extends MsgService implements ReportIn
 
 			String filename = AppGlobal.reportTemplate+"report_type_"+attGrid.size()+".hwp";
 
-			HWPFile hwpFile = HWPReader.fromFile(filename);
+			HWPFile hwpFile = hwpTemplateRegistry.get(filename);
 
 			Section section = hwpFile.getBodyText().getSectionList().get(0);
 
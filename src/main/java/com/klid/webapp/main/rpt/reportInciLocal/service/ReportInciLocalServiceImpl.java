@@ -22,12 +22,12 @@ import com.klid.common.hwplib.object.bodytext.Section;
 import com.klid.common.hwplib.object.bodytext.control.Control;
 import com.klid.common.hwplib.object.bodytext.control.ControlTable;
 import com.klid.common.hwplib.object.bodytext.control.table.Row;
-import com.klid.common.hwplib.reader.HWPReader;
 import com.klid.common.hwplib.writer.HWPWriter;
 import com.klid.webapp.common.Criterion;
 import com.klid.webapp.common.ErrorInfo;
 import com.klid.webapp.common.MsgService;
 import com.klid.webapp.common.ReturnData;
+import com.klid.webapp.common.file.service.HwpTemplateRegistry;
 import com.klid.webapp.main.rpt.reportInciLocal.persistence.ReportInciLocalMapper;
 import org.apache.commons.lang3.time.DateFormatUtils;
 import org.springframework.stereotype.Service;
@@ -47,6 +47,9 @@ public class ReportInciLocalServiceImpl extends MsgService implements ReportInci
 	@Resource(name = "reportInciLocalMapper")
 	private ReportInciLocalMapper mapper;
 
+	@Resource(name = "hwpTemplateRegistry")
+	private HwpTemplateRegistry hwpTemplateRegistry;
+
 	/** 시도 그리드 조회 */
 	@Override
 	public ReturnData getLocalList(Criterion criterion) {
@@ -83,7 +86,7 @@ public class ReportInciLocalServiceImpl extends MsgService implements ReportInci
 
 			String filename = AppGlobal.reportTemplate+"report_type_"+localGrid.size()+".hwp";
 
-			HWPFile hwpFile = HWPReader.fromFile(filename);
+			HWPFile hwpFile = hwpTemplateRegistry.get(filename);
 
 			Section section = hwpFile.getBodyText().getSectionList().get(0);
 
@@ -22,12 +22,12 @@ import com.klid.common.hwplib.object.bodytext.Section;
 import com.klid.common.hwplib.object.bodytext.control.Control;
 import com.klid.common.hwplib.object.bodytext.control.ControlTable;
 import com.klid.common.hwplib.object.bodytext.control.table.Row;
-import com.klid.common.hwplib.reader.HWPReader;
 import com.klid.common.hwplib.writer.HWPWriter;
 import com.klid.webapp.common.Criterion;
 import com.klid.webapp.common.ErrorInfo;
 import com.klid.webapp.common.MsgService;
 import com.klid.webapp.common.ReturnData;
+import com.klid.webapp.common.file.service.HwpTemplateRegistry;
 import com.klid.webapp.main.rpt.reportInciPrty.persistence.ReportInciPrtyMapper;
 import org.apache.commons.lang3.time.DateFormatUtils;
 import org.springframework.stereotype.Service;
@@ -47,6 +47,9 @@ public class ReportInciPrtyServiceImpl extends MsgService implements ReportInciP
 	@Resource(name = "reportInciPrtyMapper")
 	private ReportInciPrtyMapper mapper;
 
+	@Resource(name = "hwpTemplateRegistry")
+	private HwpTemplateRegistry hwpTemplateRegistry;
+
 	/** 사고유형 그리드 조회 */
 	@Override
 	public ReturnData getPrtyList(Criterion criterion) {
@@ -66,7 +69,7 @@ public class ReportInciPrtyServiceImpl extends MsgService implements ReportInciP
 			String filename = AppGlobal.reportTemplate+"report_type_"+prtyGrid.size()+".hwp";
 
 
-			HWPFile hwpFile = HWPReader.fromFile(filename);
+			HWPFile hwpFile = hwpTemplateRegistry.get(filename);
 
 			Section section = hwpFile.getBodyText().getSectionList().get(0);
 
@@ -21,12 +21,12 @@ import com.klid.common.hwplib.object.bodytext.Section;
 import com.klid.common.hwplib.object.bodytext.control.Control;
 import com.klid.common.hwplib.object.bodytext.control.ControlTable;
 import com.klid.common.hwplib.object.bodytext.control.table.Row;
-import com.klid.common.hwplib.reader.HWPReader;
 import com.klid.common.hwplib.writer.HWPWriter;
 import com.klid.webapp.common.Criterion;
 import com.klid.webapp.common.ErrorInfo;
 import com.klid.webapp.common.MsgService;
 import com.klid.webapp.common.ReturnData;
+import com.klid.webapp.common.file.service.HwpTemplateRegistry;
 import com.klid.webapp.main.rpt.reportSecurityResult.persistence.ReportSecurityResultMapper;
 import org.apache.commons.lang3.time.DateFormatUtils;
 import org.springframework.stereotype.Service;
@@ -43,6 +43,9 @@ public class ReportSecurityResultServiceImpl extends MsgService implements Repor
 	@Resource(name = "reportSecurityResultMapper")
 	private ReportSecurityResultMapper mapper;
 
+	@Resource(name = "hwpTemplateRegistry")
+	private HwpTemplateRegistry hwpTemplateRegistry;
+
 	/** 일일 보안관제결과 통보양식 - 통계 */
 	@Override
 	public ReturnData getResultTotal(Criterion criterion) {
@@ -69,7 +72,7 @@ public class ReportSecurityResultServiceImpl extends MsgService implements Repor
 			Map<String, Object> reqMap = criterion.getCondition();
 
 			String filename = AppGlobal.reportTemplate+"report_security.hwp";
-			HWPFile hwpFile = HWPReader.fromFile(filename);
+			HWPFile hwpFile = hwpTemplateRegistry.get(filename);
 			Section section = hwpFile.getBodyText().getSectionList().get(0);
 
 			Control c = section.getParagraph(2).getControlList().get(0);
@@ -21,12 +21,15 @@ import com.klid.common.hwplib.object.bodytext.Section;
 import com.klid.common.hwplib.object.bodytext.control.Control;
 import com.klid.common.hwplib.object.bodytext.control.ControlTable;
 import com.klid.common.hwplib.object.bodytext.control.table.Row;
-import com.klid.common.hwplib.reader.HWPReader;
 import com.klid.common.hwplib.writer.HWPWriter;
 import com.klid.webapp.common.Criterion;
 import com.klid.webapp.common.ErrorInfo;
 import com.klid.webapp.common.MsgService;
 import com.klid.webapp.common.ReturnData;
+import com.klid.webapp.common.file.service.HwpTemplateRegistry;
+import com.klid.webapp.main.rpt.common.ReportSectionExecutor;
+import com.klid.webapp.main.rpt.common.ReportSectionExecutor.Report;
+import com.klid.webapp.main.rpt.common.ReportSectionExecutor.SectionResult;
 import com.klid.webapp.main.rpt.reportDaily.dto.ReportDailyDto;
 import com.klid.webapp.main.rpt.reportWeeklyState.dto.ReportWeeklyStateDto;
 import com.klid.webapp.main.rpt.reportWeeklyState.persistence.ReportWeeklyStateMapper;
@@ -46,6 +49,12 @@ public class ReportWeeklyStateServiceImpl extends MsgService implements ReportWe
 	@Resource(name = "reportWeeklyStateMapper")
 	private ReportWeeklyStateMapper mapper;
 
+	@Resource(name = "hwpTemplateRegistry")
+	private HwpTemplateRegistry hwpTemplateRegistry;
+
+	@Resource(name = "reportSectionExecutor")
+	private ReportSectionExecutor reportSectionExecutor;
+
 	/** 일일 실적 사고처리 현황 조회 */
 	@Override
 	public ReturnData getRotationList(Criterion criterion) {
@@ -57,12 +66,16 @@ public class ReportWeeklyStateServiceImpl extends MsgService implements ReportWe
 	public ReturnData getWeeklyList(Criterion criterion) {
 
 		try{
-            List<ReportDailyDto> result1 = mapper.selectReportWeekStat(criterion.getCondition());
+			Report report = reportSectionExecutor.open("weekly.weeklyList");
+			SectionResult<List<ReportDailyDto>> weekStat = report.add("weekStat", criterion.getCondition(), mapper::selectReportWeekStat);
+			SectionResult<List<ReportDailyDto>> weekSum = report.add("weekSum", criterion.getCondition(), mapper::selectReportWeekSum);
+
+            List<ReportDailyDto> result1 = weekStat.get();
 
 			String startDt = criterion.getValue("startDt").toString();
 			String endDt = criterion.getValue("endDt").toString();
 
-			List<ReportDailyDto> result3=mapper.selectReportWeekSum(criterion.getCondition());
+			List<ReportDailyDto> result3=weekSum.get();
 
 			SimpleDateFormat dt = new SimpleDateFormat("yyyyMMddHHmmss");
 			Date startDate = dt.parse(startDt);
@@ -118,8 +131,12 @@ public class ReportWeeklyStateServiceImpl extends MsgService implements ReportWe
 			c.add(Calendar.DATE, -1);
 			criterion.addParam("sumEndDt", dt.format(c.getTime()));
 
-			List<ReportDailyDto> sumVal = mapper.selectReportTypeSum(criterion.getCondition());
-			List<ReportDailyDto> result1 = mapper.selectReportWeekType(criterion.getCondition());
+			Report report = reportSectionExecutor.open("weekly.typeAccidentList_before");
+			SectionResult<List<ReportDailyDto>> typeSum = report.add("typeSum", criterion.getCondition(), mapper::selectReportTypeSum);
+			SectionResult<List<ReportDailyDto>> weekType = report.add("weekType", criterion.getCondition(), mapper::selectReportWeekType);
+
+			List<ReportDailyDto> sumVal = typeSum.get();
+			List<ReportDailyDto> result1 = weekType.get();
 
 			for(int i = 0 ; i < result1.size() ; i++){
 				result1.get(i).setSums(sumVal.get(i).getSums());
@@ -152,8 +169,12 @@ public class ReportWeeklyStateServiceImpl extends MsgService implements ReportWe
 			c.setTime(endDate);
 			c.add(Calendar.DATE, -7);
 
-			List<ReportDailyDto> sumVal = mapper.selectReportTypeSum(criterion.getCondition());
-			List<ReportDailyDto> result1 = mapper.selectReportWeekType(criterion.getCondition());
+			Report report = reportSectionExecutor.open("weekly.typeAccidentList");
+			SectionResult<List<ReportDailyDto>> typeSum = report.add("typeSum", criterion.getCondition(), mapper::selectReportTypeSum);
+			SectionResult<List<ReportDailyDto>> weekType = report.add("weekType", criterion.getCondition(), mapper::selectReportWeekType);
+
+			List<ReportDailyDto> sumVal = typeSum.get();
+			List<ReportDailyDto> result1 = weekType.get();
 
 			for(int i = 0 ; i < result1.size() ; i++){
 				result1.get(i).setSums(sumVal.get(i).getSums());
@@ -178,7 +199,7 @@ public class ReportWeeklyStateServiceImpl extends MsgService implements ReportWe
 			Map<String, Object> reqMap = criterion.getCondition();
 
 			String filename = AppGlobal.reportTemplate+"/report_weekly.hwp";
-			HWPFile hwpFile = HWPReader.fromFile(filename);
+			HWPFile hwpFile = hwpTemplateRegistry.get(filename);
 			Section section = hwpFile.getBodyText().getSectionList().get(0);
 
 			Control c = section.getParagraph(1).getControlList().get(0);
@@ -24,6 +24,8 @@ import com.klid.webapp.common.Criterion;
 import com.klid.webapp.common.MsgService;
 import com.klid.webapp.common.ReturnData;
 import com.klid.webapp.main.sys.riskMgmt.persistence.RiskMgmtMapper;
+import com.klid.webapp.webdash.cache.WebDashCache;
+import com.klid.webapp.webdash.cache.WebDashCache.Topic;
 
 import java.util.List;
 import java.util.Map;
@@ -37,6 +39,9 @@ public class RiskMgmtServiceImpl extends MsgService implements RiskMgmtService {
 
 	@Resource(name = "riskMgmtMapper")
 	private RiskMgmtMapper mapper;
+
+	@Resource(name = "webDashCache")
+	private WebDashCache webDashCache;
 	
 	@Override
 	public ReturnData getRiskMgmt(Criterion criterion) {
@@ -95,7 +100,9 @@ public class RiskMgmtServiceImpl extends MsgService implements RiskMgmtService {
 	@Override
 	public ReturnData editThreat(Criterion criterion) {
 //		return new ReturnData(mapper.mergeThreat(criterion.getCondition()));
-		return new ReturnData(mapper.addThreat(criterion.getCondition()));
+		ReturnData result = new ReturnData(mapper.addThreat(criterion.getCondition()));
+		webDashCache.invalidate(Topic.THREAT);
+		return result;
 	}
 
 	@Override
@@ -105,6 +112,8 @@ public class RiskMgmtServiceImpl extends MsgService implements RiskMgmtService {
 
 	@Override
 	public ReturnData editPeriod(Criterion criterion)  {
-		return new ReturnData(mapper.mergePeriod(criterion.getCondition()));
+		ReturnData result = new ReturnData(mapper.mergePeriod(criterion.getCondition()));
+		webDashCache.invalidate(Topic.THREAT);
+		return result;
 	}
 }
@@ -2,6 +2,8 @@ package com.klid.webapp.webdash.adminControl.service;
 
 import com.klid.webapp.common.Criterion;
 import com.klid.webapp.common.ReturnData;
+import com.klid.webapp.webdash.cache.WebDashCache;
+import com.klid.webapp.webdash.cache.WebDashCache.Topic;
 import com.klid.webapp.webdash.adminControl.dto.InciCntDto;
 import com.klid.webapp.webdash.adminControl.persistence.AdminControlMapper;
 import org.apache.commons.collections.CollectionUtils;
@@ -17,14 +19,17 @@ public class AdminControlServiceImpl implements AdminControlService {
     @Resource(name = "webdash.adminControlMapper")
     private AdminControlMapper mapper;
 
+    @Resource(name = "webDashCache")
+    private WebDashCache cache;
+
     @Override
     public ReturnData getIncidentStatus(Criterion criterion) {
-        return new ReturnData(mapper.selectIncidentStatus(criterion.getCondition()));
+        return new ReturnData(cache.get(Topic.INCIDENT, "adminControl.selectIncidentStatus", criterion, () -> mapper.selectIncidentStatus(criterion.getCondition())));
     }
 
     @Override
     public ReturnData getInciCnt(Criterion criterion) {
-        List<String> dbList = mapper.selectInciCnt(criterion.getCondition());
+        List<String> dbList = cache.get(Topic.MONITOR, "adminControl.selectInciCnt", criterion, () -> mapper.selectInciCnt(criterion.getCondition()));
         List<InciCntDto> inciList = new ArrayList<>();
         if(!CollectionUtils.isEmpty(dbList)) {
             Map<String, Integer> map = new HashMap<>();
@@ -59,12 +64,12 @@ public class AdminControlServiceImpl implements AdminControlService {
 
     @Override
     public ReturnData getTbzledgeCnt(Criterion criterion) {
-        return new ReturnData(mapper.selectTbzledgeCnt(criterion.getCondition()));
+        return new ReturnData(cache.get(Topic.INCIDENT, "adminControl.selectTbzledgeCnt", criterion, () -> mapper.selectTbzledgeCnt(criterion.getCondition())));
     }
 
     @Override
     public ReturnData getLocalInciCnt(Criterion criterion) {
-        List<String> dbList = mapper.selectLocalInciCnt(criterion.getCondition());
+        List<String> dbList = cache.get(Topic.MONITOR, "adminControl.selectLocalInciCnt", criterion, () -> mapper.selectLocalInciCnt(criterion.getCondition()));
         List<InciCntDto> inciList = new ArrayList<>();
         if(!CollectionUtils.isEmpty(dbList)) {
             Map<String, Integer> map = new HashMap<>();
@@ -128,22 +133,22 @@ public class AdminControlServiceImpl implements AdminControlService {
 
     @Override
     public ReturnData getLocalStatus(Criterion criterion) {
-        return new ReturnData(mapper.selectLocalStatus(criterion.getCondition()));
+        return new ReturnData(cache.get(Topic.MONITOR, "adminControl.selectLocalStatus", criterion, () -> mapper.selectLocalStatus(criterion.getCondition())));
     }
 
     @Override
     public ReturnData getUrlStatus(Criterion criterion) {
-        return new ReturnData(mapper.selectUrlStatus(criterion.getCondition()));
+        return new ReturnData(cache.get(Topic.MONITOR, "adminControl.selectUrlStatus", criterion, () -> mapper.selectUrlStatus(criterion.getCondition())));
     }
 
     @Override
     public ReturnData getSysErrorStatus(Criterion criterion) {
-        return new ReturnData(mapper.selectSysErrorStatus(criterion.getCondition()));
+        return new ReturnData(cache.get(Topic.MONITOR, "adminControl.selectSysErrorStatus", criterion, () -> mapper.selectSysErrorStatus(criterion.getCondition())));
     }
 
     @Override
     public ReturnData getInciTypeCnt(Criterion criterion) {
-        List<String> list = mapper.selectInciTypeCnt(criterion.getCondition());
+        List<String> list = cache.get(Topic.INCIDENT, "adminControl.selectInciTypeCnt", criterion, () -> mapper.selectInciTypeCnt(criterion.getCondition()));
         return new ReturnData(list);
     }
 }
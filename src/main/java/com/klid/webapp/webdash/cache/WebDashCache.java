@@ -0,0 +1,332 @@
+package com.klid.webapp.webdash.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.klid.webapp.common.Criterion;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.DigestUtils;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 대시보드 조회 결과 캐시
+ * - 같은 화면을 띄운 상황판들은 같은 조건으로 조회하므로 조회 이름 + 조건으로 결과를 공유한다.
+ * - 결과는 ttl(기본 hmDashConf.refreshTime 과 같은 20초) 동안 재사용한다.
+ * - 캐시에 없는 조회를 여러 요청이 동시에 하면 한 요청만 DB 를 조회하고 나머지는 그 결과를 기다린다.
+ * - 조회에 실패하면 캐시하지 않고 기다리던 요청에도 같은 예외를 던진다.
+ * - 위기경보/사고 데이터가 바뀌면 해당 Topic 을 비운다. 트랜잭션 안이면 commit 후에 비운다.
+ * - 결과에 version 을 붙인다. 요청이 읽은 version 들(Reads)로 응답이 바뀌었는지 판단한다. (ETag)
+ *   ttl 이 지나 다시 조회한 결과가 이전과 같으면 이전 version 을 그대로 쓰고, 결과가 바뀌었거나 Topic 을 비운 뒤에만 새 version 을 붙인다.
+ */
+@Component("webDashCache")
+public class WebDashCache {
+
+    /** 캐시 키에서 제외하는 조건. 대시보드 조회는 사용자와 관계없이 같은 결과를 반환한다. */
+    private static final String USER_ID = "userId";
+
+    /** 다시 조회한 결과가 이전과 같은지 비교할 때 사용 (직렬화한 결과의 해시) */
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    /** 조회 결과가 정리된 뒤에도 해시/version 을 남겨 두는 기간 (ttl 배수) */
+    private static final int STAMP_TTLS = 3;
+
+    /**
+     * 조회 결과가 의존하는 데이터
+     */
+    public enum Topic {
+        /** 사이버 위기경보 (THREAT_NOW) */
+        THREAT,
+        /** 사고 신고/처리 (TBZLEDGE) */
+        INCIDENT,
+        /** 수집 데이터 (탐지 이벤트, 헬스체크, 위변조, 게시판 등). ttl 로만 갱신 */
+        MONITOR
+    }
+
+    /** 현재 스레드가 기록 중인 Reads */
+    private static final ThreadLocal<Reads> READS = new ThreadLocal<>();
+
+    private final long ttlNanos;
+    /** 재기동 후에도 이전 version 과 겹치지 않도록 기동 시각(μs)부터 시작 */
+    private final AtomicLong versions = new AtomicLong(TimeUnit.MILLISECONDS.toMicros(System.currentTimeMillis()));
+    private final Map<Key, Entry> entries = new ConcurrentHashMap<>();
+    /** 조건별 마지막 결과의 해시/version. 결과가 ttl 로 정리된 뒤에도 같은 결과면 같은 version 을 쓰도록 따로 둔다. */
+    private final Map<Key, Stamp> stamps = new ConcurrentHashMap<>();
+    private final List<Runnable> listeners = new CopyOnWriteArrayList<>();
+
+    public WebDashCache(@Value("${app.webdash.cache-ttl:20000}") long ttlMillis) {
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMillis);
+    }
+
+    /**
+     * 캐시된 결과를 반환한다. 없거나 ttl 이 지났으면 loader 로 조회한다.
+     *
+     * @param topic 결과가 의존하는 데이터
+     * @param name 조회 이름
+     * @param criterion 조회 조건
+     * @param loader 조회
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(Topic topic, String name, Criterion criterion, Supplier<T> loader) {
+        final Key key = new Key(topic, name, conditionOf(criterion));
+        Entry entry = entries.get(key);
+
+        if (entry == null || entry.isExpired(System.nanoTime(), ttlNanos)) {
+            final Entry created = new Entry(key, loader);
+            entry = entries.compute(key, (k, cached) ->
+                    cached == null || cached.isExpired(System.nanoTime(), ttlNanos) ? created : cached);
+            if (entry == created) {
+                created.load();
+                evictExpired();
+            }
+        }
+
+        final Reads reads = READS.get();
+        try {
+            final T value = (T) entry.task.get();
+            if (reads != null) {
+                reads.add(entry.version);
+            }
+            return value;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            if (reads != null) {
+                reads.fail();
+            }
+            throw new IllegalStateException("대시보드 조회가 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            entries.remove(key, entry);
+            if (reads != null) {
+                reads.fail();
+            }
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * topic 에 의존하는 결과를 비운다.
+     */
+    public void invalidate(Topic topic) {
+        afterCommit(() -> {
+            entries.keySet().removeIf(key -> key.topic == topic);
+            stamps.keySet().removeIf(key -> key.topic == topic);
+            listeners.forEach(Runnable::run);
+        });
+    }
+
+    /**
+     * 모든 결과를 비운다.
+     */
+    public void invalidateAll() {
+        afterCommit(() -> {
+            entries.clear();
+            stamps.clear();
+            listeners.forEach(Runnable::run);
+        });
+    }
+
+    /**
+     * 결과를 비운 뒤 호출할 작업을 등록한다. (변경 알림 등)
+     */
+    public void addInvalidationListener(Runnable listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * 현재 스레드에서 읽는 결과의 version 을 기록하기 시작한다.
+     */
+    public static Reads track() {
+        final Reads reads = new Reads();
+        READS.set(reads);
+        return reads;
+    }
+
+    /**
+     * 기록을 끝낸다.
+     */
+    public static void untrack() {
+        READS.remove();
+    }
+
+    /**
+     * 현재 스레드가 기록 중인 Reads. 없으면 null
+     */
+    public static Reads reads() {
+        return READS.get();
+    }
+
+    /**
+     * 다른 스레드에서 reads 에 기록하며 task 를 실행한다. (스냅샷 작업 스레드 등)
+     */
+    public static <T> T withReads(Reads reads, Supplier<T> task) {
+        if (reads == null) {
+            return task.get();
+        }
+        final Reads previous = READS.get();
+        READS.set(reads);
+        try {
+            return task.get();
+        } finally {
+            if (previous == null) {
+                READS.remove();
+            } else {
+                READS.set(previous);
+            }
+        }
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    private void evictExpired() {
+        final long now = System.nanoTime();
+        entries.values().removeIf(entry -> entry.isExpired(now, ttlNanos));
+        stamps.values().removeIf(stamp -> now - stamp.loadedAt() >= STAMP_TTLS * ttlNanos);
+    }
+
+    /**
+     * 조회 결과의 version. 같은 조건의 이전 결과와 내용이 같으면 이전 version 을 그대로 쓴다.
+     */
+    private long versionOf(Key key, Object value) {
+        final byte[] hash = hashOf(value);
+        final Stamp previous = stamps.get(key);
+        final long version = hash != null && previous != null && Arrays.equals(previous.hash(), hash)
+                ? previous.version() : versions.incrementAndGet();
+        if (hash != null) {
+            stamps.put(key, new Stamp(hash, version, System.nanoTime()));
+        } else {
+            stamps.remove(key);
+        }
+        return version;
+    }
+
+    /**
+     * 직렬화한 결과의 해시. 직렬화할 수 없으면 null (항상 새 version)
+     */
+    private static byte[] hashOf(Object value) {
+        try {
+            return DigestUtils.md5Digest(MAPPER.writeValueAsBytes(value));
+        } catch (JsonProcessingException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 트랜잭션 안에서 비우면 commit 전에 다른 요청이 이전 데이터를 다시 캐시할 수 있으므로 commit 후에 비운다.
+     */
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private static Map<String, Object> conditionOf(Criterion criterion) {
+        final Map<String, Object> condition = new TreeMap<>(criterion.getCondition());
+        condition.remove(USER_ID);
+        return condition;
+    }
+
+    private record Key(Topic topic, String name, Map<String, Object> condition) {
+    }
+
+    /**
+     * 조건별 마지막 결과의 해시와 version
+     */
+    private record Stamp(byte[] hash, long version, long loadedAt) {
+    }
+
+    /**
+     * 요청 하나가 읽은 결과의 version 목록
+     * - 같은 조건의 요청이 같은 version 들을 읽었으면 응답도 같다.
+     * - 조회가 실패했거나 캐시를 거치지 않은 데이터가 섞였으면 fail() 로 표시하고 stamp 를 만들지 않는다.
+     */
+    public static final class Reads {
+        private final List<Long> versions = new ArrayList<>();
+        private boolean failed;
+
+        private Reads() {
+        }
+
+        private synchronized void add(long version) {
+            versions.add(version);
+        }
+
+        /**
+         * 이 요청의 응답은 version 으로 판단할 수 없음을 표시한다.
+         */
+        public synchronized void fail() {
+            failed = true;
+        }
+
+        /**
+         * scope(요청 경로/조건)와 읽은 version 들로 만든 stamp. 읽은 결과가 없거나 fail() 이면 null
+         */
+        public synchronized String stamp(String scope) {
+            if (failed || versions.isEmpty()) {
+                return null;
+            }
+            final byte[] prefix = scope.getBytes(StandardCharsets.UTF_8);
+            final ByteBuffer buffer = ByteBuffer.allocate(prefix.length + versions.size() * Long.BYTES).put(prefix);
+            versions.stream().sorted().forEach(buffer::putLong);
+            return DigestUtils.md5DigestAsHex(buffer.array());
+        }
+    }
+
+    /**
+     * 조회 중이거나 조회가 끝난 결과. ttl 은 조회가 끝난 시각부터 계산한다.
+     * version 은 조회가 끝날 때 task 안에서 정하므로 task.get() 이 끝난 뒤에 읽는다.
+     */
+    private final class Entry {
+        private final FutureTask<Object> task;
+        private volatile long version;
+        private volatile long loadedAt;
+        private volatile boolean loaded;
+
+        private Entry(Key key, Supplier<?> loader) {
+            this.task = new FutureTask<>(() -> {
+                final Object value = loader.get();
+                version = versionOf(key, value);
+                return value;
+            });
+        }
+
+        private void load() {
+            task.run();
+            loadedAt = System.nanoTime();
+            loaded = true;
+        }
+
+        private boolean isExpired(long now, long ttlNanos) {
+            return loaded && now - loadedAt >= ttlNanos;
+        }
+    }
+}
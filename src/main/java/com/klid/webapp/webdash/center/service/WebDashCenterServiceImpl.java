@@ -18,6 +18,8 @@ package com.klid.webapp.webdash.center.service;
 import com.klid.webapp.common.Criterion;
 import com.klid.webapp.common.MsgService;
 import com.klid.webapp.common.ReturnData;
+import com.klid.webapp.webdash.cache.WebDashCache;
+import com.klid.webapp.webdash.cache.WebDashCache.Topic;
 import com.klid.webapp.webdash.adminControl.dto.InciCntDto;
 import com.klid.webapp.webdash.center.dto.WebDashCenterDto;
 import com.klid.webapp.webdash.center.persistence.WebDashCenterMapper;
@@ -35,14 +37,17 @@ public class WebDashCenterServiceImpl extends MsgService implements WebDashCente
     @Resource(name = "webDashCenterMapper")
     private WebDashCenterMapper mapper;
 
+    @Resource(name = "webDashCache")
+    private WebDashCache cache;
+
     @Override
     public ReturnData getAttNationTop5(Criterion criterion) {
-        return new ReturnData(mapper.selectAttNationTop5(criterion.getCondition()));
+        return new ReturnData(cache.get(Topic.MONITOR, "center.selectAttNationTop5", criterion, () -> mapper.selectAttNationTop5(criterion.getCondition())));
     }
 
     @Override
     public ReturnData getTypeChart(Criterion criterion) {
-        List<WebDashCenterDto> dbList = mapper.selectTypeChart(criterion.getCondition());
+        List<WebDashCenterDto> dbList = cache.get(Topic.MONITOR, "center.selectTypeChart", criterion, () -> mapper.selectTypeChart(criterion.getCondition()));
         List<Map<String, Integer>> listMap = new ArrayList<Map<String, Integer>>();
 
         listMap = regHhListReturn(dbList, listMap);
@@ -200,7 +205,7 @@ public class WebDashCenterServiceImpl extends MsgService implements WebDashCente
 
     @Override
     public ReturnData getEvtAllChart(Criterion criterion) {
-        List<WebDashCenterDto> dbList = mapper.selectEvtAllChart(criterion.getCondition());
+        List<WebDashCenterDto> dbList = cache.get(Topic.MONITOR, "center.selectEvtAllChart", criterion, () -> mapper.selectEvtAllChart(criterion.getCondition()));
         Map<String,List<Map<String, Integer>>> listMap= new HashMap<String,List<Map<String, Integer>>>();
         listMap= dayTypeListReturn(dbList,listMap);
         return new ReturnData(listMap);
@@ -208,7 +213,7 @@ public class WebDashCenterServiceImpl extends MsgService implements WebDashCente
 
     @Override
     public ReturnData getEvtChart(Criterion criterion) {
-        List<WebDashCenterDto> dbList = mapper.selectEvtChart(criterion.getCondition());
+        List<WebDashCenterDto> dbList = cache.get(Topic.MONITOR, "center.selectEvtChart", criterion, () -> mapper.selectEvtChart(criterion.getCondition()));
         Map<String,List<Map<String, Integer>>> listMap= new HashMap<String,List<Map<String, Integer>>>();
         listMap= dayTypeListReturn(dbList,listMap);
         return new ReturnData(listMap);
@@ -0,0 +1,97 @@
+package com.klid.webapp.webdash.controller;
+
+import com.klid.webapp.common.ReturnData;
+import com.klid.webapp.webdash.cache.WebDashCache;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * 대시보드 조회 응답의 조건부 GET(ETag / If-None-Match)
+ * - 요청을 시작할 때 WebDashCache 가 읽은 결과의 version 을 기록하고(HandlerInterceptor),
+ *   응답을 쓰기 직전에 경로/조건과 version 들로 weak ETag 를 만든다.
+ * - If-None-Match 가 같으면 본문을 직렬화하지 않고 304 로 응답한다.
+ * - 오류 응답이나 캐시를 거치지 않은 응답에는 ETag 를 붙이지 않는다.
+ */
+@ControllerAdvice(basePackages = "com.klid.webapp.webdash.controller")
+public class WebDashETagAdvice implements ResponseBodyAdvice<Object>, HandlerInterceptor {
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (HttpMethod.GET.matches(request.getMethod())) {
+            WebDashCache.track();
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        WebDashCache.untrack();
+    }
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        final WebDashCache.Reads reads = WebDashCache.reads();
+        if (reads == null || body == null || !(response instanceof ServletServerHttpResponse servletResponse)) {
+            return body;
+        }
+        if (body instanceof ReturnData data && data.getHasError()) {
+            return body;
+        }
+
+        final String stamp = reads.stamp(request.getURI().getRawPath() + "?" + request.getURI().getRawQuery());
+        if (stamp == null) {
+            return body;
+        }
+
+        //헤더는 본문을 쓸 때 반영되므로 304 응답에도 남도록 servlet 응답에 직접 설정
+        final String etag = "W/\"" + stamp + "\"";
+        final HttpServletResponse res = servletResponse.getServletResponse();
+        res.setHeader(HttpHeaders.ETAG, etag);
+
+        final String ifNoneMatch = request.getHeaders().getFirst(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null && matchesETag(ifNoneMatch, etag)) {
+            res.setStatus(HttpStatus.NOT_MODIFIED.value());
+            return null;
+        }
+        return body;
+    }
+
+    /**
+     * If-None-Match 는 weak 비교
+     */
+    static boolean matchesETag(String header, String etag) {
+        final String opaque = etag.startsWith("W/") ? etag.substring(2) : etag;
+        for (String candidate : header.split(",")) {
+            String c = candidate.trim();
+            if (c.equals("*")) {
+                return true;
+            }
+            if (c.startsWith("W/")) {
+                c = c.substring(2);
+            }
+            if (c.equals(opaque)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,42 @@
+package com.klid.webapp.webdash.controller;
+
+import com.klid.webapp.common.CustomException;
+import com.klid.webapp.common.ErrorInfo;
+import com.klid.webapp.common.ReturnData;
+import com.klid.webapp.webdash.snapshot.service.DashScreen;
+import com.klid.webapp.webdash.snapshot.service.WebDashSnapshotService;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseBody;
+
+import jakarta.annotation.Resource;
+import java.util.Map;
+
+/**
+ * 대시보드 화면 스냅샷
+ * - /api/webdash/{center|mois|sido}/snapshot?screen=화면id
+ * - 화면이 갱신 주기마다 호출하던 여러 조회를 한 번의 요청으로 반환한다.
+ */
+@RequestMapping("/api/webdash/{group}")
+@Controller
+public class WebDashSnapshotController {
+
+    @Resource(name = "webDashSnapshotService")
+    private WebDashSnapshotService service;
+
+    @RequestMapping(value = "snapshot")
+    public @ResponseBody ReturnData getSnapshot(@PathVariable("group") String group, @RequestParam Map<String, String> reqMap) {
+        try {
+            DashScreen screen = DashScreen.of(group, reqMap.get("screen"));
+            if (screen == null) {
+                throw new CustomException("정의되지 않은 대시보드 화면입니다.");
+            }
+            return new ReturnData(service.getSnapshot(screen, reqMap));
+        } catch (Exception e) {
+            e.printStackTrace();
+            return new ReturnData(new ErrorInfo(e));
+        }
+    }
+}
@@ -18,6 +18,8 @@ package com.klid.webapp.webdash.mois.service;
 import com.klid.webapp.common.Criterion;
 import com.klid.webapp.common.MsgService;
 import com.klid.webapp.common.ReturnData;
+import com.klid.webapp.webdash.cache.WebDashCache;
+import com.klid.webapp.webdash.cache.WebDashCache.Topic;
 import com.klid.webapp.webdash.adminControl.dto.InciCntDto;
 import com.klid.webapp.webdash.mois.persistence.WebDashMoisMapper;
 import org.apache.commons.collections.CollectionUtils;
@@ -33,40 +35,43 @@ public class WebDashMoisServiceImpl extends MsgService implements WebDashMoisSer
 	@Resource(name = "webDashMoisMapper")
 	private WebDashMoisMapper mapper;
 
+	@Resource(name = "webDashCache")
+	private WebDashCache cache;
+
 	/** 사이버 위기경보 */
 	@Override
 	public ReturnData getThreatNow(Criterion criterion){
-		return new ReturnData(mapper.getThreatNow(criterion.getCondition()));
+		return new ReturnData(cache.get(Topic.THREAT, "mois.getThreatNow", criterion, () -> mapper.getThreatNow(criterion.getCondition())));
 	}
 
 	/** 홈페이지 모니터링 (중앙행정기관)  */
 	@Override
 	public ReturnData getHmHcUrlCenter(Criterion criterion) {
-		return new ReturnData(mapper.getHmHcUrlCenter(criterion.getCondition()));
+		return new ReturnData(cache.get(Topic.MONITOR, "mois.getHmHcUrlCenter", criterion, () -> mapper.getHmHcUrlCenter(criterion.getCondition())));
 	}
 
 	/** 홈페이지 모니터링 (지방자치단체)  */
 	@Override
 	public ReturnData getHmHcUrlRegion(Criterion criterion) {
-		return new ReturnData(mapper.getHmHcUrlRegion(criterion.getCondition()));
+		return new ReturnData(cache.get(Topic.MONITOR, "mois.getHmHcUrlRegion", criterion, () -> mapper.getHmHcUrlRegion(criterion.getCondition())));
 	}
 
 	/** 홈페이지 위변조 (지방자치단체)  */
 	@Override
 	public ReturnData getForgeryRegion(Criterion criterion)  {
-		return new ReturnData(mapper.getForgeryRegion(criterion.getCondition()));
+		return new ReturnData(cache.get(Topic.MONITOR, "mois.getForgeryRegion", criterion, () -> mapper.getForgeryRegion(criterion.getCondition())));
 	}
 
     /**지방자치단체 사이버위협 대응현황 (지도표시)  */
     @Override
     public ReturnData getRegionStatus(Criterion criterion)  {
-        return new ReturnData(mapper.getRegionStatus(criterion.getCondition()));
+        return new ReturnData(cache.get(Topic.INCIDENT, "mois.getRegionStatus", criterion, () -> mapper.getRegionStatus(criterion.getCondition())));
     }
 
     /**지방자치단체 사이버위협 대응현황 (자동차단)  */
     @Override
     public ReturnData getRegionStatusAuto(Criterion criterion) {
-		List<String> dbList = mapper.getRegionStatusAuto(criterion.getCondition());
+		List<String> dbList = cache.get(Topic.MONITOR, "mois.getRegionStatusAuto", criterion, () -> mapper.getRegionStatusAuto(criterion.getCondition()));
 
 		int sum = 0;
 
@@ -89,19 +94,19 @@ public class WebDashMoisServiceImpl extends MsgService implements WebDashMoisSer
     /**지방자치단체 사이버위협 대응현황 (수동차단)  */
     @Override
     public ReturnData getRegionStatusManual(Criterion criterion)  {
-        return new ReturnData(mapper.getRegionStatusManual(criterion.getCondition()));
+        return new ReturnData(cache.get(Topic.INCIDENT, "mois.getRegionStatusManual", criterion, () -> mapper.getRegionStatusManual(criterion.getCondition())));
     }
 
 	/** 행안부 리스트 받아오기 */
 	@Override
 	public ReturnData getDashConfigList(Criterion criterion)  {
-		return new ReturnData(mapper.getDashConfigList(criterion.getCondition()));
+		return new ReturnData(cache.get(Topic.MONITOR, "mois.getDashConfigList", criterion, () -> mapper.getDashConfigList(criterion.getCondition())));
 	}
 
 	/**행안부 중앙,지방 차트 합계 */
 	@Override
 	public ReturnData getDashChartSum(Criterion criterion) {
-		return new ReturnData(mapper.getDashChartSum(criterion.getCondition()));
+		return new ReturnData(cache.get(Topic.MONITOR, "mois.getDashChartSum", criterion, () -> mapper.getDashChartSum(criterion.getCondition())));
 	}
 
 }
@@ -0,0 +1,86 @@
+package com.klid.webapp.webdash.push;
+
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 대시보드 push 연결 하나
+ * - 주소(address)별 구독 조건을 가진다.
+ * - 보낼 메시지는 주소별로 마지막 것만 남긴다. 클라이언트가 느리면 중간 값은 건너뛰고 최신 값만 보내므로 쌓이지 않는다.
+ * - 한 연결에는 한 스레드만 보낸다.
+ */
+class PushSession {
+
+    private final WebSocketSession session;
+    private final Executor sender;
+    private final Map<String, Subscription> subscriptions = new ConcurrentHashMap<>();
+    private final Map<String, String> pending = new ConcurrentHashMap<>();
+    private final AtomicBoolean sending = new AtomicBoolean();
+    private volatile long lastSeen = System.currentTimeMillis();
+
+    PushSession(WebSocketSession session, Executor sender) {
+        this.session = session;
+        this.sender = sender;
+    }
+
+    String getId() {
+        return session.getId();
+    }
+
+    Map<String, Subscription> getSubscriptions() {
+        return subscriptions;
+    }
+
+    long getLastSeen() {
+        return lastSeen;
+    }
+
+    void touch() {
+        lastSeen = System.currentTimeMillis();
+    }
+
+    /**
+     * 보낼 메시지를 등록한다. 같은 주소의 보내지 않은 메시지는 대체한다.
+     */
+    void send(String address, String frame) {
+        pending.put(address, frame);
+        if (sending.compareAndSet(false, true)) {
+            sender.execute(this::flush);
+        }
+    }
+
+    private void flush() {
+        try {
+            Iterator<String> addresses = pending.keySet().iterator();
+            while (addresses.hasNext() && session.isOpen()) {
+                String frame = pending.remove(addresses.next());
+                if (frame != null) {
+                    session.sendMessage(new TextMessage(frame));
+                }
+            }
+        } catch (IOException | IllegalStateException e) {
+            close();
+        } finally {
+            sending.set(false);
+        }
+        //flush 가 끝나는 사이에 들어온 메시지
+        if (!pending.isEmpty() && session.isOpen() && sending.compareAndSet(false, true)) {
+            sender.execute(this::flush);
+        }
+    }
+
+    void close() {
+        pending.clear();
+        try {
+            session.close();
+        } catch (IOException ignored) {
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.klid.webapp.webdash.push;
+
+import com.klid.webapp.webdash.snapshot.service.DashScreen;
+
+import java.util.Map;
+
+/**
+ * 구독 대상. 같은 화면/Widget/조건을 구독한 연결은 한 번 조회한 결과를 함께 받는다.
+ *
+ * @param screen 화면
+ * @param widget Widget
+ * @param request Widget 이 사용하는 요청 파라미터
+ */
+record Subscription(DashScreen screen, DashScreen.Widget widget, Map<String, String> request) {
+
+    String address() {
+        return WebDashPublisher.ADDRESS_PREFIX + screen.getGroup() + "." + screen.getId() + "." + widget.getKey();
+    }
+}
@@ -0,0 +1,270 @@
+package com.klid.webapp.webdash.push;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.klid.webapp.common.ReturnData;
+import com.klid.webapp.webdash.cache.WebDashCache;
+import com.klid.webapp.webdash.snapshot.service.DashScreen;
+import com.klid.webapp.webdash.snapshot.service.WebDashSnapshotService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.annotation.Resource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Service;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 대시보드 push 발행
+ * - 연결별로 Widget 주소(webdash.{group}.{screen}.{widget})를 구독한다. 구독 조건은 register 헤더로 받는다.
+ * - 주기(tick)마다 구독 중인 조회를 한 번씩 실행하고, 결과가 이전과 달라진 Widget 만 구독자에게 보낸다.
+ * - 조회는 WebDashCache 를 거치므로 DB 조회는 연결 수와 관계없이 cache ttl 에 한 번이다.
+ * - 위기경보/사고 데이터가 바뀌어 캐시가 비워지면 주기를 기다리지 않고 곧 다시 확인한다. (여러 번 바뀌어도 한 번으로 합침)
+ * - ping 이 idle-timeout 동안 없는 연결은 닫는다.
+ * - 확인은 taskScheduler, 전송은 공용 작업 스레드(taskExecutor)에서 실행한다.
+ */
+@Slf4j
+@Service("webDashPublisher")
+public class WebDashPublisher {
+
+    static final String ADDRESS_PREFIX = "webdash.";
+    /** 변경 알림 후 확인까지 대기. 이 사이의 변경은 한 번에 확인한다. */
+    static final long COALESCE_MILLIS = 200;
+
+    @Resource(name = "webDashSnapshotService")
+    private WebDashSnapshotService snapshotService;
+
+    @Resource(name = "webDashCache")
+    private WebDashCache cache;
+
+    @Resource(name = "htmlEscapingObjectMapper")
+    private ObjectMapper objectMapper;
+
+    @Resource(name = "taskScheduler")
+    private TaskScheduler scheduler;
+
+    @Resource(name = "taskExecutor")
+    private TaskExecutor sender;
+
+    private final long interval;
+    private final long idleTimeout;
+    private final Map<String, PushSession> sessions = new ConcurrentHashMap<>();
+    /** 구독별로 마지막에 보낸 결과(JSON) */
+    private final Map<Subscription, String> published = new ConcurrentHashMap<>();
+    private final AtomicBoolean tickRequested = new AtomicBoolean();
+    private ScheduledFuture<?> ticker;
+
+    public WebDashPublisher(@Value("${app.webdash.push-interval:5000}") long interval,
+                            @Value("${app.webdash.push-idle-timeout:30000}") long idleTimeout) {
+        this.interval = interval;
+        this.idleTimeout = idleTimeout;
+    }
+
+    @PostConstruct
+    public void start() {
+        cache.addInvalidationListener(this::requestTick);
+        ticker = scheduler.scheduleWithFixedDelay(this::tick, Instant.now().plusMillis(interval), Duration.ofMillis(interval));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (ticker != null) {
+            ticker.cancel(false);
+        }
+        sessions.values().forEach(PushSession::close);
+        sessions.clear();
+    }
+
+    void open(WebSocketSession session) {
+        sessions.put(session.getId(), new PushSession(session, sender));
+    }
+
+    void close(String sessionId) {
+        sessions.remove(sessionId);
+    }
+
+    void ping(String sessionId) {
+        final PushSession session = sessions.get(sessionId);
+        if (session != null) {
+            session.touch();
+        }
+    }
+
+    /**
+     * 주소를 구독한다. 같은 조건의 결과가 이미 있으면 바로 보내고, 없으면 곧 조회한다.
+     *
+     * @param headers 요청 파라미터. 화면 구성에 선언된 파라미터만 사용한다.
+     * @return 구독한 주소가 없으면 false
+     */
+    boolean register(String sessionId, String address, Map<String, ?> headers) {
+        final PushSession session = sessions.get(sessionId);
+        final Subscription subscription = subscriptionOf(address, headers);
+        if (session == null || subscription == null) {
+            return false;
+        }
+        session.touch();
+
+        if (subscription.equals(session.getSubscriptions().put(address, subscription))) {
+            return true;
+        }
+        final String body = published.get(subscription);
+        if (body != null) {
+            session.send(address, frame(address, body));
+        } else {
+            requestTick();
+        }
+        return true;
+    }
+
+    void unregister(String sessionId, String address) {
+        final PushSession session = sessions.get(sessionId);
+        if (session != null) {
+            session.touch();
+            session.getSubscriptions().remove(address);
+        }
+    }
+
+    /**
+     * vert.x event bus bridge 의 오류 메시지를 보낸다. address 가 있으면 클라이언트의 해당 handler 로 전달된다.
+     */
+    void sendError(String sessionId, String address, String failureType) {
+        final PushSession session = sessions.get(sessionId);
+        if (session == null) {
+            return;
+        }
+        final Map<String, Object> frame = new LinkedHashMap<>();
+        frame.put("type", "err");
+        if (address != null) {
+            frame.put("address", address);
+        }
+        frame.put("failureCode", -1);
+        frame.put("failureType", failureType);
+        frame.put("message", failureType);
+        try {
+            session.send("err:" + address, objectMapper.writeValueAsString(frame));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 곧 tick 을 실행한다. 이미 요청되어 있으면 합친다.
+     */
+    void requestTick() {
+        if (tickRequested.compareAndSet(false, true)) {
+            scheduler.schedule(this::tick, Instant.now().plusMillis(COALESCE_MILLIS));
+        }
+    }
+
+    /**
+     * 구독 중인 조회를 실행하고 바뀐 결과를 보낸다.
+     */
+    void tick() {
+        tickRequested.set(false);
+        try {
+            closeIdle();
+
+            final Map<Subscription, List<PushSession>> subscribers = new HashMap<>();
+            for (PushSession session : sessions.values()) {
+                for (Subscription subscription : new HashSet<>(session.getSubscriptions().values())) {
+                    subscribers.computeIfAbsent(subscription, k -> new ArrayList<>()).add(session);
+                }
+            }
+            published.keySet().retainAll(subscribers.keySet());
+
+            for (Map.Entry<Subscription, List<PushSession>> entry : subscribers.entrySet()) {
+                publish(entry.getKey(), entry.getValue());
+            }
+        } catch (RuntimeException e) {
+            //예외가 나가면 이후 주기가 실행되지 않음
+            log.error("webdash push 실패", e);
+        }
+    }
+
+    private void publish(Subscription subscription, List<PushSession> sessions) {
+        final String body;
+        try {
+            final ReturnData result = snapshotService.getWidget(subscription.widget(), subscription.request());
+            if (result == null || result.getHasError()) {
+                return;
+            }
+            body = objectMapper.writeValueAsString(result.getResultData());
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.error("webdash push {} 조회 실패", subscription.address(), e);
+            return;
+        }
+
+        if (body.equals(published.put(subscription, body))) {
+            return;
+        }
+        final String address = subscription.address();
+        final String frame = frame(address, body);
+        for (PushSession session : sessions) {
+            //tick 중에 조건이 바뀐 연결은 제외
+            if (subscription.equals(session.getSubscriptions().get(address))) {
+                session.send(address, frame);
+            }
+        }
+    }
+
+    private void closeIdle() {
+        final long limit = System.currentTimeMillis() - idleTimeout;
+        sessions.values().removeIf(session -> {
+            if (session.getLastSeen() < limit) {
+                session.close();
+                return true;
+            }
+            return false;
+        });
+    }
+
+    /**
+     * 주소(webdash.{group}.{screen}.{widget})와 헤더로 구독 대상을 만든다.
+     *
+     * @return 없는 화면/Widget 이면 null
+     */
+    static Subscription subscriptionOf(String address, Map<String, ?> headers) {
+        if (address == null || !address.startsWith(ADDRESS_PREFIX)) {
+            return null;
+        }
+        final String[] names = address.substring(ADDRESS_PREFIX.length()).split("\\.");
+        if (names.length != 3) {
+            return null;
+        }
+        final DashScreen screen = DashScreen.of(names[0], names[1]);
+        final DashScreen.Widget widget = screen == null ? null : screen.getWidget(names[2]);
+        if (widget == null) {
+            return null;
+        }
+        return new Subscription(screen, widget, widget.request(headers == null ? Map.of() : headers));
+    }
+
+    /**
+     * vert.x event bus bridge 의 수신 메시지 형식
+     */
+    private String frame(String address, String body) {
+        try {
+            return "{\"type\":\"rec\",\"address\":" + objectMapper.writeValueAsString(address) + ",\"body\":" + body + "}";
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    int sessionCount() {
+        return sessions.size();
+    }
+}
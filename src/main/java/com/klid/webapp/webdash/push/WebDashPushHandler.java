@@ -0,0 +1,72 @@
+package com.klid.webapp.webdash.push;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.Resource;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.TextWebSocketHandler;
+
+import java.util.Map;
+
+/**
+ * 대시보드 push 연결 (SockJS, /api/webdash/eventbus)
+ * - 화면에 포함된 vertx3-eventbus-client 를 그대로 쓰도록 vert.x event bus bridge 의 메시지 형식을 따른다.
+ * - 클라이언트 메시지는 ping, register, unregister 만 처리하고 send/publish 는 거부한다.
+ */
+@Component("webDashPushHandler")
+public class WebDashPushHandler extends TextWebSocketHandler {
+
+    @Resource(name = "webDashPublisher")
+    private WebDashPublisher publisher;
+
+    @Resource(name = "htmlEscapingObjectMapper")
+    private ObjectMapper objectMapper;
+
+    @Override
+    public void afterConnectionEstablished(WebSocketSession session) {
+        publisher.open(session);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected void handleTextMessage(WebSocketSession session, TextMessage message) {
+        final Map<String, Object> frame;
+        try {
+            frame = objectMapper.readValue(message.getPayload(), Map.class);
+        } catch (JsonProcessingException e) {
+            sendError(session, null, "invalid_json");
+            return;
+        }
+
+        final String type = String.valueOf(frame.get("type"));
+        final String address = frame.get("address") instanceof String value ? value : null;
+        switch (type) {
+            case "ping" -> publisher.ping(session.getId());
+            case "register" -> {
+                final Object headers = frame.get("headers");
+                if (!publisher.register(session.getId(), address, headers instanceof Map ? (Map<String, ?>) headers : null)) {
+                    sendError(session, address, "unknown_address");
+                }
+            }
+            case "unregister" -> publisher.unregister(session.getId(), address);
+            default -> sendError(session, address, "access_denied");
+        }
+    }
+
+    @Override
+    public void handleTransportError(WebSocketSession session, Throwable exception) {
+        publisher.close(session.getId());
+    }
+
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
+        publisher.close(session.getId());
+    }
+
+    private void sendError(WebSocketSession session, String address, String failureType) {
+        publisher.sendError(session.getId(), address, failureType);
+    }
+}
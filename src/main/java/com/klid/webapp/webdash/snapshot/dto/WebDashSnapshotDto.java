@@ -0,0 +1,61 @@
+package com.klid.webapp.webdash.snapshot.dto;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 대시보드 화면 스냅샷
+ * - data 는 화면 Widget key 별 조회 결과(기존 API 의 resultData 와 같은 형식)
+ * - errors 는 실패한 Widget key 별 오류 메시지. 실패한 Widget 은 data 에 넣지 않는다.
+ */
+public class WebDashSnapshotDto {
+
+    /** 스냅샷 형식 버전. 형식이 바뀌면 올린다. */
+    public static final int VERSION = 1;
+
+    private int version = VERSION;
+    private String screen;
+    private long generatedAt;
+    private Map<String, Object> data = new LinkedHashMap<>();
+    private Map<String, String> errors = new LinkedHashMap<>();
+
+    public int getVersion() {
+        return version;
+    }
+
+    public void setVersion(int version) {
+        this.version = version;
+    }
+
+    public String getScreen() {
+        return screen;
+    }
+
+    public void setScreen(String screen) {
+        this.screen = screen;
+    }
+
+    public long getGeneratedAt() {
+        return generatedAt;
+    }
+
+    public void setGeneratedAt(long generatedAt) {
+        this.generatedAt = generatedAt;
+    }
+
+    public Map<String, Object> getData() {
+        return data;
+    }
+
+    public void setData(Map<String, Object> data) {
+        this.data = data;
+    }
+
+    public Map<String, String> getErrors() {
+        return errors;
+    }
+
+    public void setErrors(Map<String, String> errors) {
+        this.errors = errors;
+    }
+}
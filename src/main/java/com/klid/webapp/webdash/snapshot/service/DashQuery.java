@@ -0,0 +1,75 @@
+package com.klid.webapp.webdash.snapshot.service;
+
+/**
+ * 대시보드 스냅샷에서 실행하는 개별 조회
+ * - 기존 webdash 컨트롤러의 조회 API 와 1:1 로 대응한다.
+ * - hourType 이 true 인 조회는 컨트롤러와 같이 0~6시는 atype=0, 그 외는 atype=1 을 추가한다.
+ */
+public enum DashQuery {
+    /** /api/code/getDashTextCode 상단 메시지 */
+    DASH_TEXT_CODE(false),
+
+    /** /api/webdash/adminControl/getIncidentStatus 침해사고현황 */
+    INCIDENT_STATUS(true),
+    /** /api/webdash/adminControl/getInciCnt 위협이벤트 */
+    INCI_CNT(true),
+    /** /api/webdash/adminControl/getTbzledgeCnt 고위협 공격시도 */
+    TBZLEDGE_CNT(true),
+    /** /api/webdash/adminControl/getLocalInciCnt 기관별 탐지현황 */
+    LOCAL_INCI_CNT(true),
+    /** /api/webdash/adminControl/getLocalStatus 위변조/헬스체크 */
+    LOCAL_STATUS(false),
+    /** /api/webdash/adminControl/getUrlStatus 홈페이지 위변조 현황 */
+    URL_STATUS(false),
+    /** /api/webdash/adminControl/getInciTypeCnt 사고접수 유형별 건수 */
+    INCI_TYPE_CNT(true),
+
+    /** /api/webdash/center/webDashCenter/getAttNationTop5 공격국가 TOP5 */
+    ATT_NATION_TOP5(true),
+    /** /api/webdash/center/webDashCenter/getTypeChart 유형별차트 */
+    TYPE_CHART(true),
+
+    /** /api/webdash/mois/webDashMois/getThreatNow 사이버위기경보 */
+    THREAT_NOW(false),
+    /** /api/webdash/mois/webDashMois/getHmHcUrlCenter 중앙행정기관 모니터링 */
+    HM_HC_URL_CENTER(false),
+    /** /api/webdash/mois/webDashMois/getHmHcUrlRegion 지방자치단체 모니터링 */
+    HM_HC_URL_REGION(false),
+    /** /api/webdash/mois/webDashMois/getForgeryRegion 지방자치단체 위변조 */
+    FORGERY_REGION(false),
+    /** /api/webdash/mois/webDashMois/getRegionStatus 지역별 사고건수 */
+    REGION_STATUS(false),
+    /** /api/webdash/mois/webDashMois/getRegionStatusAuto 자동차단 */
+    REGION_STATUS_AUTO(false),
+    /** /api/webdash/mois/webDashMois/getRegionStatusManual 수동차단 */
+    REGION_STATUS_MANUAL(false),
+    /** /api/webdash/mois/webDashMois/getDashConfigList 현황 */
+    DASH_CONFIG_LIST(false),
+    /** /api/webdash/mois/webDashMois/getDashChartSum 일주일 추이 */
+    DASH_CHART_SUM(false),
+
+    /** /api/webdash/sido/webDashSido/getNoticeList 공지사항 */
+    NOTICE_LIST(false),
+    /** /api/webdash/sido/webDashSido/getSecuList 보안자료실 */
+    SECU_LIST(false),
+    /** /api/webdash/sido/webDashSido/getRegionStatusManual 시도 수동차단 */
+    SIDO_REGION_STATUS_MANUAL(true),
+    /** /api/webdash/sido/webDashSido/getForgeryCheck 시도 위변조 */
+    FORGERY_CHECK(false),
+    /** /api/webdash/sido/webDashSido/getHcCheck 시도 헬스체크 */
+    HC_CHECK(false),
+    /** /api/webdash/sido/webDashSido/getProcess 기관별 처리현황 */
+    PROCESS(true),
+    /** /api/webdash/sido/webDashSido/getSidoList 시도 기관 목록 */
+    SIDO_LIST(false);
+
+    private final boolean hourType;
+
+    DashQuery(boolean hourType) {
+        this.hourType = hourType;
+    }
+
+    public boolean isHourType() {
+        return hourType;
+    }
+}
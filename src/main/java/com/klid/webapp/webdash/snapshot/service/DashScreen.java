@@ -0,0 +1,209 @@
+package com.klid.webapp.webdash.snapshot.service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * 대시보드 화면별 스냅샷 구성
+ * - 화면이 한 번 갱신할 때 필요한 조회(Widget) 목록을 선언한다.
+ * - 조회 파라미터는 고정값, 요청 파라미터, 서버에서 계산한 값만 사용하고 그 밖의 요청 파라미터는 넘기지 않는다.
+ */
+public enum DashScreen {
+
+    /** 외부 관제 (js/webdash/externalControl.js) */
+    EXTERNAL_CONTROL("center", "externalControl",
+            Widget.of("dashText", DashQuery.DASH_TEXT_CODE).with("comCode1", "4020").with("comCode2", "4"),
+            Widget.of("threatNow", DashQuery.THREAT_NOW).from("instCd", "sInstCd"),
+            Widget.of("noticeList", DashQuery.NOTICE_LIST).with("listSize", "3").from("sInstCd").from("sAuthMain").from("sPntInstCd"),
+            Widget.of("secuList", DashQuery.SECU_LIST).with("listSize", "3").from("sInstCd").from("sAuthMain"),
+            Widget.of("incidentStatus", DashQuery.INCIDENT_STATUS),
+            Widget.of("attNationTop5", DashQuery.ATT_NATION_TOP5),
+            Widget.of("inciCnt", DashQuery.INCI_CNT).from("sAuthMain").from("sInstCd"),
+            Widget.of("tbzledgeCnt", DashQuery.TBZLEDGE_CNT),
+            Widget.of("inciTypeCnt", DashQuery.INCI_TYPE_CNT),
+            Widget.of("typeChart", DashQuery.TYPE_CHART).from("sAuthMain").from("sInstCd")),
+
+    /** 관리자 관제 (js/webdash/adminControl.js) */
+    ADMIN_CONTROL("center", "adminControl",
+            Widget.of("dashText", DashQuery.DASH_TEXT_CODE).with("comCode1", "4020").with("comCode2", "1"),
+            Widget.of("incidentStatus", DashQuery.INCIDENT_STATUS),
+            Widget.of("inciCnt", DashQuery.INCI_CNT).from("sAuthMain").from("sInstCd"),
+            Widget.of("tbzledgeCnt", DashQuery.TBZLEDGE_CNT),
+            Widget.of("localStatus", DashQuery.LOCAL_STATUS),
+            Widget.of("urlStatus", DashQuery.URL_STATUS),
+            Widget.of("localInciCnt", DashQuery.LOCAL_INCI_CNT).from("sAuthMain").from("sInstCd")),
+
+    /** 행안부 사이버위기경보 (js/webdash/mois1.js) */
+    MOIS1("mois", "mois1",
+            Widget.of("threatNow", DashQuery.THREAT_NOW).from("instCd", "sInstCd")),
+
+    /** 행안부 홈페이지 모니터링 (js/webdash/mois2.js) */
+    MOIS2("mois", "mois2",
+            Widget.of("hmHcUrlCenter", DashQuery.HM_HC_URL_CENTER),
+            Widget.of("hmHcUrlRegion", DashQuery.HM_HC_URL_REGION),
+            Widget.of("forgeryRegion", DashQuery.FORGERY_REGION)),
+
+    /** 행안부 지역별 현황 (js/webdash/mois3.js) */
+    MOIS3("mois", "mois3",
+            Widget.of("regionStatus", DashQuery.REGION_STATUS),
+            Widget.of("regionStatusAuto", DashQuery.REGION_STATUS_AUTO),
+            Widget.of("regionStatusManual", DashQuery.REGION_STATUS_MANUAL)),
+
+    /** 행안부 현황/추이 (js/webdash/mois4.js) */
+    MOIS4("mois", "mois4",
+            Widget.of("dashConfigList", DashQuery.DASH_CONFIG_LIST).with("datTime", () -> LocalDate.now().toString()),
+            Widget.of("dashChartSum", DashQuery.DASH_CHART_SUM)
+                    .with("datTime1", () -> LocalDate.now().minusDays(7).toString())
+                    .with("datTime2", () -> LocalDate.now().minusDays(1).toString())),
+
+    /** 시도 (js/webdash/local.js) */
+    LOCAL("sido", "local",
+            Widget.of("threatNow", DashQuery.THREAT_NOW).from("instCd"),
+            Widget.of("noticeList", DashQuery.NOTICE_LIST).with("listSize", "5").from("sInstCd", "instCd").with("sAuthMain", "AUTH_MAIN_3"),
+            Widget.of("secuList", DashQuery.SECU_LIST).with("listSize", "5").from("sInstCd", "instCd"),
+            Widget.of("regionStatusManual", DashQuery.SIDO_REGION_STATUS_MANUAL).from("localCd"),
+            Widget.of("process", DashQuery.PROCESS).from("localCd").from("rnum1").from("rnum2"),
+            Widget.of("sidoList", DashQuery.SIDO_LIST).from("instCd"),
+            Widget.of("forgeryCheck", DashQuery.FORGERY_CHECK).from("localCd"),
+            Widget.of("hcCheck", DashQuery.HC_CHECK).from("localCd"));
+
+    private final String group;
+    private final String id;
+    private final List<Widget> widgets;
+
+    DashScreen(String group, String id, Widget... widgets) {
+        this.group = group;
+        this.id = id;
+        this.widgets = Collections.unmodifiableList(Arrays.asList(widgets));
+    }
+
+    /**
+     * 그룹(center, mois, sido)과 화면 id 로 화면을 찾는다.
+     *
+     * @return 없으면 null
+     */
+    public static DashScreen of(String group, String id) {
+        for (DashScreen screen : values()) {
+            if (screen.group.equals(group) && screen.id.equals(id)) {
+                return screen;
+            }
+        }
+        return null;
+    }
+
+    public String getGroup() {
+        return group;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public List<Widget> getWidgets() {
+        return widgets;
+    }
+
+    /**
+     * key 로 Widget 을 찾는다.
+     *
+     * @return 없으면 null
+     */
+    public Widget getWidget(String key) {
+        for (Widget widget : widgets) {
+            if (widget.key.equals(key)) {
+                return widget;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 화면의 한 영역을 채우는 조회
+     */
+    public static final class Widget {
+        private final String key;
+        private final DashQuery query;
+        private final List<Param> params = new ArrayList<>();
+        private final Set<String> sources = new LinkedHashSet<>();
+
+        private Widget(String key, DashQuery query) {
+            this.key = key;
+            this.query = query;
+        }
+
+        static Widget of(String key, DashQuery query) {
+            return new Widget(key, query);
+        }
+
+        /** 고정값 */
+        Widget with(String name, String value) {
+            return with(name, () -> value);
+        }
+
+        /** 조회할 때마다 계산하는 값 */
+        Widget with(String name, Supplier<String> value) {
+            params.add((request, target) -> target.put(name, value.get()));
+            return this;
+        }
+
+        /** 같은 이름의 요청 파라미터 */
+        Widget from(String name) {
+            return from(name, name);
+        }
+
+        /** 요청 파라미터 source 를 name 으로 */
+        Widget from(String name, String source) {
+            sources.add(source);
+            params.add((request, target) -> {
+                if (request.containsKey(source)) {
+                    target.put(name, request.get(source));
+                }
+            });
+            return this;
+        }
+
+        public String getKey() {
+            return key;
+        }
+
+        public DashQuery getQuery() {
+            return query;
+        }
+
+        /**
+         * 요청 파라미터 중 이 Widget 이 사용하는 것만 남긴다.
+         */
+        public Map<String, String> request(Map<String, ?> request) {
+            Map<String, String> used = new LinkedHashMap<>();
+            for (String source : sources) {
+                if (request.containsKey(source)) {
+                    used.put(source, String.valueOf(request.get(source)));
+                }
+            }
+            return used;
+        }
+
+        /**
+         * 요청 파라미터로 조회 파라미터를 만든다.
+         */
+        public Map<String, Object> params(Map<String, String> request) {
+            Map<String, Object> target = new LinkedHashMap<>();
+            for (Param param : params) {
+                param.apply(request, target);
+            }
+            return target;
+        }
+
+        private interface Param {
+            void apply(Map<String, String> request, Map<String, Object> target);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.klid.webapp.webdash.snapshot.service;
+
+import com.klid.webapp.common.ReturnData;
+import com.klid.webapp.webdash.snapshot.dto.WebDashSnapshotDto;
+
+import java.util.Map;
+
+public interface WebDashSnapshotService {
+
+    /**
+     * 화면의 모든 조회를 동시에 실행해 하나의 스냅샷으로 반환한다.
+     *
+     * @param screen 화면
+     * @param reqMap 요청 파라미터. 화면 구성에 선언된 파라미터만 사용한다.
+     */
+    WebDashSnapshotDto getSnapshot(DashScreen screen, Map<String, String> reqMap);
+
+    /**
+     * Widget 하나를 호출한 스레드에서 조회한다.
+     *
+     * @param widget 화면의 Widget
+     * @param reqMap 요청 파라미터. Widget 에 선언된 파라미터만 사용한다.
+     */
+    ReturnData getWidget(DashScreen.Widget widget, Map<String, String> reqMap);
+}
@@ -0,0 +1,178 @@
+package com.klid.webapp.webdash.snapshot.service;
+
+import com.klid.webapp.common.Criterion;
+import com.klid.webapp.common.ReturnData;
+import com.klid.webapp.common.code.service.CodeService;
+import com.klid.webapp.webdash.adminControl.service.AdminControlService;
+import com.klid.webapp.webdash.cache.WebDashCache;
+import com.klid.webapp.webdash.cache.WebDashCache.Topic;
+import com.klid.webapp.webdash.center.service.WebDashCenterService;
+import com.klid.webapp.webdash.mois.service.WebDashMoisService;
+import com.klid.webapp.webdash.sido.service.WebDashSidoService;
+import com.klid.webapp.webdash.snapshot.dto.WebDashSnapshotDto;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.Resource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+
+/**
+ * 대시보드 스냅샷
+ * - 화면(DashScreen)에 선언된 조회를 공용 작업 스레드(taskExecutor)에서 동시에 실행하고 결과를 하나로 묶는다.
+ * - Criterion 은 세션 사용자 정보를 읽으므로 요청 스레드에서 만들어 넘긴다.
+ * - 조회 하나가 실패하거나 제한 시간을 넘기면 errors 에 기록하고 나머지 결과는 그대로 반환한다.
+ * - 작업 스레드의 캐시 조회도 요청의 Reads 에 기록한다. (ETag)
+ */
+@Slf4j
+@Service("webDashSnapshotService")
+public class WebDashSnapshotServiceImpl implements WebDashSnapshotService {
+
+    static final long TIMEOUT_MILLIS = 15_000;
+
+    @Resource(name = "codeService")
+    private CodeService codeService;
+
+    @Resource(name = "webdash.adminControlService")
+    private AdminControlService adminControlService;
+
+    @Resource(name = "webDashCenterService")
+    private WebDashCenterService centerService;
+
+    @Resource(name = "webDashMoisService")
+    private WebDashMoisService moisService;
+
+    @Resource(name = "webDashSidoService")
+    private WebDashSidoService sidoService;
+
+    @Resource(name = "webDashCache")
+    private WebDashCache cache;
+
+    @Resource(name = "taskExecutor")
+    private AsyncTaskExecutor executor;
+
+    private final Map<DashQuery, Function<Criterion, ReturnData>> queries = new EnumMap<>(DashQuery.class);
+
+    @PostConstruct
+    public void init() {
+        //스냅샷의 모든 조회가 캐시를 거치도록 공통 코드도 캐시
+        queries.put(DashQuery.DASH_TEXT_CODE, criterion ->
+                cache.get(Topic.MONITOR, "code.getDashTextCode", criterion, () -> codeService.getDashTextCode(criterion)));
+
+        queries.put(DashQuery.INCIDENT_STATUS, adminControlService::getIncidentStatus);
+        queries.put(DashQuery.INCI_CNT, adminControlService::getInciCnt);
+        queries.put(DashQuery.TBZLEDGE_CNT, adminControlService::getTbzledgeCnt);
+        queries.put(DashQuery.LOCAL_INCI_CNT, adminControlService::getLocalInciCnt);
+        queries.put(DashQuery.LOCAL_STATUS, adminControlService::getLocalStatus);
+        queries.put(DashQuery.URL_STATUS, adminControlService::getUrlStatus);
+        queries.put(DashQuery.INCI_TYPE_CNT, adminControlService::getInciTypeCnt);
+
+        queries.put(DashQuery.ATT_NATION_TOP5, centerService::getAttNationTop5);
+        queries.put(DashQuery.TYPE_CHART, centerService::getTypeChart);
+
+        queries.put(DashQuery.THREAT_NOW, moisService::getThreatNow);
+        queries.put(DashQuery.HM_HC_URL_CENTER, moisService::getHmHcUrlCenter);
+        queries.put(DashQuery.HM_HC_URL_REGION, moisService::getHmHcUrlRegion);
+        queries.put(DashQuery.FORGERY_REGION, moisService::getForgeryRegion);
+        queries.put(DashQuery.REGION_STATUS, moisService::getRegionStatus);
+        queries.put(DashQuery.REGION_STATUS_AUTO, moisService::getRegionStatusAuto);
+        queries.put(DashQuery.REGION_STATUS_MANUAL, moisService::getRegionStatusManual);
+        queries.put(DashQuery.DASH_CONFIG_LIST, moisService::getDashConfigList);
+        queries.put(DashQuery.DASH_CHART_SUM, moisService::getDashChartSum);
+
+        queries.put(DashQuery.NOTICE_LIST, sidoService::getNoticeList);
+        queries.put(DashQuery.SECU_LIST, sidoService::getSecuList);
+        queries.put(DashQuery.SIDO_REGION_STATUS_MANUAL, sidoService::getRegionStatusManual);
+        queries.put(DashQuery.FORGERY_CHECK, sidoService::getForgeryCheck);
+        queries.put(DashQuery.HC_CHECK, sidoService::getHcCheck);
+        queries.put(DashQuery.PROCESS, sidoService::getProcess);
+        queries.put(DashQuery.SIDO_LIST, sidoService::getSidoList);
+    }
+
+    @Override
+    public WebDashSnapshotDto getSnapshot(DashScreen screen, Map<String, String> reqMap) {
+        final int atype = atype(LocalTime.now());
+        final List<DashScreen.Widget> widgets = screen.getWidgets();
+        final List<Future<ReturnData>> futures = new ArrayList<>(widgets.size());
+        final WebDashCache.Reads reads = WebDashCache.reads();
+
+        for (DashScreen.Widget widget : widgets) {
+            final Criterion criterion = criterionOf(widget, reqMap, atype);
+            final Function<Criterion, ReturnData> query = queries.get(widget.getQuery());
+            futures.add(executor.submit(() -> WebDashCache.withReads(reads, () -> query.apply(criterion))));
+        }
+
+        final WebDashSnapshotDto snapshot = new WebDashSnapshotDto();
+        snapshot.setScreen(screen.getId());
+
+        final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(TIMEOUT_MILLIS);
+        for (int i = 0; i < widgets.size(); i++) {
+            final String key = widgets.get(i).getKey();
+            final Future<ReturnData> future = futures.get(i);
+            try {
+                final ReturnData result = future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                if (result == null || result.getHasError()) {
+                    snapshot.getErrors().put(key, errorMessage(result));
+                } else {
+                    snapshot.getData().put(key, result.getResultData());
+                }
+            } catch (TimeoutException e) {
+                future.cancel(true);
+                snapshot.getErrors().put(key, "timeout");
+            } catch (ExecutionException e) {
+                log.error("webdash snapshot {}.{} 조회 실패", screen.getId(), key, e.getCause());
+                snapshot.getErrors().put(key, String.valueOf(e.getCause().getMessage()));
+            } catch (CancellationException e) {
+                snapshot.getErrors().put(key, "cancelled");
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                futures.forEach(f -> f.cancel(true));
+                throw new IllegalStateException("webdash snapshot 조회가 중단되었습니다.", e);
+            }
+        }
+
+        if (reads != null && !snapshot.getErrors().isEmpty()) {
+            reads.fail();
+        }
+        snapshot.setGeneratedAt(System.currentTimeMillis());
+        return snapshot;
+    }
+
+    @Override
+    public ReturnData getWidget(DashScreen.Widget widget, Map<String, String> reqMap) {
+        return queries.get(widget.getQuery()).apply(criterionOf(widget, reqMap, atype(LocalTime.now())));
+    }
+
+    private static Criterion criterionOf(DashScreen.Widget widget, Map<String, String> reqMap, int atype) {
+        final Criterion criterion = new Criterion(widget.params(reqMap), false);
+        if (widget.getQuery().isHourType()) {
+            criterion.addParam("atype", atype);
+        }
+        return criterion;
+    }
+
+    /**
+     * 기존 컨트롤러와 같은 기준. 0~6시는 0, 그 외는 1
+     */
+    static int atype(LocalTime now) {
+        return now.getHour() < 6 ? 0 : 1;
+    }
+
+    private static String errorMessage(ReturnData result) {
+        if (result == null || result.getErrorInfo() == null) {
+            return "error";
+        }
+        return String.valueOf(result.getErrorInfo().getMessage());
+    }
+}
@@ -54,9 +54,11 @@
     $('#emlcsvFileUpload').on('remove', function (event) { _file=null; });
 
     $('#emlcsvFileUpload').on('uploadEnd', function (event) {
+        //업로드 응답으로 받은 가져오기 토큰
+        var importToken = $.trim($('<div/>').html(event.args.response).text());
         if(type=="eml"){
 			Server.get('/api/main/acc/accidentApply/importEml', {
-				 data: {},
+				 data: {importToken: importToken},
 				 success: function (data) {
 
                      $("#emlYN").val("Y");
@@ -112,7 +114,7 @@
 			 });
 		}else if(type=="csv"){
             Server.get('/api/main/acc/accidentApply/importExcel', {
-                data: {},
+                data: {importToken: importToken},
                 success: function (data) {
 
                     $("#emlYN").val("N");
@@ -121,6 +123,19 @@
                         data.resultData.fileType=="xls"||
                         data.resultData.fileType=="xlsx"
 					){
+                        //행별 오류 안내 (최대 10건)
+                        if(data.resultData.importErrorCount>0){
+                            var msg = "오류 " + data.resultData.importErrorCount + "건은 제외되었습니다.\n";
+                            $.each(data.resultData.importErrors.slice(0, 10), function (idx, err) {
+                                msg += "\n" + err.rowNum + "행 : " + err.message;
+                            });
+                            alert(msg);
+                        }
+                        if(data.resultData.importRowCount==0){
+                            alert("가져올 수 있는 행이 없습니다.");
+                            return;
+                        }
+
                         if(data.resultData.inciDclCont!=undefined)
                         	$('#inciDclCont').val(data.resultData.inciDclCont);
                         if(data.resultData.inciTtl!=undefined)
@@ -48,8 +48,10 @@
     $('#xlsFileUpload').on('remove', function (event) { _file=null; });
 
     $('#xlsFileUpload').on('uploadEnd', function (event) {
+        //업로드 응답으로 받은 가져오기 토큰
+        var importToken = $.trim($('<div/>').html(event.args.response).text());
         Server.get('/api/main/home/healthCheckUrl/importXls', {
-            data: {},
+            data: {importToken: importToken},
             success: function (data) {
 				if(data=="OK"){
 				    alert("중복데이터 제외하고 추가되었습니다.")
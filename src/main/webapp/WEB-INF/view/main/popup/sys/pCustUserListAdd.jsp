@@ -48,14 +48,7 @@
     });
 
     $('#addUserFileUpload').on('uploadEnd', function (event) {
-
-        Server.get('/api/main/acc/accidentApply/importEml', {
-            data: {},
-            success: function (data) {
-
-                $('#pImportUserListWindow').jqxWindow('close');
-            }
-        });
+        $('#pImportUserListWindow').jqxWindow('close');
     });
 
 </script>
\ No newline at end of file
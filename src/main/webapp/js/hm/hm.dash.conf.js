@@ -663,6 +663,120 @@ define(function (require) {
         return
     }
 
+    /**
+     * 화면 스냅샷 조회
+     * - /api/webdash/{group}/snapshot 한 번으로 화면의 조회 결과를 모두 받는다.
+     * - handlers 에 선언한 순서대로, 결과가 있는 key 의 handler 를 호출한다.
+     * - 실패한 조회는 errors 에 담겨 오며 해당 영역은 이전 표시를 유지한다.
+     * - 이전 응답의 ETag 를 보내므로 바뀐 것이 없으면 서버는 본문 없이 304 로 응답한다.
+     */
+    function getSnapshot(group, screen, params, handlers) {
+        Server.get('/api/webdash/{0}/snapshot'.substitute(group), {
+            data: $.extend({}, params, {screen: screen}),
+            validate: true,
+            success: function (snapshot) {
+                $.each(handlers, function (key, handler) {
+                    if (snapshot.data.hasOwnProperty(key)) {
+                        handler(snapshot.data[key]);
+                    }
+                });
+                $.each(snapshot.errors, function (key, message) {
+                    console.log('[{0}] {1} : {2}'.substitute(screen, key, message));
+                });
+            }
+        });
+    }
+
+    /**
+     * 화면 갱신
+     * - push 연결(/api/webdash/eventbus)이 열려 있으면 Widget 별 주소를 구독하고, 바뀐 Widget 만 서버에서 받는다.
+     * - push 를 쓸 수 없거나 연결이 끊긴 동안은 getSnapshot 으로 조회한다. (화면 타이머가 계속 호출하므로 polling 으로 동작)
+     * - linked 에 묶은 key 들은 하나만 바뀌어도 묶인 handler 를 순서대로 모두 호출한다. (앞 handler 의 결과를 뒤 handler 가 그리는 경우)
+     */
+    var push = null;
+
+    function refresh(group, screen, params, handlers, linked) {
+        if (push == null) {
+            push = openPush(group, screen, handlers, linked || []);
+        }
+        push.params = params;
+        if (push.open) {
+            push.register();
+            return;
+        }
+        getSnapshot(group, screen, params, handlers);
+    }
+
+    function openPush(group, screen, handlers, linked) {
+        var state = {open: false, params: {}, registered: {}, callbacks: {}, data: {}, changed: null, register: $.noop};
+        if (typeof EventBus === 'undefined') return state;
+
+        var eb = new EventBus((typeof ctxPath === 'undefined' ? '' : ctxPath) + '/api/webdash/eventbus', {vertxbus_ping_interval: 5000});
+        eb.enableReconnect(true);
+        eb.onopen = function () {
+            state.open = true;
+            state.registered = {};
+            state.register();
+        };
+        eb.onclose = function () {
+            state.open = false;
+        };
+
+        function address(key) {
+            return 'webdash.{0}.{1}.{2}'.substitute(group, screen, key);
+        }
+
+        // 같은 tick 에 온 메시지를 모아 handler 순서대로 호출
+        function receive(key, body) {
+            state.data[key] = body;
+            if (state.changed == null) {
+                state.changed = {};
+                setTimeout(render, 50);
+            }
+            state.changed[key] = true;
+            $.each(linked, function (i, keys) {
+                if ($.inArray(key, keys) != -1) {
+                    $.each(keys, function (j, k) { state.changed[k] = true; });
+                }
+            });
+        }
+
+        function render() {
+            var changed = state.changed;
+            state.changed = null;
+            $.each(handlers, function (key, handler) {
+                if (changed[key] && state.data.hasOwnProperty(key)) {
+                    handler(state.data[key]);
+                }
+            });
+        }
+
+        // 조건이 바뀐 Widget 만 다시 구독 (재연결 후에는 모두)
+        state.register = function () {
+            var headers = {};
+            $.each(state.params, function (name, value) { headers[name] = String(value); });
+            var json = JSON.stringify(headers);
+
+            $.each(handlers, function (key) {
+                var addr = address(key);
+                if (state.registered[addr] === json) return;
+                if (state.callbacks[addr]) {
+                    eb.unregisterHandler(addr, {}, state.callbacks[addr]);
+                }
+                state.callbacks[addr] = function (err, msg) {
+                    if (err) {
+                        console.log('[{0}] {1} : {2}'.substitute(screen, key, err.message));
+                        return;
+                    }
+                    receive(key, msg.body);
+                };
+                eb.registerHandler(addr, headers, state.callbacks[addr]);
+                state.registered[addr] = json;
+            });
+        };
+        return state;
+    }
+
     return {
         env: env,
         refreshTime: refreshTime,
@@ -671,6 +785,8 @@ define(function (require) {
         getCyberAlertText: getCyberAlertText,
         getCyberAlertColor: getCyberAlertColor,
         animation: animation,
-        getMarquee:getMarquee
+        getMarquee:getMarquee,
+        getSnapshot: getSnapshot,
+        refresh: refresh
     };
 });
\ No newline at end of file
@@ -266,6 +266,56 @@ var HmUtil = {
 	//			);
 		},
 
+		/**
+		 * 한글 다운로드 (서버가 파일을 남기지 않고 응답으로 바로 보내는 경우)
+		 * @param url
+		 * @param params
+		 */
+		downloadHwp: function(url, params) {
+			var loader = $('#comLoader');
+			if(loader.length <= 0) {
+				loader = $('<div id="comLoader" style="z-index: 100000"></div>');
+				loader.appendTo('body');
+			}
+			loader.jqxLoader({ isModal: false, width: 300, height: 70, theme: jqxTheme, text: '한글을 생성중입니다. 잠시만 기다려주세요.' });
+			loader.jqxLoader('open');
+			if(params == null) params = {};
+			fetch(url, {
+				method: 'POST',
+				headers: { 'Content-Type': 'application/json; charset=utf-8' },
+				body: JSON.stringify(params)
+			}).then(function(response) {
+				if(!response.ok) {
+					throw new Error('한글 파일 생성에 실패했습니다.');
+				}
+				var fileName = 'download.hwp';
+				var contentDisposition = response.headers.get('Content-Disposition');
+				if(contentDisposition) {
+					var fileNameMatch = contentDisposition.match(/filename\*?=(?:UTF-8'')?["']?([^"';]+)["']?/i);
+					if(fileNameMatch && fileNameMatch[1]) {
+						fileName = decodeURIComponent(fileNameMatch[1]);
+					}
+				}
+				return response.blob().then(function(blob) {
+					return { blob: blob, fileName: fileName };
+				});
+			}).then(function(result) {
+				loader.jqxLoader('close');
+				var blobUrl = window.URL.createObjectURL(result.blob);
+				var a = document.createElement('a');
+				a.style.display = 'none';
+				a.href = blobUrl;
+				a.download = result.fileName;
+				document.body.appendChild(a);
+				a.click();
+				window.URL.revokeObjectURL(blobUrl);
+				document.body.removeChild(a);
+			}).catch(function(error) {
+				loader.jqxLoader('close');
+				alert(error.message);
+			});
+		},
+
 		downloadEmlCsv: function(url, params) {
 			var loader = $('#comLoader');
 			if(loader.length <= 0) {
@@ -948,6 +998,9 @@ var ES  = {
 
 /** ajax call */
 var Server = (function() {
+	// validate 옵션으로 조회한 응답의 ETag 와 본문 (url + 조건 별)
+	var validated = {};
+
 	return {
 		post: function(url, params) {
 			Server.ajax(url, 'post', params);
@@ -957,12 +1010,25 @@ var Server = (function() {
 		},
 		ajax: function(url, method, params) {
 			if(ctxPath === undefined) ctxPath = '';
+			// params.validate : 이전 응답의 ETag 를 If-None-Match 로 보내고, 304 이면 이전 본문을 사용 (GET)
+			var validateKey = method === 'get' && params.validate ? url + '?' + $.param(params.data || {}) : null;
 			var ajaxOpts = {
 					type: method.toUpperCase(),
 					url: ctxPath + url,
 					dataType: 'json',
-					success: function(data, status) {
+					success: function(data, status, xhr) {
 //						if($('body').hasClass('wait')) $('body').removeClass('wait');
+						if(validateKey !== null) {
+							if(status === 'notmodified' && validated[validateKey]) {
+								data = JSON.parse(validated[validateKey].text);
+							}
+							else if(xhr.getResponseHeader('ETag')) {
+								validated[validateKey] = {etag: xhr.getResponseHeader('ETag'), text: xhr.responseText};
+							}
+							else {
+								delete validated[validateKey];
+							}
+						}
 						if(data.hasError) {
 							if(params.error !== undefined) {
 								params.error(data);
@@ -998,6 +1064,9 @@ var Server = (function() {
 			}
 			else {
 				if(params.data) ajaxOpts.data = params.data;
+				if(validateKey !== null && validated[validateKey]) {
+					ajaxOpts.headers = {'If-None-Match': validated[validateKey].etag};
+				}
 			}
 			$.ajax($.extend(ajaxOpts, params.options));
 		}
@@ -368,7 +368,7 @@ $('#pSidoCont').click(function() {
 
 });
 $('#hwpDownload').click(function () {
-    HmUtil.exportHwp(ctxPath + '/api/main/acc/accidentApply/makeAcciHwpDownload', accidentDetail);
+    HmUtil.downloadHwp(ctxPath + '/api/board/accident/report-management/reports/hwp-document/download', accidentDetail);
 });
 
 $('#assign').click(function() {
@@ -116,22 +116,27 @@ define(function (require) {
          * 데이터 갱신
          */
         function refreshData() {
-            //상단 타이틀 바
-            getCodeNotice();
-            //침해사고현황
-            getIncidentStatus();
-            //위협이벤트
-            getInciCnt();
-            //고위협 공격시도
-            getTbzledgeCnt();
-            //위변조//헬스체크
-            getLocalStatus();
-            //홈페이지 위변조 현황
-            getUrlStatus();
+            hmDashConf.refresh('center', 'adminControl', {
+                sAuthMain: $("#sAuthMain").val(),
+                sInstCd: $('#sInstCd').val()
+            }, {
+                //상단 타이틀 바
+                dashText: getCodeNotice,
+                //침해사고현황
+                incidentStatus: getIncidentStatus,
+                //위협이벤트
+                inciCnt: getInciCnt,
+                //고위협 공격시도
+                tbzledgeCnt: getTbzledgeCnt,
+                //위변조//헬스체크
+                localStatus: getLocalStatus,
+                //홈페이지 위변조 현황
+                urlStatus: getUrlStatus,
+                //기관별 탐지현황
+                localInciCnt: getLocalInciCnt
+            });
             //시스템 장애현황
             getSysError();
-            //기관별 탐지현황
-            getLocalInciCnt();
 
             //지도효과.
             if(rotIdx >= rotList.length) rotIdx = 0;
@@ -150,73 +155,55 @@ define(function (require) {
             $('div#dashMain').css('transform', 'scale({0},{1})'.substitute(scaleX, scaleY));
         }
 
-        function getCodeNotice(){
-            Server.get('/api/code/getDashTextCode', {
-                data:{comCode1:4020,comCode2:1},
-                success: function(result) {
-                    //alert(result[0].codeCont);
-                    $('#noticeInput').val(result[0].codeCont);
-                }
-            });
+        function getCodeNotice(result){
+            //alert(result[0].codeCont);
+            $('#noticeInput').val(result[0].codeCont);
         }
 
-        function getIncidentStatus() {
-            Server.get('/api/webdash/adminControl/getIncidentStatus', {
-                success: function(result) {
-                    manualDenyModel.setData(result);
-                    manualDenyController.refresh(manualDenyModel);
-                }
-            });
+        function getIncidentStatus(result) {
+            manualDenyModel.setData(result);
+            manualDenyController.refresh(manualDenyModel);
         }
 
         //유형별
-        function getInciCnt() {
-            var params = {};
-            params.sAuthMain=$("#sAuthMain").val();
-            params.sInstCd=$('#sInstCd').val();
-
-            Server.get('/api/webdash/adminControl/getInciCnt', {
-                data:params,
-                success: function(result) {
-                    if(result.length > 0){
-                        var html="";
-                        result.sort(function (a,b) {
-                            return b.evtCnt-a.evtCnt;
-                        });
-                        var size=0;
-                        if(result.length>5)
-                            size=5;
-                        else
-                            size = result.length;
-
-                        evtCntModel.setInciData(result.slice(0,5));
-
-                        evtCntController.refreshInciType(evtCntModel);
-                    }
-                    // result.sort(function (a,b) {
-                    //     return b.evtCnt-a.evtCnt;
-                    // });
-                    // if(result.length > 5) { //5건 넘을경우
-                    //     if(chk == "Y"){ //다음데이터.
-                    //         evtCntModel.setInciData(result.slice(rowCnt,rowCnt+5));
-                    //        if(result.length > rowCnt+5 ){
-                    //            rowCnt = rowCnt+5;
-                    //             chk = "Y";
-                    //         }else{
-                    //             chk = "";
-                    //             rowCnt = 5;
-                    //         }
-                    //     }else{
-                    //         evtCntModel.setInciData(result.slice(0,5));
-                    //         chk = "Y";
-                    //     }
-                    // }else{
-                    //     evtCntModel.setInciData(result);
-                    // }
-                    //
-                    // evtCntController.refreshInciType(evtCntModel);
-                }
-            });
+        function getInciCnt(result) {
+            if(result.length > 0){
+                var html="";
+                result.sort(function (a,b) {
+                    return b.evtCnt-a.evtCnt;
+                });
+                var size=0;
+                if(result.length>5)
+                    size=5;
+                else
+                    size = result.length;
+
+                evtCntModel.setInciData(result.slice(0,5));
+
+                evtCntController.refreshInciType(evtCntModel);
+            }
+            // result.sort(function (a,b) {
+            //     return b.evtCnt-a.evtCnt;
+            // });
+            // if(result.length > 5) { //5건 넘을경우
+            //     if(chk == "Y"){ //다음데이터.
+            //         evtCntModel.setInciData(result.slice(rowCnt,rowCnt+5));
+            //        if(result.length > rowCnt+5 ){
+            //            rowCnt = rowCnt+5;
+            //             chk = "Y";
+            //         }else{
+            //             chk = "";
+            //             rowCnt = 5;
+            //         }
+            //     }else{
+            //         evtCntModel.setInciData(result.slice(0,5));
+            //         chk = "Y";
+            //     }
+            // }else{
+            //     evtCntModel.setInciData(result);
+            // }
+            //
+            // evtCntController.refreshInciType(evtCntModel);
         }
 
         function returnTwo(str) {
@@ -232,45 +219,24 @@ define(function (require) {
             return {aType : 1 };
         }
 
-        function getTbzledgeCnt() {
-            Server.get('/api/webdash/adminControl/getTbzledgeCnt', {
-                success: function(result) {
-                    evtCntModel.setTbzledgeData(result);
-                    evtCntController.refreshTbzledge(evtCntModel);
-                }
-            });
+        function getTbzledgeCnt(result) {
+            evtCntModel.setTbzledgeData(result);
+            evtCntController.refreshTbzledge(evtCntModel);
         }
 
-        function getLocalInciCnt() {
-            var params = {};
-            params.sAuthMain=$("#sAuthMain").val();
-            params.sInstCd=$('#sInstCd').val();
-
-            Server.get('/api/webdash/adminControl/getLocalInciCnt', {
-                data: params,
-                success: function(result) {
-                    localEvtChartModel.setData(result);
-                    localEvtChartController.refresh(localEvtChartModel);
-                }
-            });
+        function getLocalInciCnt(result) {
+            localEvtChartModel.setData(result);
+            localEvtChartController.refresh(localEvtChartModel);
         }
 
-        function getLocalStatus() {
-            Server.get('/api/webdash/adminControl/getLocalStatus', {
-                success: function(result) {
-                    mapModel.setData(result);
-                    mapController.refresh(mapModel);
-                }
-            });
+        function getLocalStatus(result) {
+            mapModel.setData(result);
+            mapController.refresh(mapModel);
         }
 
-        function getUrlStatus() {
-            Server.get('/api/webdash/adminControl/getUrlStatus', {
-                success: function(result) {
-                    forgeryModel.setData(result);
-                    forgeryController.refresh(forgeryModel);
-                }
-            });
+        function getUrlStatus(result) {
+            forgeryModel.setData(result);
+            forgeryController.refresh(forgeryModel);
         }
 
         function getSysError() {
@@ -168,6 +168,7 @@ define(function (require) {
 
         function getLocalStatus() {
             Server.get('/api/webdash/adminControl/getLocalStatus', {
+                validate: true,
                 success: function(result) {
                     mapModel.setData(result);
                     mapController.refresh(mapModel);
@@ -177,6 +178,7 @@ define(function (require) {
 
         function getLocalChart() {
             Server.get('/api/webdash/adminControl/getLocalStatus', {
+                validate: true,
                 data: {},
                 success: function(result) {
                     mapModel.setData(result);
@@ -187,6 +189,7 @@ define(function (require) {
 
         function getEvtChart() {
             Server.get('/api/webdash/center/webDashCenter/getEvtAllChart', {
+                validate: true,
                 success: function(result) {
                     evtCntModel.setChartData(result);
                     evtCntController.refreshTypeChart(evtCntModel);
@@ -196,6 +199,7 @@ define(function (require) {
 
         function getEvtLocalChart(localNm) {
             Server.get('/api/webdash/center/webDashCenter/getEvtChart', {
+                validate: true,
                 data: {localNm: localNm},
                 success: function(result) {
                     evtCntModel.setLocalChartData(result, localNm);
@@ -144,6 +144,7 @@ define(function (require) {
         //공격국가
         function getAttNationTop5() {
             Server.get('/api/webdash/center/webDashCenter/getAttNationTop5', {
+                validate: true,
                 success: function(result) {
                     //countryController.refresh(countryModel);
                     countryController.refresh(countryModel, result);
@@ -161,6 +162,7 @@ define(function (require) {
             params.sInstCd=$('#sInstCd').val();
 
             Server.get('/api/webdash/adminControl/getInciCnt', {
+                validate: true,
                 data: params,
                 success: function(result) {
                     evtCntModel.setInciData(result);
@@ -171,6 +173,7 @@ define(function (require) {
 
         function getTbzledgeCnt() {
             Server.get('/api/webdash/adminControl/getTbzledgeCnt', {
+                validate: true,
                 success: function(result) {
                     evtCntModel.setTbzledgeData(result)
                     evtCntController.refreshTbzledge(evtCntModel);
@@ -180,6 +183,7 @@ define(function (require) {
 
         function getIncidentStatus() {
             Server.get('/api/webdash/adminControl/getIncidentStatus', {
+                validate: true,
                 success: function(result) {
                     manualDenyModel.setData(result);
                     manualDenyController.refresh(manualDenyModel);
@@ -193,6 +197,7 @@ define(function (require) {
             params.sInstCd=$('#sInstCd').val();
 
             Server.get('/api/webdash/center/webDashCenter/getTypeChart', {
+                validate: true,
                 data:params,
                 success: function(result) {
                     evtCntModel.setChartData(result);
@@ -124,152 +124,97 @@ define(function (require) {
          * 데이터 갱신
          */
         function refreshData() {
-            //상단 타이틀 바
-            getCodeNotice();
-            cyberAtInfo();
-            noticeList();
-            secuList();
-            getIncidentStatus();
-            getAttNationTop5();
-            //위협이벤트
-            getInciCnt();
-            //고위협공격시도
-            getTbzledgeCnt();
-            //유형별차트
-            getTypeChart();
+            hmDashConf.refresh('center', 'externalControl', {
+                sInstCd: $("#sInstCd").val(),
+                sAuthMain: $("#sAuthMain").val(),
+                sPntInstCd: $("#sPntInstCd").val()
+            }, {
+                //상단 타이틀 바
+                dashText: getCodeNotice,
+                threatNow: cyberAtInfo,
+                noticeList: noticeList,
+                secuList: secuList,
+                incidentStatus: getIncidentStatus,
+                attNationTop5: getAttNationTop5,
+                //위협이벤트
+                inciCnt: getInciCnt,
+                //고위협공격시도
+                tbzledgeCnt: getTbzledgeCnt,
+                //유형별차트
+                inciTypeCnt: getInciTypeCnt,
+                typeChart: getTypeChart
+            });
         }
 
-        function getCodeNotice(){
-            Server.get('/api/code/getDashTextCode', {
-                data:{comCode1:4020,comCode2:4},
-                success: function(result) {
-                    $('#noticeInput').val(result[0].codeCont);
-                }
-            });
+        function getCodeNotice(result){
+            $('#noticeInput').val(result[0].codeCont);
         }
 
         //공지사항리스트
-        function noticeList() {
-            Server.get('/api/webdash/sido/webDashSido/getNoticeList', {
-                data: {
-                    listSize: '3',
-                    sInstCd: $("#sInstCd").val(),
-                    sAuthMain:$("#sAuthMain").val(),
-                    sPntInstCd:$("#sPntInstCd").val()
-                },
-                success: function (data) {
-                    noticeBoardModel.setData(data);
-                    noticeBoardController.refresh(noticeBoardModel, $('#local_noticeBoard'));
-                }
-            });
+        function noticeList(data) {
+            noticeBoardModel.setData(data);
+            noticeBoardController.refresh(noticeBoardModel, $('#local_noticeBoard'));
         }
 
 
         //보안리스트
-        function secuList() {
-            Server.get('/api/webdash/sido/webDashSido/getSecuList', {
-                data: {
-                    listSize: '3',
-                    sInstCd: $("#sInstCd").val(),
-                    sAuthMain:$("#sAuthMain").val()
-                },
-                success: function (data) {
-                    securityBoardModel.setData(data);
-                    securityBoardController.refresh(securityBoardModel, $('#local_securityBoard'));
-                }
-            });
+        function secuList(data) {
+            securityBoardModel.setData(data);
+            securityBoardController.refresh(securityBoardModel, $('#local_securityBoard'));
         }
 
         //위기경보조회.
-        function cyberAtInfo() {
-            Server.get('/api/webdash/mois/webDashMois/getThreatNow', {
-                data: {instCd:$("#sInstCd").val()},
-                success: function (data) {
-                    if(data.length > 0){
-                        cyberAlertModel.setData(data[0].nowThreat);
-                        cyberUpdInfoModel.setData(data[0].pastThreat,data[0].nowThreat,data[0].modDt);
-                    }else{
-                        //관심.
-                        cyberAlertModel.setData(2);
-                        cyberUpdInfoModel.setData('','','');
-                    }
-                    //그래프표시.
-                    cyberAlertController.refresh(cyberAlertModel);
-                    //하단표시.
-                    cyberUpdInfoController.refresh(cyberUpdInfoModel);
-                }
-            });
+        function cyberAtInfo(data) {
+            if(data.length > 0){
+                cyberAlertModel.setData(data[0].nowThreat);
+                cyberUpdInfoModel.setData(data[0].pastThreat,data[0].nowThreat,data[0].modDt);
+            }else{
+                //관심.
+                cyberAlertModel.setData(2);
+                cyberUpdInfoModel.setData('','','');
+            }
+            //그래프표시.
+            cyberAlertController.refresh(cyberAlertModel);
+            //하단표시.
+            cyberUpdInfoController.refresh(cyberUpdInfoModel);
         }
 
         //침해사고현황
-        function getIncidentStatus() {
-            Server.get('/api/webdash/adminControl/getIncidentStatus', {
-                success: function(result) {
-                    manualDenyModel.setData(result);
-                    manualDenyController.refresh(manualDenyModel);
-                }
-            });
+        function getIncidentStatus(result) {
+            manualDenyModel.setData(result);
+            manualDenyController.refresh(manualDenyModel);
         }
 
         //공격국가
-        function getAttNationTop5() {
-            Server.get('/api/webdash/center/webDashCenter/getAttNationTop5', {
-                success: function(result) {
-                    countryController.refresh(countryModel, result);
+        function getAttNationTop5(result) {
+            countryController.refresh(countryModel, result);
 
-                    //TOP5
-                    brfAttackTop5Model.setData(result);
-                    brfAttackTop5Controller.refresh(brfAttackTop5Model);
-                }
-            });
+            //TOP5
+            brfAttackTop5Model.setData(result);
+            brfAttackTop5Controller.refresh(brfAttackTop5Model);
         }
 
         //위협이벤트
-        function getInciCnt() {
-            var params = {};
-            params.sAuthMain=$("#sAuthMain").val();
-            params.sInstCd=$('#sInstCd').val();
-
-            Server.get('/api/webdash/adminControl/getInciCnt', {
-                data:params,
-                success: function(result) {
-                    evtCntModel.setInciData(result);
-                    evtCntController.refreshInci(evtCntModel);
-                }
-            });
+        function getInciCnt(result) {
+            evtCntModel.setInciData(result);
+            evtCntController.refreshInci(evtCntModel);
         }
 
         //고위협공격시도
-        function getTbzledgeCnt() {
-            Server.get('/api/webdash/adminControl/getTbzledgeCnt', {
-                success: function(result) {
-                    evtCntModel.setTbzledgeData(result);
-                    evtCntController.refreshTbz(evtCntModel);
-                }
-            });
+        function getTbzledgeCnt(result) {
+            evtCntModel.setTbzledgeData(result);
+            evtCntController.refreshTbz(evtCntModel);
         }
 
-        //유형별차트
-        function getTypeChart() {
-            var params = {};
-            params.sAuthMain=$("#sAuthMain").val();
-            params.sInstCd=$('#sInstCd').val();
-
-            //2019.08.19 추가 사고접수 유형별 집계카운트 추가
-            Server.get('/api/webdash/adminControl/getInciTypeCnt', {
-                data: {},
-                success: function(result) {
-                    evtCntModel.setInciTypeCnt(result);
-                }
-            });
+        //2019.08.19 추가 사고접수 유형별 집계카운트 추가
+        function getInciTypeCnt(result) {
+            evtCntModel.setInciTypeCnt(result);
+        }
 
-            Server.get('/api/webdash/center/webDashCenter/getTypeChart', {
-                data: params,
-                success: function(result) {
-                    evtCntModel.setChartData(result);
-                    evtCntController.refreshTypeChart(evtCntModel);
-                }
-            });
+        //유형별차트
+        function getTypeChart(result) {
+            evtCntModel.setChartData(result);
+            evtCntController.refreshTypeChart(evtCntModel);
         }
 
         /**
@@ -162,117 +162,84 @@ define(function (require) {
         function refreshData() {
             setCityLogo();
             cityMapController.setCityMap(localCd);
-            cyberAtInfo();
-            regionStatusManual();
-            getSidoList();
-            noticeList();
-            secuList();
+            //처리현황 다음 페이지
+            nextProcessPage();
+
+            hmDashConf.refresh('sido', 'local', {
+                instCd: local_inst_cd,
+                localCd: localCd,
+                rnum1: rnum1,
+                rnum2: rnum2
+            }, {
+                threatNow: cyberAtInfo,
+                regionStatusManual: regionStatusManual,
+                process: processList,
+                sidoList: getSidoList,
+                forgeryCheck: forgeryStatus,
+                hcCheck: hcStatus,
+                noticeList: noticeList,
+                secuList: secuList
+            }, [['regionStatusManual', 'process'], ['sidoList', 'forgeryCheck', 'hcCheck']]);
         }
 
         //공지사항리스트
-        function noticeList() {
-            Server.get('/api/webdash/sido/webDashSido/getNoticeList', {
-                data: {
-                    listSize: '5',
-                    sInstCd: local_inst_cd,
-                    sAuthMain:'AUTH_MAIN_3'
-                },
-                success: function (data) {
-                    noticeBoardModel.setData(data);
-                    noticeBoardController.refresh(noticeBoardModel, $('#local_noticeBoard'));
-                }
-            });
+        function noticeList(data) {
+            noticeBoardModel.setData(data);
+            noticeBoardController.refresh(noticeBoardModel, $('#local_noticeBoard'));
         }
 
         //보안리스트
-        function secuList() {
-            Server.get('/api/webdash/sido/webDashSido/getSecuList', {
-                data: {
-                    listSize: '5',
-                    sInstCd: local_inst_cd,
-                },
-                success: function (data) {
-                    securityBoardModel.setData(data);
-                    securityBoardController.refresh(securityBoardModel, $('#local_securityBoard'));
-                }
-            });
+        function secuList(data) {
+            securityBoardModel.setData(data);
+            securityBoardController.refresh(securityBoardModel, $('#local_securityBoard'));
         }
 
         //위기경보조회.
-        function cyberAtInfo() {
-            Server.get('/api/webdash/mois/webDashMois/getThreatNow', {
-                data: {instCd:local_inst_cd},
-                success: function (data) {
-                    if(data.length > 0){
-                        cyberAlertModel.setData(data[0].nowThreat);
-                        cyberUpdInfoModel.setData(data[0].pastThreat,data[0].nowThreat,data[0].modDt);
-                    }else{
-                        //관심.
-                        cyberAlertModel.setData(2);
-                        cyberUpdInfoModel.setData('','','');
-                    }
-                    //그래프표시.
-                    cyberAlertController.refresh(cyberAlertModel);
-                    //하단표시.
-                    cyberUpdInfoController.refresh(cyberUpdInfoModel);
-                }
-            });
+        function cyberAtInfo(data) {
+            if(data.length > 0){
+                cyberAlertModel.setData(data[0].nowThreat);
+                cyberUpdInfoModel.setData(data[0].pastThreat,data[0].nowThreat,data[0].modDt);
+            }else{
+                //관심.
+                cyberAlertModel.setData(2);
+                cyberUpdInfoModel.setData('','','');
+            }
+            //그래프표시.
+            cyberAlertController.refresh(cyberAlertModel);
+            //하단표시.
+            cyberUpdInfoController.refresh(cyberUpdInfoModel);
         }
 
         //수동차단표시.
-        function regionStatusManual() {
-            Server.get('/api/webdash/sido/webDashSido/getRegionStatusManual', {
-                data: {localCd:localCd, atype:getDates()},
-                success: function (data) {
-                    if (data.length > 0) {
-                        manualDenyModel.setData(data[0].receiptCnt, data[0].processCnt, data[0].completeCnt);
-                        instStateModel.setCount(data[0].processCnt, data[0].completeCnt);
-                    } else {
-                        manualDenyModel.setData(0, 0, 0);
-                        instStateModel.setCount(0, 0);
-                    }
-                    manualDenyController.refresh(manualDenyModel);
-                    //기관별 상세현황 조회.
-                    processList();
-                }
-            });
+        function regionStatusManual(data) {
+            if (data.length > 0) {
+                manualDenyModel.setData(data[0].receiptCnt, data[0].processCnt, data[0].completeCnt);
+                instStateModel.setCount(data[0].processCnt, data[0].completeCnt);
+            } else {
+                manualDenyModel.setData(0, 0, 0);
+                instStateModel.setCount(0, 0);
+            }
+            manualDenyController.refresh(manualDenyModel);
         }
 
         //시도리스트
-        function getSidoList() {
-            Server.get('/api/webdash/sido/webDashSido/getSidoList', {
-                data: {instCd: local_inst_cd},
-                success: function (data) {
-                    cityMapModel.setData3(localCd,data);
-                    forgeryStatus();
-                }
-            });
+        function getSidoList(data) {
+            cityMapModel.setData3(localCd,data);
         }
 
         //위변조 표시.
-        function forgeryStatus() {
-            Server.get('/api/webdash/sido/webDashSido/getForgeryCheck', {
-                data: {localCd:localCd},
-                success: function (data) {
-                    cityMapModel.setData(localCd,data);
-                    hcStatus();
-                }
-            });
+        function forgeryStatus(data) {
+            cityMapModel.setData(localCd,data);
         }
 
         //헬스체크 표시.
-        function hcStatus() {
-            Server.get('/api/webdash/sido/webDashSido/getHcCheck', {
-                data: {localCd:localCd},
-                success: function (data) {
-                    cityMapModel.setData2(data);
-                    cityMapController.refresh(cityMapModel, localCd);
-                }
-            });
+        function hcStatus(data) {
+            cityMapModel.setData2(data);
+            cityMapController.refresh(cityMapModel, localCd);
         }
 
-        //처리현황
-        function processList() {
+        //처리현황 조회 범위
+        function nextProcessPage() {
             if(rTotal > 0){
                 //데이터 더있을경우.
                 if(rTotal > rnum2){
@@ -283,35 +250,18 @@ define(function (require) {
                     rnum2 = 5;
                 }
             }
-
-            Server.get('/api/webdash/sido/webDashSido/getProcess', {
-                data: {
-                    localCd:localCd,rnum1: rnum1, rnum2: rnum2, atype:getDates()
-                },
-                success: function (data) {
-                    if(data.length > 0){
-                        rTotal = data[0].dataCnt;
-                    }else{
-                        rTotal = 0;
-                    }
-
-                    instStateModel.setData(data);
-                    instStateController.refresh(instStateModel, $('#local_instState'));
-                }
-            });
         }
 
-        function getDates() {
-            var today = new Date();
-            var hhmmss = returnTwo(today.getHours())+returnTwo(today.getMinutes())+returnTwo(today.getSeconds());
-            if(hhmmss>="000000" && hhmmss<="060000"){
-                return 0;
+        //처리현황
+        function processList(data) {
+            if(data.length > 0){
+                rTotal = data[0].dataCnt;
+            }else{
+                rTotal = 0;
             }
-            return 1;
-        }
-        function returnTwo(str) {
-                str="0"+str;
-            return str.slice(-2);
+
+            instStateModel.setData(data);
+            instStateController.refresh(instStateModel, $('#local_instState'));
         }
 
 
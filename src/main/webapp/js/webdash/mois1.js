@@ -55,7 +55,9 @@ define(function (require) {
          * 데이터 갱신
          */
         function refreshData() {
-            cyberAtInfo();
+            hmDashConf.refresh('mois', 'mois1', {sInstCd: $("#sInstCd").val()}, {
+                threatNow: cyberAtInfo
+            });
         }
 
         /**
@@ -69,26 +71,20 @@ define(function (require) {
             $('div#dashMain').css('transform', 'scale({0},{1})'.substitute(scaleX, scaleY));
         }
 
-       //데이터 조회.
-       function cyberAtInfo() {
-           //조회.
-           Server.get('/api/webdash/mois/webDashMois/getThreatNow', {
-               data: {instCd:$("#sInstCd").val()},
-               success: function (data) {
-                   if(data.length > 0){
-                       cyberAlertModel.setData(data[0].nowThreat);
-                       cyberUpdInfoModel.setData(data[0].pastThreat,data[0].nowThreat,data[0].modDt);
-                   }else{
-                       //관심.
-                       cyberAlertModel.setData(2);
-                       cyberUpdInfoModel.setData('','','');
-                   }
-                   //그래프표시.
-                   cyberAlertController.refresh(cyberAlertModel);
-                   //하단표시.
-                   cyberUpdInfoController.refresh(cyberUpdInfoModel);
-               }
-           });
+       //경보 표시.
+       function cyberAtInfo(data) {
+           if(data.length > 0){
+               cyberAlertModel.setData(data[0].nowThreat);
+               cyberUpdInfoModel.setData(data[0].pastThreat,data[0].nowThreat,data[0].modDt);
+           }else{
+               //관심.
+               cyberAlertModel.setData(2);
+               cyberUpdInfoModel.setData('','','');
+           }
+           //그래프표시.
+           cyberAlertController.refresh(cyberAlertModel);
+           //하단표시.
+           cyberUpdInfoController.refresh(cyberUpdInfoModel);
        }
 
     }());
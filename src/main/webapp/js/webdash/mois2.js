@@ -55,8 +55,11 @@ define(function (require) {
          * 데이터 갱신
          */
         function refreshData() {
-            centerContents();
-            regionContents();
+            hmDashConf.refresh('mois', 'mois2', {}, {
+                hmHcUrlCenter: centerContents,
+                hmHcUrlRegion: regionContents,
+                forgeryRegion: regionContents2
+            }, [['hmHcUrlRegion', 'forgeryRegion']]);
         }
 
         /**
@@ -70,36 +73,20 @@ define(function (require) {
             $('div#dashMain').css('transform', 'scale({0},{1})'.substitute(scaleX, scaleY));
         }
 
-       //중앙행정기관 조회.
-        function centerContents(){
-            Server.get('/api/webdash/mois/webDashMois/getHmHcUrlCenter', {
-                data: {},
-                success: function (data) {
-                    centerModel.setData(data);
-                    centerController.refresh(centerModel);
-                }
-            });
+       //중앙행정기관 표시.
+        function centerContents(data){
+            centerModel.setData(data);
+            centerController.refresh(centerModel);
         }
-       //지방자치단체 모니터링 조회.
-       function regionContents(){
-           Server.get('/api/webdash/mois/webDashMois/getHmHcUrlRegion', {
-               data: {},
-               success: function (data) {
-                   regionModel.setData(data);
-                   regionContents2();
-               }
-           });
+       //지방자치단체 모니터링.
+       function regionContents(data){
+           regionModel.setData(data);
        }
 
-       //지방자치단체 위변조 조회.
-       function regionContents2(){
-           Server.get('/api/webdash/mois/webDashMois/getForgeryRegion', {
-               data: {},
-               success: function (data) {
-                   regionModel.setData2(data);
-                   regionController.refresh(regionModel);
-               }
-           });
+       //지방자치단체 위변조 표시.
+       function regionContents2(data){
+           regionModel.setData2(data);
+           regionController.refresh(regionModel);
        }
 
     }());
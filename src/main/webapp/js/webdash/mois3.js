@@ -61,47 +61,33 @@ define(function (require) {
          * 데이터 갱신
          */
         function refreshData() {
-            regionSearch();
-            regionStatuAuto();
-            regionStatusManual();
+            hmDashConf.refresh('mois', 'mois3', {}, {
+                regionStatus: regionSearch,
+                regionStatusAuto: regionStatuAuto,
+                regionStatusManual: regionStatusManual
+            });
         }
 
         //지도에 사고건수 표시.
-        function regionSearch(){
-            Server.get('/api/webdash/mois/webDashMois/getRegionStatus', {
-                data: {},
-                success: function (data) {
-                    regionModel.setData(data);
-                    regionController.refresh(regionModel);
-                }
-            });
+        function regionSearch(data){
+            regionModel.setData(data);
+            regionController.refresh(regionModel);
         }
 
         //자동차단표시.
-        function regionStatuAuto(){
-            Server.get('/api/webdash/mois/webDashMois/getRegionStatusAuto', {
-                data: {},
-                success: function (data) {
-                    // console.log(data);
-                    autoDenyModel.setData(data);
-                    autoDenyController.refresh(autoDenyModel);
-                }
-            });
+        function regionStatuAuto(data){
+            autoDenyModel.setData(data);
+            autoDenyController.refresh(autoDenyModel);
         }
 
         //수동차단표시.
-        function regionStatusManual(){
-            Server.get('/api/webdash/mois/webDashMois/getRegionStatusManual', {
-                data: {},
-                success: function (data) {
-                    if(data.length > 0){
-                        manualDenyModel.setData(data[0].receiptCnt,data[0].processCnt,data[0].completeCnt);
-                    }else{
-                        manualDenyModel.setData(0,0,0);
-                    }
-                    manualDenyController.refresh(manualDenyModel);
-                }
-            });
+        function regionStatusManual(data){
+            if(data.length > 0){
+                manualDenyModel.setData(data[0].receiptCnt,data[0].processCnt,data[0].completeCnt);
+            }else{
+                manualDenyModel.setData(0,0,0);
+            }
+            manualDenyController.refresh(manualDenyModel);
         }
 
         /**
@@ -0,0 +1,250 @@
+package com.klid.common;
+
+import org.apache.commons.codec.binary.Base64;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.util.Random;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("HwpmlMaker 테스트")
+class HwpmlMakerTest {
+
+    private static final Path TEMPLATE_DIR = Paths.get("src/main/webapp/WEB-INF/reportTemplate");
+
+    @TempDir
+    Path tempDir;
+
+    /**
+     * 이전 HwpmlMaker 의 문자열 치환 방식. 새 작성기와 결과를 비교하는 기준으로 쓴다.
+     */
+    private static class Legacy {
+        private final String prefix = "##";
+        private final String postfix = "##";
+        private String hwpml;
+
+        Legacy(Path file) throws Exception {
+            String text = Files.readString(file, StandardCharsets.UTF_8);
+            hwpml = text.substring(text.indexOf("<"));
+        }
+
+        void setParam(String paramName, String param) {
+            hwpml = hwpml.replaceFirst(prefix + paramName + postfix, param);
+        }
+
+        void setAttribute(String id, String attrName, String value) {
+            String tag = getStartTag(id);
+            String newTag;
+            if (tag.indexOf(attrName) == -1) {
+                newTag = tag.substring(0, tag.length() - 1) + " " + attrName + "=\"" + value + "\">";
+            } else {
+                newTag = tag.replaceFirst(attrName + "=\"\\p{Alnum}*\"", "RowCount=\"" + value + "\"");
+            }
+            hwpml = hwpml.replaceFirst(tag, newTag);
+        }
+
+        void insertTableRow(String tableId, String rowId, int rows) {
+            String tag = getTagBlock(rowId);
+            String old = tag;
+            int i1 = tag.indexOf("RowAddr=\"") + 9;
+            int i2 = tag.indexOf("\"", i1);
+            int startRowAddr = Integer.parseInt(tag.substring(i1, i2));
+            setAttribute(tableId, "RowCount", String.valueOf(startRowAddr + rows));
+
+            StringBuffer newTag = new StringBuffer(tag);
+            for (int i = 1; i < rows; i++) {
+                int position = 0;
+                do {
+                    int j1 = tag.indexOf(prefix, position) + prefix.length();
+                    if (j1 == prefix.length() - 1) break;
+                    int j2 = tag.indexOf(postfix, j1);
+                    String paramName = tag.substring(j1, j2).replaceFirst("\\d+", "");
+                    int idx = Integer.parseInt(tag.substring(j1, j2).replaceFirst("\\D+", ""));
+                    tag = tag.replaceFirst(prefix + paramName + idx + postfix, prefix + paramName + (idx + 1) + postfix);
+                    position = j2 + prefix.length();
+                } while (true);
+                tag = tag.replaceAll("RowAddr=\"\\d+\"", "RowAddr=\"" + ++startRowAddr + "\"");
+                newTag.append(tag);
+            }
+            hwpml = hwpml.replaceFirst(old, newTag.toString());
+        }
+
+        private String getStartTag(String id) {
+            int i1 = hwpml.indexOf("id=\"" + id + "\"");
+            return hwpml.substring(hwpml.lastIndexOf("<", i1), hwpml.indexOf(">", i1) + 1);
+        }
+
+        private String getTagBlock(String id) {
+            int i1 = hwpml.indexOf("id=\"" + id + "\"");
+            int i2 = hwpml.lastIndexOf("<", i1);
+            int i3 = hwpml.indexOf(" ", i2);
+            int i4 = hwpml.indexOf("</" + hwpml.substring(i2 + 1, i3) + ">", i2) + i3 - i2 + 2;
+            return hwpml.substring(i2, i4) + "\n";
+        }
+    }
+
+    /**
+     * 같은 작업을 이전 방식과 새 작성기에 적용하고 결과를 비교한다.
+     */
+    private void assertSameOutput(String template, Consumer<Object> scenario) throws Exception {
+        Path file = TEMPLATE_DIR.resolve(template);
+        Legacy legacy = new Legacy(file);
+        HwpmlMaker maker = new HwpmlMaker(file.toString(), "##", "##");
+
+        scenario.accept(legacy);
+        scenario.accept(maker);
+
+        assertEquals(legacy.hwpml, maker.getHwpml());
+
+        maker.saveFile(tempDir.toString(), template);
+        assertArrayEquals(legacy.hwpml.getBytes(StandardCharsets.UTF_8), Files.readAllBytes(tempDir.resolve(template)));
+    }
+
+    private static void setParam(Object target, String name, String value) {
+        if (target instanceof Legacy legacy) {
+            legacy.setParam(name, value);
+        } else {
+            ((HwpmlMaker) target).setParam(name, value);
+        }
+    }
+
+    private static void insertTableRow(Object target, String tableId, String rowId, int rows) {
+        if (target instanceof Legacy legacy) {
+            legacy.insertTableRow(tableId, rowId, rows);
+        } else {
+            ((HwpmlMaker) target).insertTableRow(tableId, rowId, rows);
+        }
+    }
+
+    @Test
+    @DisplayName("템플릿의 모든 파라미터를 채우면 이전 방식과 같은 결과")
+    void testSetParam() throws Exception {
+        for (String template : new String[]{"report_weekly.hml", "report_daily_inci.hml", "report_security_result.hml"}) {
+            String hwpml = Files.readString(TEMPLATE_DIR.resolve(template));
+            Matcher matcher = Pattern.compile("##(\\w+)##").matcher(hwpml);
+
+            assertSameOutput(template, target -> {
+                int i = 0;
+                while (matcher.find()) {
+                    //일부는 채우지 않고 남겨 둠
+                    if (i++ % 7 != 3) {
+                        setParam(target, matcher.group(1), "값 " + i);
+                    }
+                }
+                matcher.reset();
+                setParam(target, "not_exist", "없음");
+            });
+        }
+    }
+
+    @Test
+    @DisplayName("행 추가 후 파라미터를 채우면 이전 방식과 같은 결과")
+    void testInsertTableRow() throws Exception {
+        assertSameOutput("report_hml.hml", target -> {
+            setParam(target, "createDate", "2026-10-19");
+            insertTableRow(target, "tb1", "row1", 4);
+            setParam(target, "titleName", "사고유형");
+            for (int i = 0; i < 4; i++) {
+                setParam(target, "codeName" + i, "유형" + i);
+                setParam(target, "cnt" + i, String.valueOf(i * 1000));
+            }
+        });
+
+        //index 가 9 → 10 으로 자릿수가 바뀌는 경우
+        assertSameOutput("report_detail_hml.hml", target -> {
+            insertTableRow(target, "tb1", "row1", 12);
+            for (int i = 0; i < 12; i += 2) {
+                setParam(target, "inci_no" + i, "N" + i);
+                setParam(target, "title" + i, "제목 " + i);
+            }
+        });
+
+        assertSameOutput("report_hml.hml", target -> insertTableRow(target, "tb1", "row1", 0));
+
+        HwpmlMaker maker = new HwpmlMaker(TEMPLATE_DIR.resolve("report_hml.hml").toString(), "##", "##");
+        maker.insertTableRow("tb1", "row1", 3);
+        maker.setParam("cnt2", "마지막");
+        String hwpml = maker.getHwpml();
+        assertTrue(hwpml.contains("RowCount=\"4\""));
+        assertTrue(hwpml.contains("RowAddr=\"3\""));
+        assertTrue(hwpml.contains("##codeName2##"));
+        assertTrue(hwpml.contains("마지막"));
+    }
+
+    @Test
+    @DisplayName("값은 replaceFirst 치환 문자열과 같은 규칙으로 해석")
+    void testSetParam_치환문자열() throws Exception {
+        assertSameOutput("report_hml.hml", target -> {
+            setParam(target, "createDate", "C:\\\\temp\\n \\$100");
+            setParam(target, "startDt", "[$0]");
+        });
+
+        HwpmlMaker maker = new HwpmlMaker(TEMPLATE_DIR.resolve("report_hml.hml").toString(), "##", "##");
+        assertThrows(IndexOutOfBoundsException.class, () -> maker.setParam("endDt", "$1"));
+    }
+
+    @Test
+    @DisplayName("이미지는 출력할 때 Base64 로 인코딩")
+    void testSetImage() throws Exception {
+        Path image = tempDir.resolve("chart.png");
+        byte[] data = new byte[100_000];
+        new Random(7).nextBytes(data);
+        Files.write(image, data);
+
+        assertSameOutput("report_hml.hml", target -> {
+            if (target instanceof Legacy legacy) {
+                legacy.setParam("chart", Base64.encodeBase64String(data));
+            } else {
+                ((HwpmlMaker) target).setImage("chart", image.toString());
+            }
+            setParam(target, "createDate", "2026-10-19");
+        });
+
+        HwpmlMaker maker = new HwpmlMaker(TEMPLATE_DIR.resolve("report_hml.hml").toString(), "##", "##");
+        maker.setImage("chart", tempDir.resolve("none.png").toString());
+        assertTrue(maker.getHwpml().contains("##chart##"));
+    }
+
+    @Test
+    @DisplayName("RowCount 속성 변경")
+    void testSetAttribute() throws Exception {
+        HwpmlMaker maker = new HwpmlMaker(TEMPLATE_DIR.resolve("report_hml.hml").toString(), "##", "##");
+
+        maker.setAttribute("tb1", "RowCount", "12");
+        maker.setAttribute("tb1", "Dummy", "1");
+
+        assertTrue(maker.getHwpml().contains("<TABLE id=\"tb1\" BorderFill=\"2\" CellSpacing=\"0\" ColCount=\"2\" PageBreak=\"Cell\" RepeatHeader=\"true\" RowCount=\"12\" Dummy=\"1\">"));
+        assertThrows(IllegalArgumentException.class, () -> maker.setAttribute("none", "RowCount", "1"));
+    }
+
+    @Test
+    @DisplayName("템플릿은 한 번만 분석하고, 파일이 바뀌면 다시 분석")
+    void testTemplate() throws Exception {
+        Path file = tempDir.resolve("template.hml");
+        Files.copy(TEMPLATE_DIR.resolve("report_hml.hml"), file);
+
+        HwpmlMaker first = new HwpmlMaker(file.toString(), "##", "##");
+        HwpmlMaker second = new HwpmlMaker(file.toString(), "##", "##");
+        first.setParam("createDate", "첫 번째");
+
+        assertSame(HwpmlTemplate.of(file.toString(), "##", "##"), HwpmlTemplate.of(file.toString(), "##", "##"));
+        assertTrue(second.getHwpml().contains("##createDate##"));
+
+        Files.writeString(file, "<A>##name##</A>");
+        Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis() + 10_000));
+        HwpmlMaker reloaded = new HwpmlMaker(file.toString(), "##", "##");
+        reloaded.setParam("name", "값");
+
+        assertEquals("<A>값</A>", reloaded.getHwpml());
+    }
+}
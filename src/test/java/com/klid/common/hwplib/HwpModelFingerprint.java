@@ -0,0 +1,113 @@
+package com.klid.common.hwplib;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 한글 객체 모델 전체를 필드 단위로 순회해 SHA-256 지문을 만든다.
+ * 읽기/쓰기 구현을 바꾼 뒤 파싱 결과가 동일한지 비교하는 데 사용한다.
+ */
+public final class HwpModelFingerprint {
+
+    private final MessageDigest digest;
+    private final Map<Object, Integer> visited = new IdentityHashMap<>();
+    private final Map<Class<?>, List<Field>> fieldCache = new java.util.HashMap<>();
+
+    private HwpModelFingerprint() {
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public static String of(Object model) {
+        final HwpModelFingerprint fp = new HwpModelFingerprint();
+        fp.walk(model);
+        return java.util.HexFormat.of().formatHex(fp.digest.digest());
+    }
+
+    private void walk(Object o) {
+        if (o == null) {
+            put("null");
+            return;
+        }
+        final Class<?> type = o.getClass();
+        if (o instanceof String || o instanceof Number || o instanceof Boolean || o instanceof Character || o instanceof Enum) {
+            put(type.getSimpleName() + ":" + o);
+            return;
+        }
+        final Integer seen = visited.get(o);
+        if (seen != null) {
+            put("ref:" + seen);
+            return;
+        }
+        visited.put(o, visited.size());
+        if (type.isArray()) {
+            final int length = Array.getLength(o);
+            put(type.getComponentType().getSimpleName() + "[" + length + "]");
+            for (int i = 0; i < length; i++) {
+                walk(Array.get(o, i));
+            }
+            return;
+        }
+        if (o instanceof Iterable<?> iterable) {
+            put("iter");
+            for (Object item : iterable) {
+                walk(item);
+            }
+            put("end");
+            return;
+        }
+        if (o instanceof Map<?, ?> map) {
+            put("map" + map.size());
+            map.entrySet().stream()
+                    .sorted(Comparator.comparing(e -> String.valueOf(e.getKey())))
+                    .forEach(e -> {
+                        walk(e.getKey());
+                        walk(e.getValue());
+                    });
+            return;
+        }
+        put(type.getName());
+        for (Field field : fields(type)) {
+            put(field.getName());
+            try {
+                walk(field.get(o));
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    private List<Field> fields(Class<?> type) {
+        return fieldCache.computeIfAbsent(type, t -> {
+            final List<Field> fields = new ArrayList<>();
+            for (Class<?> c = t; c != null && c != Object.class; c = c.getSuperclass()) {
+                for (Field field : c.getDeclaredFields()) {
+                    if (Modifier.isStatic(field.getModifiers()) || Modifier.isTransient(field.getModifiers())) {
+                        continue;
+                    }
+                    field.setAccessible(true);
+                    fields.add(field);
+                }
+            }
+            fields.sort(Comparator.comparing((Field f) -> f.getDeclaringClass().getName()).thenComparing(Field::getName));
+            return fields;
+        });
+    }
+
+    private void put(String token) {
+        digest.update(token.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+    }
+}
@@ -0,0 +1,40 @@
+package com.klid.common.hwplib;
+
+import com.klid.common.hwplib.object.HWPFile;
+import com.klid.common.hwplib.reader.HWPReader;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.TestFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Properties;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("HWPReader 샘플 문서 회귀 테스트")
+class HwpReaderCorpusTest {
+
+    static final Path TEMPLATE_DIR = Paths.get("src/main/webapp/WEB-INF/reportTemplate");
+
+    static Properties fingerprints() throws IOException {
+        final Properties expected = new Properties();
+        try (InputStream in = HwpReaderCorpusTest.class.getResourceAsStream("/hwp/model-fingerprints.properties")) {
+            expected.load(in);
+        }
+        return expected;
+    }
+
+    @TestFactory
+    @DisplayName("보고서 템플릿 파싱 결과가 기준 지문과 동일")
+    Stream<DynamicTest> testFromFile_지문비교() throws IOException {
+        final Properties expected = fingerprints();
+        return expected.stringPropertyNames().stream().sorted().map(name -> DynamicTest.dynamicTest(name, () -> {
+            HWPFile hwpFile = HWPReader.fromFile(TEMPLATE_DIR.resolve(name).toString());
+            assertEquals(expected.getProperty(name), HwpModelFingerprint.of(hwpFile));
+        }));
+    }
+}
@@ -0,0 +1,54 @@
+package com.klid.common.hwplib;
+
+import com.klid.common.hwplib.bench.HwpCorpus;
+import com.klid.common.hwplib.bench.HwpCorpus.Kind;
+import com.klid.common.hwplib.bench.HwpCorpus.Size;
+import com.klid.common.hwplib.object.HWPFile;
+import com.klid.common.hwplib.reader.HWPReader;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("HWPReader 섹션 병렬 읽기 테스트")
+class HwpReaderParallelTest {
+
+    private static ExecutorService executor;
+
+    @BeforeAll
+    static void setUp() {
+        executor = Executors.newFixedThreadPool(3);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("여러 섹션 문서를 병렬로 읽은 결과가 순차 읽기와 동일")
+    void testFromInputStream_병렬() throws Exception {
+        byte[] data = HwpCorpus.bytes(Kind.MULTI_SECTION, Size.MEDIUM);
+
+        HWPFile serial = HWPReader.fromInputStream(new ByteArrayInputStream(data));
+        HWPFile parallel = HWPReader.fromInputStream(new ByteArrayInputStream(data), executor);
+
+        assertEquals(8, parallel.getBodyText().getSectionList().size());
+        assertEquals(HwpModelFingerprint.of(serial), HwpModelFingerprint.of(parallel));
+    }
+
+    @Test
+    @DisplayName("섹션이 하나인 템플릿은 병렬 모드에서도 기준 지문과 동일")
+    void testFromFile_단일섹션() throws IOException {
+        HWPFile hwpFile = HWPReader.fromFile(HwpReaderCorpusTest.TEMPLATE_DIR.resolve("acc_report.hwp").toString(), executor);
+
+        assertEquals(HwpReaderCorpusTest.fingerprints().getProperty("acc_report.hwp"), HwpModelFingerprint.of(hwpFile));
+    }
+}
@@ -0,0 +1,34 @@
+package com.klid.common.hwplib;
+
+import com.klid.common.hwplib.object.HWPFile;
+import com.klid.common.hwplib.reader.HWPReader;
+import com.klid.common.hwplib.writer.HWPWriter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.TestFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Properties;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("HWPWriter 샘플 문서 회귀 테스트")
+class HwpWriterCorpusTest {
+
+    @TestFactory
+    @DisplayName("OutputStream 으로 쓴 문서를 다시 읽으면 같은 모델")
+    Stream<DynamicTest> testToStream_재읽기() throws IOException {
+        final Properties expected = HwpReaderCorpusTest.fingerprints();
+        return expected.stringPropertyNames().stream().sorted().map(name -> DynamicTest.dynamicTest(name, () -> {
+            HWPFile hwpFile = HWPReader.fromFile(HwpReaderCorpusTest.TEMPLATE_DIR.resolve(name).toString());
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            HWPWriter.toStream(hwpFile, out);
+
+            HWPFile written = HWPReader.fromInputStream(new ByteArrayInputStream(out.toByteArray()));
+            assertEquals(HwpModelFingerprint.of(hwpFile), HwpModelFingerprint.of(written));
+        }));
+    }
+}
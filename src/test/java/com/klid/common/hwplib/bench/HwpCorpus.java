@@ -0,0 +1,317 @@
+package com.klid.common.hwplib.bench;
+
+import com.klid.common.hwplib.HwpModelFingerprint;
+import com.klid.common.hwplib.object.HWPFile;
+import com.klid.common.hwplib.object.bindata.EmbeddedBinaryData;
+import com.klid.common.hwplib.object.bodytext.ParagraphListInterface;
+import com.klid.common.hwplib.object.bodytext.Section;
+import com.klid.common.hwplib.object.bodytext.control.Control;
+import com.klid.common.hwplib.object.bodytext.control.ControlType;
+import com.klid.common.hwplib.object.bodytext.control.gso.ControlPicture;
+import com.klid.common.hwplib.object.bodytext.control.gso.GsoControl;
+import com.klid.common.hwplib.object.bodytext.control.gso.GsoControlType;
+import com.klid.common.hwplib.object.bodytext.paragraph.Paragraph;
+import com.klid.common.hwplib.object.docinfo.BinData;
+import com.klid.common.hwplib.reader.HWPReader;
+import com.klid.common.hwplib.tool.copier.HWPFileCopier;
+import com.klid.common.hwplib.tool.objectfinder.FieldFinder;
+import com.klid.common.hwplib.tool.paragraphadder.ParaTextSetter;
+import com.klid.common.hwplib.tool.textextractor.TextExtractMethod;
+import com.klid.common.hwplib.tool.textextractor.TextExtractor;
+import com.klid.common.hwplib.tool.visitor.HWPTraverser;
+import com.klid.common.hwplib.tool.visitor.HWPVisitor;
+import com.klid.common.hwplib.tool.visitor.VisitResult;
+import com.klid.common.hwplib.writer.HWPWriter;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+/**
+ * 벤치마크와 회귀 테스트에 쓰는 한글 문서 모음.
+ * 보고서 템플릿의 문단을 복사해 종류(글자/표/그림/여러 섹션/누름틀)와 크기별 문서를 만든다.
+ * 같은 종류와 크기이면 항상 같은 문서가 만들어지므로 기준값(corpus-golden.properties)과 비교할 수 있다.
+ * <pre>
+ * 기준값 다시 만들기: java -cp ... com.klid.common.hwplib.bench.HwpCorpus src/test/resources/hwp/corpus-golden.properties
+ * </pre>
+ */
+public final class HwpCorpus {
+
+    static final Path TEMPLATE_DIR = Paths.get("src/main/webapp/WEB-INF/reportTemplate");
+
+    /**
+     * 그림 문서에 넣는 그림 하나의 크기
+     */
+    private static final int IMAGE_SIZE = 16 * 1024;
+
+    public enum Kind {
+        /** 글자만 있는 문단이 많은 문서 */
+        TEXT,
+        /** 표가 많은 문서 */
+        TABLE,
+        /** 서로 다른 그림이 많이 첨부된 문서 */
+        IMAGE,
+        /** 섹션이 여러 개인 문서 */
+        MULTI_SECTION,
+        /** 누름틀 필드가 반복되는 문서 */
+        FORM
+    }
+
+    public enum Size {
+        SMALL(2), MEDIUM(8), LARGE(32);
+
+        /** 문서 크기 배수 (여러 섹션 문서는 섹션 수) */
+        final int scale;
+
+        Size(int scale) {
+            this.scale = scale;
+        }
+    }
+
+    private static final Map<String, byte[]> cache = new ConcurrentHashMap<>();
+
+    private HwpCorpus() {
+    }
+
+    /**
+     * 문서를 한글 파일로 쓴 내용. 한 번 만든 문서는 재사용한다.
+     */
+    public static byte[] bytes(Kind kind, Size size) {
+        return cache.computeIfAbsent(kind + "." + size, key -> {
+            try {
+                ByteArrayOutputStream out = new ByteArrayOutputStream();
+                HWPWriter.toStream(generate(kind, size), out);
+                return out.toByteArray();
+            } catch (Exception e) {
+                throw new IllegalStateException(key + " 문서를 만들 수 없습니다.", e);
+            }
+        });
+    }
+
+    /**
+     * 문서를 읽은 객체 모델
+     */
+    public static HWPFile read(Kind kind, Size size) throws IOException {
+        return HWPReader.fromInputStream(new ByteArrayInputStream(bytes(kind, size)));
+    }
+
+    /**
+     * 문서의 객체 모델을 만든다.
+     */
+    public static HWPFile generate(Kind kind, Size size) throws IOException {
+        switch (kind) {
+            case TEXT:
+                return repeat("report_type_2.hwp", size.scale * 25, p -> p.getControlList() == null && p.getText() != null, true);
+            case TABLE:
+                return repeat("report_type_239.hwp", size.scale * 4, p -> contains(p, ControlType.Table), false);
+            case IMAGE:
+                return images("report.hwp", size.scale);
+            case MULTI_SECTION:
+                return multiSection("report_weekly.hwp", size.scale);
+            case FORM:
+                return repeat("acc_report.hwp", size.scale, p -> contains(p, ControlType.Table), false);
+            default:
+                throw new IllegalArgumentException(kind.name());
+        }
+    }
+
+    /**
+     * 템플릿의 첫 섹션을 sectionCount 개로 늘린 문서를 만든다.
+     */
+    public static HWPFile multiSection(String name, int sectionCount) throws IOException {
+        HWPFile hwpFile = template(name);
+        for (int index = 1; index < sectionCount; index++) {
+            hwpFile.getBodyText().getSectionList().add(firstSection(HWPFileCopier.copy(hwpFile)));
+        }
+        hwpFile.getDocInfo().getDocumentProperties().setSectionCount(sectionCount);
+        return hwpFile;
+    }
+
+    /**
+     * 누름틀 문서(FORM)에 채우는 필드 값. 필드마다 템플릿의 것 하나와 복사한 것 scale 개가 있다.
+     */
+    public static Map<String, List<String>> formTexts(Size size) {
+        Map<String, List<String>> texts = new LinkedHashMap<>();
+        for (String name : new String[]{"필드1", "필드2"}) {
+            List<String> values = new ArrayList<>();
+            for (int index = 0; index <= size.scale; index++) {
+                values.add(name + " 값 " + index + "\r\n" + sentence(new Random(index), 40));
+            }
+            texts.put(name, values);
+        }
+        return texts;
+    }
+
+    /**
+     * 회귀 비교용 기준값. model: 읽은 객체 모델의 지문, text: 추출한 텍스트의 SHA-256,
+     * fill: 누름틀 문서에 값을 채운 뒤의 지문
+     */
+    public static Map<String, String> describe(Kind kind, Size size) throws IOException {
+        String prefix = kind + "." + size + ".";
+        HWPFile hwpFile = read(kind, size);
+        Map<String, String> values = new LinkedHashMap<>();
+        values.put(prefix + "model", HwpModelFingerprint.of(hwpFile));
+        values.put(prefix + "text", sha256(TextExtractor.extract(hwpFile, TextExtractMethod.AppendControlTextAfterParagraphText)));
+        if (kind == Kind.FORM) {
+            FieldFinder.setFieldTexts(hwpFile, ControlType.FIELD_CLICKHERE, formTexts(size));
+            values.put(prefix + "fill", HwpModelFingerprint.of(hwpFile));
+        }
+        return values;
+    }
+
+    public static void main(String[] args) throws Exception {
+        StringBuilder sb = new StringBuilder("# HwpCorpus.describe() 기준값\n");
+        for (Kind kind : Kind.values()) {
+            for (Size size : Size.values()) {
+                for (Map.Entry<String, String> entry : describe(kind, size).entrySet()) {
+                    sb.append(entry.getKey()).append('=').append(entry.getValue()).append('\n');
+                }
+            }
+        }
+        if (args.length > 0) {
+            Files.writeString(Paths.get(args[0]), sb);
+        } else {
+            System.out.print(sb);
+        }
+    }
+
+    static HWPFile template(String name) throws IOException {
+        return HWPReader.fromFile(TEMPLATE_DIR.resolve(name).toString());
+    }
+
+    /**
+     * 템플릿 첫 섹션에서 filter 에 맞는 문단을 복사해 times 번 덧붙인다.
+     */
+    private static HWPFile repeat(String name, int times, Predicate<Paragraph> filter, boolean uniqueText)
+            throws IOException {
+        HWPFile seed = template(name);
+        HWPFile hwpFile = HWPFileCopier.copy(seed);
+        Section target = firstSection(hwpFile);
+        for (int copy = 0; copy < times; copy++) {
+            Random random = new Random(copy);
+            for (Paragraph p : firstSection(HWPFileCopier.copy(seed))) {
+                if (!filter.test(p) || contains(p, ControlType.SectionDefine)) {
+                    continue;
+                }
+                if (uniqueText) {
+                    ParaTextSetter.changeText(p, 0, -1, sentence(random, 200));
+                }
+                target.addParagraph(p);
+            }
+        }
+        return hwpFile;
+    }
+
+    /**
+     * 그림이 들어 있는 문단을 times 번 복사하면서 복사본마다 서로 다른 그림 데이터를 첨부한다.
+     */
+    private static HWPFile images(String name, int times) throws IOException {
+        HWPFile seed = template(name);
+        HWPFile hwpFile = HWPFileCopier.copy(seed);
+        BinData seedBinData = hwpFile.getDocInfo().getBinDataList().get(0);
+        for (int copy = 0; copy < times; copy++) {
+            for (Paragraph p : firstSection(HWPFileCopier.copy(seed))) {
+                List<ControlPicture> pictures = pictures(p);
+                if (pictures.isEmpty()) {
+                    continue;
+                }
+                for (ControlPicture picture : pictures) {
+                    int id = addImage(hwpFile, seedBinData);
+                    picture.getShapeComponentPicture().getPictureInfo().setBinItemID(id);
+                }
+                firstSection(hwpFile).addParagraph(p);
+            }
+        }
+        return hwpFile;
+    }
+
+    /**
+     * 그림 데이터를 첨부하고 BinData ID 를 반환한다.
+     */
+    private static int addImage(HWPFile hwpFile, BinData seedBinData) {
+        int id = hwpFile.getDocInfo().getBinDataList().size() + 1;
+        BinData binData = hwpFile.getDocInfo().addNewBinData();
+        binData.getProperty().setValue(seedBinData.getProperty().getValue());
+        binData.setBinDataID(id);
+        binData.setExtensionForEmbedding(seedBinData.getExtensionForEmbedding());
+
+        byte[] data = new byte[IMAGE_SIZE];
+        new Random(id).nextBytes(data);
+        EmbeddedBinaryData source = hwpFile.getBinData().getEmbeddedBinaryDataList().get(0);
+        hwpFile.getBinData().addNewEmbeddedBinaryData(
+                String.format("BIN%04X.%s", id, seedBinData.getExtensionForEmbedding()), data, source.getCompressMethod());
+        return id;
+    }
+
+    private static List<ControlPicture> pictures(Paragraph p) {
+        List<ControlPicture> pictures = new ArrayList<>();
+        HWPVisitor visitor = new HWPVisitor() {
+            @Override
+            public VisitResult visitControl(Control control, Paragraph paragraph) {
+                if (control.getType() == ControlType.Gso
+                        && ((GsoControl) control).getGsoType() == GsoControlType.Picture) {
+                    pictures.add((ControlPicture) control);
+                }
+                return VisitResult.Continue;
+            }
+        };
+        if (p.getControlList() != null) {
+            for (Control control : p.getControlList()) {
+                visitor.visitControl(control, p);
+                for (ParagraphListInterface list : HWPTraverser.childParagraphLists(control)) {
+                    HWPTraverser.traverse(list, visitor);
+                }
+            }
+        }
+        return pictures;
+    }
+
+    private static boolean contains(Paragraph p, ControlType type) {
+        if (p.getControlList() == null) {
+            return false;
+        }
+        for (Control control : p.getControlList()) {
+            if (control.getType() == type) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Section firstSection(HWPFile hwpFile) {
+        return hwpFile.getBodyText().getSectionList().get(0);
+    }
+
+    /**
+     * 한글 음절과 공백으로 된 문장
+     */
+    private static String sentence(Random random, int length) {
+        StringBuilder sb = new StringBuilder(length);
+        for (int index = 0; index < length; index++) {
+            sb.append(random.nextInt(6) == 0 ? ' ' : (char) (0xAC00 + random.nextInt(11172)));
+        }
+        return sb.toString();
+    }
+
+    private static String sha256(String text) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(text.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.klid.common.hwplib.bench;
+
+import com.klid.common.hwplib.HwpModelFingerprint;
+import com.klid.common.hwplib.bench.HwpCorpus.Kind;
+import com.klid.common.hwplib.bench.HwpCorpus.Size;
+import com.klid.common.hwplib.object.HWPFile;
+import com.klid.common.hwplib.object.bodytext.control.ControlType;
+import com.klid.common.hwplib.reader.HWPReader;
+import com.klid.common.hwplib.tool.objectfinder.FieldFinder;
+import com.klid.common.hwplib.tool.objectfinder.SetFieldResult;
+import com.klid.common.hwplib.tool.textextractor.StreamingTextExtractor;
+import com.klid.common.hwplib.tool.textextractor.TextExtractMethod;
+import com.klid.common.hwplib.tool.textextractor.TextExtractOption;
+import com.klid.common.hwplib.tool.textextractor.TextExtractor;
+import com.klid.common.hwplib.writer.HWPWriter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("HWP 벤치마크 문서 모음 회귀 테스트")
+class HwpCorpusGoldenTest {
+
+    static Properties golden() throws IOException {
+        final Properties expected = new Properties();
+        try (InputStream in = HwpCorpusGoldenTest.class.getResourceAsStream("/hwp/corpus-golden.properties")) {
+            expected.load(in);
+        }
+        return expected;
+    }
+
+    private static Stream<DynamicTest> each(Executable test) {
+        List<DynamicTest> tests = new ArrayList<>();
+        for (Kind kind : Kind.values()) {
+            for (Size size : Size.values()) {
+                tests.add(DynamicTest.dynamicTest(kind + "." + size, () -> test.execute(kind, size)));
+            }
+        }
+        return tests.stream();
+    }
+
+    @FunctionalInterface
+    private interface Executable {
+        void execute(Kind kind, Size size) throws Exception;
+    }
+
+    @TestFactory
+    @DisplayName("읽기/텍스트 추출/필드 채우기 결과가 기준값과 동일")
+    Stream<DynamicTest> testDescribe_기준값비교() throws IOException {
+        final Properties expected = golden();
+        return each((kind, size) -> {
+            for (Map.Entry<String, String> entry : HwpCorpus.describe(kind, size).entrySet()) {
+                assertEquals(expected.getProperty(entry.getKey()), entry.getValue(), entry.getKey());
+            }
+        });
+    }
+
+    @TestFactory
+    @DisplayName("다시 쓰고 읽으면 같은 모델")
+    Stream<DynamicTest> testToStream_재읽기() {
+        return each((kind, size) -> {
+            HWPFile hwpFile = HwpCorpus.read(kind, size);
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            HWPWriter.toStream(hwpFile, out);
+
+            HWPFile written = HWPReader.fromInputStream(new ByteArrayInputStream(out.toByteArray()));
+            assertEquals(HwpModelFingerprint.of(hwpFile), HwpModelFingerprint.of(written));
+        });
+    }
+
+    @TestFactory
+    @DisplayName("스트리밍 텍스트 추출 결과가 객체 모델 추출과 동일")
+    Stream<DynamicTest> testExtract_스트리밍() {
+        return each((kind, size) -> {
+            StringWriter writer = new StringWriter();
+            StreamingTextExtractor.extract(new ByteArrayInputStream(HwpCorpus.bytes(kind, size)), new TextExtractOption(), writer::write);
+
+            assertEquals(TextExtractor.extract(HwpCorpus.read(kind, size), TextExtractMethod.AppendControlTextAfterParagraphText),
+                    writer.toString());
+        });
+    }
+
+    @Test
+    @DisplayName("누름틀 문서의 모든 필드에 값이 채워짐")
+    void testSetFieldTexts() throws Exception {
+        for (Size size : Size.values()) {
+            HWPFile hwpFile = HwpCorpus.read(Kind.FORM, size);
+
+            Map<String, SetFieldResult> results = FieldFinder.setFieldTexts(hwpFile, ControlType.FIELD_CLICKHERE, HwpCorpus.formTexts(size));
+
+            assertEquals(List.of(SetFieldResult.SetAllText, SetFieldResult.SetAllText), new ArrayList<>(results.values()), size.name());
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.klid.common.hwplib.bench;
+
+import com.klid.common.hwplib.bench.HwpCorpus.Kind;
+import com.klid.common.hwplib.bench.HwpCorpus.Size;
+import com.klid.common.hwplib.object.HWPFile;
+import com.klid.common.hwplib.object.bodytext.control.ControlType;
+import com.klid.common.hwplib.tool.objectfinder.FieldFinder;
+import com.klid.common.hwplib.tool.objectfinder.FieldIndex;
+import com.klid.common.hwplib.tool.objectfinder.SetFieldResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 누름틀 필드 채우기. 필드마다 문서를 훑는 FieldFinder.setFieldText 와 색인을 한 번 만드는 FieldIndex 비교.
+ * 같은 값을 반복해서 채우므로 호출마다 문서 상태는 같다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HwpFieldFillBenchmark {
+
+    @Param({"SMALL", "MEDIUM", "LARGE"})
+    public Size size;
+
+    private HWPFile hwpFile;
+    private Map<String, List<String>> texts;
+
+    @Setup
+    public void setUp() throws Exception {
+        hwpFile = HwpCorpus.read(Kind.FORM, size);
+        texts = HwpCorpus.formTexts(size);
+    }
+
+    @Benchmark
+    public SetFieldResult fieldFinder() {
+        SetFieldResult result = null;
+        for (Map.Entry<String, List<String>> entry : texts.entrySet()) {
+            result = FieldFinder.setFieldText(hwpFile, ControlType.FIELD_CLICKHERE, entry.getKey(),
+                    new ArrayList<>(entry.getValue()));
+        }
+        return result;
+    }
+
+    @Benchmark
+    public Map<String, SetFieldResult> fieldIndex() {
+        return FieldIndex.build(hwpFile).setFieldTexts(ControlType.FIELD_CLICKHERE, texts);
+    }
+}
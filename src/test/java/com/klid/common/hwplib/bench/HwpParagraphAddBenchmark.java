@@ -0,0 +1,64 @@
+package com.klid.common.hwplib.bench;
+
+import com.klid.common.hwplib.object.HWPFile;
+import com.klid.common.hwplib.object.bodytext.paragraph.Paragraph;
+import com.klid.common.hwplib.tool.copier.HWPFileCopier;
+import com.klid.common.hwplib.tool.paragraphadder.ParagraphAdder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 문단 복사(ParagraphAdder). 다른 문서의 문단을 붙이면 BorderFillAdder 가 테두리 없음(0)을
+ * 처리하지 못하므로, 보고서 템플릿 자신의 문단을 복사본에 다시 붙이는 경우만 측정한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HwpParagraphAddBenchmark {
+
+    private HWPFile source;
+    private ArrayList<Paragraph> paragraphs;
+
+    @Setup
+    public void setUp() throws Exception {
+        source = HwpCorpus.template("report_security.hwp");
+        paragraphs = new ArrayList<>();
+        for (Paragraph p : source.getBodyText().getSectionList().get(0)) {
+            paragraphs.add(p);
+        }
+    }
+
+    @Benchmark
+    public HWPFile add(Target target) throws Exception {
+        new ParagraphAdder(target.hwpFile, target.hwpFile.getBodyText().getSectionList().get(0)).add(source, paragraphs);
+        return target.hwpFile;
+    }
+
+    /**
+     * 문단을 추가할 문서. 추가하면 문서가 커지므로 호출마다 새로 복사한다.
+     */
+    @State(Scope.Thread)
+    public static class Target {
+        HWPFile hwpFile;
+
+        @Setup(Level.Invocation)
+        public void copy(HwpParagraphAddBenchmark benchmark) {
+            hwpFile = HWPFileCopier.copy(benchmark.source);
+        }
+    }
+}
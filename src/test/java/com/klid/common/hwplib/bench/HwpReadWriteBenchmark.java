@@ -0,0 +1,67 @@
+package com.klid.common.hwplib.bench;
+
+import com.klid.common.hwplib.bench.HwpCorpus.Kind;
+import com.klid.common.hwplib.bench.HwpCorpus.Size;
+import com.klid.common.hwplib.object.HWPFile;
+import com.klid.common.hwplib.reader.HWPReader;
+import com.klid.common.hwplib.writer.HWPWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * HWPReader / HWPWriter 읽기, 쓰기, 읽고 다시 쓰기
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HwpReadWriteBenchmark {
+
+    @Param({"TEXT", "TABLE", "IMAGE", "MULTI_SECTION"})
+    public Kind kind;
+
+    @Param({"SMALL", "MEDIUM", "LARGE"})
+    public Size size;
+
+    private byte[] data;
+    private HWPFile hwpFile;
+
+    @Setup
+    public void setUp() throws Exception {
+        data = HwpCorpus.bytes(kind, size);
+        hwpFile = HwpCorpus.read(kind, size);
+    }
+
+    @Benchmark
+    public HWPFile read() throws Exception {
+        return HWPReader.fromInputStream(new ByteArrayInputStream(data));
+    }
+
+    @Benchmark
+    public void write() throws Exception {
+        HWPWriter.toStream(hwpFile, OutputStream.nullOutputStream());
+    }
+
+    @Benchmark
+    public int roundTrip() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(data.length);
+        HWPWriter.toStream(HWPReader.fromInputStream(new ByteArrayInputStream(data)), out);
+        return out.size();
+    }
+}
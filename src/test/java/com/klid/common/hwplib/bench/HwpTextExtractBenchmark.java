@@ -0,0 +1,71 @@
+package com.klid.common.hwplib.bench;
+
+import com.klid.common.hwplib.bench.HwpCorpus.Kind;
+import com.klid.common.hwplib.bench.HwpCorpus.Size;
+import com.klid.common.hwplib.object.HWPFile;
+import com.klid.common.hwplib.reader.HWPReader;
+import com.klid.common.hwplib.tool.textextractor.StreamingTextExtractor;
+import com.klid.common.hwplib.tool.textextractor.TextExtractMethod;
+import com.klid.common.hwplib.tool.textextractor.TextExtractOption;
+import com.klid.common.hwplib.tool.textextractor.TextExtractor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayInputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 텍스트 추출. 파일에서 시작하는 경우(읽기 + 객체 모델 추출, 스트리밍 추출)와 이미 읽은 객체 모델에서 추출하는 경우
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HwpTextExtractBenchmark {
+
+    @Param({"TEXT", "TABLE", "MULTI_SECTION"})
+    public Kind kind;
+
+    @Param({"SMALL", "MEDIUM", "LARGE"})
+    public Size size;
+
+    private byte[] data;
+    private HWPFile hwpFile;
+    private TextExtractOption option;
+
+    @Setup
+    public void setUp() throws Exception {
+        data = HwpCorpus.bytes(kind, size);
+        hwpFile = HwpCorpus.read(kind, size);
+        option = new TextExtractOption();
+    }
+
+    @Benchmark
+    public String model() throws Exception {
+        return TextExtractor.extract(hwpFile, TextExtractMethod.AppendControlTextAfterParagraphText);
+    }
+
+    @Benchmark
+    public String readAndModel() throws Exception {
+        return TextExtractor.extract(HWPReader.fromInputStream(new ByteArrayInputStream(data)),
+                TextExtractMethod.AppendControlTextAfterParagraphText);
+    }
+
+    @Benchmark
+    public long streaming(Blackhole blackhole) throws Exception {
+        return StreamingTextExtractor.extract(new ByteArrayInputStream(data), option,
+                (buffer, offset, length) -> blackhole.consume(buffer));
+    }
+}
@@ -0,0 +1,58 @@
+package com.klid.common.hwplib.bench;
+
+import com.klid.common.hwplib.bench.HwpCorpus.Kind;
+import com.klid.common.hwplib.bench.HwpCorpus.Size;
+import com.klid.common.hwplib.object.HWPFile;
+import com.klid.common.hwplib.object.bodytext.control.Control;
+import com.klid.common.hwplib.tool.objectfinder.ControlFinder;
+import com.klid.common.hwplib.tool.textextractor.TextExtractMethod;
+import com.klid.common.hwplib.tool.textextractor.TextExtractor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * hwplib 도구(find, extract). 레거시 패키지는 tool 패키지에 위임하므로 tool 만 측정한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HwpToolBenchmark {
+
+    @Param({"TEXT", "TABLE"})
+    public Kind kind;
+
+    @Param({"SMALL", "LARGE"})
+    public Size size;
+
+    private HWPFile hwpFile;
+
+    @Setup
+    public void setUp() throws Exception {
+        hwpFile = HwpCorpus.read(kind, size);
+    }
+
+    @Benchmark
+    public ArrayList<Control> find() {
+        return ControlFinder.find(hwpFile, (control, paragraph, section) -> true);
+    }
+
+    @Benchmark
+    public String extract() throws Exception {
+        return TextExtractor.extract(hwpFile, TextExtractMethod.InsertControlTextBetweenParagraphText);
+    }
+}
@@ -0,0 +1,65 @@
+package com.klid.common.hwplib.tool.copier;
+
+import com.klid.common.hwplib.HwpModelFingerprint;
+import com.klid.common.hwplib.object.HWPFile;
+import com.klid.common.hwplib.object.bodytext.paragraph.Paragraph;
+import com.klid.common.hwplib.reader.HWPReader;
+import com.klid.common.hwplib.writer.HWPWriter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("HWPFileCopier 테스트")
+class HWPFileCopierTest {
+
+    private static final File TEMPLATE_DIR = new File("src/main/webapp/WEB-INF/reportTemplate");
+
+    @TestFactory
+    @DisplayName("복사본은 원본과 같은 모델이고 같은 파일로 쓰여짐")
+    Stream<DynamicTest> testCopy_템플릿() {
+        return Arrays.stream(TEMPLATE_DIR.listFiles((dir, name) -> name.equals("acc_report.hwp") || name.startsWith("report_type_")))
+                .sorted()
+                .map(file -> DynamicTest.dynamicTest(file.getName(), () -> {
+                    HWPFile original = HWPReader.fromFile(file.getPath());
+                    String fingerprint = HwpModelFingerprint.of(original);
+
+                    HWPFile copy = HWPFileCopier.copy(original);
+
+                    assertNotSame(original.getBodyText(), copy.getBodyText());
+                    assertEquals(fingerprint, HwpModelFingerprint.of(copy));
+                    assertArrayEquals(write(HWPReader.fromFile(file.getPath())), write(copy));
+                    //쓰기(autoSet) 후에도 원본은 그대로
+                    assertEquals(fingerprint, HwpModelFingerprint.of(original));
+                }));
+    }
+
+    @Test
+    @DisplayName("복사본 수정이 원본에 영향 없음")
+    void testCopy_독립() throws Exception {
+        HWPFile original = HWPReader.fromFile(new File(TEMPLATE_DIR, "acc_report.hwp").getPath());
+        String fingerprint = HwpModelFingerprint.of(original);
+
+        HWPFile copy = HWPFileCopier.copy(original);
+        Paragraph paragraph = copy.getBodyText().getSectionList().get(0).getParagraph(0);
+        paragraph.createText();
+        paragraph.getText().addString("변경");
+
+        assertEquals(fingerprint, HwpModelFingerprint.of(original));
+        assertNotEquals(fingerprint, HwpModelFingerprint.of(copy));
+    }
+
+    private static byte[] write(HWPFile hwpFile) throws NoSuchFieldException, IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        HWPWriter.toStream(hwpFile, out);
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,78 @@
+package com.klid.common.hwplib.tool.objectfinder;
+
+import com.klid.common.hwplib.HwpModelFingerprint;
+import com.klid.common.hwplib.object.HWPFile;
+import com.klid.common.hwplib.object.bodytext.control.ControlType;
+import com.klid.common.hwplib.reader.HWPReader;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("FieldIndex 테스트")
+class FieldIndexTest {
+
+    private static final String TEMPLATE = "src/main/webapp/WEB-INF/reportTemplate/acc_report.hwp";
+
+    private static ArrayList<String> texts(String... values) {
+        return new ArrayList<>(List.of(values));
+    }
+
+    @Test
+    @DisplayName("누름틀 필드 색인")
+    void testBuild() throws IOException {
+        FieldIndex fieldIndex = FieldIndex.build(HWPReader.fromFile(TEMPLATE));
+
+        assertEquals(Set.of("필드1", "필드2"), fieldIndex.getFieldNames(ControlType.FIELD_CLICKHERE));
+        assertTrue(fieldIndex.hasField(ControlType.FIELD_CLICKHERE, "필드1"));
+        assertFalse(fieldIndex.hasField(ControlType.FIELD_CLICKHERE, "없는필드"));
+    }
+
+    @Test
+    @DisplayName("일괄 설정 결과가 FieldFinder 로 하나씩 설정한 것과 동일")
+    void testSetFieldTexts() throws Exception {
+        Map<String, ArrayList<String>> values = new LinkedHashMap<>();
+        values.put("필드1", texts("사고 내용\r\n둘째 줄"));
+        values.put("필드2", texts("긴급 조치"));
+        values.put("필드3", texts("시도 의견", "남는 텍스트"));
+        values.put("없는필드", texts("x"));
+
+        HWPFile expected = HWPReader.fromFile(TEMPLATE);
+        Map<String, SetFieldResult> expectedResults = new LinkedHashMap<>();
+        for (Map.Entry<String, ArrayList<String>> entry : values.entrySet()) {
+            expectedResults.put(entry.getKey(),
+                    FieldFinder.setFieldText(expected, ControlType.FIELD_CLICKHERE, entry.getKey(), entry.getValue()));
+        }
+
+        HWPFile actual = HWPReader.fromFile(TEMPLATE);
+        Map<String, SetFieldResult> results = FieldFinder.setFieldTexts(actual, ControlType.FIELD_CLICKHERE, values);
+
+        assertEquals(expectedResults, results);
+        assertEquals(SetFieldResult.SetAllText, results.get("필드1"));
+        assertEquals(SetFieldResult.NotFound, results.get("없는필드"));
+        assertEquals(HwpModelFingerprint.of(expected), HwpModelFingerprint.of(actual));
+    }
+
+    @Test
+    @DisplayName("텍스트를 바꾼 뒤에도 같은 색인으로 다시 설정")
+    void testSetFieldText_재설정() throws Exception {
+        HWPFile expected = HWPReader.fromFile(TEMPLATE);
+        FieldFinder.setFieldText(expected, ControlType.FIELD_CLICKHERE, "필드1", texts("처음 값입니다"));
+        FieldFinder.setFieldText(expected, ControlType.FIELD_CLICKHERE, "필드1", texts("변경"));
+
+        HWPFile actual = HWPReader.fromFile(TEMPLATE);
+        FieldIndex fieldIndex = FieldIndex.build(actual);
+        fieldIndex.setFieldText(ControlType.FIELD_CLICKHERE, "필드1", texts("처음 값입니다"));
+        SetFieldResult result = fieldIndex.setFieldText(ControlType.FIELD_CLICKHERE, "필드1", texts("변경"));
+
+        assertEquals(SetFieldResult.SetAllText, result);
+        assertEquals(HwpModelFingerprint.of(expected), HwpModelFingerprint.of(actual));
+    }
+}
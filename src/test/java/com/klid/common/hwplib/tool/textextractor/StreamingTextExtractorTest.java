@@ -0,0 +1,89 @@
+package com.klid.common.hwplib.tool.textextractor;
+
+import com.klid.common.hwplib.object.HWPFile;
+import com.klid.common.hwplib.reader.HWPReader;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Properties;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("StreamingTextExtractor 테스트")
+class StreamingTextExtractorTest {
+
+    private static final Path TEMPLATE_DIR = Paths.get("src/main/webapp/WEB-INF/reportTemplate");
+
+    private static Stream<String> templates() throws IOException {
+        final Properties names = new Properties();
+        try (InputStream in = StreamingTextExtractorTest.class.getResourceAsStream("/hwp/model-fingerprints.properties")) {
+            names.load(in);
+        }
+        return names.stringPropertyNames().stream().sorted();
+    }
+
+    private static String path(String name) {
+        return TEMPLATE_DIR.resolve(name).toString();
+    }
+
+    @TestFactory
+    @DisplayName("전체 추출 결과가 객체 모델 추출(컨트롤 텍스트 뒤에 추가)과 동일")
+    Stream<DynamicTest> testExtract_전체() throws IOException {
+        return templates().map(name -> DynamicTest.dynamicTest(name, () -> {
+            HWPFile hwpFile = HWPReader.fromFile(path(name));
+            String expected = TextExtractor.extract(hwpFile, TextExtractMethod.AppendControlTextAfterParagraphText);
+
+            assertEquals(expected, StreamingTextExtractor.extract(path(name), new TextExtractOption()));
+        }));
+    }
+
+    @TestFactory
+    @DisplayName("본문만 추출한 결과가 객체 모델 추출(메인 문단만)과 동일")
+    Stream<DynamicTest> testExtract_본문만() throws IOException {
+        return templates().map(name -> DynamicTest.dynamicTest(name, () -> {
+            HWPFile hwpFile = HWPReader.fromFile(path(name));
+            String expected = TextExtractor.extract(hwpFile, TextExtractMethod.OnlyMainParagraph);
+
+            assertEquals(expected, StreamingTextExtractor.extract(path(name), TextExtractOption.onlyMainParagraph()));
+        }));
+    }
+
+    @Test
+    @DisplayName("최대 문자 수에 도달하면 앞부분만 추출하고 중단")
+    void testExtract_최대문자수() throws IOException {
+        String all = StreamingTextExtractor.extract(path("report_weekly.hwp"), new TextExtractOption());
+        TextExtractOption option = new TextExtractOption();
+        option.setLimit(50);
+
+        StringWriter writer = new StringWriter();
+        long count;
+        try (InputStream in = Files.newInputStream(TEMPLATE_DIR.resolve("report_weekly.hwp"))) {
+            count = StreamingTextExtractor.extract(in, option, writer::write);
+        }
+
+        assertTrue(all.length() > 50);
+        assertEquals(50, count);
+        assertEquals(all.substring(0, 50), writer.toString());
+    }
+
+    @Test
+    @DisplayName("표 옵션을 끄면 표 안의 텍스트 제외")
+    void testExtract_표제외() throws IOException {
+        TextExtractOption option = new TextExtractOption();
+        option.setTable(false);
+
+        String withoutTable = StreamingTextExtractor.extract(path("report_weekly.hwp"), option);
+        String all = StreamingTextExtractor.extract(path("report_weekly.hwp"), new TextExtractOption());
+
+        assertTrue(withoutTable.length() < all.length());
+    }
+}
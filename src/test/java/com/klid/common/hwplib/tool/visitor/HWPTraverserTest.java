@@ -0,0 +1,118 @@
+package com.klid.common.hwplib.tool.visitor;
+
+import com.klid.common.hwplib.object.HWPFile;
+import com.klid.common.hwplib.object.bodytext.control.Control;
+import com.klid.common.hwplib.object.bodytext.control.ControlType;
+import com.klid.common.hwplib.object.bodytext.paragraph.Paragraph;
+import com.klid.common.hwplib.reader.HWPReader;
+import com.klid.common.hwplib.tool.objectfinder.ControlFinder;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("HWPTraverser 테스트")
+class HWPTraverserTest {
+
+    private static final String TEMPLATE_DIR = "src/main/webapp/WEB-INF/reportTemplate/";
+
+    /**
+     * 방문한 문단 수와 컨트롤 종류를 세는 방문자
+     */
+    private static class Counter extends HWPVisitor {
+        int paragraphs;
+        int leaves;
+        final List<ControlType> controls = new ArrayList<>();
+
+        @Override
+        public VisitResult visitParagraph(Paragraph paragraph) {
+            paragraphs++;
+            return VisitResult.Continue;
+        }
+
+        @Override
+        public void leaveParagraph(Paragraph paragraph) {
+            leaves++;
+        }
+
+        @Override
+        public VisitResult visitControl(Control control, Paragraph paragraph) {
+            controls.add(control.getType());
+            return VisitResult.Continue;
+        }
+    }
+
+    @Test
+    @DisplayName("표 안의 문단까지 모두 방문")
+    void testTraverse() throws IOException {
+        HWPFile hwpFile = HWPReader.fromFile(TEMPLATE_DIR + "report_weekly.hwp");
+        Counter counter = new Counter();
+
+        assertTrue(HWPTraverser.traverse(hwpFile, counter));
+        assertEquals(counter.paragraphs, counter.leaves);
+        assertTrue(counter.controls.contains(ControlType.Table));
+        assertTrue(counter.paragraphs > hwpFile.getBodyText().getSectionList().get(0).getParagraphCount());
+    }
+
+    @Test
+    @DisplayName("SkipChildren 을 반환하면 표 안으로 내려가지 않음")
+    void testTraverse_SkipChildren() throws IOException {
+        HWPFile hwpFile = HWPReader.fromFile(TEMPLATE_DIR + "report_weekly.hwp");
+        Counter counter = new Counter() {
+            @Override
+            public VisitResult visitControl(Control control, Paragraph paragraph) {
+                super.visitControl(control, paragraph);
+                return control.getType() == ControlType.Table ? VisitResult.SkipChildren : VisitResult.Continue;
+            }
+        };
+
+        HWPTraverser.traverse(hwpFile, counter);
+
+        assertEquals(hwpFile.getBodyText().getSectionList().get(0).getParagraphCount(), counter.paragraphs);
+    }
+
+    @Test
+    @DisplayName("Stop 을 반환하면 바로 탐색을 끝냄")
+    void testTraverse_Stop() throws IOException {
+        HWPFile hwpFile = HWPReader.fromFile(TEMPLATE_DIR + "report_weekly.hwp");
+        Counter counter = new Counter() {
+            @Override
+            public VisitResult visitControl(Control control, Paragraph paragraph) {
+                super.visitControl(control, paragraph);
+                return control.getType() == ControlType.Table ? VisitResult.Stop : VisitResult.Continue;
+            }
+        };
+
+        assertFalse(HWPTraverser.traverse(hwpFile, counter));
+        assertEquals(ControlType.Table, counter.controls.get(counter.controls.size() - 1));
+        assertEquals(1, counter.controls.stream().filter(type -> type == ControlType.Table).count());
+    }
+
+    @Test
+    @DisplayName("글상자가 없는 그리기 개체가 있어도 컨트롤을 찾음")
+    void testFind_글상자없는그리기개체() throws IOException {
+        HWPFile hwpFile = HWPReader.fromFile(TEMPLATE_DIR + "report.hwp");
+
+        ArrayList<Control> tool = ControlFinder.find(hwpFile, (control, paragraph, section) -> true);
+        ArrayList<Control> legacy = com.klid.common.hwplib.objectfinder.ControlFinder.find(hwpFile,
+                (control, paragraph, section) -> true);
+
+        assertTrue(tool.stream().anyMatch(control -> control.getType() == ControlType.Gso));
+        assertEquals(tool, legacy);
+    }
+
+    @Test
+    @DisplayName("필터는 컨트롤이 들어 있는 문단을 받음")
+    void testFind_문단() throws IOException {
+        HWPFile hwpFile = HWPReader.fromFile(TEMPLATE_DIR + "report_weekly.hwp");
+
+        ControlFinder.find(hwpFile, (control, paragraph, section) -> {
+            assertTrue(paragraph.getControlList().contains(control));
+            return false;
+        });
+    }
+}
@@ -0,0 +1,102 @@
+package com.klid.common.hwplib.util.compoundFile.reader;
+
+import org.apache.poi.poifs.filesystem.DocumentEntry;
+import org.apache.poi.poifs.filesystem.POIFSFileSystem;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("StreamReaderForCompress 테스트")
+class StreamReaderForCompressTest {
+
+    /** 창 크기(64K)를 여러 번 넘는 크기 */
+    private static final int COUNT = 100_000;
+
+    @Test
+    @DisplayName("창 경계를 넘어 값을 순서대로 읽음")
+    void testRead_acrossWindow() throws IOException {
+        byte[] plain = sequence();
+        try (POIFSFileSystem fs = new POIFSFileSystem()) {
+            DocumentEntry de = fs.createDocument(new ByteArrayInputStream(deflate(plain)), "Section0");
+            StreamReader sr = new StreamReaderForCompress(de, null);
+
+            assertEquals(-1, sr.getSize());
+            for (int i = 0; i < COUNT; i++) {
+                if (i % 3 == 0) {
+                    int[] values = new int[1];
+                    sr.readSInt4Array(values, 0, 1);
+                    assertEquals(i, values[0]);
+                } else {
+                    assertEquals(i, sr.readSInt4());
+                }
+            }
+            assertTrue(sr.isEndOfStream());
+            assertEquals(plain.length, sr.getSize());
+            //끝을 넘는 읽기는 0
+            assertEquals(0, sr.readSInt4());
+            sr.close();
+        }
+    }
+
+    @Test
+    @DisplayName("끝까지 읽기 및 압축되지 않은 스트림")
+    void testReadToEnd() throws IOException {
+        byte[] plain = sequence();
+        try (POIFSFileSystem fs = new POIFSFileSystem()) {
+            DocumentEntry compressed = fs.createDocument(new ByteArrayInputStream(deflate(plain)), "BIN0001");
+            StreamReader sr = new StreamReaderForCompress(compressed, null);
+            sr.skip(4);
+            assertArrayEquals(Arrays.copyOfRange(plain, 4, plain.length), sr.readToEnd());
+            sr.close();
+
+            byte[] raw = new byte[1000];
+            Arrays.fill(raw, (byte) 0xff);
+            DocumentEntry notCompressed = fs.createDocument(new ByteArrayInputStream(raw), "BIN0002");
+            sr = new StreamReaderForCompress(notCompressed, null);
+            assertEquals(raw.length, sr.getSize());
+            assertArrayEquals(raw, sr.readToEnd());
+            sr.close();
+        }
+    }
+
+    @Test
+    @DisplayName("잘린 압축 스트림은 끝으로 처리")
+    void testRead_truncated() throws IOException {
+        byte[] compressed = deflate(sequence());
+        try (POIFSFileSystem fs = new POIFSFileSystem()) {
+            DocumentEntry de = fs.createDocument(new ByteArrayInputStream(Arrays.copyOf(compressed, compressed.length / 2)), "Section0");
+            StreamReader sr = new StreamReaderForCompress(de, null);
+            byte[] read = sr.readToEnd();
+            assertTrue(read.length > 0 && read.length < COUNT * 4);
+            assertTrue(sr.isEndOfStream());
+            sr.close();
+        }
+    }
+
+    /** 0, 1, 2 ... 를 4 byte little-endian 으로 나열 */
+    private static byte[] sequence() {
+        ByteBuffer buffer = ByteBuffer.allocate(COUNT * 4).order(ByteOrder.LITTLE_ENDIAN);
+        for (int i = 0; i < COUNT; i++) {
+            buffer.putInt(i);
+        }
+        return buffer.array();
+    }
+
+    private static byte[] deflate(byte[] plain) throws IOException {
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        try (DeflaterOutputStream out = new DeflaterOutputStream(bos, new Deflater(Deflater.DEFAULT_COMPRESSION, true))) {
+            out.write(plain);
+        }
+        return bos.toByteArray();
+    }
+}
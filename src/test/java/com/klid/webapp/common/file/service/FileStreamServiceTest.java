@@ -0,0 +1,191 @@
+package com.klid.webapp.common.file.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("FileStreamService 테스트")
+class FileStreamServiceTest {
+
+    private static final String CONTENT = "0123456789abcdefghij";
+
+    @TempDir
+    Path tempDir;
+
+    private FileStreamService fileStreamService;
+    private Path file;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        fileStreamService = new FileStreamService();
+        file = tempDir.resolve("evidence.bin");
+        Files.write(file, CONTENT.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    @Test
+    @DisplayName("전체 파일 전송 시 ETag, Last-Modified 헤더 설정")
+    void testRender_전체전송() throws IOException {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/file/download");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        boolean rendered = fileStreamService.render(request, response, file);
+
+        // Then
+        assertTrue(rendered);
+        assertEquals(200, response.getStatus());
+        assertEquals(CONTENT, response.getContentAsString());
+        assertEquals(CONTENT.length(), response.getContentLengthLong());
+        assertEquals("bytes", response.getHeader("Accept-Ranges"));
+        assertNotNull(response.getHeader("ETag"));
+        assertTrue(response.getHeader("ETag").startsWith("\""));
+        assertNotNull(response.getHeader("Last-Modified"));
+    }
+
+    @Test
+    @DisplayName("내용 해시를 알고 있으면 파일을 읽어 계산한 것과 같은 ETag 사용")
+    void testRender_내용해시() throws Exception {
+        // Given
+        String sha256 = HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(CONTENT.getBytes(StandardCharsets.US_ASCII)));
+        MockHttpServletResponse hashed = new MockHttpServletResponse();
+        fileStreamService.render(new MockHttpServletRequest(), hashed, file);
+
+        // When: 해시와 다른 내용으로 바꿔도 전달한 해시로 ETag 를 만듦 (파일을 읽지 않음)
+        Path blob = tempDir.resolve(sha256);
+        Files.write(blob, "other".getBytes(StandardCharsets.US_ASCII));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        fileStreamService.render(new MockHttpServletRequest(), response, blob, sha256);
+
+        // Then
+        assertEquals(hashed.getHeader("ETag"), response.getHeader("ETag"));
+        assertEquals("other", response.getContentAsString());
+    }
+
+    @Test
+    @DisplayName("If-None-Match 일치 시 304 응답")
+    void testRender_조건부요청() throws IOException {
+        // Given
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        fileStreamService.render(new MockHttpServletRequest(), first, file);
+        String etag = first.getHeader("ETag");
+
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("If-None-Match", etag);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        fileStreamService.render(request, response, file);
+
+        // Then
+        assertEquals(304, response.getStatus());
+        assertEquals(0, response.getContentAsByteArray().length);
+        assertEquals(etag, response.getHeader("ETag"));
+    }
+
+    @Test
+    @DisplayName("단일 Range 요청 시 206 응답")
+    void testRender_단일구간() throws IOException {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Range", "bytes=5-9");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        fileStreamService.render(request, response, file);
+
+        // Then
+        assertEquals(206, response.getStatus());
+        assertEquals("56789", response.getContentAsString());
+        assertEquals("bytes 5-9/20", response.getHeader("Content-Range"));
+    }
+
+    @Test
+    @DisplayName("다중 Range 요청 시 multipart/byteranges 응답")
+    void testRender_다중구간() throws IOException {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Range", "bytes=0-1,-3");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        fileStreamService.render(request, response, file);
+
+        // Then
+        assertEquals(206, response.getStatus());
+        assertTrue(response.getContentType().startsWith("multipart/byteranges; boundary="));
+        String body = response.getContentAsString();
+        assertTrue(body.contains("Content-Range: bytes 0-1/20\r\n\r\n01"));
+        assertTrue(body.contains("Content-Range: bytes 17-19/20\r\n\r\nhij"));
+        assertEquals(response.getContentAsByteArray().length, response.getContentLengthLong());
+    }
+
+    @Test
+    @DisplayName("If-Range 불일치 시 전체 파일 전송")
+    void testRender_IfRange불일치() throws IOException {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Range", "bytes=5-9");
+        request.addHeader("If-Range", "\"stale\"");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        fileStreamService.render(request, response, file);
+
+        // Then
+        assertEquals(200, response.getStatus());
+        assertEquals(CONTENT, response.getContentAsString());
+    }
+
+    @Test
+    @DisplayName("범위를 벗어난 Range 요청 시 416 응답")
+    void testRender_범위초과() throws IOException {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Range", "bytes=100-200");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        fileStreamService.render(request, response, file);
+
+        // Then
+        assertEquals(416, response.getStatus());
+        assertEquals("bytes */20", response.getHeader("Content-Range"));
+    }
+
+    @Test
+    @DisplayName("파일이 없으면 404 응답")
+    void testRender_파일없음() throws IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertFalse(fileStreamService.render(new MockHttpServletRequest(), response, tempDir.resolve("none")));
+        assertEquals(404, response.getStatus());
+    }
+
+    @Test
+    @DisplayName("Range 헤더 파싱")
+    void testParseRanges() {
+        List<long[]> ranges = fileStreamService.parseRanges("bytes=0-, 10-12, -5", 20);
+        assertEquals(3, ranges.size());
+        assertArrayEquals(new long[]{0, 19}, ranges.get(0));
+        assertArrayEquals(new long[]{10, 12}, ranges.get(1));
+        assertArrayEquals(new long[]{15, 19}, ranges.get(2));
+
+        assertTrue(fileStreamService.parseRanges("bytes=9-3", 20).isEmpty());
+        assertTrue(fileStreamService.parseRanges("items=0-1", 20).isEmpty());
+        assertNull(fileStreamService.parseRanges("bytes=30-", 20));
+    }
+}
@@ -0,0 +1,45 @@
+package com.klid.webapp.common.file.service;
+
+import com.klid.common.hwplib.object.HWPFile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("HwpTemplateRegistry 테스트")
+class HwpTemplateRegistryTest {
+
+    private static final Path TEMPLATE_DIR = Paths.get("src/main/webapp/WEB-INF/reportTemplate");
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("요청마다 독립된 복사본, 파일 변경 시 다시 로드")
+    void testGet() throws Exception {
+        Path template = tempDir.resolve("template.hwp");
+        Files.copy(TEMPLATE_DIR.resolve("report_type_2.hwp"), template);
+        HwpTemplateRegistry registry = new HwpTemplateRegistry();
+
+        HWPFile first = registry.get(template.toString());
+        HWPFile second = registry.get(template.toString());
+        assertNotSame(first, second);
+        assertNotSame(first.getBodyText().getSectionList().get(0), second.getBodyText().getSectionList().get(0));
+        int sections = first.getBodyText().getSectionList().size();
+
+        //다른 템플릿으로 교체
+        Files.copy(TEMPLATE_DIR.resolve("acc_report.hwp"), template, StandardCopyOption.REPLACE_EXISTING);
+        Files.setLastModifiedTime(template, FileTime.fromMillis(System.currentTimeMillis() + 10_000));
+        HWPFile reloaded = registry.get(template.toString());
+
+        assertNotEquals(first.getDocInfo().getCharShapeList().size(), reloaded.getDocInfo().getCharShapeList().size());
+        assertEquals(sections, second.getBodyText().getSectionList().size());
+    }
+}
@@ -0,0 +1,75 @@
+package com.klid.webapp.common.file.service;
+
+import com.klid.common.AppGlobal;
+import com.klid.webapp.common.CustomException;
+import com.klid.webapp.common.file.dto.StagedFileDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ImportStagingService 테스트")
+class ImportStagingServiceTest {
+
+    @TempDir
+    Path tempDir;
+
+    private ImportStagingService stagingService;
+
+    @BeforeEach
+    void setUp() {
+        AppGlobal.uploadPath = tempDir.toString();
+        stagingService = new ImportStagingService();
+    }
+
+    @Test
+    @DisplayName("동시 업로드는 서로 다른 토큰과 파일로 보관")
+    void testStage_동시업로드분리() throws IOException {
+        // Given
+        StagedFileDto first = stagingService.stage(file("a.csv", "first"), "admin1");
+        StagedFileDto second = stagingService.stage(file("b.csv", "second"), "admin2");
+
+        // When
+        StagedFileDto resolvedFirst = stagingService.resolve(first.getToken(), "admin1");
+        StagedFileDto resolvedSecond = stagingService.resolve(second.getToken(), "admin2");
+
+        // Then
+        assertNotEquals(first.getToken(), second.getToken());
+        assertEquals("csv", resolvedFirst.getFileType());
+        assertEquals("first", Files.readString(resolvedFirst.getPath()));
+        assertEquals("second", Files.readString(resolvedSecond.getPath()));
+        assertTrue(resolvedFirst.getPath().startsWith(tempDir.resolve("import").resolve("admin1")));
+    }
+
+    @Test
+    @DisplayName("다른 사용자의 토큰으로는 조회 불가")
+    void testResolve_사용자불일치() throws IOException {
+        StagedFileDto staged = stagingService.stage(file("a.eml", "mail"), "admin1");
+
+        assertThrows(CustomException.class, () -> stagingService.resolve(staged.getToken(), "admin2"));
+        assertThrows(CustomException.class, () -> stagingService.resolve("unknown", "admin1"));
+    }
+
+    @Test
+    @DisplayName("처리 완료 후 파일 삭제 및 토큰 무효화")
+    void testDiscard() throws IOException {
+        StagedFileDto staged = stagingService.stage(file("home.xls", "xls"), "admin1");
+
+        stagingService.discard(staged.getToken());
+
+        assertFalse(Files.exists(staged.getPath()));
+        assertThrows(CustomException.class, () -> stagingService.resolve(staged.getToken(), "admin1"));
+    }
+
+    private MockMultipartFile file(String name, String content) {
+        return new MockMultipartFile("emlcsvfileinput", name, "application/octet-stream", content.getBytes(StandardCharsets.UTF_8));
+    }
+}
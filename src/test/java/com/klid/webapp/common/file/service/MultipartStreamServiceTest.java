@@ -0,0 +1,179 @@
+package com.klid.webapp.common.file.service;
+
+import com.klid.common.AppGlobal;
+import com.klid.webapp.common.exception.UploadRejectedException;
+import com.klid.webapp.common.file.dto.FileBlobDto;
+import com.klid.webapp.common.file.dto.UploadedFileDto;
+import com.klid.webapp.common.file.persistence.FileBlobMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("MultipartStreamService 테스트")
+class MultipartStreamServiceTest {
+
+    private static final String BOUNDARY = "----klidBoundary";
+
+    @TempDir
+    Path tempDir;
+
+    private final Map<String, Long> refCnt = new HashMap<>();
+    private MultipartStreamService streamService;
+
+    @BeforeEach
+    void setUp() {
+        AppGlobal.uploadPath = tempDir.toString();
+        FileBlobMapper mockFileBlobMapper = new FileBlobMapper() {
+            @Override
+            public int increaseRefCnt(String hash) {
+                return refCnt.computeIfPresent(hash, (k, v) -> v + 1) == null ? 0 : 1;
+            }
+
+            @Override
+            public int insertFileBlob(FileBlobDto fileBlobDto) {
+                refCnt.put(fileBlobDto.getHash(), 1L);
+                return 1;
+            }
+
+            @Override
+            public int decreaseRefCnt(String hash) {
+                return refCnt.computeIfPresent(hash, (k, v) -> Math.max(v - 1, 0)) == null ? 0 : 1;
+            }
+
+            @Override
+            public int reconcileRefCnt() {
+                return 0;
+            }
+
+            @Override
+            public List<FileBlobDto> selectOrphanBlobs(int graceDays) {
+                return List.of();
+            }
+
+            @Override
+            public int deleteOrphanBlob(String hash) {
+                return 0;
+            }
+        };
+        streamService = new MultipartStreamService(new FileBlobService(mockFileBlobMapper));
+    }
+
+    @Test
+    @DisplayName("파일 파트를 blob 저장소에 한 번에 기록")
+    void testReceive_저장() throws IOException {
+        // Given
+        MockHttpServletRequest request = multipartRequest("report.pdf", "same content");
+
+        // When
+        List<UploadedFileDto> files = streamService.receive(request, "fileinput", UploadPolicy.of(1024), null);
+
+        // Then
+        assertEquals(1, files.size());
+        UploadedFileDto file = files.get(0);
+        assertEquals("report.pdf", file.getOriginalFileName());
+        assertEquals("pdf", file.getFileType());
+        assertEquals(12, file.getFileSize());
+        assertEquals(64, file.getHash().length());
+        Path blob = tempDir.resolve("blob").resolve(file.getHash().substring(0, 2)).resolve(file.getHash().substring(2, 4)).resolve(file.getHash());
+        assertEquals("same content", Files.readString(blob));
+        try (Stream<Path> temps = Files.list(tempDir.resolve("blob").resolve("tmp"))) {
+            assertEquals(0, temps.count());
+        }
+    }
+
+    @Test
+    @DisplayName("동일 내용 업로드 시 blob 공유 및 참조 수 증가")
+    void testReceive_중복제거() throws IOException {
+        List<UploadedFileDto> first = streamService.receive(multipartRequest("a.pdf", "same content"), "fileinput", UploadPolicy.of(1024), null);
+        List<UploadedFileDto> second = streamService.receive(multipartRequest("b.pdf", "same content"), "fileinput", UploadPolicy.of(1024), null);
+
+        assertEquals(first.get(0).getHash(), second.get(0).getHash());
+        assertEquals(2L, refCnt.get(first.get(0).getHash()));
+    }
+
+    @Test
+    @DisplayName("허용되지 않은 확장자는 기록 전에 거부")
+    void testReceive_확장자제한() {
+        MockHttpServletRequest request = multipartRequest("malware.exe", "MZ");
+
+        assertThrows(UploadRejectedException.class,
+                () -> streamService.receive(request, "fileinput", UploadPolicy.of(1024, "hwp,pdf"), null));
+        assertTrue(refCnt.isEmpty());
+    }
+
+    @Test
+    @DisplayName("크기 제한 초과 시 중단하고 임시 파일 삭제")
+    void testReceive_크기제한() throws IOException {
+        MockHttpServletRequest request = multipartRequest("big.pdf", "0123456789");
+
+        assertThrows(UploadRejectedException.class,
+                () -> streamService.receive(request, "fileinput", UploadPolicy.of(5), null));
+        try (Stream<Path> temps = Files.list(tempDir.resolve("blob").resolve("tmp"))) {
+            assertEquals(0, temps.count());
+        }
+    }
+
+    @Test
+    @DisplayName("뒤 파트가 거부되면 앞서 저장한 파일의 참조 수를 되돌림")
+    void testReceive_실패시참조해제() {
+        String body = "--" + BOUNDARY + "\r\n"
+                + "Content-Disposition: form-data; name=\"fileinput\"; filename=\"ok.pdf\"\r\n\r\n"
+                + "same content\r\n"
+                + "--" + BOUNDARY + "\r\n"
+                + "Content-Disposition: form-data; name=\"fileinput\"; filename=\"malware.exe\"\r\n\r\n"
+                + "MZ\r\n"
+                + "--" + BOUNDARY + "--\r\n";
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/file/accUpload");
+        request.setContentType("multipart/form-data; boundary=" + BOUNDARY);
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+
+        assertThrows(UploadRejectedException.class,
+                () -> streamService.receive(request, "fileinput", UploadPolicy.of(1024, "hwp,pdf"), null));
+        assertEquals(1, refCnt.size());
+        assertEquals(0L, refCnt.values().iterator().next());
+    }
+
+    @Test
+    @DisplayName("진행률 및 쿼리스트링 조회")
+    void testProgressAndQueryParam() throws IOException {
+        MockHttpServletRequest request = multipartRequest("a.pdf", "same content");
+        request.setQueryString("inciNo=20250101&name=%ED%85%8C%EC%8A%A4%ED%8A%B8");
+
+        streamService.receive(request, "fileinput", UploadPolicy.of(1024), "user:1");
+
+        Map<String, Object> progress = streamService.getProgress("user:1");
+        assertEquals(true, progress.get("done"));
+        assertEquals(100, progress.get("percent"));
+        assertEquals("20250101", streamService.getQueryParam(request, "inciNo"));
+        assertEquals("테스트", streamService.getQueryParam(request, "name"));
+        assertNull(streamService.getQueryParam(request, "boardNo"));
+    }
+
+    private MockHttpServletRequest multipartRequest(String fileName, String content) {
+        String body = "--" + BOUNDARY + "\r\n"
+                + "Content-Disposition: form-data; name=\"memo\"\r\n\r\n"
+                + "memo\r\n"
+                + "--" + BOUNDARY + "\r\n"
+                + "Content-Disposition: form-data; name=\"fileinput\"; filename=\"" + fileName + "\"\r\n"
+                + "Content-Type: application/octet-stream\r\n\r\n"
+                + content + "\r\n"
+                + "--" + BOUNDARY + "--\r\n";
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/file/accUpload");
+        request.setContentType("multipart/form-data; boundary=" + BOUNDARY);
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+}
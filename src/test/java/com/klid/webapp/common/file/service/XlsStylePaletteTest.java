@@ -0,0 +1,65 @@
+package com.klid.webapp.common.file.service;
+
+import com.klid.webapp.common.file.service.XlsStylePalette.Style;
+import org.apache.poi.hssf.usermodel.HSSFPalette;
+import org.apache.poi.hssf.usermodel.HSSFWorkbook;
+import org.apache.poi.hssf.util.HSSFColor;
+import org.apache.poi.ss.usermodel.BorderStyle;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.FillPatternType;
+import org.apache.poi.ss.usermodel.HorizontalAlignment;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("XlsStylePalette 테스트")
+class XlsStylePaletteTest {
+
+    @Test
+    @DisplayName("같은 속성의 스타일과 글꼴은 한 번만 생성")
+    void testGet() throws Exception {
+        try (HSSFWorkbook workbook = new HSSFWorkbook()) {
+            XlsStylePalette palette = new XlsStylePalette(workbook);
+            int styles = workbook.getNumCellStyles();
+            int fonts = workbook.getNumberOfFonts();
+
+            for (int i = 0; i < 1000; i++) {
+                palette.get(new Style(HorizontalAlignment.CENTER, true, "#FFCC99", true));
+                palette.get(new Style(HorizontalAlignment.CENTER, false, "#FFCC99", true));
+                palette.get(new Style(HorizontalAlignment.CENTER, false, null, true));
+            }
+            CellStyle header = palette.get(new Style(HorizontalAlignment.CENTER, true, "#FFCC99", true));
+            palette.get(new Style(HorizontalAlignment.LEFT, true, null, false));
+
+            assertEquals(styles + 4, workbook.getNumCellStyles());
+            assertEquals(fonts + 1, workbook.getNumberOfFonts());
+
+            assertTrue(workbook.getFontAt(header.getFontIndex()).getBold());
+            assertEquals(FillPatternType.SOLID_FOREGROUND, header.getFillPattern());
+            assertEquals(BorderStyle.THIN, header.getBorderLeft());
+            HSSFColor color = workbook.getCustomPalette().getColor(header.getFillForegroundColor());
+            assertArrayEquals(new short[] {0xFF, 0xCC, 0x99}, color.getTriplet());
+        }
+    }
+
+    @Test
+    @DisplayName("팔레트에 없는 색상은 서로 다른 색인에 등록하고 기존 색상은 바꾸지 않음")
+    void testGet_색상() throws Exception {
+        try (HSSFWorkbook workbook = new HSSFWorkbook()) {
+            XlsStylePalette palette = new XlsStylePalette(workbook);
+            HSSFPalette colors = workbook.getCustomPalette();
+            short[] tan = colors.getColor(HSSFColor.HSSFColorPredefined.TAN.getIndex()).getTriplet();
+
+            CellStyle first = palette.get(new Style(HorizontalAlignment.CENTER, false, "#123456", false));
+            CellStyle second = palette.get(new Style(HorizontalAlignment.CENTER, false, "#654321", false));
+
+            assertNotEquals(first.getFillForegroundColor(), second.getFillForegroundColor());
+            assertArrayEquals(new short[] {0x12, 0x34, 0x56}, colors.getColor(first.getFillForegroundColor()).getTriplet());
+            assertArrayEquals(new short[] {0x65, 0x43, 0x21}, colors.getColor(second.getFillForegroundColor()).getTriplet());
+            assertArrayEquals(tan, colors.getColor(HSSFColor.HSSFColorPredefined.TAN.getIndex()).getTriplet());
+            assertEquals(first.getFillForegroundColor(),
+                    palette.get(new Style(HorizontalAlignment.LEFT, true, "#123456", true)).getFillForegroundColor());
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.klid.webapp.common.file.service;
+
+import org.apache.poi.hssf.usermodel.HSSFWorkbook;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("XlsTemplateRegistry 테스트")
+class XlsTemplateRegistryTest {
+
+    @TempDir
+    Path tempDir;
+
+    private static void write(Path path, String... sheetNames) throws IOException {
+        try (HSSFWorkbook workbook = new HSSFWorkbook(); OutputStream out = Files.newOutputStream(path)) {
+            for (String sheetName : sheetNames) {
+                workbook.createSheet(sheetName).createRow(2).createCell(9).setCellValue("기간");
+            }
+            workbook.write(out);
+        }
+    }
+
+    @Test
+    @DisplayName("요청마다 독립된 통합 문서, 파일 변경 시 다시 로드")
+    void testGet() throws Exception {
+        Path template = tempDir.resolve("report_daily.xls");
+        write(template, "일일운영현황", "세부현황");
+        XlsTemplateRegistry registry = new XlsTemplateRegistry();
+
+        try (HSSFWorkbook first = registry.get(template.toString());
+             HSSFWorkbook second = registry.get(template.toString())) {
+            assertNotSame(first, second);
+            first.getSheetAt(0).getRow(2).getCell(9).setCellValue("2026-10-19");
+            first.createCellStyle();
+            assertEquals("기간", second.getSheetAt(0).getRow(2).getCell(9).getStringCellValue());
+            assertEquals(first.getNumCellStyles() - 1, second.getNumCellStyles());
+        }
+
+        //다른 템플릿으로 교체
+        write(template, "일일운영현황");
+        Files.setLastModifiedTime(template, FileTime.fromMillis(System.currentTimeMillis() + 10_000));
+        try (HSSFWorkbook reloaded = registry.get(template.toString())) {
+            assertEquals(1, reloaded.getNumberOfSheets());
+        }
+    }
+
+    @Test
+    @DisplayName("엑셀이 아닌 파일은 캐시하지 않음")
+    void testGet_잘못된파일() throws Exception {
+        Path template = tempDir.resolve("broken.xls");
+        Files.writeString(template, "not a workbook");
+        XlsTemplateRegistry registry = new XlsTemplateRegistry();
+
+        assertThrows(IOException.class, () -> registry.get(template.toString()));
+
+        write(template, "일일운영현황");
+        Files.setLastModifiedTime(template, FileTime.fromMillis(System.currentTimeMillis() + 10_000));
+        try (HSSFWorkbook workbook = registry.get(template.toString())) {
+            assertEquals("일일운영현황", workbook.getSheetName(0));
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.klid.webapp.main.acc.accidentApply.service;
+
+import com.klid.webapp.main.acc.accidentApply.dto.AccidentImportResultDto;
+import org.apache.poi.hssf.usermodel.HSSFWorkbook;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("AccidentImportEngine 테스트")
+class AccidentImportEngineTest {
+
+    @TempDir
+    Path tempDir;
+
+    private ThreadPoolTaskExecutor executor;
+    private AccidentImportEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(4);
+        executor.setMaxPoolSize(4);
+        executor.initialize();
+        engine = new AccidentImportEngine(executor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("대용량 csv 스트리밍 집계 및 행별 오류")
+    void testRun_csv() throws IOException {
+        // Given : 50,000행 중 1,000행마다 탐지횟수 오류
+        Path csv = tempDir.resolve("import.csv");
+        try (BufferedWriter writer = Files.newBufferedWriter(csv, StandardCharsets.UTF_8)) {
+            writer.write("mgr_time,event_time,origin,origin_name,s_ip,s_port,d_ip,d_port,direction,protocol,status,attack,count,product,note,esm_ser_no\n");
+            for (int i = 0; i < 50_000; i++) {
+                String count = i % 1000 == 999 ? "abc" : (i % 2 == 0 ? "2" : "-");
+                writer.write("2025-01-01 1200,,10.1.1.1,본청,10.1.1.5,80,1.2.3.4,443,in,tcp,ok,\"SQL, Injection\"," + count + ",ips,,0\n");
+            }
+        }
+
+        // When
+        AccidentImportResultDto result = engine.run(csv, "csv");
+
+        // Then
+        assertEquals(49_950, result.getRowCount());
+        assertEquals(50, result.getErrorCount());
+        assertEquals(50, result.getErrors().size());
+        assertEquals(1001, result.getErrors().get(0).getRowNum());
+        assertEquals(25_000 * 2 + 24_950, result.getCountSum());
+        assertEquals("SQL, Injection", result.getFirstRow()[11]);
+    }
+
+    @Test
+    @DisplayName("xlsx SAX 읽기 및 빈 셀 처리")
+    void testRun_xlsx() throws IOException {
+        Path xlsx = tempDir.resolve("import.xlsx");
+        try (SXSSFWorkbook workbook = new SXSSFWorkbook()) {
+            writeExcelRows(workbook);
+            try (OutputStream out = Files.newOutputStream(xlsx)) {
+                workbook.write(out);
+            }
+        }
+
+        AccidentImportResultDto result = engine.run(xlsx, "xlsx");
+
+        assertExcelResult(result);
+    }
+
+    @Test
+    @DisplayName("xls 읽기")
+    void testRun_xls() throws IOException {
+        Path xls = tempDir.resolve("import.xls");
+        try (HSSFWorkbook workbook = new HSSFWorkbook()) {
+            writeExcelRows(workbook);
+            try (OutputStream out = Files.newOutputStream(xls)) {
+                workbook.write(out);
+            }
+        }
+
+        AccidentImportResultDto result = engine.run(xls, "xls");
+
+        assertExcelResult(result);
+    }
+
+    @Test
+    @DisplayName("IPv4 리터럴만 허용")
+    void testIsIp() {
+        assertTrue(AccidentImportEngine.isIp("10.0.0.255"));
+        assertFalse(AccidentImportEngine.isIp("10.0.0.256"));
+        assertFalse(AccidentImportEngine.isIp("localhost"));
+        assertFalse(AccidentImportEngine.isIp(""));
+    }
+
+    private void writeExcelRows(Workbook workbook) {
+        Sheet sheet = workbook.createSheet();
+        Row header = sheet.createRow(0);
+        header.createCell(0).setCellValue("mgr_time");
+        for (int i = 1; i <= 3; i++) {
+            Row row = sheet.createRow(i);
+            row.createCell(0).setCellValue("2025-01-01 12:00");
+            row.createCell(3).setCellValue("10.1.1.1");
+            row.createCell(4).setCellValue(i == 2 ? "bad-ip" : "10.1.1.5");
+            row.createCell(6).setCellValue("1.2.3.4");
+            if (i != 3) {
+                row.createCell(8).setCellValue(5); //숫자 셀
+            }
+            row.createCell(12).setCellValue("GET");
+        }
+    }
+
+    private void assertExcelResult(AccidentImportResultDto result) {
+        assertEquals(2, result.getRowCount());
+        assertEquals(6, result.getCountSum());
+        assertEquals(1, result.getErrorCount());
+        assertEquals(3, result.getErrors().get(0).getRowNum());
+        assertEquals("", result.getFirstRow()[1]);
+        assertEquals("GET", result.getFirstRow()[12]);
+        assertEquals("", result.getFirstRow()[13]);
+    }
+}
@@ -0,0 +1,178 @@
+package com.klid.webapp.main.acc.accidentApply.service;
+
+import com.klid.webapp.main.acc.accidentApply.persistence.AccidentStatMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("사고 통계 집계 테스트")
+class AccidentStatRollupServiceTest {
+
+    @Mock
+    private AccidentStatMapper mapper;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private AccidentStatRollupService service;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        service = new AccidentStatRollupService(mapper, transactionManager, new SyncTaskExecutor(), true);
+    }
+
+    private void installed() {
+        when(mapper.countHourly()).thenReturn(1);
+        service.initialize();
+        assertTrue(service.isReady());
+    }
+
+    @Test
+    @DisplayName("사고의 접수 시간만 일 단위로 묶어 다시 집계")
+    void testTouch() {
+        installed();
+        when(mapper.selectIncidentHours(List.of("CT20261019001", "CT20261019001-1")))
+                .thenReturn(Arrays.asList("2026101910", "2026101823", null, "2026101909"));
+
+        service.touch("CT20261019001", null, "CT20261019001-1", "", "CT20261019001");
+
+        InOrder inOrder = inOrder(mapper);
+        inOrder.verify(mapper).lockRollup();
+        inOrder.verify(mapper).deleteHourly("2026101823", "2026101823");
+        inOrder.verify(mapper).insertHourly("2026101823", "2026101823");
+        inOrder.verify(mapper).deleteDaily("20261018", "20261018");
+        inOrder.verify(mapper).insertDaily("20261018", "20261018");
+        inOrder.verify(mapper).lockRollup();
+        inOrder.verify(mapper).insertHourly("2026101909", "2026101909");
+        inOrder.verify(mapper).insertHourly("2026101910", "2026101910");
+        inOrder.verify(mapper).insertDaily("20261019", "20261019");
+        verify(transactionManager, times(2)).commit(any());
+        assertTrue(service.isReady());
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서는 commit 후에 집계")
+    void testTouch_트랜잭션() {
+        installed();
+        when(mapper.selectIncidentHours(any())).thenReturn(List.of("2026101909"));
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            service.touch("CT20261019001");
+            verify(mapper, never()).lockRollup();
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            verify(mapper).insertHourly("2026101909", "2026101909");
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("다시 집계는 요청 스레드가 아닌 작업 스레드에서 모아서 실행하고, 그동안 원장에서 조회")
+    void testTouch_작업스레드() {
+        List<Runnable> tasks = new ArrayList<>();
+        service = new AccidentStatRollupService(mapper, transactionManager, tasks::add, true);
+        installed();
+        when(mapper.selectIncidentHours(List.of("CT20261019001"))).thenReturn(List.of("2026101909"));
+        when(mapper.selectIncidentHours(List.of("CT20261019002"))).thenReturn(List.of("2026101910"));
+
+        service.touch("CT20261019001");
+        service.touch("CT20261019002");
+        verify(mapper, never()).lockRollup();
+        assertFalse(service.isReady());
+        assertEquals(1, tasks.size());
+
+        tasks.get(0).run();
+        verify(mapper).lockRollup();
+        verify(mapper).insertHourly("2026101909", "2026101909");
+        verify(mapper).insertHourly("2026101910", "2026101910");
+        assertTrue(service.isReady());
+    }
+
+    @Test
+    @DisplayName("집계에 실패한 시간은 재시도하고, 그동안 원장에서 조회")
+    void testRetryPending() {
+        installed();
+        when(mapper.selectIncidentHours(any())).thenReturn(List.of("2026101909"));
+        doThrow(new RuntimeException("lock timeout")).doNothing().when(mapper).lockRollup();
+
+        service.touch("CT20261019001");
+        assertFalse(service.isReady());
+        verify(transactionManager).rollback(any());
+
+        service.retryPending();
+        assertTrue(service.isReady());
+        verify(mapper).insertDaily("20261019", "20261019");
+
+        service.retryPending();
+        verify(mapper, times(2)).lockRollup();
+    }
+
+    @Test
+    @DisplayName("집계 테이블이 비어 있으면 원장 기간을 월 단위로 구성")
+    void testInitialize() {
+        when(mapper.countHourly()).thenReturn(0);
+        when(mapper.selectLedgerRange()).thenReturn(Map.of("minDd", "20260115", "maxDd", "20260302"));
+
+        assertFalse(service.isReady());
+        service.initialize();
+        assertTrue(service.isReady());
+
+        verify(mapper).insertHourly("2026011500", "2026013123");
+        verify(mapper).insertHourly("2026020100", "2026022823");
+        verify(mapper).insertHourly("2026030100", "2026030223");
+        verify(mapper).insertDaily("20260301", "20260302");
+        verify(transactionManager, times(3)).commit(any());
+
+        assertEquals(47, service.rebuild(LocalDate.of(2026, 1, 15), LocalDate.of(2026, 3, 2)));
+        assertThrows(IllegalArgumentException.class, () -> service.rebuild(LocalDate.of(2026, 3, 2), LocalDate.of(2026, 3, 1)));
+    }
+
+    @Test
+    @DisplayName("집계 테이블을 사용할 수 없으면 집계하지 않고 원장에서 조회")
+    void testInitialize_실패() {
+        when(mapper.countHourly()).thenThrow(new RuntimeException("ORA-00942"));
+
+        service.initialize();
+        service.touch("CT20261019001");
+
+        assertFalse(service.isReady());
+        verify(mapper).countHourly();
+        verifyNoMoreInteractions(mapper);
+    }
+
+    @Test
+    @DisplayName("사용하지 않도록 설정하면 아무것도 하지 않음")
+    void testDisabled() {
+        AccidentStatRollupService disabled = new AccidentStatRollupService(mapper, transactionManager, new SyncTaskExecutor(), false);
+
+        disabled.initialize();
+        disabled.touch("CT20261019001");
+        disabled.reconcile();
+
+        assertFalse(disabled.isReady());
+        assertThrows(IllegalStateException.class, () -> disabled.rebuild(LocalDate.now(), LocalDate.now()));
+        verifyNoInteractions(mapper);
+    }
+}
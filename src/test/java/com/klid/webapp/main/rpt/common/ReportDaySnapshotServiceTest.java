@@ -0,0 +1,187 @@
+package com.klid.webapp.main.rpt.common;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.klid.webapp.main.rpt.common.persistence.ReportDaySnapshotMapper;
+import com.klid.webapp.main.rpt.reportCollection.dto.ReportCollectionDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("보고서 일 단위 스냅샷 테스트")
+class ReportDaySnapshotServiceTest {
+
+    private static final DateTimeFormatter DAY = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    @Mock
+    private ReportDaySnapshotMapper mapper;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ReportDaySnapshotService service;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        service = new ReportDaySnapshotService(mapper, transactionManager, true, 400);
+        service.initialize();
+        assertTrue(service.isReady());
+    }
+
+    private static String day(int minusDays) {
+        return LocalDate.now().minusDays(minusDays).format(DAY);
+    }
+
+    private static Map<String, Object> stat(String snapDd, long rowCnt, long rowHash) {
+        Map<String, Object> stat = new HashMap<>();
+        stat.put("snapDd", snapDd);
+        stat.put("rowCnt", rowCnt);
+        stat.put("rowHash", rowHash);
+        return stat;
+    }
+
+    private static ReportCollectionDto row(String localNm, String orgNm, String value, String regTime) {
+        ReportCollectionDto dto = new ReportCollectionDto();
+        dto.setLocalNm(localNm);
+        dto.setOrgNm(orgNm);
+        dto.setValue(value);
+        dto.setRegTime(regTime);
+        return dto;
+    }
+
+    @Test
+    @DisplayName("스냅샷이 있는 지난 일자는 스냅샷에서, 나머지 구간은 원본에서 조회")
+    void testSelect() {
+        when(mapper.selectSnapshotStats(day(6), day(1)))
+                .thenReturn(List.of(stat(day(2), 1, 1), stat(day(5), 1, 1), stat(day(4), 1, 1)));
+        when(mapper.selectSnapshot(any())).thenReturn(List.of(row("유형총합", "유형총합", "{}", day(5) + "000000")));
+
+        Map<String, Object> condition = new HashMap<>();
+        condition.put("weekDt", day(7) + "235959");
+        condition.put("endDt", day(0) + "235959");
+        condition.put("sAuthMain", "AUTH_MAIN_2");
+
+        List<String> ranges = new ArrayList<>();
+        List<ReportCollectionDto> result = service.select(condition, "weekDt", "endDt", "유형총합", params -> {
+            ranges.add(params.get("weekDt") + "~" + params.get("endDt"));
+            assertEquals("AUTH_MAIN_2", params.get("sAuthMain"));
+            return List.of(new ReportCollectionDto());
+        });
+
+        assertEquals(List.of(
+                day(7) + "235959~" + day(6) + "235959",
+                day(3) + "000000~" + day(3) + "235959",
+                day(1) + "000000~" + day(0) + "235959"), ranges);
+        assertEquals(4, result.size());
+        assertEquals(day(7) + "235959", condition.get("weekDt"));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Map<String, Object>> params = ArgumentCaptor.forClass(Map.class);
+        verify(mapper).selectSnapshot(params.capture());
+        assertEquals(List.of(day(5), day(4), day(2)), params.getValue().get("snapDds"));
+        assertEquals("유형총합", params.getValue().get("sumNm"));
+    }
+
+    @Test
+    @DisplayName("지난 일자를 하루 이상 포함하지 않거나 스냅샷 조회에 실패하면 원본에서 조회")
+    void testSelect_원본() {
+        Map<String, Object> condition = new HashMap<>();
+        condition.put("startDt", day(1) + "090000");
+        condition.put("endDt", day(0) + "085959");
+
+        assertEquals(1, service.select(condition, "startDt", "endDt", "지역총합", params -> List.of(new ReportCollectionDto())).size());
+        verify(mapper, never()).selectSnapshot(any());
+
+        condition.put("startDt", day(3) + "000000");
+        when(mapper.selectSnapshotStats(anyString(), anyString())).thenThrow(new RuntimeException("ORA-00942"));
+        List<Map<String, Object>> calls = new ArrayList<>();
+        service.select(condition, "startDt", "endDt", "지역총합", params -> {
+            calls.add(params);
+            return List.of();
+        });
+        assertEquals(List.of(condition), calls);
+    }
+
+    @Test
+    @DisplayName("하루 원본을 지역/기관별로 유형 합계를 합쳐 저장")
+    void testFreeze() throws Exception {
+        String snapDd = day(1);
+        when(mapper.selectDashFingerprints(snapDd, snapDd)).thenReturn(List.of(stat(snapDd, 3, 99)));
+        when(mapper.selectDashDay(snapDd)).thenReturn(List.of(
+                row("유형총합", "유형총합", "{\"악성코드\":2,\"서비스거부\":1}", snapDd + "010000"),
+                row("서울", "서울", "{\"악성코드\":5}", snapDd + "010000"),
+                row("유형총합", "유형총합", "{\"악성코드\":3,\"비인가접근\":4}", snapDd + "020000")));
+
+        service.freeze(snapDd);
+
+        ArgumentCaptor<String> json = ArgumentCaptor.forClass(String.class);
+        verify(mapper).lockSnapshot();
+        verify(mapper).deleteSnapshot(snapDd);
+        verify(mapper).insertSnapshot(eq(snapDd), eq("유형총합"), eq("유형총합"), json.capture(), eq(2));
+        verify(mapper).insertSnapshot(eq(snapDd), eq("서울"), eq("서울"), anyString(), eq(1));
+        verify(mapper).insertSnapshotStat(snapDd, 3, 99);
+        verify(transactionManager).commit(any());
+
+        assertEquals(Map.of("악성코드", 5, "서비스거부", 1, "비인가접근", 4), new ObjectMapper().readValue(json.getValue(), Map.class));
+    }
+
+    @Test
+    @DisplayName("최근 7일은 원본이 바뀐 일자를 다시 만들고, 이전의 빠진 일자를 채움")
+    void testMaintain() {
+        when(mapper.selectDashMinDay()).thenReturn(day(10));
+        when(mapper.selectSnapshotStats(day(10), day(1))).thenReturn(List.of(
+                stat(day(1), 3, 30), stat(day(2), 2, 20), stat(day(3), 0, 0), stat(day(4), 1, 10),
+                stat(day(5), 1, 10), stat(day(6), 1, 10), stat(day(7), 1, 10), stat(day(9), 1, 10)));
+        when(mapper.selectDashFingerprints(anyString(), anyString())).thenAnswer(invocation ->
+                invocation.getArgument(0).equals(day(7)) && invocation.getArgument(1).equals(day(1))
+                        ? List.of(stat(day(1), 3, 30), stat(day(2), 3, 25), stat(day(4), 1, 10),
+                        stat(day(5), 1, 10), stat(day(6), 1, 10), stat(day(7), 1, 10))
+                        : List.of());
+
+        service.maintain();
+
+        verify(mapper).deleteSnapshotStat(day(2));
+        verify(mapper).deleteSnapshotStat(day(8));
+        verify(mapper).deleteSnapshotStat(day(10));
+        verify(mapper, times(3)).deleteSnapshotStat(anyString());
+        verify(transactionManager, times(3)).commit(any());
+    }
+
+    @Test
+    @DisplayName("오늘은 다시 만들지 않고, 사용하지 않도록 설정하면 원본에서 조회")
+    void testRebuild() {
+        when(mapper.selectDashFingerprints(anyString(), anyString())).thenReturn(List.of());
+        when(mapper.selectDashDay(anyString())).thenReturn(List.of());
+
+        assertEquals(2, service.rebuild(LocalDate.now().minusDays(2), LocalDate.now()));
+        assertThrows(IllegalArgumentException.class, () -> service.rebuild(LocalDate.now(), LocalDate.now().minusDays(1)));
+
+        ReportDaySnapshotService disabled = new ReportDaySnapshotService(mapper, transactionManager, false, 400);
+        disabled.initialize();
+        disabled.maintain();
+        assertFalse(disabled.isReady());
+        assertThrows(IllegalStateException.class, () -> disabled.rebuild(LocalDate.now(), LocalDate.now()));
+
+        Map<String, Object> condition = Map.of("startDt", day(5) + "000000", "endDt", day(1) + "235959");
+        assertEquals(1, disabled.select(condition, "startDt", "endDt", "지역총합", params -> List.of(new ReportCollectionDto())).size());
+    }
+}
@@ -0,0 +1,150 @@
+package com.klid.webapp.main.rpt.common;
+
+import com.klid.webapp.main.rpt.common.ReportSectionExecutor.Report;
+import com.klid.webapp.main.rpt.common.ReportSectionExecutor.SectionResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.BrokenBarrierException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("보고서 섹션 병렬 조회 테스트")
+class ReportSectionExecutorTest {
+
+    private ThreadPoolTaskExecutor pool = pool(4);
+    private ReportSectionExecutor executor = new ReportSectionExecutor(pool, 5_000);
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdown();
+    }
+
+    private static ThreadPoolTaskExecutor pool(int size) {
+        ThreadPoolTaskExecutor pool = new ThreadPoolTaskExecutor();
+        pool.setCorePoolSize(size);
+        pool.setMaxPoolSize(size);
+        pool.setQueueCapacity(size * 4);
+        pool.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        pool.initialize();
+        return pool;
+    }
+
+    private void reset(int size, long timeoutMillis) {
+        pool.shutdown();
+        pool = pool(size);
+        executor = new ReportSectionExecutor(pool, timeoutMillis);
+    }
+
+    /** 세 섹션이 모두 barrier 에 도착해야 진행한다. 차례로 실행되면 시간 초과로 실패한다. */
+    private static <T> T await(CyclicBarrier barrier, T value) {
+        try {
+            barrier.await(2, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } catch (BrokenBarrierException | TimeoutException e) {
+            throw new IllegalStateException("섹션이 동시에 실행되지 않았습니다.", e);
+        }
+        return value;
+    }
+
+    private static <T> T sleep(long millis, T value) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+        return value;
+    }
+
+    @Test
+    @DisplayName("섹션은 동시에 조회하고 조건은 섹션마다 복사")
+    void testAdd() {
+        Map<String, Object> condition = new HashMap<>();
+        condition.put("startDt", "20261019");
+
+        CyclicBarrier barrier = new CyclicBarrier(3);
+        Report report = executor.open("weekly");
+        SectionResult<Object> first = report.add("first", condition, params -> await(barrier, params.get("startDt")));
+        SectionResult<Object> second = report.add("second", condition, params -> {
+            params.put("startDt", "변경");
+            return await(barrier, params.get("startDt"));
+        });
+        SectionResult<Object> third = report.add("third", condition, params -> await(barrier, params.get("startDt")));
+        condition.put("startDt", "20261012");
+
+        assertEquals("20261019", first.get());
+        assertEquals("변경", second.get());
+        assertEquals("20261019", third.get());
+    }
+
+    @Test
+    @DisplayName("섹션이 실패하면 원래 예외를 던지고 나머지 섹션은 취소")
+    void testGet_실패() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        AtomicBoolean interrupted = new AtomicBoolean();
+
+        Report report = executor.open("daily");
+        SectionResult<Object> slow = report.add("slow", Map.of(), params -> {
+            started.countDown();
+            try {
+                Thread.sleep(5_000);
+            } catch (InterruptedException e) {
+                interrupted.set(true);
+            }
+            return null;
+        });
+        SectionResult<Object> failed = report.add("failed", Map.of(), params -> {
+            throw new IllegalArgumentException("ORA-00904");
+        });
+
+        assertTrue(started.await(1, TimeUnit.SECONDS));
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, failed::get);
+        assertEquals("ORA-00904", e.getMessage());
+        assertThrows(IllegalStateException.class, slow::get);
+
+        Thread.sleep(100);
+        assertTrue(interrupted.get());
+    }
+
+    @Test
+    @DisplayName("보고서 제한 시간을 넘기면 남은 섹션을 취소")
+    void testGet_시간초과() {
+        reset(2, 200);
+
+        Report report = executor.open("weekly");
+        SectionResult<Object> fast = report.add("fast", Map.of(), params -> "ok");
+        SectionResult<Object> slow = report.add("slow", Map.of(), params -> sleep(2_000, "late"));
+
+        assertEquals("ok", fast.get());
+        IllegalStateException e = assertThrows(IllegalStateException.class, slow::get);
+        assertTrue(e.getMessage().contains("weekly.slow"));
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차면 요청 스레드에서 조회")
+    void testAdd_대기열초과() {
+        reset(1, 5_000);
+
+        Thread caller = Thread.currentThread();
+        Report report = executor.open("daily");
+        for (int i = 0; i < 5; i++) {
+            report.add("wait" + i, Map.of(), params -> sleep(100, null));
+        }
+        SectionResult<Thread> overflow = report.add("overflow", Map.of(), params -> Thread.currentThread());
+
+        assertSame(caller, overflow.get());
+    }
+}
@@ -0,0 +1,59 @@
+package com.klid.webapp.main.rpt.reportCollection.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("보고서 일자별 칸 나누기 테스트")
+class ReportDayBucketsTest {
+
+    @Test
+    @DisplayName("일자 단위 : k 일 전은 6-k 칸, 종료일과 범위 밖은 마지막 칸")
+    void testCalendar() {
+        ReportDayBuckets buckets = ReportDayBuckets.calendar("20261019235959", 7);
+
+        assertEquals(5, buckets.indexOf("20261018000000"));
+        assertEquals(0, buckets.indexOf("20261013235959"));
+        assertEquals(6, buckets.indexOf("20261019120000"));
+        assertEquals(6, buckets.indexOf("20261012235959"));
+        assertEquals(3, buckets.indexOf("20261016" + "000000"));
+        //월/연 경계
+        assertEquals(5, ReportDayBuckets.calendar("20260301235959", 7).indexOf("20260228101010"));
+        assertEquals(4, ReportDayBuckets.calendar("20270101235959", 7).indexOf("20261230000000"));
+    }
+
+    @Test
+    @DisplayName("24시간 단위 : 경계 시각은 마지막 칸")
+    void testRolling() {
+        ReportDayBuckets buckets = ReportDayBuckets.rolling("20261019085959", 7);
+
+        assertEquals(6, buckets.indexOf("20261019010000"));
+        assertEquals(6, buckets.indexOf("20261018085959"));
+        assertEquals(5, buckets.indexOf("20261018085958"));
+        assertEquals(5, buckets.indexOf("20261017090000"));
+        assertEquals(0, buckets.indexOf("20261012090000"));
+        assertEquals(6, buckets.indexOf("20261012085959"));
+        assertEquals(6, buckets.indexOf("20261020000000"));
+    }
+
+    @Test
+    @DisplayName("일시 계산은 java.time 과 같음")
+    void testEpoch() {
+        DateTimeFormatter format = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+        for (LocalDateTime dt = LocalDateTime.of(1999, 12, 25, 23, 59, 58); dt.getYear() < 2030; dt = dt.plusHours(37).plusSeconds(61)) {
+            String value = dt.format(format);
+            assertEquals(dt.toLocalDate().toEpochDay(), ReportDayBuckets.epochDay(value), value);
+            assertEquals(dt.toEpochSecond(ZoneOffset.UTC), ReportDayBuckets.epochSecond(value), value);
+        }
+        assertEquals(LocalDate.of(2024, 2, 29).toEpochDay(), ReportDayBuckets.epochDay("20240229"));
+        assertThrows(IllegalArgumentException.class, () -> ReportDayBuckets.epochDay("2026-10-19"));
+        assertThrows(IllegalArgumentException.class, () -> ReportDayBuckets.epochDay("20261319"));
+        assertThrows(IllegalArgumentException.class, () -> ReportDayBuckets.epochSecond("20261019"));
+    }
+}
@@ -0,0 +1,56 @@
+package com.klid.webapp.main.rpt.reportCollection.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("SUM_JSON 집계 테스트")
+class SumJsonMatrixTest {
+
+    private static final String[] TYPES = {"비인가접근", "서비스거부", "악성코드", "기타"};
+
+    @Test
+    @DisplayName("일자별로 항목 건수를 더하고, 없는 항목은 버림")
+    void testAdd() {
+        SumJsonMatrix matrix = new SumJsonMatrix(3, TYPES);
+
+        matrix.add(0, "{\"악성코드\":2,\"비인가접근\":1}");
+        matrix.add(0, " { \"악성코드\" : 3 , \"웹해킹\" : 7 } ");
+        matrix.add(2, "{\"기타\":\"4\",\"서비스거부\":0}");
+        matrix.add(2, "{}");
+        matrix.add(1, null);
+
+        assertEquals(3, matrix.days());
+        assertEquals(5, matrix.get(0, "악성코드"));
+        assertEquals(1, matrix.get(0, "비인가접근"));
+        assertEquals(4, matrix.get(2, "기타"));
+        assertTrue(matrix.has(2, "서비스거부"));
+        assertEquals(0, matrix.get(2, "서비스거부"));
+        assertFalse(matrix.has(0, "기타"));
+        assertFalse(matrix.has(1, "악성코드"));
+        assertThrows(IllegalArgumentException.class, () -> matrix.get(0, "웹해킹"));
+    }
+
+    @Test
+    @DisplayName("이스케이프된 항목 이름과 소수/음수 건수")
+    void testAdd_형식() {
+        SumJsonMatrix matrix = new SumJsonMatrix(1, TYPES);
+
+        matrix.add(0, "{\"\\uc545\\uc131\\ucf54\\ub4dc\":1.9,\"\\\"q\\\"\":1,\"기타\":-2,\"기타\":5e0}");
+
+        assertEquals(1, matrix.get(0, "악성코드"));
+        assertEquals(3, matrix.get(0, "기타"));
+    }
+
+    @Test
+    @DisplayName("형식이 잘못되면 오류")
+    void testAdd_오류() {
+        SumJsonMatrix matrix = new SumJsonMatrix(1, TYPES);
+
+        for (String json : new String[] {"", "[]", "{\"기타\":}", "{\"기타\":1", "{\"기타\":true}", "{\"기타\":1}x",
+                "{\"기타\" 1}", "{\"기타\":99999999999}", "{\"기타\":1,}", "{\"기타\":\"1}"}) {
+            assertThrows(IllegalArgumentException.class, () -> matrix.add(0, json), json);
+        }
+    }
+}
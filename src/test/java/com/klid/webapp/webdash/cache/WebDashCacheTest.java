@@ -0,0 +1,179 @@
+package com.klid.webapp.webdash.cache;
+
+import com.klid.webapp.common.Criterion;
+import com.klid.webapp.webdash.cache.WebDashCache.Topic;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("대시보드 조회 캐시 테스트")
+class WebDashCacheTest {
+
+    private static Criterion criterion(String... keyValues) {
+        Map<String, Object> reqMap = new HashMap<>();
+        for (int i = 0; i < keyValues.length; i += 2) {
+            reqMap.put(keyValues[i], keyValues[i + 1]);
+        }
+        return new Criterion(reqMap);
+    }
+
+    @Test
+    @DisplayName("같은 조회/조건은 ttl 동안 한 번만 조회, 사용자는 키에서 제외")
+    void testGet() {
+        WebDashCache cache = new WebDashCache(60_000);
+        AtomicInteger loads = new AtomicInteger();
+
+        assertEquals(1, (int) cache.get(Topic.MONITOR, "q", criterion("localCd", "10", "userId", "a"), loads::incrementAndGet));
+        assertEquals(1, (int) cache.get(Topic.MONITOR, "q", criterion("localCd", "10", "userId", "b"), loads::incrementAndGet));
+        assertEquals(2, (int) cache.get(Topic.MONITOR, "q", criterion("localCd", "20"), loads::incrementAndGet));
+        assertEquals(3, (int) cache.get(Topic.MONITOR, "other", criterion("localCd", "10"), loads::incrementAndGet));
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    @DisplayName("ttl 이 지나면 다시 조회하고 지난 결과는 정리")
+    void testGet_ttl() throws Exception {
+        WebDashCache cache = new WebDashCache(50);
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get(Topic.MONITOR, "q", criterion("a", "1"), loads::incrementAndGet);
+        cache.get(Topic.MONITOR, "q", criterion("a", "2"), loads::incrementAndGet);
+        Thread.sleep(80);
+
+        assertEquals(3, (int) cache.get(Topic.MONITOR, "q", criterion("a", "1"), loads::incrementAndGet));
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    @DisplayName("동시에 캐시에 없는 조회를 하면 한 번만 조회")
+    void testGet_singleFlight() throws Exception {
+        WebDashCache cache = new WebDashCache(60_000);
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+
+        try {
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int i = 0; i < 50; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return cache.get(Topic.INCIDENT, "q", criterion("a", "1"), () -> {
+                        sleep(100);
+                        return loads.incrementAndGet();
+                    });
+                }));
+            }
+            start.countDown();
+
+            for (Future<Integer> result : results) {
+                assertEquals(1, result.get(5, TimeUnit.SECONDS));
+            }
+            assertEquals(1, loads.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("조회 실패는 캐시하지 않음")
+    void testGet_실패() {
+        WebDashCache cache = new WebDashCache(60_000);
+
+        IllegalStateException e = assertThrows(IllegalStateException.class,
+                () -> cache.get(Topic.MONITOR, "q", criterion(), () -> {
+                    throw new IllegalStateException("db down");
+                }));
+        assertEquals("db down", e.getMessage());
+
+        assertEquals("ok", cache.get(Topic.MONITOR, "q", criterion(), () -> "ok"));
+    }
+
+    @Test
+    @DisplayName("Topic 단위로 비움")
+    void testInvalidate() {
+        WebDashCache cache = new WebDashCache(60_000);
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get(Topic.THREAT, "threat", criterion(), loads::incrementAndGet);
+        cache.get(Topic.INCIDENT, "incident", criterion(), loads::incrementAndGet);
+
+        cache.invalidate(Topic.THREAT);
+
+        assertEquals(3, (int) cache.get(Topic.THREAT, "threat", criterion(), loads::incrementAndGet));
+        assertEquals(2, (int) cache.get(Topic.INCIDENT, "incident", criterion(), loads::incrementAndGet));
+
+        cache.invalidateAll();
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    @DisplayName("읽은 결과가 같으면 stamp 가 같고, 다시 조회했거나 실패했으면 바뀜")
+    void testReads() throws Exception {
+        WebDashCache cache = new WebDashCache(60_000);
+
+        String first = stamp(cache, "a");
+        assertNotNull(first);
+        assertEquals(first, stamp(cache, "a"));
+        assertNotEquals(first, stamp(cache, "b"));
+
+        cache.invalidate(Topic.THREAT);
+        String reloaded = stamp(cache, "a");
+        assertNotEquals(first, reloaded);
+
+        //다른 스레드의 조회도 withReads 로 기록
+        WebDashCache.Reads reads = WebDashCache.track();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            executor.submit(() -> WebDashCache.withReads(reads, () -> read(cache))).get();
+            cache.get(Topic.INCIDENT, "incident", criterion(), () -> "incident");
+            assertEquals(reloaded, reads.stamp("a"));
+
+            assertThrows(IllegalStateException.class, () -> cache.get(Topic.MONITOR, "fail", criterion(), () -> {
+                throw new IllegalStateException("db down");
+            }));
+            assertNull(reads.stamp("a"));
+        } finally {
+            WebDashCache.untrack();
+            executor.shutdownNow();
+        }
+
+        assertNull(WebDashCache.reads());
+        assertNull(WebDashCache.track().stamp("a"));
+        WebDashCache.untrack();
+    }
+
+    private static String stamp(WebDashCache cache, String scope) {
+        WebDashCache.Reads reads = WebDashCache.track();
+        try {
+            read(cache);
+            cache.get(Topic.INCIDENT, "incident", criterion(), () -> "incident");
+            return reads.stamp(scope);
+        } finally {
+            WebDashCache.untrack();
+        }
+    }
+
+    private static String read(WebDashCache cache) {
+        return cache.get(Topic.THREAT, "threat", criterion(), () -> "threat");
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.klid.webapp.webdash.controller;
+
+import com.klid.webapp.common.Criterion;
+import com.klid.webapp.common.ErrorInfo;
+import com.klid.webapp.common.ReturnData;
+import com.klid.webapp.webdash.cache.WebDashCache;
+import com.klid.webapp.webdash.cache.WebDashCache.Topic;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("대시보드 조건부 GET 테스트")
+class WebDashETagAdviceTest {
+
+    private final WebDashETagAdvice advice = new WebDashETagAdvice();
+    private final WebDashCache cache = new WebDashCache(60_000);
+
+    private MockHttpServletResponse call(String ifNoneMatch, Supplier<Object> controller) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/webdash/sido/webDashSido/getHcCheck");
+        request.setQueryString("localCd=10");
+        if (ifNoneMatch != null) {
+            request.addHeader("If-None-Match", ifNoneMatch);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        advice.preHandle(request, response, null);
+        try {
+            Object body = advice.beforeBodyWrite(controller.get(), null, null, null,
+                    new ServletServerHttpRequest(request), new ServletServerHttpResponse(response));
+            if (body != null) {
+                response.setStatus(200);
+            }
+            return response;
+        } finally {
+            advice.afterCompletion(request, response, null, null);
+        }
+    }
+
+    private ReturnData hcCheck() {
+        return new ReturnData(cache.<List<Object>>get(Topic.MONITOR, "sido.getHcCheck", new Criterion(new HashMap<>(), false), List::of));
+    }
+
+    @Test
+    @DisplayName("읽은 결과가 그대로면 304, 다시 조회했으면 새 ETag 로 200")
+    void testBeforeBodyWrite() {
+        MockHttpServletResponse first = call(null, this::hcCheck);
+        String etag = first.getHeader("ETag");
+        assertEquals(200, first.getStatus());
+        assertTrue(etag.matches("W/\"[0-9a-f]{32}\""));
+
+        MockHttpServletResponse notModified = call(etag, this::hcCheck);
+        assertEquals(304, notModified.getStatus());
+        assertEquals(etag, notModified.getHeader("ETag"));
+        assertEquals(0, notModified.getContentLength());
+
+        cache.invalidateAll();
+        MockHttpServletResponse changed = call(etag, this::hcCheck);
+        assertEquals(200, changed.getStatus());
+        assertNotEquals(etag, changed.getHeader("ETag"));
+        assertNull(WebDashCache.reads());
+    }
+
+    @Test
+    @DisplayName("ttl 이 지나 다시 조회해도 결과가 같으면 304, 결과가 바뀌면 새 ETag 로 200")
+    void testBeforeBodyWrite_ttl() throws Exception {
+        WebDashCache shortCache = new WebDashCache(50);
+        AtomicReference<List<Object>> data = new AtomicReference<>(List.of("서울", 1));
+        AtomicInteger loads = new AtomicInteger();
+        Supplier<Object> controller = () -> new ReturnData(shortCache.<List<Object>>get(Topic.MONITOR, "sido.getHcCheck",
+                new Criterion(new HashMap<>(), false), () -> {
+                    loads.incrementAndGet();
+                    return data.get();
+                }));
+
+        String etag = call(null, controller).getHeader("ETag");
+        Thread.sleep(80);
+        // 다른 조회가 지난 결과를 정리해도 같은 version 유지
+        shortCache.get(Topic.MONITOR, "other", new Criterion(new HashMap<>(), false), List::of);
+
+        MockHttpServletResponse notModified = call(etag, controller);
+        assertEquals(2, loads.get());
+        assertEquals(304, notModified.getStatus());
+        assertEquals(etag, notModified.getHeader("ETag"));
+
+        Thread.sleep(80);
+        data.set(List.of("서울", 2));
+        MockHttpServletResponse changed = call(etag, controller);
+        assertEquals(3, loads.get());
+        assertEquals(200, changed.getStatus());
+        assertNotEquals(etag, changed.getHeader("ETag"));
+    }
+
+    @Test
+    @DisplayName("오류 응답과 캐시를 거치지 않은 응답에는 ETag 를 붙이지 않음")
+    void testBeforeBodyWrite_ETag없음() {
+        assertNull(call(null, () -> {
+            hcCheck();
+            return new ReturnData(new ErrorInfo("조회 실패"));
+        }).getHeader("ETag"));
+        assertNull(call(null, () -> new ReturnData(List.of())).getHeader("ETag"));
+
+        MockHttpServletResponse failed = call("*", () -> {
+            hcCheck();
+            WebDashCache.reads().fail();
+            return new ReturnData(List.of());
+        });
+        assertEquals(200, failed.getStatus());
+        assertNull(failed.getHeader("ETag"));
+    }
+
+    @Test
+    @DisplayName("If-None-Match 는 weak 비교")
+    void testMatchesETag() {
+        assertTrue(WebDashETagAdvice.matchesETag("W/\"a\"", "W/\"a\""));
+        assertTrue(WebDashETagAdvice.matchesETag("\"b\", \"a\"", "W/\"a\""));
+        assertTrue(WebDashETagAdvice.matchesETag("*", "W/\"a\""));
+        assertFalse(WebDashETagAdvice.matchesETag("W/\"b\"", "W/\"a\""));
+    }
+}
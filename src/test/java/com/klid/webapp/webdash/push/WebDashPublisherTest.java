@@ -0,0 +1,152 @@
+package com.klid.webapp.webdash.push;
+
+import com.klid.webapp.common.HtmlEscapingObjectMapperFactory;
+import com.klid.webapp.common.ReturnData;
+import com.klid.webapp.webdash.snapshot.service.DashScreen;
+import com.klid.webapp.webdash.snapshot.service.WebDashSnapshotService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@DisplayName("대시보드 push 발행 테스트")
+class WebDashPublisherTest {
+
+    private static final String ADDRESS = "webdash.sido.local.hcCheck";
+
+    private WebDashSnapshotService snapshotService;
+    private ThreadPoolTaskScheduler scheduler;
+    private ThreadPoolTaskExecutor sender;
+    private WebDashPublisher publisher;
+
+    @BeforeEach
+    void setUp() {
+        snapshotService = mock(WebDashSnapshotService.class);
+        scheduler = new ThreadPoolTaskScheduler();
+        scheduler.initialize();
+        sender = new ThreadPoolTaskExecutor();
+        sender.initialize();
+        publisher = publisher(60_000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        publisher.shutdown();
+        scheduler.shutdown();
+        sender.shutdown();
+    }
+
+    private WebDashPublisher publisher(long idleTimeout) {
+        WebDashPublisher publisher = new WebDashPublisher(60_000, idleTimeout);
+        ReflectionTestUtils.setField(publisher, "snapshotService", snapshotService);
+        ReflectionTestUtils.setField(publisher, "objectMapper", new HtmlEscapingObjectMapperFactory().getObject());
+        ReflectionTestUtils.setField(publisher, "scheduler", scheduler);
+        ReflectionTestUtils.setField(publisher, "sender", sender);
+        return publisher;
+    }
+
+    private WebSocketSession open(String id) {
+        WebSocketSession session = mock(WebSocketSession.class);
+        when(session.getId()).thenReturn(id);
+        when(session.isOpen()).thenReturn(true);
+        publisher.open(session);
+        return session;
+    }
+
+    private static List<String> sent(WebSocketSession session, int times) throws Exception {
+        ArgumentCaptor<TextMessage> message = ArgumentCaptor.forClass(TextMessage.class);
+        verify(session, timeout(1000).times(times)).sendMessage(message.capture());
+        return message.getAllValues().stream().map(TextMessage::getPayload).toList();
+    }
+
+    @Test
+    @DisplayName("구독한 Widget 은 결과가 바뀔 때만 보내고, 같은 조건의 연결은 한 번만 조회")
+    void testTick() throws Exception {
+        WebSocketSession first = open("1");
+        WebSocketSession second = open("2");
+        when(snapshotService.getWidget(any(), any()))
+                .thenReturn(new ReturnData(List.of(Map.of("cnt", 1))))
+                .thenReturn(new ReturnData(List.of(Map.of("cnt", 1))))
+                .thenReturn(new ReturnData(List.of(Map.of("cnt", 2))));
+
+        assertTrue(publisher.register("1", ADDRESS, Map.of("localCd", "10")));
+        //Widget 이 사용하지 않는 헤더는 구독 조건에서 제외
+        assertTrue(publisher.register("2", ADDRESS, Map.of("localCd", 10, "rnum1", "6")));
+
+        publisher.tick();
+        assertEquals(List.of("{\"type\":\"rec\",\"address\":\"" + ADDRESS + "\",\"body\":[{\"cnt\":1}]}"), sent(first, 1));
+        sent(second, 1);
+
+        publisher.tick();
+        publisher.tick();
+        assertEquals("{\"type\":\"rec\",\"address\":\"" + ADDRESS + "\",\"body\":[{\"cnt\":2}]}", sent(first, 2).get(1));
+
+        verify(snapshotService, times(3)).getWidget(eq(DashScreen.LOCAL.getWidget("hcCheck")), eq(Map.of("localCd", "10")));
+    }
+
+    @Test
+    @DisplayName("이미 발행한 결과는 구독하자마자 보냄")
+    void testRegister_발행된결과() throws Exception {
+        WebSocketSession first = open("1");
+        when(snapshotService.getWidget(any(), any())).thenReturn(new ReturnData(List.of()));
+        publisher.register("1", ADDRESS, Map.of("localCd", "10"));
+        publisher.tick();
+        sent(first, 1);
+
+        WebSocketSession second = open("2");
+        publisher.register("2", ADDRESS, Map.of("localCd", "10"));
+
+        assertEquals(List.of("{\"type\":\"rec\",\"address\":\"" + ADDRESS + "\",\"body\":[]}"), sent(second, 1));
+        verify(snapshotService, times(1)).getWidget(any(), any());
+    }
+
+    @Test
+    @DisplayName("없는 주소는 구독하지 않고, 구독 해제한 Widget 은 조회하지 않음")
+    void testRegister_주소() {
+        open("1");
+
+        assertFalse(publisher.register("1", "webdash.sido.local.none", Map.of()));
+        assertFalse(publisher.register("1", "webdash.mois.local.hcCheck", Map.of()));
+        assertFalse(publisher.register("1", "other", Map.of()));
+        assertFalse(publisher.register("9", ADDRESS, Map.of()));
+
+        publisher.register("1", ADDRESS, Map.of());
+        publisher.unregister("1", ADDRESS);
+        publisher.tick();
+
+        verifyNoInteractions(snapshotService);
+    }
+
+    @Test
+    @DisplayName("ping 이 없는 연결은 닫음")
+    void testTick_idle() throws Exception {
+        WebDashPublisher idle = publisher(0);
+        try {
+            WebSocketSession session = mock(WebSocketSession.class);
+            when(session.getId()).thenReturn("1");
+            idle.open(session);
+            Thread.sleep(5);
+
+            idle.tick();
+
+            verify(session).close();
+            assertEquals(0, idle.sessionCount());
+        } finally {
+            idle.shutdown();
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package com.klid.webapp.webdash.snapshot.service;
+
+import com.klid.webapp.common.Criterion;
+import com.klid.webapp.common.ErrorInfo;
+import com.klid.webapp.common.ReturnData;
+import com.klid.webapp.common.code.service.CodeService;
+import com.klid.webapp.webdash.adminControl.service.AdminControlService;
+import com.klid.webapp.webdash.cache.WebDashCache;
+import com.klid.webapp.webdash.cache.WebDashCache.Topic;
+import com.klid.webapp.webdash.center.service.WebDashCenterService;
+import com.klid.webapp.webdash.mois.service.WebDashMoisService;
+import com.klid.webapp.webdash.sido.service.WebDashSidoService;
+import com.klid.webapp.webdash.snapshot.dto.WebDashSnapshotDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.stubbing.Answer;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("대시보드 스냅샷 테스트")
+class WebDashSnapshotServiceImplTest {
+
+    @Mock
+    private CodeService codeService;
+    @Mock
+    private AdminControlService adminControlService;
+    @Mock
+    private WebDashCenterService centerService;
+    @Mock
+    private WebDashMoisService moisService;
+    @Mock
+    private WebDashSidoService sidoService;
+    @Spy
+    private WebDashCache cache = new WebDashCache(60_000);
+
+    @InjectMocks
+    private WebDashSnapshotServiceImpl service;
+
+    private final ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+
+    @BeforeEach
+    void setUp() {
+        executor.setCorePoolSize(8);
+        executor.setMaxPoolSize(8);
+        executor.initialize();
+        ReflectionTestUtils.setField(service, "executor", executor);
+        service.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("화면의 조회 결과를 Widget key 별로 묶고, 선언한 파라미터만 넘김")
+    void testGetSnapshot() {
+        when(moisService.getThreatNow(any())).thenReturn(new ReturnData(List.of(Map.of("nowThreat", 2))));
+
+        WebDashSnapshotDto snapshot = service.getSnapshot(DashScreen.MOIS1, Map.of("screen", "mois1", "sInstCd", "1000000", "other", "x"));
+
+        assertEquals(WebDashSnapshotDto.VERSION, snapshot.getVersion());
+        assertEquals("mois1", snapshot.getScreen());
+        assertEquals(List.of(Map.of("nowThreat", 2)), snapshot.getData().get("threatNow"));
+        assertTrue(snapshot.getErrors().isEmpty());
+
+        ArgumentCaptor<Criterion> criterion = ArgumentCaptor.forClass(Criterion.class);
+        verify(moisService).getThreatNow(criterion.capture());
+        Map<String, Object> condition = criterion.getValue().getCondition();
+        assertEquals("1000000", condition.get("instCd"));
+        assertFalse(condition.containsKey("sInstCd"));
+        assertFalse(condition.containsKey("other"));
+        assertFalse(condition.containsKey("atype"));
+    }
+
+    @Test
+    @DisplayName("시간대 기준 조회에는 atype 을 추가")
+    void testGetSnapshot_atype() {
+        when(sidoService.getProcess(any())).thenReturn(new ReturnData(List.of()));
+
+        service.getSnapshot(DashScreen.LOCAL, Map.of("localCd", "10", "rnum1", "6", "rnum2", "10"));
+
+        ArgumentCaptor<Criterion> criterion = ArgumentCaptor.forClass(Criterion.class);
+        verify(sidoService).getProcess(criterion.capture());
+        Map<String, Object> condition = criterion.getValue().getCondition();
+        assertEquals("6", condition.get("rnum1"));
+        assertEquals(WebDashSnapshotServiceImpl.atype(LocalTime.now()), condition.get("atype"));
+
+        assertEquals(0, WebDashSnapshotServiceImpl.atype(LocalTime.of(5, 59)));
+        assertEquals(1, WebDashSnapshotServiceImpl.atype(LocalTime.of(6, 0)));
+    }
+
+    @Test
+    @DisplayName("실패한 조회는 errors 에 기록하고 나머지 결과는 반환")
+    void testGetSnapshot_실패() {
+        when(moisService.getHmHcUrlCenter(any())).thenReturn(new ReturnData(List.of()));
+        when(moisService.getHmHcUrlRegion(any())).thenThrow(new IllegalStateException("db down"));
+        when(moisService.getForgeryRegion(any())).thenReturn(new ReturnData(new ErrorInfo("조회 실패")));
+
+        WebDashSnapshotDto snapshot = service.getSnapshot(DashScreen.MOIS2, Map.of());
+
+        assertEquals(Set.of("hmHcUrlCenter"), snapshot.getData().keySet());
+        assertEquals("db down", snapshot.getErrors().get("hmHcUrlRegion"));
+        assertEquals("조회 실패", snapshot.getErrors().get("forgeryRegion"));
+    }
+
+    @Test
+    @DisplayName("조회는 동시에 실행")
+    void testGetSnapshot_동시실행() {
+        CountDownLatch latch = new CountDownLatch(3);
+        when(moisService.getRegionStatus(any())).thenAnswer(invocation -> await(latch));
+        when(moisService.getRegionStatusAuto(any())).thenAnswer(invocation -> await(latch));
+        when(moisService.getRegionStatusManual(any())).thenAnswer(invocation -> await(latch));
+
+        WebDashSnapshotDto snapshot = service.getSnapshot(DashScreen.MOIS3, Map.of());
+
+        assertEquals(3, snapshot.getData().size());
+        assertTrue(snapshot.getErrors().isEmpty());
+    }
+
+    @Test
+    @DisplayName("작업 스레드의 캐시 조회도 요청의 Reads 에 기록하고, 실패한 조회가 있으면 stamp 를 만들지 않음")
+    void testGetSnapshot_reads() {
+        when(codeService.getDashTextCode(any())).thenReturn(new ReturnData(List.of()));
+        when(adminControlService.getIncidentStatus(any())).thenAnswer(cached(Topic.INCIDENT, "incidentStatus"));
+        when(adminControlService.getInciCnt(any())).thenAnswer(cached(Topic.MONITOR, "inciCnt"));
+        when(adminControlService.getTbzledgeCnt(any())).thenAnswer(cached(Topic.INCIDENT, "tbzledgeCnt"));
+        when(adminControlService.getLocalStatus(any())).thenAnswer(cached(Topic.MONITOR, "localStatus"));
+        when(adminControlService.getLocalInciCnt(any())).thenAnswer(cached(Topic.MONITOR, "localInciCnt"));
+        when(adminControlService.getUrlStatus(any()))
+                .thenAnswer(cached(Topic.MONITOR, "urlStatus"))
+                .thenAnswer(cached(Topic.MONITOR, "urlStatus"))
+                .thenAnswer(cached(Topic.MONITOR, "urlStatus"))
+                .thenThrow(new IllegalStateException("db down"));
+
+        String first = stamp(DashScreen.ADMIN_CONTROL);
+        assertNotNull(first);
+        assertEquals(first, stamp(DashScreen.ADMIN_CONTROL));
+        //공통 코드도 캐시를 거침
+        verify(codeService, times(1)).getDashTextCode(any());
+
+        cache.invalidate(Topic.INCIDENT);
+        assertNotEquals(first, stamp(DashScreen.ADMIN_CONTROL));
+
+        assertNull(stamp(DashScreen.ADMIN_CONTROL));
+    }
+
+    private Answer<ReturnData> cached(Topic topic, String name) {
+        return invocation -> new ReturnData(cache.<List<Object>>get(topic, name, invocation.getArgument(0), List::of));
+    }
+
+    private String stamp(DashScreen screen) {
+        WebDashCache.Reads reads = WebDashCache.track();
+        try {
+            service.getSnapshot(screen, Map.of());
+            return reads.stamp("/snapshot");
+        } finally {
+            WebDashCache.untrack();
+        }
+    }
+
+    @Test
+    @DisplayName("모든 화면의 조회가 서비스에 연결되어 있고, 그룹/화면 id 로 찾을 수 있음")
+    void testDashScreen() {
+        Set<DashQuery> used = EnumSet.noneOf(DashQuery.class);
+        for (DashScreen screen : DashScreen.values()) {
+            assertSame(screen, DashScreen.of(screen.getGroup(), screen.getId()));
+            screen.getWidgets().forEach(widget -> used.add(widget.getQuery()));
+        }
+        assertEquals(EnumSet.allOf(DashQuery.class), used);
+        assertNull(DashScreen.of("mois", "local"));
+    }
+
+    private static ReturnData await(CountDownLatch latch) throws InterruptedException {
+        latch.countDown();
+        if (!latch.await(5, TimeUnit.SECONDS)) {
+            throw new IllegalStateException("동시에 실행되지 않음");
+        }
+        return new ReturnData(List.of());
+    }
+}